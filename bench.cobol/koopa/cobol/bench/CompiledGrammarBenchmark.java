@@ -0,0 +1,123 @@
+package koopa.cobol.bench;
+
+import static koopa.core.util.bench.BenchUtil.allocatedBytes;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import koopa.cobol.CobolFiles;
+import koopa.cobol.grammar.CobolCompiledGrammar;
+import koopa.cobol.grammar.CobolGrammar;
+import koopa.cobol.parser.CobolParser;
+import koopa.cobol.projects.StandardCobolProject;
+import koopa.core.parsers.ParserCombinator;
+
+/**
+ * Compares parsing with the interpreted {@linkplain CobolGrammar}
+ * against parsing with the {@linkplain CobolCompiledGrammar}, over a corpus of Cobol sources.
+ * <p>
+ * Sources are read into memory up front, so file access is not being measured.
+ * Both grammars are measured in turns, keeping the best time for each.
+ * No trees get built, so that what we see is mostly down to the grammar.
+ * <p>
+ * Usage: <code>CompiledGrammarBenchmark [iterations] [folder]</code>
+ * <p>
+ * The folder defaults to <code>data/testsuite/cobol85</code>.
+ */
+public class CompiledGrammarBenchmark {
+
+    private final List<Path> files = new ArrayList<>();
+    private final List<String> texts = new ArrayList<>();
+    private long lines = 0;
+
+    public static void main(String[] args) throws IOException {
+        var iterations = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        var folder = Paths.get(args.length > 1 ? args[1] : "data/testsuite/cobol85");
+
+        // Missing copybooks and such are not what we're here for.
+        Logger.getLogger("").setLevel(Level.OFF);
+
+        var benchmark = new CompiledGrammarBenchmark(folder);
+        System.out.printf("%d files, %d lines, %d iterations%n", benchmark.files.size(), benchmark.lines, iterations);
+
+        var interpreted = CobolGrammar.instance();
+        var compiled = CobolCompiledGrammar.instance();
+
+        // Warm up.
+        benchmark.parseAll(interpreted);
+        benchmark.parseAll(compiled);
+
+        var best = new long[] { Long.MAX_VALUE, Long.MAX_VALUE };
+        var allocated = new long[2];
+        for (var i = 0; i < iterations; i++) {
+            for (var g = 0; g < 2; g++) {
+                var before = allocatedBytes();
+                var start = System.nanoTime();
+                benchmark.parseAll(g == 0 ? interpreted : compiled);
+                var nanos = System.nanoTime() - start;
+                if (nanos < best[g]) {
+                    best[g] = nanos;
+                    allocated[g] = allocatedBytes() - before;
+                }
+            }
+        }
+
+        System.out.printf("%-12s %12s %12s %12s%n", "", "lines/s", "ms", "bytes/line");
+        benchmark.report("interpreted", best[0], allocated[0]);
+        benchmark.report("compiled", best[1], allocated[1]);
+        System.out.printf("%-12s %12.2fx%n", "speedup", (double) best[0] / best[1]);
+    }
+
+    public CompiledGrammarBenchmark(Path folder) throws IOException {
+        for (var file : CobolFiles.cobolFiles(folder)) {
+            files.add(file);
+        }
+        Collections.sort(files);
+        for (var file : files) {
+            var text = Files.readString(file);
+            texts.add(text);
+            lines += text.lines().count();
+        }
+    }
+
+    /**
+     * Returns the number of valid parses, just so there's something to return.
+     */
+    private long parseAll(CobolGrammar grammar) {
+        var parser = new CobolParser();
+        parser.setProject(new StandardCobolProject() {
+            @Override
+            public ParserCombinator parserFor(Path file) {
+                return CobolFiles.isCopybook(file) ? grammar.copybook() : grammar.compilationGroup();
+            }
+
+            @Override
+            public CobolGrammar getGrammar() {
+                return grammar;
+            }
+        });
+        parser.setBuildTrees(false);
+        var valid = 0L;
+        for (var i = 0; i < files.size(); i++) {
+            var results = parser.parse(files.get(i), new StringReader(texts.get(i)));
+            if (results.isValidInput()) {
+                valid += 1;
+            }
+        }
+        return valid;
+    }
+
+    private void report(String name, long nanos, long allocated) {
+        System.out.printf("%-12s %12.0f %12d %12.0f%n", name,
+            lines / (nanos / 1e9), nanos / 1_000_000, (double) allocated / lines);
+    }
+
+}
@@ -0,0 +1,105 @@
+package koopa.cobol.bench;
+
+import static koopa.core.util.bench.BenchUtil.allocatedBytes;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import koopa.cobol.CobolFiles;
+import koopa.cobol.sources.CompilerDirectives;
+import koopa.cobol.sources.SourceFormat;
+import koopa.core.sources.LineSplitter;
+import koopa.core.sources.Source;
+
+/**
+ * Measures what {@linkplain CompilerDirectives} adds on top of splitting lines,
+ * over a corpus of Cobol sources.
+ * <p>
+ * Sources are read into memory up front. Every round splits all of them into lines,
+ * once on its own and once followed by the {@linkplain CompilerDirectives}.
+ * The difference between both is what looking for compiler directives costs.
+ * <p>
+ * Usage: <code>CompilerDirectivesBenchmark [rounds] [folder]</code>
+ * <p>
+ * The folder defaults to <code>data/testsuite/cobol85</code>.
+ */
+public class CompilerDirectivesBenchmark {
+
+    private final List<Path> files = new ArrayList<>();
+    private final List<String> texts = new ArrayList<>();
+    private long lines = 0;
+
+    public static void main(String[] args) throws IOException {
+        var rounds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        var folder = Paths.get(args.length > 1 ? args[1] : "data/testsuite/cobol85");
+
+        var benchmark = new CompilerDirectivesBenchmark(folder);
+
+        // Warm up.
+        benchmark.run(false, Math.max(1, rounds / 5));
+        benchmark.run(true, Math.max(1, rounds / 5));
+
+        System.out.printf("%d files, %d lines, %d rounds%n", benchmark.files.size(), benchmark.lines, rounds);
+
+        var splitting = benchmark.measure("lines", false, rounds);
+        var directives = benchmark.measure("lines + directives", true, rounds);
+
+        System.out.printf("%-20s %8.0f ns/line %8.0f bytes/line%n", "directives only",
+            directives[0] - splitting[0], directives[1] - splitting[1]);
+    }
+
+    public CompilerDirectivesBenchmark(Path folder) throws IOException {
+        for (var file : CobolFiles.cobolFiles(folder)) {
+            files.add(file);
+        }
+        Collections.sort(files);
+        for (var file : files) {
+            var text = Files.readString(file);
+            texts.add(text);
+            lines += text.lines().count();
+        }
+    }
+
+    /**
+     * Returns the number of data items seen, just so there's something to return.
+     */
+    private long run(boolean withDirectives, int rounds) {
+        var count = 0L;
+        for (var r = 0; r < rounds; r++) {
+            for (var i = 0; i < files.size(); i++) {
+                Source source = new LineSplitter(files.get(i).toString(), new StringReader(texts.get(i)));
+                if (withDirectives) {
+                    source = new CompilerDirectives(source, SourceFormat.FIXED);
+                }
+                while (source.next() != null) {
+                    count += 1;
+                }
+                source.close();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns nanoseconds and bytes allocated per line.
+     */
+    private double[] measure(String name, boolean withDirectives, int rounds) {
+        var before = allocatedBytes();
+        var start = System.nanoTime();
+        run(withDirectives, rounds);
+        var nanos = System.nanoTime() - start;
+        var allocated = allocatedBytes() - before;
+
+        var total = (double) lines * rounds;
+        var result = new double[] { nanos / total, allocated / total };
+        System.out.printf("%-20s %8.0f ns/line %8.0f bytes/line%n", name, result[0], result[1]);
+        return result;
+    }
+
+}
@@ -0,0 +1,244 @@
+package koopa.cobol.bench;
+
+import static koopa.core.util.bench.BenchUtil.allocatedBytes;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import koopa.cobol.CobolFiles;
+import koopa.cobol.CobolProject;
+import koopa.cobol.CobolTokens;
+import koopa.cobol.parser.CobolParser;
+import koopa.cobol.projects.StandardCobolProject;
+import koopa.cobol.sources.CompilerDirectives;
+import koopa.cobol.sources.ContinuationOfLines;
+import koopa.cobol.sources.CopyInclude;
+import koopa.cobol.sources.InlineComments;
+import koopa.cobol.sources.ProgramArea;
+import koopa.cobol.sources.Replace;
+import koopa.cobol.sources.Replacing;
+import koopa.core.sources.Source;
+import koopa.core.sources.StackOfSources;
+import koopa.core.sources.TokenSeparator;
+
+/**
+ * Measures throughput of the Cobol tokenization pipeline, stage by stage,
+ * as well as of the full parse, over a corpus of Cobol sources.
+ * <p>
+ * Every stage is measured by building the pipeline the way {@linkplain CobolTokens} does,
+ * up to and including that stage, and reading everything it produces.
+ * What a stage itself costs is the difference with the stage before it.
+ * Stages can't be run on recorded input instead,
+ * as {@linkplain CopyInclude} sends copybooks back down the whole pipeline.
+ * <p>
+ * Sources are read into memory up front, so file access is not being measured.
+ * Copybooks still get read from disk, as they would be during a parse.
+ * <p>
+ * For every measurement we report source lines per second, and bytes allocated per line and per second.
+ * <p>
+ * Usage: <code>PipelineBenchmark [iterations] [folder]</code>
+ * <p>
+ * The folder defaults to <code>data/testsuite/cobol85</code>, which also serves as copybook path.
+ * Project settings which can be given as system properties
+ * (e.g. <code>koopa.bulkLineSplitting</code>) apply here as well.
+ */
+public class PipelineBenchmark {
+
+    private static final String[] STAGES = {
+        "LineSplitter",
+        "CompilerDirectives",
+        "ProgramArea",
+        "TokenSeparator",
+        "InlineComments",
+        "CopyInclude",
+        "Replacing (COPY)",
+        "ContinuationOfLines",
+        "Replace",
+        "Replacing (REPLACE)"
+    };
+
+    private final Path folder;
+    private final List<Path> files = new ArrayList<>();
+    private final List<String> texts = new ArrayList<>();
+    private long lines = 0;
+
+    public static void main(String[] args) throws IOException {
+        var iterations = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        var folder = Paths.get(args.length > 1 ? args[1] : "data/testsuite/cobol85");
+
+        // Missing copybooks and such are not what we're here for.
+        Logger.getLogger("").setLevel(Level.OFF);
+
+        var benchmark = new PipelineBenchmark(folder);
+        System.out.printf("%d files, %d lines, %d iterations%n", benchmark.files.size(), benchmark.lines, iterations);
+        benchmark.run(iterations);
+    }
+
+    public PipelineBenchmark(Path folder) throws IOException {
+        this.folder = folder;
+        for (var file : CobolFiles.cobolFiles(folder)) {
+            files.add(file);
+        }
+        Collections.sort(files);
+        for (var file : files) {
+            var text = Files.readString(file);
+            texts.add(text);
+            lines += countLines(text);
+        }
+    }
+
+    public void run(int iterations) {
+        System.out.printf("%-24s %12s %12s %12s %12s%n", "", "lines/s", "stage ms", "bytes/line", "MB/s alloc");
+
+        var previous = 0L;
+        for (var depth = 1; depth <= STAGES.length; depth++) {
+            final var d = depth;
+            var result = measure(iterations, () -> drainStages(d));
+            var own = Math.max(0, result.nanos - previous);
+            report(STAGES[depth - 1], result, own);
+            previous = result.nanos;
+        }
+
+        System.out.println();
+        report("parse", measure(iterations, () -> parseAll(false)), -1);
+        report("parse + trees/tokens", measure(iterations, () -> parseAll(true)), -1);
+    }
+
+    private CobolProject newProject() {
+        var project = new StandardCobolProject();
+        project.setDefaultPreprocessing(true);
+        project.addCopybookPath(folder);
+        return project;
+    }
+
+    /**
+     * Reads everything produced by the given number of stages, for all files.
+     * Returns the number of data items seen, just so there's something to return.
+     */
+    private long drainStages(int depth) {
+        var count = 0L;
+        for (var i = 0; i < files.size(); i++) {
+            var source = newStages(files.get(i), texts.get(i), depth);
+            while (source.next() != null) {
+                count += 1;
+            }
+            source.close();
+        }
+        return count;
+    }
+
+    /**
+     * Mirrors the construction in {@linkplain CobolTokens#getNewSource(Path, java.io.Reader, CobolProject)},
+     * with preprocessing enabled, but stops after the given number of stages.
+     */
+    private Source newStages(Path file, String text, int depth) {
+        var project = newProject();
+        var grammar = project.getGrammar();
+        var inputStack = new StackOfSources();
+        inputStack.push(CobolTokens.getNewLineSplitter(file, new StringReader(text), project));
+        Source source = inputStack;
+        if (depth > 1) {
+            source = new CompilerDirectives(source, project.getDefaultFormat());
+        }
+        if (depth > 2) {
+            source = new ProgramArea(source, project.getTabLength(file));
+        }
+        if (depth > 3) {
+            source = new TokenSeparator(source);
+        }
+        if (depth > 4) {
+            source = new InlineComments(source);
+        }
+        if (depth > 5) {
+            source = new CopyInclude(source, grammar, project, inputStack);
+        }
+        if (depth > 6) {
+            source = new Replacing(source);
+        }
+        if (depth > 7) {
+            source = new ContinuationOfLines(source);
+        }
+        if (depth > 8) {
+            source = new Replace(source, grammar);
+        }
+        if (depth > 9) {
+            source = new Replacing(source);
+        }
+        return source;
+    }
+
+    private long parseAll(boolean withTreesAndTokens) {
+        var parser = new CobolParser();
+        parser.setProject(newProject());
+        parser.setBuildTrees(withTreesAndTokens);
+        parser.setKeepingTrackOfTokens(withTreesAndTokens);
+        var valid = 0L;
+        for (var i = 0; i < files.size(); i++) {
+            var results = parser.parse(files.get(i), new StringReader(texts.get(i)));
+            if (results.isValidInput()) {
+                valid += 1;
+            }
+        }
+        return valid;
+    }
+
+    private Result measure(int iterations, Supplier<Long> run) {
+        // Warm up.
+        run.get();
+
+        var best = new Result(Long.MAX_VALUE, 0);
+        for (var i = 0; i < iterations; i++) {
+            var before = allocatedBytes();
+            var start = System.nanoTime();
+            run.get();
+            var nanos = System.nanoTime() - start;
+            var allocated = allocatedBytes() - before;
+            if (nanos < best.nanos) {
+                best = new Result(nanos, allocated);
+            }
+        }
+        return best;
+    }
+
+    private void report(String name, Result result, long ownNanos) {
+        var seconds = result.nanos / 1e9;
+        System.out.printf("%-24s %12.0f %12s %12.0f %12.1f%n", name,
+            lines / seconds,
+            ownNanos < 0 ? "" : String.valueOf(ownNanos / 1_000_000),
+            (double) result.allocated / lines,
+            result.allocated / seconds / (1 << 20));
+    }
+
+    private static long countLines(String text) {
+        var count = 0L;
+        for (var i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                count += 1;
+            }
+        }
+        if (!text.isEmpty() && text.charAt(text.length() - 1) != '\n') {
+            count += 1;
+        }
+        return count;
+    }
+
+    private static final class Result {
+        private final long nanos;
+        private final long allocated;
+
+        private Result(long nanos, long allocated) {
+            this.nanos = nanos;
+            this.allocated = allocated;
+        }
+    }
+
+}
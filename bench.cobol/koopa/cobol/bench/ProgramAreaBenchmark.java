@@ -0,0 +1,116 @@
+package koopa.cobol.bench;
+
+import static koopa.core.util.bench.BenchUtil.allocatedBytes;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import koopa.cobol.CobolFiles;
+import koopa.cobol.sources.ProgramArea;
+import koopa.core.sources.LineSplitter;
+import koopa.core.sources.Source;
+
+/**
+ * Measures what {@linkplain ProgramArea} adds on top of splitting lines,
+ * over a corpus of Cobol sources.
+ * <p>
+ * Sources are read into memory up front. Every round splits all of them into lines,
+ * once on its own and once followed by the {@linkplain ProgramArea}.
+ * The difference between both is what splitting lines into areas costs.
+ * <p>
+ * All of this gets done twice: once for the sources as they are, and once
+ * with every four spaces replaced by a tab (at a tab length of four),
+ * as tabs mean columns no longer line up with characters.
+ * <p>
+ * Usage: <code>ProgramAreaBenchmark [rounds] [folder]</code>
+ * <p>
+ * The folder defaults to <code>data/testsuite/cobol85</code>.
+ */
+public class ProgramAreaBenchmark {
+
+    private static final int TAB_LENGTH = 4;
+
+    private final List<Path> files = new ArrayList<>();
+    private final List<String> texts = new ArrayList<>();
+    private final List<String> tabbed = new ArrayList<>();
+
+    public static void main(String[] args) throws IOException {
+        var rounds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        var folder = Paths.get(args.length > 1 ? args[1] : "data/testsuite/cobol85");
+
+        var benchmark = new ProgramAreaBenchmark(folder);
+
+        // Warm up.
+        for (var texts : List.of(benchmark.texts, benchmark.tabbed)) {
+            benchmark.run(texts, false, Math.max(1, rounds / 5));
+            benchmark.run(texts, true, Math.max(1, rounds / 5));
+        }
+
+        System.out.printf("%d files, %d rounds%n", benchmark.files.size(), rounds);
+
+        benchmark.compare("plain", benchmark.texts, rounds);
+        benchmark.compare("tabbed", benchmark.tabbed, rounds);
+    }
+
+    public ProgramAreaBenchmark(Path folder) throws IOException {
+        for (var file : CobolFiles.cobolFiles(folder)) {
+            files.add(file);
+        }
+        Collections.sort(files);
+        for (var file : files) {
+            var text = Files.readString(file);
+            texts.add(text);
+            tabbed.add(text.replace("    ", "\t"));
+        }
+    }
+
+    /**
+     * Returns the number of data items seen.
+     */
+    private long run(List<String> texts, boolean withAreas, int rounds) {
+        var count = 0L;
+        for (var r = 0; r < rounds; r++) {
+            for (var i = 0; i < files.size(); i++) {
+                Source source = new LineSplitter(files.get(i).toString(), new StringReader(texts.get(i)));
+                if (withAreas) {
+                    source = new ProgramArea(source, TAB_LENGTH);
+                }
+                while (source.next() != null) {
+                    count += 1;
+                }
+                source.close();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Prints nanoseconds and bytes allocated per token coming out of the {@linkplain ProgramArea},
+     * with and without it.
+     */
+    private void compare(String name, List<String> texts, int rounds) {
+        var before = allocatedBytes();
+        var start = System.nanoTime();
+        run(texts, false, rounds);
+        var splitting = new double[] { System.nanoTime() - start, allocatedBytes() - before };
+
+        before = allocatedBytes();
+        start = System.nanoTime();
+        var tokens = (double) run(texts, true, rounds);
+        var areas = new double[] { System.nanoTime() - start, allocatedBytes() - before };
+
+        System.out.printf("%-7s %-14s %8.0f ns/token %8.0f bytes/token%n", name, "lines",
+            splitting[0] / tokens, splitting[1] / tokens);
+        System.out.printf("%-7s %-14s %8.0f ns/token %8.0f bytes/token%n", name, "lines + areas",
+            areas[0] / tokens, areas[1] / tokens);
+        System.out.printf("%-7s %-14s %8.0f ns/token %8.0f bytes/token%n", name, "areas only",
+            (areas[0] - splitting[0]) / tokens, (areas[1] - splitting[1]) / tokens);
+    }
+
+}
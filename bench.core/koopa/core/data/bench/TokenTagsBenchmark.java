@@ -0,0 +1,73 @@
+package koopa.core.data.bench;
+
+import static koopa.core.data.tags.AreaTag.COMMENT;
+import static koopa.core.data.tags.AreaTag.PROGRAM_TEXT_AREA;
+import static koopa.core.data.tags.IslandTag.LAND;
+import static koopa.core.data.tags.SyntacticTag.INCOMPLETE;
+import static koopa.core.data.tags.SyntacticTag.SEPARATOR;
+import static koopa.core.data.tags.SyntacticTag.WHITESPACE;
+import static koopa.core.data.tags.SyntacticTag.WORD;
+import static koopa.core.util.bench.BenchUtil.allocatedBytes;
+
+import java.util.function.LongSupplier;
+
+import koopa.core.data.Position;
+import koopa.core.data.Token;
+
+/**
+ * A microbenchmark for the tagging a {@linkplain Token} goes through on its way
+ * through the sources and targets: it gets created, tagged as program text,
+ * tagged by the token separator, checked for some tags, and finally tagged as land.
+ * <p>
+ * Reports time and bytes allocated per token, all tagging included.
+ * <p>
+ * Usage: <code>TokenTagsBenchmark [rounds]</code>
+ */
+public class TokenTagsBenchmark {
+
+    private static final int TOKENS = 4096;
+
+    public static void main(String[] args) {
+        var rounds = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+
+        var texts = new String[TOKENS];
+        for (var i = 0; i < TOKENS; i++) {
+            texts[i] = "T" + i;
+        }
+
+        // Warm up.
+        runTokens(texts, rounds / 10);
+
+        report("tokens", rounds, () -> runTokens(texts, rounds));
+    }
+
+    private static long runTokens(String[] texts, int rounds) {
+        var checksum = 0L;
+        var start = System.nanoTime();
+        for (var r = 0; r < rounds; r++) {
+            for (var i = 0; i < texts.length; i++) {
+                var t = new Token(texts[i], Position.ZERO, Position.ZERO);
+                t = t.withTags(PROGRAM_TEXT_AREA);
+                t = (i % 2 == 0) ? t.withTags(WORD) : t.withTags(SEPARATOR, WHITESPACE);
+                t = t.withoutTags(INCOMPLETE);
+                if (t.hasTag(WORD) && !t.hasAnyTag(COMMENT, INCOMPLETE)) {
+                    checksum += 1;
+                }
+                t = t.withTags(LAND);
+                checksum += t.tagCount();
+            }
+        }
+        var elapsed = System.nanoTime() - start;
+        return checksum == 42 ? elapsed + 1 : elapsed;
+    }
+
+    private static void report(String name, int rounds, LongSupplier run) {
+        var before = allocatedBytes();
+        var nanos = run.getAsLong();
+        var allocated = allocatedBytes() - before;
+        var operations = (long) rounds * TOKENS;
+        System.out.printf("%-16s %8d ms %8.2f ns/op %8.2f bytes/op%n", name, nanos / 1_000_000,
+            (double) nanos / operations, (double) allocated / operations);
+    }
+
+}
@@ -0,0 +1,111 @@
+package koopa.core.targets.bench;
+
+import static koopa.core.util.bench.BenchUtil.allocatedBytes;
+
+import java.util.LinkedList;
+import java.util.function.LongSupplier;
+
+import koopa.core.data.Data;
+import koopa.core.data.Position;
+import koopa.core.data.Token;
+import koopa.core.targets.HoldingTarget;
+import koopa.core.targets.NullTarget;
+
+/**
+ * A microbenchmark for the push/pop/rewind pattern a {@linkplain HoldingTarget}
+ * sees during parsing: push a bunch of tokens, rewind some of them, push them again,
+ * and every so often shift everything to the next target.
+ * <p>
+ * The same workload is also run against a plain {@linkplain LinkedList},
+ * which is what the {@linkplain HoldingTarget} used to be backed by,
+ * so the two can be compared.
+ * <p>
+ * Usage: <code>HoldingTargetBenchmark [rounds]</code>
+ */
+public class HoldingTargetBenchmark {
+
+    private static final int TOKENS = 4096;
+    private static final int DEPTH = 256;
+    private static final int BACKTRACK = 48;
+
+    public static void main(String[] args) {
+        var rounds = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+
+        var tokens = new Token[TOKENS];
+        for (var i = 0; i < TOKENS; i++) {
+            tokens[i] = new Token("T" + i, Position.ZERO, Position.ZERO);
+        }
+
+        // Warm up.
+        runHoldingTarget(tokens, rounds / 10);
+        runLinkedList(tokens, rounds / 10);
+
+        report("linked list", rounds, () -> runLinkedList(tokens, rounds));
+        report("holding target", rounds, () -> runHoldingTarget(tokens, rounds));
+    }
+
+    private static long runHoldingTarget(Token[] tokens, int rounds) {
+        var target = new HoldingTarget(new NullTarget());
+        var checksum = 0L;
+        var start = System.nanoTime();
+        for (var r = 0; r < rounds; r++) {
+            for (var i = 0; i < tokens.length; i++) {
+                target.push(tokens[i]);
+                if (i % 7 == 6) {
+                    for (var b = 0; b < BACKTRACK && !target.isEmpty(); b++) {
+                        checksum += target.pop().hashCode();
+                    }
+                    for (var b = BACKTRACK - 1; b >= 0; b--) {
+                        target.push(tokens[(i + b) % tokens.length]);
+                    }
+                }
+                if (target.size() > DEPTH) {
+                    target.shiftAllToNextTarget();
+                }
+            }
+            target.shiftAllToNextTarget();
+        }
+        var elapsed = System.nanoTime() - start;
+        return checksum == 42 ? elapsed + 1 : elapsed;
+    }
+
+    private static long runLinkedList(Token[] tokens, int rounds) {
+        var queue = new LinkedList<Data>();
+        var sink = new NullTarget();
+        var checksum = 0L;
+        var start = System.nanoTime();
+        for (var r = 0; r < rounds; r++) {
+            for (var i = 0; i < tokens.length; i++) {
+                queue.addLast(tokens[i]);
+                if (i % 7 == 6) {
+                    for (var b = 0; b < BACKTRACK && !queue.isEmpty(); b++) {
+                        checksum += queue.removeLast().hashCode();
+                    }
+                    for (var b = BACKTRACK - 1; b >= 0; b--) {
+                        queue.addLast(tokens[(i + b) % tokens.length]);
+                    }
+                }
+                if (queue.size() > DEPTH) {
+                    while (!queue.isEmpty()) {
+                        sink.push(queue.removeFirst());
+                    }
+                }
+            }
+            while (!queue.isEmpty()) {
+                sink.push(queue.removeFirst());
+            }
+        }
+        var elapsed = System.nanoTime() - start;
+        return checksum == 42 ? elapsed + 1 : elapsed;
+    }
+
+    private static void report(String name, int rounds, LongSupplier run) {
+        var before = allocatedBytes();
+        var nanos = run.getAsLong();
+        var allocated = allocatedBytes() - before;
+        var operations = (long) rounds * TOKENS * (1 + 2 * BACKTRACK / 7);
+        System.out.printf("%-16s %8d ms %8.2f ns/op %8.2f bytes/op%n", name, nanos / 1_000_000,
+            (double) nanos / operations, (double) allocated / operations);
+    }
+
+}
@@ -0,0 +1,23 @@
+package koopa.core.util.bench;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Helpers shared by the benchmarks.
+ */
+public final class BenchUtil {
+    private BenchUtil() {}
+
+    /**
+     * The number of bytes allocated by the current thread so far,
+     * or zero if the JVM can not tell us.
+     */
+    public static long allocatedBytes() {
+        var threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+}
@@ -9,6 +9,9 @@ public class CommandLineOptions {
 
     private SourceFormat format = SourceFormat.FIXED;
     private boolean preprocess = false;
+    private boolean streaming = false;
+    private boolean profile = false;
+    private String profilePath = null;
 
     private final List<String> copybookPaths = new ArrayList<>();
     private final List<String> other = new ArrayList<>();
@@ -23,6 +26,10 @@ public class CommandLineOptions {
                     format = SourceFormat.VARIABLE;
                 } else if (option.equals("--preprocess")) {
                     preprocess = true;
+                } else if (option.equals("--streaming")) {
+                    streaming = true;
+                } else if (option.equals("--profile")) {
+                    profile = true;
                 } else {
                     throw new IllegalArgumentException("Unknown option: " + option);
                 }
@@ -33,6 +40,13 @@ public class CommandLineOptions {
                         throw new IllegalArgumentException("Missing copybook path definition.");
                     }
                     copybookPaths.add(args[i]);
+                } else if (option.equals("-P")) {
+                    i += 1;
+                    if (i >= args.length) {
+                        throw new IllegalArgumentException("Missing profile path definition.");
+                    }
+                    profile = true;
+                    profilePath = args[i];
                 } else {
                     throw new IllegalArgumentException("Unknown option: " + option);
                 }
@@ -55,6 +69,22 @@ public class CommandLineOptions {
         return preprocess;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public boolean isProfile() {
+        return profile;
+    }
+
+    /**
+     * Where to write the profile to, if anywhere.
+     * Files ending in <code>.json</code> get JSON, all others get CSV.
+     */
+    public String getProfilePath() {
+        return profilePath;
+    }
+
     public List<String> getCopybookPaths() {
         return copybookPaths;
     }
@@ -64,7 +94,7 @@ public class CommandLineOptions {
     }
 
     public String usage() {
-        return "Usage: [--free-format | --variable-format] [--preprocess -I <copybookpath>] <source> <target>";
+        return "Usage: [--free-format | --variable-format] [--preprocess -I <copybookpath>] [--streaming] [--profile | -P <profile.csv|profile.json>] <source> <target>";
     }
 
 }
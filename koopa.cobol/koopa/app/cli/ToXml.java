@@ -8,9 +8,12 @@ import java.util.List;
 
 import koopa.cobol.CobolFiles;
 import koopa.cobol.parser.CobolParser;
+import koopa.cobol.parser.ParseResults;
 import koopa.cobol.projects.StandardCobolProject;
 import koopa.cobol.sources.SourceFormat;
+import koopa.core.parsers.Profiler;
 import koopa.core.trees.KoopaTreeBuilder;
+import koopa.core.trees.StreamingXMLSerializer;
 import koopa.core.trees.XMLSerializer;
 
 public class ToXml {
@@ -18,14 +21,29 @@ public class ToXml {
     public static void main(String[] args) throws IOException {
         var options = new CommandLineOptions(args);
         var toXml = new ToXml(options.getFormat(), options.isPreprocess(), options.getCopybookPaths());
+        toXml.setStreaming(options.isStreaming());
+        toXml.setProfiling(options.isProfile());
         var other = options.getOther();
         var source = Paths.get(other.get(0));
         var target = Paths.get(other.get(1));
         toXml.process(source, target);
+        if (options.isProfile()) {
+            toXml.getProfiler().print(System.out, 25);
+            if (options.getProfilePath() != null) {
+                toXml.writeProfile(Paths.get(options.getProfilePath()));
+            }
+        }
     }
 
     private final CobolParser parser;
 
+    private boolean streaming = false;
+
+    /**
+     * The combined statistics of all files processed, if profiling.
+     */
+    private Profiler profiler = null;
+
     public ToXml(SourceFormat format, boolean preprocessing, List<String> copybookPaths) {
         var project = new StandardCobolProject(); // ApplicationConfig.getANewProject();
         project.setDefaultFormat(format);
@@ -35,6 +53,52 @@ public class ToXml {
         }
         this.parser = new CobolParser();
         this.parser.setProject(project);
+        this.parser.setBuildTrees(true);
+    }
+
+    /**
+     * Whether to write the XML while parsing, instead of building the full tree first.
+     * <p>
+     * This does not make for constant memory use. The parse only passes its data on
+     * once the outermost rule commits, which for a compilation group is at the very end,
+     * so all tokens and markers are still held until then. What gets saved is the tree.
+     * On 62K lines of Cobol that took the smallest workable heap from 357MB down to 206MB.
+     * Cfr. {@linkplain StreamingXMLSerializer}.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+        this.parser.setBuildTrees(!streaming);
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Whether to keep statistics on the grammar rules for all files being processed.
+     * Cfr. {@linkplain Profiler}.
+     */
+    public void setProfiling(boolean profiling) {
+        this.parser.setProfiling(profiling);
+        this.profiler = profiling ? new Profiler() : null;
+    }
+
+    public Profiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Writes the profile to the given file, as JSON if its name ends in <code>.json</code>,
+     * and as CSV otherwise.
+     */
+    public void writeProfile(Path path) throws IOException {
+        try (var writer = Files.newBufferedWriter(path)) {
+            if (path.getFileName().toString().endsWith(".json")) {
+                profiler.writeJson(writer);
+            } else {
+                profiler.writeCsv(writer);
+            }
+        }
     }
 
     private void process(Path source, Path target) throws IOException {
@@ -61,7 +125,28 @@ public class ToXml {
         if (targetFolder != null && !Files.isDirectory(target)) {
             Files.createDirectories(target);
         }
-        var results = parser.parse(source);
+        ParseResults results;
+        if (streaming) {
+            var parse = parser.getParseSetup(source);
+            var writer = Files.newBufferedWriter(Paths.get(targetPath));
+            parse.to(new StreamingXMLSerializer(writer));
+            var parsed = false;
+            try {
+                results = parser.parse(source, parse);
+                parsed = true;
+            } finally {
+                // The serializer only closes the writer when the parse gets done.
+                if (!parsed) {
+                    writer.close();
+                    Files.deleteIfExists(Paths.get(targetPath));
+                }
+            }
+        } else {
+            results = parser.parse(source);
+        }
+        if (profiler != null) {
+            profiler.addAll(results.getParse().getProfiler());
+        }
         var messages = results.getParse().getMessages();
         if (messages.hasErrors()) {
             for (var error : messages.getErrors()) {
@@ -75,6 +160,12 @@ public class ToXml {
         }
         if (!results.isValidInput()) {
             System.out.println("Could not parse " + source);
+            if (streaming) {
+                Files.deleteIfExists(Paths.get(targetPath));
+            }
+            return;
+        }
+        if (streaming) {
             return;
         }
         var ast = results.getParse().getTarget(KoopaTreeBuilder.class).getTree();
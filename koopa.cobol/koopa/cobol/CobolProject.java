@@ -2,9 +2,12 @@ package koopa.cobol;
 
 import java.nio.file.Path;
 
+import koopa.cobol.copybooks.CopybookCache;
 import koopa.cobol.grammar.CobolGrammar;
 import koopa.cobol.sources.SourceFormat;
 import koopa.core.parsers.ParserCombinator;
+import koopa.core.sources.BulkLineSplitter;
+import koopa.core.sources.ThreadedSource;
 
 /**
  * The CobolProject defines how Cobol files should be handled/parsed.
@@ -85,6 +88,40 @@ public interface CobolProject {
      */
     boolean isPreprocessing(Path file);
 
+    /**
+     * The cache to use for tokenized copybooks, if any.
+     */
+    CopybookCache getCopybookCache();
+
+    /**
+     * Set the cache to use for tokenized copybooks.
+     * Pass <code>null</code> to stop caching them.
+     */
+    void setCopybookCache(CopybookCache cache);
+
+    /**
+     * If sources and copybooks get read in bulk, using a {@linkplain BulkLineSplitter}.
+     */
+    boolean isBulkLineSplitting();
+
+    /**
+     * Define whether sources and copybooks should be read in bulk.
+     * This is faster for large sources, but holds on to their full text while they are being parsed.
+     */
+    void setBulkLineSplitting(boolean bulkLineSplitting);
+
+    /**
+     * If sources get tokenized on a thread of their own, using a {@linkplain ThreadedSource}.
+     */
+    boolean isThreadedTokenizing();
+
+    /**
+     * Define whether sources should be tokenized on a thread of their own,
+     * running ahead of the parser. This can cut the time it takes to parse a single file
+     * when there is a spare core. It does mean an extra thread per parse.
+     */
+    void setThreadedTokenizing(boolean threadedTokenizing);
+
     /**
      * Get a copy of this CobolProject with the same settings.
      */
@@ -10,9 +10,12 @@ import koopa.cobol.sources.InlineComments;
 import koopa.cobol.sources.ProgramArea;
 import koopa.cobol.sources.Replace;
 import koopa.cobol.sources.Replacing;
+import koopa.cobol.sources.SourceFormat;
+import koopa.core.sources.BulkLineSplitter;
 import koopa.core.sources.LineSplitter;
 import koopa.core.sources.Source;
 import koopa.core.sources.StackOfSources;
+import koopa.core.sources.ThreadedSource;
 import koopa.core.sources.TokenSeparator;
 import koopa.core.util.LineEndings;
 
@@ -21,6 +24,15 @@ public final class CobolTokens {
 
     // TODO Expect project to be non-null ?
     public static Source getNewSource(Path file, Reader reader, CobolProject project) {
+        return getNewSource(file, reader, project, project.getDefaultFormat());
+    }
+
+    /**
+     * Same as {@linkplain #getNewSource(Path, Reader, CobolProject)},
+     * but starting out in the given source format rather than the project's default one.
+     * This is for reading part of a file, where some other format may be active.
+     */
+    public static Source getNewSource(Path file, Reader reader, CobolProject project, SourceFormat initialFormat) {
 
         var grammar = project.getGrammar();
 
@@ -28,15 +40,13 @@ public final class CobolTokens {
         // You should never ask for the next line if you haven't resolved the current one.
         var inputStack = new StackOfSources();
 
-        var lineEndings = LineEndings.getChoices();
-        var lineSplitter = new LineSplitter(file, reader, lineEndings);
+        var lineSplitter = getNewLineSplitter(file, reader, project);
 
         inputStack.push(lineSplitter);
 
         // * Detect compiler directives, source format and source listing statements.
         //   Apply source format switches.
-        var format = project.getDefaultFormat();
-        var compilerDirectives = new CompilerDirectives(inputStack, format);
+        var compilerDirectives = new CompilerDirectives(inputStack, initialFormat);
 
         // * Split lines according to the source format.
         var tabLength = project.getTabLength(file);
@@ -87,6 +97,11 @@ public final class CobolTokens {
             // This stage is tested in koopa.cobol.parser.preprocessing.test.PreprocessingSourceTest
             optionalReplaceStatements = replacing;
         }
+
+        // * Optionally run all of the above on a thread of its own.
+        if (project.isThreadedTokenizing()) {
+            return new ThreadedSource(optionalReplaceStatements);
+        }
         return optionalReplaceStatements;
     }
 
@@ -94,4 +109,17 @@ public final class CobolTokens {
         return getNewSource(null, reader, project);
     }
 
+    /**
+     * Get the {@linkplain LineSplitter} for reading the given file,
+     * which will be a {@linkplain BulkLineSplitter} if the project asks for that.
+     */
+    public static LineSplitter getNewLineSplitter(Path file, Reader reader, CobolProject project) {
+        var lineEndings = LineEndings.getChoices();
+        if (project.isBulkLineSplitting()) {
+            return new BulkLineSplitter(file, reader, lineEndings);
+        } else {
+            return new LineSplitter(file, reader, lineEndings);
+        }
+    }
+
 }
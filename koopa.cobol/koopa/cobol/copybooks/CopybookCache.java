@@ -0,0 +1,188 @@
+package koopa.cobol.copybooks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import java.util.logging.Logger;
+import static java.util.logging.Level.*;
+
+import koopa.cobol.sources.CopyInclude;
+import koopa.cobol.sources.SourceFormat;
+import koopa.core.data.Token;
+
+/**
+ * A cache of tokenized copybooks, which can be shared by many parses.
+ * <p>
+ * When a copybook gets included by {@linkplain CopyInclude} it normally gets
+ * read, split into lines, and tokenized all over again.
+ * With a cache in place the tokens get recorded the first time around,
+ * and are replayed from here on later inclusions.
+ * Any <code>REPLACING</code> still gets applied on each inclusion.
+ * <p>
+ * Copybooks are identified by their path and last modified time,
+ * as well as the {@linkplain SourceFormat} and tab length they were tokenized with.
+ * <p>
+ * Memory use is bounded by a budget, expressed as the total number of {@linkplain Token}s held.
+ * The least recently used copybooks get dropped first.
+ */
+public class CopybookCache {
+
+    private static final Logger LOGGER = Logger.getLogger("copybooks");
+
+    /**
+     * Default budget, in number of {@linkplain Token}s held.
+     */
+    public static final int DEFAULT_BUDGET = 1 << 20;
+
+    private final int budget;
+
+    /**
+     * All cached copybooks, in least-recently-used order.
+     */
+    private final LinkedHashMap<Key, List<Token>> copybooks = new LinkedHashMap<>(64, 0.75f, true);
+
+    private long held = 0;
+
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    public CopybookCache() {
+        this(DEFAULT_BUDGET);
+    }
+
+    public CopybookCache(int budget) {
+        if (budget < 1) {
+            throw new IllegalArgumentException("Budget must be 1 or greater. Got: " + budget);
+        }
+        this.budget = budget;
+    }
+
+    /**
+     * Get the key for the given copybook, when tokenized using the given format and tab length.
+     * Returns <code>null</code> if the copybook's last modified time can not be determined,
+     * in which case it should not be cached.
+     */
+    public static Key keyFor(Path copybook, SourceFormat format, int tabLength) {
+        try {
+            var lastModified = Files.getLastModifiedTime(copybook);
+            return new Key(copybook.toAbsolutePath().normalize(), lastModified, format, tabLength);
+        } catch (IOException e) {
+            if (LOGGER.isLoggable(FINER)) {
+                LOGGER.finer("Not caching " + copybook + ": " + e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Get the tokens which were recorded for the given key,
+     * or <code>null</code> if there are none.
+     */
+    public synchronized List<Token> get(Key key) {
+        var tokens = copybooks.get(key);
+        if (tokens == null) {
+            misses += 1;
+        } else {
+            hits += 1;
+        }
+        return tokens;
+    }
+
+    /**
+     * Store the tokens for the given key.
+     * Copybooks which would take up more than the entire budget are not stored.
+     */
+    public synchronized void put(Key key, List<Token> tokens) {
+        if (tokens.size() > budget) {
+            return;
+        }
+        var replaced = copybooks.put(key, List.copyOf(tokens));
+        if (replaced != null) {
+            held -= replaced.size();
+        }
+        held += tokens.size();
+        evict();
+    }
+
+    private void evict() {
+        var it = copybooks.values().iterator();
+        while (held > budget && it.hasNext()) {
+            held -= it.next().size();
+            it.remove();
+            evictions += 1;
+        }
+    }
+
+    /**
+     * Drops all cached copybooks.
+     */
+    public synchronized void clear() {
+        copybooks.clear();
+        held = 0;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "copybooks { hits: " + hits + " | misses: " + misses
+            + " | evictions: " + evictions + " | held: " + held + "/" + budget + " }";
+    }
+
+    /**
+     * Identifies a copybook as tokenized in a specific way.
+     */
+    public static final class Key {
+        private final Path path;
+        private final FileTime lastModified;
+        private final SourceFormat format;
+        private final int tabLength;
+
+        private Key(Path path, FileTime lastModified, SourceFormat format, int tabLength) {
+            this.path = path;
+            this.lastModified = lastModified;
+            this.format = format;
+            this.tabLength = tabLength;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            var other = (Key) obj;
+            return path.equals(other.path) && lastModified.equals(other.lastModified)
+                && format == other.format && tabLength == other.tabLength;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * (31 * path.hashCode() + lastModified.hashCode()) + format.hashCode()) + tabLength;
+        }
+
+        @Override
+        public String toString() {
+            return path + " @ " + lastModified + " (" + format + ", " + tabLength + ")";
+        }
+    }
+
+}
@@ -0,0 +1,150 @@
+package koopa.cobol.copybooks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.logging.Logger;
+import static java.util.logging.Level.*;
+
+import koopa.cobol.CobolFiles;
+
+/**
+ * An index of all copybooks found in a single directory,
+ * by their names (sans extension), ignoring case.
+ * <p>
+ * Indexes are built once, and then shared by everyone asking for the same directory via {@link #of(Path)}.
+ * They get rebuilt when the directory's last modified time changes,
+ * or when they have been dropped through {@link #invalidate(Path)} or {@link #invalidateAll()}.
+ * <p>
+ * Note that some file systems only update a directory's last modified time at a coarse granularity.
+ * If you are changing copybooks while parsing, you may want to invalidate the index explicitly.
+ */
+public final class CopybookIndex {
+
+    private static final Logger LOGGER = Logger.getLogger("copybooks");
+
+    private static final Map<Path, CopybookIndex> INDEXES = new ConcurrentHashMap<>();
+
+    private final FileTime lastModified;
+
+    /**
+     * File names of copybooks, by their folded name.
+     * Multiple files may share a folded name (e.g. <code>A.cpy</code> and <code>a.CPY</code>),
+     * in which case they are kept in the order the directory listed them in.
+     */
+    private final Map<String, List<Path>> copybooks;
+
+    private CopybookIndex(FileTime lastModified, Map<String, List<Path>> copybooks) {
+        this.lastModified = lastModified;
+        this.copybooks = copybooks;
+    }
+
+    /**
+     * Get the index for the given directory, or <code>null</code> if it is not a directory.
+     */
+    public static CopybookIndex of(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return null;
+        }
+        var key = directory.toAbsolutePath().normalize();
+        var lastModified = lastModified(directory);
+        var index = INDEXES.get(key);
+        if (index == null || !index.lastModified.equals(lastModified)) {
+            index = build(directory, lastModified);
+            INDEXES.put(key, index);
+        }
+        return index;
+    }
+
+    /**
+     * Drop the index for the given directory, if any.
+     * It will be rebuilt the next time it is needed.
+     */
+    public static void invalidate(Path directory) {
+        INDEXES.remove(directory.toAbsolutePath().normalize());
+    }
+
+    /**
+     * Drop all indexes.
+     */
+    public static void invalidateAll() {
+        INDEXES.clear();
+    }
+
+    /**
+     * Find a copybook for the given text name in the given directory,
+     * which should be the one this index was built for.
+     * <p>
+     * As with {@linkplain DefaultCopybookLocator#isCopybookNamed(Path, String)} a copybook
+     * matches if its name is a prefix of the text name, ignoring case.
+     * We prefer the longest one, which means an exact match wins.
+     * The <code>excluded</code> file never matches.
+     */
+    public Path find(Path directory, String textName, Path excluded) {
+        var folded = fold(textName);
+        for (var length = folded.length(); length >= 0; length--) {
+            var candidates = copybooks.get(folded.substring(0, length));
+            if (candidates == null) {
+                continue;
+            }
+            for (var name : candidates) {
+                var file = directory.resolve(name);
+                if (!file.equals(excluded)) {
+                    return file;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static CopybookIndex build(Path directory, FileTime lastModified) {
+        if (LOGGER.isLoggable(FINER)) {
+            LOGGER.finer("Indexing copybooks in " + directory);
+        }
+        var copybooks = new HashMap<String, List<Path>>();
+        try (var files = Files.newDirectoryStream(directory, Files::isRegularFile)) {
+            for (var file : files) {
+                var name = file.getFileName();
+                if (!CobolFiles.copybookFilenames.matches(name)) {
+                    continue;
+                }
+                var text = name.toString();
+                var dot = text.lastIndexOf('.');
+                var folded = fold(dot < 0 ? text : text.substring(0, dot));
+                copybooks.computeIfAbsent(folded, k -> new ArrayList<>(1)).add(name);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new CopybookIndex(lastModified, copybooks);
+    }
+
+    private static FileTime lastModified(Path directory) {
+        try {
+            return Files.getLastModifiedTime(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Folds the case of the given text the same way
+     * {@linkplain String#regionMatches(boolean, int, String, int, int)} compares it.
+     */
+    private static String fold(String text) {
+        var chars = new char[text.length()];
+        for (var i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(text.charAt(i)));
+        }
+        return new String(chars);
+    }
+
+}
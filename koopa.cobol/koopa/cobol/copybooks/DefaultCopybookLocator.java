@@ -1,10 +1,5 @@
 package koopa.cobol.copybooks;
 
-import java.io.IOException;
-import java.io.UncheckedIOException;
-
-import java.nio.file.DirectoryStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
 import java.util.List;
@@ -19,6 +14,8 @@ import koopa.cobol.CobolFiles;
  *
  * It searches for these first in the same location as the source file, then in each copybook path.
  * The first match found is used.
+ * <p>
+ * The contents of those locations are cached in a {@linkplain CopybookIndex}, which is shared by all parses.
  */
 public class DefaultCopybookLocator implements CopybookLocator {
 
@@ -72,27 +69,14 @@ public class DefaultCopybookLocator implements CopybookLocator {
     }
 
     static Path find(Path dir, String library, Path source, String name) {
-    	var files = files(dir, library);
-    	if (files != null) {
-    		for (var file : files(dir, library)) {
-    			if (file.equals(source)) continue;
-    			if (isCopybookNamed(file, name)) return file;
-    		}
-        }
-        return null;
-    }
-
-    static DirectoryStream<Path> files(Path sourcePath, String libraryName) {
-        if (libraryName != null) {
-            sourcePath = sourcePath.resolve(libraryName);
+        if (library != null) {
+            dir = dir.resolve(library);
         }
-        if (Files.isDirectory(sourcePath)) {
-        	try {
-        		return Files.newDirectoryStream(sourcePath,Files::isRegularFile);
-        	}
-        	catch (IOException e) { throw new UncheckedIOException(e); }
+        var index = CopybookIndex.of(dir);
+        if (index == null) {
+            return null;
         }
-        return null;
+        return index.find(dir, name, source);
     }
 
     public static boolean isCopybookNamed(Path path, String textName) {
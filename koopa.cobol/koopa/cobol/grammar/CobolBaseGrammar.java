@@ -28,7 +28,7 @@ public class CobolBaseGrammar extends CobolPreprocessingGrammar {
 
     private ParserCombinator pictureStringParser = null;
 
-    public ParserCombinator pictureString() {
+    public synchronized ParserCombinator pictureString() {
         if (pictureStringParser == null) {
             var future = scoped("pictureString");
             pictureStringParser = future;
@@ -85,7 +85,7 @@ public class CobolBaseGrammar extends CobolPreprocessingGrammar {
 
     private ParserCombinator levelNumberParser = null;
 
-    public ParserCombinator levelNumber() {
+    public synchronized ParserCombinator levelNumber() {
         if (levelNumberParser == null) {
             var future = scoped("levelNumber");
             levelNumberParser = future;
@@ -160,7 +160,7 @@ public class CobolBaseGrammar extends CobolPreprocessingGrammar {
      * <a href="http://supportline.microfocus.com/documentation/books/sx20books/lrpdfx.htm">
      *   Micro Focus COBOL - 5.1 Identification Division</a>.
      */
-    public ParserCombinator commentEntry() {
+    public synchronized ParserCombinator commentEntry() {
         if (commentEntryParser == null) {
             var future = scoped("commentEntry");
             commentEntryParser = future;
@@ -61,7 +61,7 @@ public abstract class CobolPreprocessingBaseGrammar extends KoopaGrammar {
 
     private ParserCombinator wordParser = null;
 
-    private ParserCombinator word() {
+    private synchronized ParserCombinator word() {
         if (wordParser == null) {
             var future = scoped("word", PRIVATE);
             wordParser = future;
@@ -182,7 +182,7 @@ public abstract class CobolPreprocessingBaseGrammar extends KoopaGrammar {
     /**
      * A cobolWord is any {@link #word()} that is not a keyword.
      */
-    public ParserCombinator cobolWord() {
+    public synchronized ParserCombinator cobolWord() {
         if (cobolWordParser == null) {
             var future = scoped("cobolWord");
             cobolWordParser = future;
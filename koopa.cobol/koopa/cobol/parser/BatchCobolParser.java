@@ -0,0 +1,189 @@
+package koopa.cobol.parser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import java.util.logging.Logger;
+import static java.util.logging.Level.*;
+
+import koopa.cobol.CobolFiles;
+import koopa.core.parsers.Parse;
+import koopa.core.parsers.Profiler;
+
+/**
+ * Parses a batch of files concurrently, using a single {@linkplain CobolParser}.
+ * <p>
+ * The grammars are shared between all threads,
+ * but every file still gets its own {@linkplain Parse}.
+ * This means the {@linkplain CobolParser} (and its project) should not be
+ * reconfigured while a batch is running.
+ * <p>
+ * {@linkplain ParseResults} are handed to the consumer as soon as they complete,
+ * which need not be in the order the files were given.
+ * The consumer always gets called from the thread which started the batch,
+ * so it does not need to be thread-safe itself.
+ * <p>
+ * When the {@linkplain CobolParser} is profiling, the statistics of all
+ * parses in a batch get combined. Cfr. {@link #getProfiler()}.
+ */
+public class BatchCobolParser {
+
+    private static final Logger LOGGER = Logger.getLogger("parser");
+
+    private final CobolParser parser;
+
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    private Profiler profiler = null;
+
+    public BatchCobolParser(CobolParser parser) {
+        assert (parser != null);
+        this.parser = parser;
+    }
+
+    /**
+     * Collects all Cobol files found at the given path.
+     * If the path is a directory it is searched recursively.
+     */
+    public static List<Path> collect(Path path) {
+        if (!Files.isDirectory(path)) {
+            return CobolFiles.isCobol(path) ? List.of(path) : List.of();
+        }
+        try (var paths = Files.walk(path)) {
+            return paths.filter(CobolFiles::isCobol).sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses all Cobol files found at the given path.
+     * Cfr. {@link #collect(Path)}.
+     * <p>
+     * Returns the number of files which were parsed.
+     */
+    public int parse(Path path, Consumer<ParseResults> consumer) {
+        return parse(collect(path), consumer);
+    }
+
+    /**
+     * Parses all given files, passing each of the results to the consumer as they complete.
+     * <p>
+     * Should a parse fail with an exception the consumer still gets results for that file.
+     * These will be marked as invalid input, and their {@linkplain ParseResults#getParse()}
+     * will only hold an error describing the exception. There will be no tree.
+     * <p>
+     * Returns the number of files which were parsed.
+     * This will be less than the number of files given if we got interrupted.
+     */
+    public int parse(List<Path> files, Consumer<ParseResults> consumer) {
+        if (files.isEmpty()) {
+            return 0;
+        }
+
+        profiler = parser.isProfiling() ? new Profiler() : null;
+
+        var executor = Executors.newFixedThreadPool(Math.min(threads, files.size()), new BatchThreads());
+        try {
+            var completion = new ExecutorCompletionService<ParseResults>(executor);
+            for (var file : files) {
+                completion.submit(() -> parseOne(file));
+            }
+
+            var done = 0;
+            while (done < files.size()) {
+                ParseResults results;
+                try {
+                    results = completion.take().get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return done;
+                } catch (ExecutionException e) {
+                    // parseOne already catches everything it can recover from.
+                    throw new IllegalStateException(e.getCause());
+                }
+                done += 1;
+                if (profiler != null && results.getParse() != null && results.getParse().getProfiler() != null) {
+                    profiler.addAll(results.getParse().getProfiler());
+                }
+                consumer.accept(results);
+            }
+            return done;
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ParseResults parseOne(Path file) {
+        var start = System.currentTimeMillis();
+        try {
+            return parser.parse(file);
+        } catch (RuntimeException e) {
+            LOGGER.log(SEVERE, "Parsing " + file + " failed.", e);
+            return failed(file, e, System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Results for a file whose parse threw an exception. These get a {@linkplain Parse}
+     * of their own, holding an error which describes the exception.
+     */
+    private static ParseResults failed(Path file, RuntimeException e, long time) {
+        var parse = Parse.of(null);
+        parse.getMessages().error(null, "Parsing failed: " + e);
+        var results = new ParseResults(file);
+        results.setParse(parse);
+        results.setTime(time);
+        return results;
+    }
+
+    /**
+     * How many files may be parsed at the same time.
+     * Defaults to the number of available processors.
+     */
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Need at least one thread. Got: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * The combined statistics of all files parsed in the last batch,
+     * or <code>null</code> if the parser was not profiling.
+     */
+    public Profiler getProfiler() {
+        return profiler;
+    }
+
+    public CobolParser getParser() {
+        return parser;
+    }
+
+    private static final class BatchThreads implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            var thread = new Thread(runnable, "koopa-batch-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package koopa.cobol.parser;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.io.StringReader;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -15,7 +16,9 @@ import koopa.cobol.grammar.CobolGrammar;
 import koopa.cobol.sources.LOCCount;
 import koopa.core.data.Position;
 import koopa.core.data.Token;
+import koopa.core.parsers.Packrat;
 import koopa.core.parsers.Parse;
+import koopa.core.parsers.Profiler;
 import koopa.core.parsers.Stream;
 import koopa.core.streams.BaseStream;
 import koopa.core.targets.NullTarget;
@@ -30,6 +33,12 @@ public class CobolParser {
 
     private boolean buildTrees = false;
 
+    private boolean packratParsing = Boolean.getBoolean("koopa.packrat");
+
+    private int packratBudget = Packrat.DEFAULT_BUDGET;
+
+    private boolean profiling = Boolean.getBoolean("koopa.profile");
+
     private CobolProject project = null;
 
     public ParseResults parse(Path file) {
@@ -44,11 +53,67 @@ public class CobolParser {
         return parse(file, parse);
     }
 
+    /**
+     * Parses the given text, as if it were the contents of the given file.
+     * The results will hold on to the text, so that they can be used for a
+     * {@linkplain #reparse(ParseResults, TextEdit)} later on.
+     */
+    public ParseResults parse(Path file, String text) {
+        var results = parse(file, new StringReader(text));
+        results.setText(text);
+        return results;
+    }
+
+    /**
+     * Parses the text from the previous results with the given edit applied to it.
+     * <p>
+     * Where possible only the smallest sentence, paragraph or section holding the edit
+     * gets reparsed, with the result replacing the old one in the previous tree.
+     * <b>That tree is updated in place</b>, and gets shared by the new results.
+     * This requires that trees are being built, that tokens are not being tracked,
+     * that the previous parse was valid, and that the file is not being preprocessed.
+     * If any of that does not hold, or if the edit can't be handled locally,
+     * the whole of the new text gets parsed again.
+     * <p>
+     * The previous results must know their text.
+     * Cfr. {@linkplain #parse(Path, String)}.
+     */
+    public ParseResults reparse(ParseResults previous, TextEdit edit) {
+        var text = previous.getText();
+        if (text == null) {
+            throw new IllegalArgumentException("Previous results do not know their text.");
+        }
+        var newText = edit.applyTo(text);
+        var file = previous.getFile();
+
+        if (buildTrees && !keepingTrackOfTokens && previous.isValidInput() && !project.isPreprocessing(file)) {
+            var start = System.currentTimeMillis();
+            var results = new IncrementalReparse(this, project, previous, edit, newText).run();
+            if (results != null) {
+                var end = System.currentTimeMillis();
+                LOGGER.finer("Reparse took: " + (end - start) + " ms");
+                results.setTime(end - start);
+                return results;
+            }
+        }
+
+        if (LOGGER.isLoggable(FINER)) {
+            LOGGER.finer("Full reparse of " + file + " for edit " + edit + ".");
+        }
+        return parse(file, newText);
+    }
+
     public ParseResults parse(Path file, Parse parse) {
         var start = System.currentTimeMillis();
         var results = doParse(file, parse);
         var end = System.currentTimeMillis();
         LOGGER.finer("Parse took: " + (end - start) + " ms");
+        if (parse.getPackrat() != null && LOGGER.isLoggable(FINER)) {
+            LOGGER.finer("Memoization: " + parse.getPackrat());
+        }
+        if (parse.getProfiler() != null && LOGGER.isLoggable(FINER)) {
+            LOGGER.finer("Profiling: " + parse.getProfiler());
+        }
         results.setTime(end - start);
         return results;
     }
@@ -127,6 +192,16 @@ public class CobolParser {
         var source = new LOCCount(CobolTokens.getNewSource(file, reader, project));
         var parse = Parse.of(source);
 
+        // Memoize rules, if so requested.
+        if (packratParsing) {
+            parse.setPackrat(new Packrat(packratBudget));
+        }
+
+        // Keep statistics on the grammar rules, if so requested.
+        if (profiling) {
+            parse.setProfiler(new Profiler());
+        }
+
         // Keep track of all tokens passing through here, if so requested.
         TokenTracker tokenTracker = null;
         if (keepingTrackOfTokens) {
@@ -151,6 +226,49 @@ public class CobolParser {
         this.buildTrees = buildTrees;
     }
 
+    /**
+     * Whether or not to memoize the results of grammar rules while parsing.
+     * This trades memory for less work when the grammar backtracks.
+     * <p>
+     * Defaults to the value of the <code>koopa.packrat</code> system property.
+     */
+    public void setPackratParsing(boolean packratParsing) {
+        this.packratParsing = packratParsing;
+    }
+
+    public boolean isPackratParsing() {
+        return packratParsing;
+    }
+
+    /**
+     * How much the memoization of rules may hold on to.
+     * Cfr. {@linkplain Packrat#Packrat(int)}.
+     */
+    public void setPackratBudget(int packratBudget) {
+        if (packratBudget < 1) {
+            throw new IllegalArgumentException("Budget must be 1 or greater. Got: " + packratBudget);
+        }
+        this.packratBudget = packratBudget;
+    }
+
+    public int getPackratBudget() {
+        return packratBudget;
+    }
+
+    /**
+     * Whether or not to keep statistics on the grammar rules while parsing.
+     * These can be found on the {@linkplain Profiler} of the results' {@linkplain Parse}.
+     * <p>
+     * Defaults to the value of the <code>koopa.profile</code> system property.
+     */
+    public void setProfiling(boolean profiling) {
+        this.profiling = profiling;
+    }
+
+    public boolean isProfiling() {
+        return profiling;
+    }
+
     public void setProject(CobolProject project) {
         this.project = project;
     }
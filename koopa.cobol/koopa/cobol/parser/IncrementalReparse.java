@@ -0,0 +1,784 @@
+package koopa.cobol.parser;
+
+import static koopa.core.data.tags.AreaTag.COMPILER_DIRECTIVE;
+import static koopa.core.data.tags.IslandTag.WATER;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.logging.Logger;
+import static java.util.logging.Level.*;
+
+import koopa.cobol.CobolProject;
+import koopa.cobol.CobolTokens;
+import koopa.cobol.grammar.CobolGrammar;
+import koopa.cobol.sources.LOCCount;
+import koopa.cobol.sources.SourceFormat;
+import koopa.core.data.Data;
+import koopa.core.data.Position;
+import koopa.core.data.Resource;
+import koopa.core.data.Token;
+import koopa.core.data.Tokens;
+import koopa.core.data.markers.End;
+import koopa.core.data.markers.Start;
+import koopa.core.parsers.Packrat;
+import koopa.core.parsers.Parse;
+import koopa.core.parsers.ParserCombinator;
+import koopa.core.sources.ChainingSource;
+import koopa.core.sources.Source;
+import koopa.core.targets.ListTarget;
+import koopa.core.targets.WaterTagger;
+import koopa.core.trees.KoopaTreeBuilder;
+import koopa.core.trees.Tree;
+
+/**
+ * Applies a {@linkplain TextEdit} to the results of an earlier parse, by
+ * reparsing only the smallest sentence, paragraph or section which holds the edit,
+ * and putting the result in place of the old one in the earlier tree.
+ * <p>
+ * The part which gets reparsed always consists of whole lines, which
+ * no other part of the tree has program text on. Those lines get tokenized
+ * on their own, starting out in the source format which was active there.
+ * The result has to be a complete match for one or more repetitions of the rule
+ * (as sentences, paragraphs and sections only ever appear in sequences of their own),
+ * or we try again with the next sentence, paragraph or section up.
+ * <p>
+ * Tokens following the reparsed lines are kept, but moved to their new position.
+ * <p>
+ * Whenever a change could have an effect outside of the lines being reparsed
+ * (compiler directives, continuation lines, mixed line endings) we give up,
+ * and {@link #run()} returns <code>null</code>. It is up to the caller to do a
+ * full parse instead. The same goes for when preprocessing is active, as
+ * the state of REPLACE statements isn't known halfway through a file.
+ */
+final class IncrementalReparse {
+
+    private static final Logger LOGGER = Logger.getLogger("parser.incremental");
+
+    private final CobolParser parser;
+    private final CobolProject project;
+    private final CobolGrammar grammar;
+
+    private final ParseResults previous;
+    private final TextEdit edit;
+    private final String oldText;
+    private final String newText;
+
+    IncrementalReparse(CobolParser parser, CobolProject project, ParseResults previous, TextEdit edit, String newText) {
+        this.parser = parser;
+        this.project = project;
+        this.grammar = project.getGrammar();
+        this.previous = previous;
+        this.edit = edit;
+        this.oldText = previous.getText();
+        this.newText = newText;
+    }
+
+    /**
+     * Returns the results for the edited text, or <code>null</code> if this
+     * could not be done incrementally.
+     * <p>
+     * The tree of the previous results gets updated in place.
+     * Nothing gets changed when this returns <code>null</code>.
+     */
+    ParseResults run() {
+        var root = previous.getTree();
+        if (root == null) {
+            return null;
+        }
+        var firstLine = lineAt(root, edit.getOffset());
+        var lastLine = lineAt(root, lastAffectedOffset());
+        if (firstLine < 0 || lastLine < 0) {
+            return null;
+        }
+        for (var node = deepestNodeOn(root, firstLine, lastLine); node != null; node = node.getParent()) {
+            var rule = ruleFor(node);
+            if (rule == null) {
+                continue;
+            }
+            var attempt = new Attempt(node, rule);
+            if (!attempt.prepare()) {
+                continue;
+            }
+            if (attempt.givesUp()) {
+                return null;
+            }
+            if (attempt.reparse()) {
+                if (LOGGER.isLoggable(FINER)) {
+                    LOGGER.finer("Reparsed " + node.getName() + " at line " + attempt.firstLine
+                        + " for edit " + edit + ".");
+                }
+                return attempt.apply(root);
+            }
+            if (attempt.givesUp()) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The rule which can reparse the given node on its own.
+     */
+    private ParserCombinator ruleFor(Tree node) {
+        var name = node.getName();
+        if (name == null || !grammar.getNamespace().equals(node.getNamespace())) {
+            return null;
+        }
+        switch (name) {
+        case "sentence":
+            // The first sentence of a declarative section is not a regular one.
+            return isFirstSentenceInDeclarativeSection(node) ? null : grammar.sentence();
+        case "paragraph":
+            return grammar.paragraph();
+        case "section":
+            return grammar.section();
+        default:
+            return null;
+        }
+    }
+
+    private static boolean isFirstSentenceInDeclarativeSection(Tree sentence) {
+        var parent = sentence.getParent();
+        if (parent == null || !"declarativeSection".equals(parent.getName())) {
+            return false;
+        }
+        for (var i = 0; i < sentence.getChildIndex(); i++) {
+            if ("sentence".equals(parent.getChild(i).getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The offset of the last character in the original text whose line is affected by the edit.
+     * <p>
+     * When the removed text ends in a line break, the next line gets joined to the current one,
+     * unless the edit removes whole lines only.
+     */
+    private int lastAffectedOffset() {
+        var offset = edit.getOffset();
+        var end = edit.getEndOffset();
+        if (edit.getRemovedLength() == 0) {
+            return offset;
+        }
+        var inserted = edit.getInsertedText();
+        var atStartOfLine = offset == 0 || isLineBreak(oldText.charAt(offset - 1));
+        var insertsWholeLines = inserted.isEmpty() || isLineBreak(inserted.charAt(inserted.length() - 1));
+        if (atStartOfLine && insertsWholeLines && isLineBreak(oldText.charAt(end - 1))) {
+            return end - 1;
+        }
+        return end;
+    }
+
+    private static boolean isLineBreak(char c) {
+        return c == '\n' || c == '\r';
+    }
+
+    /**
+     * The line holding the character at the given offset, as known by the tree,
+     * or -1 if the tree doesn't know.
+     */
+    private static int lineAt(Tree root, int offset) {
+        var position = offset + 1;
+        var tree = root;
+        while (!tree.isToken()) {
+            Tree next = null;
+            for (var i = 0; i < tree.getChildCount(); i++) {
+                var child = tree.getChild(i);
+                var start = child.getRawStart();
+                if (start == null || start.getPositionInFile() > position) {
+                    continue;
+                }
+                var end = child.getRawEnd();
+                if (end.getPositionInFile() >= position) {
+                    next = child;
+                    break;
+                }
+            }
+            if (next == null) {
+                return -1;
+            }
+            tree = next;
+        }
+        for (var range : ((Token) tree.getData()).getRanges()) {
+            if (range.getStart().getPositionInFile() <= position && position <= range.getEnd().getPositionInFile()) {
+                return range.getStart().getLinenumber();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The deepest node in the tree which holds all the given lines,
+     * and which isn't sharing those lines with a sibling.
+     */
+    private static Tree deepestNodeOn(Tree root, int firstLine, int lastLine) {
+        var tree = root;
+        for (;;) {
+            Tree next = null;
+            for (var i = 0; i < tree.getChildCount(); i++) {
+                var child = tree.getChild(i);
+                if (child.isToken()) {
+                    continue;
+                }
+                var start = child.getRawStart();
+                var end = child.getRawEnd();
+                if (start == null || end.getLinenumber() < firstLine || start.getLinenumber() > lastLine) {
+                    continue;
+                }
+                if (next != null || start.getLinenumber() > firstLine || end.getLinenumber() < lastLine) {
+                    // Lines are shared, or not all held by one child.
+                    return tree;
+                }
+                next = child;
+            }
+            if (next == null) {
+                return tree;
+            }
+            tree = next;
+        }
+    }
+
+    private boolean isSignificant(Tree leaf) {
+        return isSignificant(leaf.getData());
+    }
+
+    /**
+     * Whether the given data is program text which the grammar has to match.
+     */
+    private boolean isSignificant(Data d) {
+        return d instanceof Token && grammar.isProgramText(d) && !grammar.canBeSkipped(d, null);
+    }
+
+    private static Tree firstLeaf(Tree tree) {
+        if (tree.isToken()) {
+            return tree;
+        }
+        for (var i = 0; i < tree.getChildCount(); i++) {
+            var leaf = firstLeaf(tree.getChild(i));
+            if (leaf != null) {
+                return leaf;
+            }
+        }
+        return null;
+    }
+
+    private static Tree lastLeaf(Tree tree) {
+        if (tree.isToken()) {
+            return tree;
+        }
+        for (var i = tree.getChildCount() - 1; i >= 0; i--) {
+            var leaf = lastLeaf(tree.getChild(i));
+            if (leaf != null) {
+                return leaf;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The leaf preceding the given tree, in document order.
+     */
+    private static Tree leafBefore(Tree tree) {
+        for (var node = tree; node.getParent() != null; node = node.getParent()) {
+            var parent = node.getParent();
+            for (var i = node.getChildIndex() - 1; i >= 0; i--) {
+                var leaf = lastLeaf(parent.getChild(i));
+                if (leaf != null) {
+                    return leaf;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The leaf following the given tree, in document order.
+     */
+    private static Tree leafAfter(Tree tree) {
+        for (var node = tree; node.getParent() != null; node = node.getParent()) {
+            var parent = node.getParent();
+            for (var i = node.getChildIndex() + 1; i < parent.getChildCount(); i++) {
+                var leaf = firstLeaf(parent.getChild(i));
+                if (leaf != null) {
+                    return leaf;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Position startOf(Tree leaf) {
+        return ((Token) leaf.getData()).getStart();
+    }
+
+    private static int lastLineOf(Tree leaf) {
+        var ranges = ((Token) leaf.getData()).getRanges();
+        return ranges.get(ranges.size() - 1).getEnd().getLinenumber();
+    }
+
+    private static boolean hasDirectives(Tree tree) {
+        if (tree.isToken()) {
+            return ((Token) tree.getData()).hasTag(COMPILER_DIRECTIVE);
+        }
+        for (var i = 0; i < tree.getChildCount(); i++) {
+            if (hasDirectives(tree.getChild(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * An attempt at reparsing one node.
+     */
+    private final class Attempt {
+        private final Tree node;
+        private final ParserCombinator rule;
+
+        private boolean givingUp = false;
+
+        private int firstLine;
+        private int lastLine;
+        private SourceFormat format;
+        private Resource resource;
+
+        /**
+         * Leaves outside of the node, on its first and last line.
+         */
+        private final List<Tree> leavesBefore = new ArrayList<>();
+        private final List<Tree> leavesAfter = new ArrayList<>();
+
+        /**
+         * Offsets of the reparsed lines in the original text.
+         */
+        private int regionStart;
+        private int regionEnd;
+
+        private String fragment;
+        private int lineDelta;
+
+        private Parse parse;
+        private LOCCount loc;
+        private final List<Data> leading = new ArrayList<>();
+        private final List<Data> trailing = new ArrayList<>();
+
+        /**
+         * The new nodes, along with any tokens in between them.
+         */
+        private final List<Tree> reparsed = new ArrayList<>();
+
+        private Attempt(Tree node, ParserCombinator rule) {
+            this.node = node;
+            this.rule = rule;
+        }
+
+        boolean givesUp() {
+            return givingUp;
+        }
+
+        /**
+         * Figures out which lines belong to the node, and whether the edit falls within those.
+         */
+        boolean prepare() {
+            var first = firstLeaf(node);
+            var last = lastLeaf(node);
+            if (first == null) {
+                return false;
+            }
+            var firstToken = (Token) first.getData();
+            if (firstToken.hasTag(WATER)) {
+                return false;
+            }
+            Tree firstSignificant = first;
+            while (firstSignificant != null && !isSignificant(firstSignificant)) {
+                firstSignificant = leafAfter(firstSignificant);
+            }
+            Tree lastSignificant = last;
+            while (lastSignificant != null && !isSignificant(lastSignificant)) {
+                lastSignificant = leafBefore(lastSignificant);
+            }
+            if (firstSignificant == null || lastSignificant == null) {
+                return false;
+            }
+            firstLine = startOf(firstSignificant).getLinenumber();
+            lastLine = lastLineOf(lastSignificant);
+            resource = startOf(firstSignificant).getResource();
+            format = SourceFormat.forToken((Token) firstSignificant.getData());
+
+            // No one else may have program text on our lines.
+            var before = leafBefore(first);
+            while (before != null && lastLineOf(before) >= firstLine) {
+                if (isSignificant(before)) {
+                    return false;
+                }
+                leavesBefore.add(0, before);
+                before = leafBefore(before);
+            }
+            var after = leafAfter(last);
+            while (after != null && startOf(after).getLinenumber() <= lastLine) {
+                if (isSignificant(after)) {
+                    return false;
+                }
+                leavesAfter.add(after);
+                after = leafAfter(after);
+            }
+            var start = leavesBefore.isEmpty() ? startOf(first) : startOf(leavesBefore.get(0));
+            if (start.getPositionInLine() != 1 || !resource.equals(start.getResource())) {
+                return false;
+            }
+            regionStart = start.getPositionInFile() - 1;
+            if (after != null) {
+                var next = startOf(after);
+                if (next.getPositionInLine() != 1 || !resource.equals(next.getResource())) {
+                    return false;
+                }
+                regionEnd = next.getPositionInFile() - 1;
+            } else {
+                // Our lines run up to the end of the text.
+                regionEnd = oldText.length();
+            }
+
+            if (edit.getOffset() < regionStart || edit.getEndOffset() > regionEnd) {
+                return false;
+            }
+
+            if (hasDirectives(node)) {
+                givingUp = true;
+                return true;
+            }
+
+            fragment = newText.substring(regionStart, regionEnd + edit.getLengthDelta());
+            if (fragment.isEmpty() || !isLineBreak(fragment.charAt(fragment.length() - 1))) {
+                // The edit took out the node, or joined it with the line after.
+                return false;
+            }
+            var lines = countLines(fragment);
+            if (lines < 0) {
+                givingUp = true;
+                return true;
+            }
+            lineDelta = lines - (lastLine - firstLine + 1);
+
+            if (isContinued(newText, regionStart, regionStart + fragment.length())) {
+                givingUp = true;
+            }
+            return true;
+        }
+
+        /**
+         * Counts the lines in the fragment, or returns -1 if we don't like its line breaks.
+         * <p>
+         * Only when all line breaks are the same as the first one in the original text
+         * can we be sure that they will be split the same way as in a full parse.
+         */
+        private int countLines(String text) {
+            var expected = firstLineBreak(oldText);
+            if (expected == null) {
+                return -1;
+            }
+            if (text.startsWith("\n") && regionStart > 0 && newText.charAt(regionStart - 1) == '\r') {
+                return -1;
+            }
+            var lines = 0;
+            var i = 0;
+            while (i < text.length()) {
+                var c = text.charAt(i);
+                if (!isLineBreak(c)) {
+                    i += 1;
+                    continue;
+                }
+                var length = (c == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') ? 2 : 1;
+                if (!text.regionMatches(i, expected, 0, expected.length()) || length != expected.length()) {
+                    return -1;
+                }
+                lines += 1;
+                i += length;
+            }
+            if (!text.isEmpty() && !isLineBreak(text.charAt(text.length() - 1))) {
+                return -1;
+            }
+            return lines;
+        }
+
+        /**
+         * Whether the lines from start to end (exclusive) may be continuing,
+         * or be continued by, the lines around them.
+         */
+        private boolean isContinued(String text, int start, int end) {
+            if (start > 0 && endsInHyphen(text, start)) {
+                return true;
+            }
+            if (start < end && startsWithHyphen(text, start)) {
+                return true;
+            }
+            if (start < end && endsInHyphen(text, end)) {
+                return true;
+            }
+            return end < text.length() && startsWithHyphen(text, end);
+        }
+
+        /**
+         * Whether the line ending right before the given offset may hold a literal
+         * with a floating continuation indicator (i.e. a quote followed by a hyphen).
+         */
+        private boolean endsInHyphen(String text, int lineEnd) {
+            var i = lineEnd - 1;
+            while (i >= 0 && isLineBreak(text.charAt(i))) {
+                i -= 1;
+            }
+            for (; i > 0 && !isLineBreak(text.charAt(i)); i--) {
+                var q = text.charAt(i - 1);
+                if (text.charAt(i) == '-' && (q == '"' || q == '\'')) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Whether the line starting at the given offset may be a continuation line.
+         */
+        private boolean startsWithHyphen(String text, int lineStart) {
+            var end = lineStart;
+            while (end < text.length() && !isLineBreak(text.charAt(end))) {
+                end += 1;
+            }
+            if (format != SourceFormat.FREE && lineStart + 6 < end && text.charAt(lineStart + 6) == '-') {
+                return true;
+            }
+            for (var i = lineStart; i < end; i++) {
+                var c = text.charAt(i);
+                if (c != ' ' && c != '\t') {
+                    return c == '-';
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Tokenizes and parses the edited lines. Returns whether the rule matched all of them.
+         */
+        boolean reparse() {
+            var source = CobolTokens.getNewSource(previous.getFile(), new StringReader(fragment), project, format);
+            loc = new LOCCount(source);
+            var data = new ListTarget();
+            parse = Parse.of(new Moved(loc, resource, regionStart, firstLine - 1)).to(data);
+            if (parser.isPackratParsing()) {
+                parse.setPackrat(new Packrat(parser.getPackratBudget()));
+            }
+            var stream = parse.getFlow().getBaseStream();
+            var accepts = rule.accepts(parse);
+            if (accepts) {
+                // A match which consumes nothing would keep on matching, so that's where we stop.
+                var read = stream.getReadCount();
+                while (rule.accepts(parse)) {
+                    var now = stream.getReadCount();
+                    if (now == read) {
+                        break;
+                    }
+                    read = now;
+                }
+                // Anything which is left still goes into the tree, even if the rule didn't want it.
+                var tail = new WaterTagger(data);
+                var rest = parse.getFlow().getSource();
+                for (var d = rest.next(); d != null; d = rest.next()) {
+                    tail.push(d);
+                }
+            }
+            parse.done();
+            if (!accepts) {
+                return false;
+            }
+
+            var depth = 0;
+            KoopaTreeBuilder builder = null;
+            var between = new ArrayList<Data>();
+            for (var d : data) {
+                if (d instanceof Token && ((Token) d).hasTag(COMPILER_DIRECTIVE)) {
+                    givingUp = true;
+                    return false;
+                }
+                if (builder == null) {
+                    if (d instanceof Start && node.getName().equals(((Start) d).getName())) {
+                        builder = new KoopaTreeBuilder(grammar);
+                        for (var t : between) {
+                            reparsed.add(new Tree(t));
+                        }
+                        between.clear();
+                    } else if (d instanceof Token && !isSignificant(d)) {
+                        (reparsed.isEmpty() ? leading : between).add(d);
+                        continue;
+                    } else {
+                        // Program text outside of the rule.
+                        return false;
+                    }
+                }
+                builder.push(d);
+                if (d instanceof Start) {
+                    depth += 1;
+                } else if (d instanceof End) {
+                    depth -= 1;
+                    if (depth == 0) {
+                        reparsed.add(builder.getTree());
+                        builder = null;
+                    }
+                }
+            }
+            trailing.addAll(between);
+            return !reparsed.isEmpty();
+        }
+
+        /**
+         * Puts the reparsed node in the tree, and returns the new results.
+         */
+        ParseResults apply(Tree root) {
+            // New leaves outside of the node go where the old ones were.
+            var leadingAt = leavesBefore.isEmpty() ? null : leavesBefore.get(0).getParent();
+            var leadingAfter = leadingAt == null ? null : siblingBefore(leavesBefore.get(0));
+            var trailingAt = leavesAfter.isEmpty() ? null : leavesAfter.get(0).getParent();
+            var trailingAfter = trailingAt == null ? null : siblingBefore(leavesAfter.get(0));
+
+            moveLeavesAfter(node, edit.getLengthDelta());
+
+            for (var leaf : leavesBefore) {
+                leaf.getParent().removeChild(leaf.getChildIndex());
+            }
+            for (var leaf : leavesAfter) {
+                leaf.getParent().removeChild(leaf.getChildIndex());
+            }
+            var parent = node.getParent();
+            var index = node.getChildIndex();
+            parent.setChild(index, reparsed.get(0));
+            for (var i = 1; i < reparsed.size(); i++) {
+                parent.insertChild(index + i, reparsed.get(i));
+            }
+            var first = reparsed.get(0);
+            var last = reparsed.get(reparsed.size() - 1);
+
+            if (trailingAt == null) {
+                insertData(trailing, parent, last.getChildIndex() + 1);
+            } else {
+                var after = (trailingAfter == node) ? last : trailingAfter;
+                insertData(trailing, trailingAt, after == null ? 0 : after.getChildIndex() + 1);
+            }
+            if (leadingAt == null) {
+                insertData(leading, parent, first.getChildIndex());
+            } else {
+                insertData(leading, leadingAt, leadingAfter == null ? 0 : leadingAfter.getChildIndex() + 1);
+            }
+
+            var results = new ParseResults(previous.getFile());
+            results.setValidInput(true);
+            results.setParse(parse);
+            results.setTree(root);
+            results.setText(newText);
+
+            var old = countLinesOfCode(oldText.substring(regionStart, regionEnd));
+            results.setNumberOfLines(previous.getNumberOfLines() + loc.getNumberOfLines() - old.getNumberOfLines());
+            results.setNumberOfLinesWithCode(previous.getNumberOfLinesWithCode()
+                + loc.getNumberOfLinesWithCode() - old.getNumberOfLinesWithCode());
+            results.setNumberOfLinesWithComments(previous.getNumberOfLinesWithComments()
+                + loc.getNumberOfLinesWithComments() - old.getNumberOfLinesWithComments());
+            return results;
+        }
+
+        private Tree siblingBefore(Tree tree) {
+            var index = tree.getChildIndex();
+            return index == 0 ? null : tree.getParent().getChild(index - 1);
+        }
+
+        private void insertData(List<Data> data, Tree parent, int index) {
+            for (var i = 0; i < data.size(); i++) {
+                parent.insertChild(index + i, new Tree(data.get(i)));
+            }
+        }
+
+        /**
+         * Moves all tokens following our lines to their new position.
+         */
+        private void moveLeavesAfter(Tree tree, int offset) {
+            if (offset == 0 && lineDelta == 0) {
+                return;
+            }
+            for (var n = tree; n.getParent() != null; n = n.getParent()) {
+                var parent = n.getParent();
+                for (var i = n.getChildIndex() + 1; i < parent.getChildCount(); i++) {
+                    move(parent, i, offset);
+                }
+            }
+        }
+
+        private void move(Tree parent, int index, int offset) {
+            var tree = parent.getChild(index);
+            if (!tree.isToken()) {
+                for (var i = 0; i < tree.getChildCount(); i++) {
+                    move(tree, i, offset);
+                }
+                return;
+            }
+            var token = (Token) tree.getData();
+            if (token.getStart().getLinenumber() <= lastLine) {
+                return;
+            }
+            var moved = Tokens.moved(token, resource, offset, lineDelta);
+            if (moved != token) {
+                moved.setSkipped(token.isSkipped());
+                parent.setChild(index, new Tree(moved));
+            }
+        }
+
+        private LOCCount countLinesOfCode(String text) {
+            var count = new LOCCount(CobolTokens.getNewSource(previous.getFile(), new StringReader(text), project, format));
+            while (count.next() != null) {
+            }
+            count.close();
+            return count;
+        }
+    }
+
+    /**
+     * The first line break in the given text, or <code>null</code> if there is none.
+     */
+    private static String firstLineBreak(String text) {
+        for (var i = 0; i < text.length(); i++) {
+            var c = text.charAt(i);
+            if (c == '\r') {
+                return (i + 1 < text.length() && text.charAt(i + 1) == '\n') ? "\r\n" : "\r";
+            } else if (c == '\n') {
+                return "\n";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Moves all tokens from the given source to where they are in the full text,
+     * as the source only read part of it.
+     */
+    private static final class Moved extends ChainingSource implements Source {
+        private final Resource resource;
+        private final int offset;
+        private final int lines;
+
+        private Moved(Source source, Resource resource, int offset, int lines) {
+            super(source);
+            this.resource = resource;
+            this.offset = offset;
+            this.lines = lines;
+        }
+
+        @Override
+        protected Data nextElement() {
+            var d = source.next();
+            if (d instanceof Token) {
+                return Tokens.moved((Token) d, resource, offset, lines);
+            }
+            return d;
+        }
+    }
+
+}
@@ -10,6 +10,8 @@ public class ParseResults {
 
     private final Path file;
     private Parse parse = null;
+    private Tree tree = null;
+    private String text = null;
 
     private boolean validInput = false;
 
@@ -39,6 +41,8 @@ public class ParseResults {
         var copy = new ParseResults(file);
         copy.validInput = validInput;
         copy.parse = parse;
+        copy.tree = tree;
+        copy.text = text;
         copy.numberOfLines = numberOfLines;
         copy.numberOfLinesWithCode = numberOfLinesWithCode;
         copy.numberOfLinesWithComments = numberOfLinesWithComments;
@@ -86,8 +90,39 @@ public class ParseResults {
         return parse;
     }
 
+    /**
+     * Sets the tree for these results, rather than taking it from the {@linkplain Parse}.
+     * This is for when the tree was not built by a single parse.
+     */
+    public void setTree(Tree tree) {
+        this.tree = tree;
+    }
+
+    /**
+     * The tree for these results, if one was built.
+     * Returns <code>null</code> otherwise, including when there is no {@linkplain Parse}.
+     */
     public Tree getTree() {
-        return parse.getTarget(KoopaTreeBuilder.class).getTree();
+        if (tree != null) {
+            return tree;
+        }
+        if (parse == null) {
+            return null;
+        }
+        var builder = parse.getTarget(KoopaTreeBuilder.class);
+        return builder == null ? null : builder.getTree();
+    }
+
+    /**
+     * The source text which was parsed, if it is known.
+     * Cfr. {@linkplain CobolParser#parse(Path, String)}.
+     */
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
     }
 
 }
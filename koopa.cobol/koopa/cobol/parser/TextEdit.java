@@ -0,0 +1,82 @@
+package koopa.cobol.parser;
+
+/**
+ * An edit to a source text: some number of characters removed at a given offset,
+ * and replaced by some other text.
+ * <p>
+ * Offsets count characters from the start of the text, starting at zero.
+ * <p>
+ * <b>Immutable.</b>
+ */
+public final class TextEdit {
+
+    private final int offset;
+    private final int removedLength;
+    private final String insertedText;
+
+    public TextEdit(int offset, int removedLength, String insertedText) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset can not be negative. Got: " + offset);
+        }
+        if (removedLength < 0) {
+            throw new IllegalArgumentException("Removed length can not be negative. Got: " + removedLength);
+        }
+        if (insertedText == null) {
+            throw new IllegalArgumentException("Inserted text can not be null.");
+        }
+        this.offset = offset;
+        this.removedLength = removedLength;
+        this.insertedText = insertedText;
+    }
+
+    public static TextEdit insert(int offset, String text) {
+        return new TextEdit(offset, 0, text);
+    }
+
+    public static TextEdit remove(int offset, int length) {
+        return new TextEdit(offset, length, "");
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getRemovedLength() {
+        return removedLength;
+    }
+
+    public String getInsertedText() {
+        return insertedText;
+    }
+
+    /**
+     * The offset of the first character following the removed ones, in the original text.
+     */
+    public int getEndOffset() {
+        return offset + removedLength;
+    }
+
+    /**
+     * How much longer (or shorter, if negative) the text gets because of this edit.
+     */
+    public int getLengthDelta() {
+        return insertedText.length() - removedLength;
+    }
+
+    /**
+     * Returns the given text with this edit applied to it.
+     */
+    public String applyTo(String text) {
+        if (getEndOffset() > text.length()) {
+            throw new IndexOutOfBoundsException(
+                "Edit [" + offset + ", " + getEndOffset() + "[ falls outside the text's bounds [0, " + text.length() + "].");
+        }
+        return text.substring(0, offset) + insertedText + text.substring(getEndOffset());
+    }
+
+    @Override
+    public String toString() {
+        return "@" + offset + " -" + removedLength + " +" + insertedText.length();
+    }
+
+}
@@ -0,0 +1,215 @@
+package koopa.cobol.parser.preprocessing.replacing;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import koopa.core.data.Token;
+import koopa.core.sources.Source;
+
+/**
+ * Finds which of a set of {@linkplain ReplacingPhrase}s applies at the current point in a library,
+ * while looking at each of its text words only once.
+ * <p>
+ * The phrases are given as a list of lists, in order of precedence, the way they
+ * are kept by {@linkplain koopa.cobol.sources.Replacing}. The phrase which applies
+ * is the first one in that order which would match, same as when trying them one by one.
+ * <p>
+ * MATCHING phrases are compiled into a trie over their (upper cased) text words.
+ * This is the goto function of an Aho-Corasick automaton. We have no need for its failure links,
+ * as a match is always anchored at the leftmost text word. When nothing matches there,
+ * the replacing rules move on to the next text word and start over anyway.
+ * LEADING and TRAILING phrases only ever look at the first text word, and are compiled
+ * into tries over the characters of their partial word, read front to back or back to front.
+ * <p>
+ * Phrases of any other kind can not be compiled, cfr. {@link #handlesAll()}.
+ */
+public class PhraseMatcher {
+
+    /**
+     * The root of the trie over text words, for the MATCHING phrases.
+     */
+    private final WordNode words = new WordNode();
+
+    /**
+     * The root of the trie over leading characters, for the LEADING phrases.
+     */
+    private final CharNode leading = new CharNode();
+
+    /**
+     * The root of the trie over trailing characters, for the TRAILING phrases.
+     */
+    private final CharNode trailing = new CharNode();
+
+    private boolean handlesAll = true;
+
+    /**
+     * Whatever we took from the library while looking for a match.
+     */
+    private final LinkedList<Token> seen = new LinkedList<>();
+
+    public PhraseMatcher(List<List<ReplacingPhrase>> phrases) {
+        var order = 0;
+        for (var level : phrases) {
+            for (var phrase : level) {
+                add(phrase, order);
+                order += 1;
+            }
+        }
+    }
+
+    private void add(ReplacingPhrase phrase, int order) {
+        if (phrase instanceof ReplaceMatching) {
+            var node = words;
+            node.lowest = Math.min(node.lowest, order);
+            for (var word : phrase.getReplacing().getTextWords()) {
+                node = node.next.computeIfAbsent(normalized(word), w -> new WordNode());
+                node.lowest = Math.min(node.lowest, order);
+            }
+            node.accept(phrase, order);
+
+        } else if (phrase instanceof ReplaceLeading) {
+            var partial = normalized(phrase.getReplacing().getTextWords().get(0));
+            var node = leading;
+            for (var i = 0; i < partial.length(); i++) {
+                node = node.next.computeIfAbsent(partial.charAt(i), c -> new CharNode());
+            }
+            node.accept(phrase, order);
+
+        } else if (phrase instanceof ReplaceTrailing) {
+            var partial = normalized(phrase.getReplacing().getTextWords().get(0));
+            var node = trailing;
+            for (var i = partial.length() - 1; i >= 0; i--) {
+                node = node.next.computeIfAbsent(partial.charAt(i), c -> new CharNode());
+            }
+            node.accept(phrase, order);
+
+        } else if (!(phrase instanceof ReplaceNone)) {
+            handlesAll = false;
+        }
+    }
+
+    /**
+     * Whether or not all phrases could be compiled. If not,
+     * {@link #find(Source)} does not know about all of them, and should not be used.
+     */
+    public boolean handlesAll() {
+        return handlesAll;
+    }
+
+    /**
+     * Returns the phrase which takes precedence among the ones which would match
+     * at the current point in the library, or <code>null</code> if none would.
+     * <p>
+     * This leaves the library as it was. It is up to the caller to apply the phrase,
+     * cfr. {@linkplain ReplacingPhrase#appliedTo(Source, LinkedList)}.
+     */
+    public ReplacingPhrase find(Source library) {
+        var best = new Best();
+        // MATCHING phrases without any text words match anything.
+        best.consider(words.phrase, words.order);
+        try {
+            var word = ReplacingPhrase.text(ReplacingPhrase.nextTextWord(library, seen));
+            if (word == null) {
+                return best.phrase;
+            }
+            var first = normalized(word);
+            findPartial(leading, first, true, best);
+            findPartial(trailing, first, false, best);
+
+            var text = first;
+            var node = words;
+            for (;;) {
+                node = node.next.get(text);
+                if (node == null) {
+                    break;
+                }
+                best.consider(node.phrase, node.order);
+                if (node.next.isEmpty() || node.lowest >= best.order) {
+                    break;
+                }
+                word = ReplacingPhrase.text(ReplacingPhrase.nextTextWord(library, seen));
+                if (word == null) {
+                    break;
+                }
+                text = normalized(word);
+            }
+            return best.phrase;
+
+        } finally {
+            while (!seen.isEmpty()) {
+                library.unshift(seen.removeLast());
+            }
+        }
+    }
+
+    /**
+     * Walks a trie over the characters of the given text word, front to back or back to front,
+     * considering every partial word we pass along the way.
+     */
+    private static void findPartial(CharNode root, String text, boolean forward, Best best) {
+        var node = root;
+        best.consider(node.phrase, node.order);
+        for (var i = 0; i < text.length(); i++) {
+            node = node.next.get(text.charAt(forward ? i : text.length() - 1 - i));
+            if (node == null) {
+                return;
+            }
+            best.consider(node.phrase, node.order);
+        }
+    }
+
+    private static String normalized(String text) {
+        return text.toUpperCase();
+    }
+
+    private static final class Best {
+        private ReplacingPhrase phrase = null;
+        private int order = Integer.MAX_VALUE;
+
+        private void consider(ReplacingPhrase phrase, int order) {
+            if (phrase != null && order < this.order) {
+                this.phrase = phrase;
+                this.order = order;
+            }
+        }
+    }
+
+    private static final class WordNode {
+        private final Map<String, WordNode> next = new HashMap<>();
+
+        /**
+         * The phrase taking precedence among the ones ending here, if any.
+         */
+        private ReplacingPhrase phrase = null;
+        private int order = Integer.MAX_VALUE;
+
+        /**
+         * The lowest order of all phrases passing through here.
+         * There is no point in going on if we already found a phrase with a lower one.
+         */
+        private int lowest = Integer.MAX_VALUE;
+
+        private void accept(ReplacingPhrase phrase, int order) {
+            if (order < this.order) {
+                this.phrase = phrase;
+                this.order = order;
+            }
+        }
+    }
+
+    private static final class CharNode {
+        private final Map<Character, CharNode> next = new HashMap<>();
+        private ReplacingPhrase phrase = null;
+        private int order = Integer.MAX_VALUE;
+
+        private void accept(ReplacingPhrase phrase, int order) {
+            if (order < this.order) {
+                this.phrase = phrase;
+                this.order = order;
+            }
+        }
+    }
+
+}
@@ -51,12 +51,12 @@ public abstract class ReplacingPhrase {
 
     public abstract boolean appliedTo(Source source, LinkedList<Data> newTokens);
 
-    protected List<Token> nextTextWord(Source library, LinkedList<Token> seen) {
+    protected static List<Token> nextTextWord(Source library, LinkedList<Token> seen) {
         skipToNonBlankProgramText(library, seen);
         return nonBlankProgramText(library, seen);
     }
 
-    private List<Token> nonBlankProgramText(Source library, LinkedList<Token> seen) {
+    private static List<Token> nonBlankProgramText(Source library, LinkedList<Token> seen) {
         List<Token> textWord = null;
         for (;;) {
             var data = library.next();
@@ -101,7 +101,7 @@ public abstract class ReplacingPhrase {
         }
     }
 
-    private void skipToNonBlankProgramText(Source library, LinkedList<Token> seen) {
+    private static void skipToNonBlankProgramText(Source library, LinkedList<Token> seen) {
         for (;;) {
             var d = library.next();
             if (d == null) {
@@ -121,11 +121,11 @@ public abstract class ReplacingPhrase {
         }
     }
 
-    private boolean isProgramText(Token t) {
+    private static boolean isProgramText(Token t) {
         return t.hasAnyTag(PROGRAM_TEXT_AREA, SKIPPED) && !t.hasAnyTag(COMMENT);
     }
 
-    private boolean isBlank(Token t) {
+    private static boolean isBlank(Token t) {
         return isProgramText(t) && t.hasAnyTag(COMMENT, END_OF_LINE, WHITESPACE);
     }
 
@@ -157,7 +157,7 @@ public abstract class ReplacingPhrase {
         return "\n".equals(text) || "\r\n".equals(text);
     }
 
-    protected String text(List<Token> words) {
+    protected static String text(List<Token> words) {
         if (words == null || words.isEmpty()) {
             return null;
         }
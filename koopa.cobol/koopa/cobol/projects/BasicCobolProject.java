@@ -3,6 +3,8 @@ package koopa.cobol.projects;
 import java.nio.file.Path;
 import koopa.cobol.CobolFiles;
 import koopa.cobol.CobolProject;
+import koopa.cobol.copybooks.CopybookCache;
+import koopa.cobol.grammar.CobolCompiledGrammar;
 import koopa.cobol.grammar.CobolGrammar;
 import koopa.cobol.sources.SourceFormat;
 import koopa.core.parsers.ParserCombinator;
@@ -16,11 +18,20 @@ import koopa.core.parsers.ParserCombinator;
  */
 public class BasicCobolProject implements CobolProject {
 
-    protected static final CobolGrammar grammar = CobolGrammar.instance();
+    /**
+     * The interpreted grammar, unless the <code>koopa.compiledGrammar</code> system property
+     * asks for the {@linkplain CobolCompiledGrammar} instead.
+     */
+    protected static final CobolGrammar grammar = Boolean.getBoolean("koopa.compiledGrammar")
+        ? CobolCompiledGrammar.instance()
+        : CobolGrammar.instance();
 
     private SourceFormat defaultFormat = SourceFormat.FIXED;
     private int defaultTabLength = 1;
     private boolean defaultPreprocessing = false;
+    private CopybookCache copybookCache = null;
+    private boolean bulkLineSplitting = Boolean.getBoolean("koopa.bulkLineSplitting");
+    private boolean threadedTokenizing = Boolean.getBoolean("koopa.threadedTokenizing");
 
     @Override
     public CobolProject duplicate() {
@@ -33,6 +44,9 @@ public class BasicCobolProject implements CobolProject {
         project.defaultFormat = defaultFormat;
         project.defaultTabLength = defaultTabLength;
         project.defaultPreprocessing = defaultPreprocessing;
+        project.copybookCache = copybookCache;
+        project.bulkLineSplitting = bulkLineSplitting;
+        project.threadedTokenizing = threadedTokenizing;
     }
 
     @Override
@@ -99,4 +113,40 @@ public class BasicCobolProject implements CobolProject {
         return isDefaultPreprocessing();
     }
 
+    @Override
+    public CopybookCache getCopybookCache() {
+        return copybookCache;
+    }
+
+    @Override
+    public void setCopybookCache(CopybookCache cache) {
+        this.copybookCache = cache;
+    }
+
+    /**
+     * Defaults to the value of the <code>koopa.bulkLineSplitting</code> system property.
+     */
+    @Override
+    public boolean isBulkLineSplitting() {
+        return bulkLineSplitting;
+    }
+
+    @Override
+    public void setBulkLineSplitting(boolean bulkLineSplitting) {
+        this.bulkLineSplitting = bulkLineSplitting;
+    }
+
+    /**
+     * Defaults to the value of the <code>koopa.threadedTokenizing</code> system property.
+     */
+    @Override
+    public boolean isThreadedTokenizing() {
+        return threadedTokenizing;
+    }
+
+    @Override
+    public void setThreadedTokenizing(boolean threadedTokenizing) {
+        this.threadedTokenizing = threadedTokenizing;
+    }
+
 }
@@ -4,6 +4,7 @@ import static koopa.cobol.data.tags.CobolTag.SOURCE_FORMAT_DIRECTIVE;
 import static koopa.cobol.data.tags.CobolTag.SOURCE_LISTING_DIRECTIVE;
 import static koopa.core.data.tags.AreaTag.COMPILER_DIRECTIVE;
 import static koopa.core.data.tags.AreaTag.PROGRAM_TEXT_AREA;
+import static koopa.core.data.tags.SyntacticTag.END_OF_LINE;
 
 import java.util.LinkedList;
 import java.util.List;
@@ -17,6 +18,7 @@ import koopa.core.data.Token;
 import koopa.core.data.tags.SyntacticTag;
 import koopa.core.parsers.Parse;
 import koopa.core.sources.ChainingSource;
+import koopa.core.sources.Line;
 import koopa.core.sources.ListSource;
 import koopa.core.sources.Source;
 import koopa.core.sources.Sources;
@@ -29,11 +31,36 @@ public class CompilerDirectives extends ChainingSource implements Source {
 
     private static final Logger LOGGER = Logger.getLogger("source.cobol.compiler_directives");
 
+    /**
+     * Text which every compiler directive starts with, once you get past any
+     * whitespace and sequence number. These are the leading keywords and
+     * indicators of the alternatives in <code>Directives.kg</code>, so please
+     * keep them in sync. <code>CompilerDirectivesTest</code> checks them against
+     * the grammar's test cases.
+     */
+    private static final String[] LEADING_TEXT = {
+        // ISO
+        ">>",
+        // IBM
+        "BASIS", "CBL", "PROCESS", "*CBL", "*CONTROL", "DELETE", "ENTER", "INSERT", "READY", "RESET",
+        // MicroFocus
+        "-INC", "++", "$",
+        // Listing
+        "EJECT", "SKIP", "TITLE"
+    };
+
+    /**
+     * The last column of the sequence number area.
+     */
+    private static final int SEQUENCE_NUMBER_END = 6;
+
     private final DirectivesGrammar grammar;
 
     private SourceFormat format;
 
-    private final LinkedList<Data> pending = new LinkedList<>();
+    private final Line pending = new Line();
+
+    private final Line.Pool lines = new Line.Pool();
 
     private final List<Tree> handled = new LinkedList<>();
 
@@ -50,7 +77,7 @@ public class CompilerDirectives extends ChainingSource implements Source {
                 return pending.removeFirst();
             }
             // Grab line from source.
-            var line = Sources.getLine(source);
+            var line = Sources.getLine(source, lines);
             if (line == null) {
                 return null;
             }
@@ -58,18 +85,23 @@ public class CompilerDirectives extends ChainingSource implements Source {
             var directive = tryToParseCompilerDirective(line);
             if (directive == null) {
                 // If not, mark it all with the current active source format, and start returning that.
-                return nextFrom(tagged(line, format));
+                tagged(line, format);
             } else {
                 // If there is one, handle it, and start returning the result.
                 if (LOGGER.isLoggable(FINER)) {
                     LOGGER.finer("Found a compiler directive in: " + line);
                 }
-                return nextFrom(handleCompilerDirective(directive, line));
+                handleCompilerDirective(directive, line);
             }
+            lines.recycle(line);
+            return pending.removeFirst();
         }
     }
 
-    private Tree tryToParseCompilerDirective(LinkedList<Data> line) {
+    private Tree tryToParseCompilerDirective(Line line) {
+        if (!mightBeCompilerDirective(line)) {
+            return null;
+        }
         // TODO Speed: can we reuse the sources?
         var lineSource = new ListSource(line);
         // TODO Program-Area splits ?
@@ -84,7 +116,61 @@ public class CompilerDirectives extends ChainingSource implements Source {
         return accepts ? treeBuilder.getTree() : null;
     }
 
-    private LinkedList<Data> handleCompilerDirective(Tree directive, LinkedList<Data> line) {
+    /**
+     * A quick check on the text of a line, which rules out most lines which
+     * can not hold a compiler directive, without running the directives grammar.
+     * <p>
+     * All the grammar allows in front of a directive is whitespace and
+     * a sequence number (which ends by column 6). So a directive's
+     * {@linkplain #LEADING_TEXT} has to start by column 6, or at the first
+     * non-blank character after it. If it doesn't, the line is not a
+     * directive. If it does, we still need the grammar to say for sure.
+     * <p>
+     * Anything which doesn't look like a plain line (i.e. one token of text,
+     * as split off by the line splitter) is left to the grammar.
+     */
+    private static boolean mightBeCompilerDirective(Line line) {
+        Token text = null;
+        for (var i = 0; i < line.size(); i++) {
+            var d = line.get(i);
+            if (!(d instanceof Token)) {
+                continue;
+            }
+            var t = (Token) d;
+            if (t.hasTag(END_OF_LINE)) {
+                continue;
+            }
+            if (text != null || t.getRanges().size() != 1) {
+                return true;
+            }
+            text = t;
+        }
+        if (text == null) {
+            return false;
+        }
+
+        final var length = text.getLength();
+        final var column = text.getStart().getPositionInLine();
+        for (var i = 0; i < length; i++) {
+            final var c = text.charAt(i);
+            final var pastSequenceNumber = column + i > SEQUENCE_NUMBER_END;
+            if (pastSequenceNumber && (c == ' ' || c == '\t')) {
+                continue;
+            }
+            for (var leading : LEADING_TEXT) {
+                if (text.getText().regionMatches(true, i, leading, 0, leading.length())) {
+                    return true;
+                }
+            }
+            if (pastSequenceNumber) {
+                // First non-blank after the sequence number area, and no match.
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private void handleCompilerDirective(Tree directive, Line line) {
         handled.add(directive);
         var isoSourceFormat = directive.getDescendant("iso", "instruction", "source", "format");
         if (isoSourceFormat != null) {
@@ -94,10 +180,11 @@ public class CompilerDirectives extends ChainingSource implements Source {
                 LOGGER.finer("ISO SOURCE FORMAT " + declaredFormat);
             }
             if (declaredFormat != null) {
-                return sourceformatDirective(line, declaredFormat);
+                sourceformatDirective(line, declaredFormat);
             } else {
-                return compilerDirective(line);
+                compilerDirective(line);
             }
+            return;
         }
         var mfSet = directive.getDescendant("mf", "set");
         if (mfSet != null) {
@@ -115,54 +202,60 @@ public class CompilerDirectives extends ChainingSource implements Source {
                 LOGGER.finer("MF SET SOURCEFORMAT " + newFormat);
             }
             if (newFormat != null) {
-                return sourceformatDirective(line, newFormat);
+                sourceformatDirective(line, newFormat);
             } else {
-                return compilerDirective(line);
+                compilerDirective(line);
             }
+            return;
         }
         if (directive.hasChild("listing")) {
-            return sourceListingDirective(line);
+            sourceListingDirective(line);
+        } else {
+            compilerDirective(line);
         }
-        return compilerDirective(line);
     }
 
-    private LinkedList<Data> sourceformatDirective(LinkedList<Data> line, SourceFormat newFormat) {
-        return tagged(line, newFormat, COMPILER_DIRECTIVE, SOURCE_FORMAT_DIRECTIVE);
+    private void sourceformatDirective(Line line, SourceFormat newFormat) {
+        tagged(line, newFormat, COMPILER_DIRECTIVE, SOURCE_FORMAT_DIRECTIVE);
     }
 
-    private LinkedList<Data> compilerDirective(LinkedList<Data> line) {
-        return tagged(line, format, COMPILER_DIRECTIVE);
+    private void compilerDirective(Line line) {
+        tagged(line, format, COMPILER_DIRECTIVE);
     }
 
-    private LinkedList<Data> sourceListingDirective(LinkedList<Data> line) {
-        return tagged(line, format, COMPILER_DIRECTIVE, SOURCE_LISTING_DIRECTIVE);
+    private void sourceListingDirective(Line line) {
+        tagged(line, format, COMPILER_DIRECTIVE, SOURCE_LISTING_DIRECTIVE);
     }
 
-    private LinkedList<Data> tagged(LinkedList<Data> data, SourceFormat newFormat, Object... tags) {
-        var tagged = new LinkedList<Data>();
-        for (var d : data) {
+    /**
+     * Makes all data on the line pending, with the given tags added, and then switches to the new format.
+     */
+    private void tagged(Line line, SourceFormat newFormat, Object... tags) {
+        for (var i = 0; i < line.size(); i++) {
+            var d = line.get(i);
             if (d instanceof Token) {
                 var t = (Token) d;
                 if (t.hasTag(SyntacticTag.END_OF_LINE)) {
-                    tagged.add(t.withTags(newFormat));
+                    pending.addLast(t.withTags(newFormat));
                 } else {
-                    tagged.add(t.withTags(format).withTags(tags));
+                    pending.addLast(t.withTags(format).withTags(tags));
                 }
             } else {
-                tagged.add(d);
+                pending.addLast(d);
             }
         }
         format = newFormat;
-        return tagged;
-    }
-
-    private Data nextFrom(LinkedList<Data> data) {
-        pending.addAll(data);
-        return pending.removeFirst();
     }
 
     public List<Tree> getHandledDirectives() {
         return handled;
     }
 
+    /**
+     * The source format which is currently active.
+     */
+    public SourceFormat getFormat() {
+        return format;
+    }
+
 }
@@ -11,7 +11,9 @@ import static koopa.core.data.tags.SyntacticTag.END_OF_LINE;
 import static koopa.core.data.tags.SyntacticTag.SEPARATOR;
 import static koopa.core.data.tags.SyntacticTag.STRING;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 
 import java.util.logging.Logger;
 import static java.util.logging.Level.*;
@@ -20,6 +22,7 @@ import koopa.core.data.Data;
 import koopa.core.data.Token;
 import koopa.core.data.Tokens;
 import koopa.core.sources.ChainingSource;
+import koopa.core.sources.Line;
 import koopa.core.sources.Source;
 import koopa.core.sources.Sources;
 import koopa.core.sources.TokenSeparationLogic;
@@ -32,7 +35,7 @@ public class ContinuationOfLines extends ChainingSource implements Source {
      * This is a tag which may be applied to fixed indicators to show that they have been handled.
      *
      * This is needed as in the case of
-     * {@linkplain ContinuationOfLines#handleClosedLiteralContinuation(LinkedList, LinkedList)}
+     * {@linkplain ContinuationOfLines#handleClosedLiteralContinuation(Line, Line)}
      * the continuing line (which has the indicator) will be made pending,
      * but we should take care not to handle the indicator a second time.
      */
@@ -40,9 +43,15 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         HANDLED
     };
 
-    private final LinkedList<Data> pending = new LinkedList<>();
+    private final Line pending = new Line();
 
-    private final LinkedList<LinkedList<Data>> pendingLines = new LinkedList<>();
+    /**
+     * Lines we have read ahead, which still need to be looked at.
+     * This may end with a <code>null</code>, meaning we ran out of lines.
+     */
+    private final LinkedList<Line> pendingLines = new LinkedList<>();
+
+    private final Line.Pool lines = new Line.Pool();
 
     public ContinuationOfLines(Source source) {
         super(source);
@@ -59,6 +68,7 @@ public class ContinuationOfLines extends ChainingSource implements Source {
                 return null;
             }
             pending.addAll(line);
+            lines.recycle(line);
             return withoutInternalStatus(pending.removeFirst());
         }
     }
@@ -74,7 +84,7 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         }
     }
 
-    private LinkedList<Data> getLogicalLine() {
+    private Line getLogicalLine() {
         for (;;) {
             var line = getPendingLine();
             // No more lines ?
@@ -120,10 +130,10 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         }
     }
 
-    private LinkedList<Data> handleIncompleteToken(
-        LinkedList<Data> continuedLine, LinkedList<Data> continuingLine)
+    private Line handleIncompleteToken(
+        Line continuedLine, Line continuingLine)
     {
-        var logicalLine = new LinkedList<Data>();
+        var logicalLine = lines.obtain();
         var incomplete = shiftToIncompleteToken(continuedLine, logicalLine);
         assert (incomplete != null);
         if (LOGGER.isLoggable(FINER)) {
@@ -131,15 +141,18 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         }
         if (isLiteralWithFloatingContinuationIndicator(incomplete)) {
             // Floating continuation indicator.
-            return handleFloatingContinuationIndicator(logicalLine, incomplete, continuedLine, continuingLine);
+            handleFloatingContinuationIndicator(logicalLine, incomplete, continuedLine, continuingLine);
         } else {
             // Incomplete string literal.
-            return handleIncompleteStringLiteral(logicalLine, incomplete, continuedLine, continuingLine);
+            handleIncompleteStringLiteral(logicalLine, incomplete, continuedLine, continuingLine);
         }
+        // Whatever was left of the continued line is part of the logical line now.
+        lines.recycle(continuedLine);
+        return logicalLine;
     }
 
-    private LinkedList<Data> handleFloatingContinuationIndicator(
-        LinkedList<Data> logicalLine, Token incomplete, LinkedList<Data> continuedLine, LinkedList<Data> continuingLine)
+    private void handleFloatingContinuationIndicator(
+        Line logicalLine, Token incomplete, Line continuedLine, Line continuingLine)
     {
         // "In the case of continuation with [a] floating literal continuation indicator,
         //  the next line that is not a comment line or a blank line is the continuation line.
@@ -147,7 +160,7 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         //  shall be a quotation symbol matching the quotation symbol used in the opening delimiter.
         //  The continuation starts with the character immediately after the quotation symbol in the continuation line."
 
-        var skipped = new LinkedList<Data>();
+        var skipped = lines.obtain();
         var firstNonBlank = shiftToFirstNonBlank(continuingLine, skipped);
         if (!firstNonBlank.hasTag(STRING)) {
             // We need a string to continue the floating one...
@@ -161,7 +174,8 @@ public class ContinuationOfLines extends ChainingSource implements Source {
             // Restore the logicalLine...
             logicalLine.add(incomplete);
             logicalLine.addAll(continuedLine);
-            return logicalLine;
+            lines.recycle(skipped);
+            return;
         }
         if (LOGGER.isLoggable(FINER)) {
             LOGGER.finer("Continuing floating literal " + incomplete + " with " + firstNonBlank);
@@ -182,11 +196,12 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         logicalLine.addLast(leadingQuote);
         logicalLine.addLast(continuationOfLiteral);
         logicalLine.addAll(continuingLine);
-        return logicalLine;
+        lines.recycle(skipped);
+        lines.recycle(continuingLine);
     }
 
-    private LinkedList<Data> handleIncompleteStringLiteral(
-        LinkedList<Data> logicalLine, Token incomplete, LinkedList<Data> continuedLine, LinkedList<Data> continuingLine)
+    private void handleIncompleteStringLiteral(
+        Line logicalLine, Token incomplete, Line continuedLine, Line continuingLine)
     {
         // This can only occur in FIXED or VARIABLE format.
         var format = SourceFormat.forToken(incomplete);
@@ -206,7 +221,7 @@ public class ContinuationOfLines extends ChainingSource implements Source {
                 LOGGER.info("Did not find a continuation for incomplete literal: " + incomplete);
             }
             handleMissingContinuation(logicalLine, incomplete, continuedLine, continuingLine);
-            return logicalLine;
+            return;
         }
 
         // 'The continuation line must contain a hyphen in the indicator area,
@@ -215,7 +230,7 @@ public class ContinuationOfLines extends ChainingSource implements Source {
 
         // We know the indicator is already there, so we can cross that of the list.
         // Next is to find the first non-blank character.
-        var skipped = new LinkedList<Data>();
+        var skipped = lines.obtain();
         var continuation = shiftToFirstNonBlank(continuingLine, skipped);
         if (continuation == null || !continuation.hasTag(STRING)) {
             // Well, this is not according to spec.
@@ -232,15 +247,17 @@ public class ContinuationOfLines extends ChainingSource implements Source {
             while (!skipped.isEmpty()) {
                 continuingLine.addFirst(skipped.removeLast());
             }
+            lines.recycle(skipped);
             handleMissingContinuation(logicalLine, incomplete, continuedLine, continuingLine);
-            return logicalLine;
+            return;
         }
         composeFullLiteral(format, logicalLine, incomplete, continuedLine, skipped, continuation, continuingLine);
-        return logicalLine;
+        lines.recycle(skipped);
+        lines.recycle(continuingLine);
     }
 
     private void handleMissingContinuation(
-        LinkedList<Data> logicalLine, Token incomplete, LinkedList<Data> continuedLine, LinkedList<Data> continuingLine)
+        Line logicalLine, Token incomplete, Line continuedLine, Line continuingLine)
     {
         // We will split of the opening quotation character and split the incomplete literal into tokens.
         // Then push everything we have, except for the next source line as the logical line.
@@ -264,8 +281,8 @@ public class ContinuationOfLines extends ChainingSource implements Source {
     }
 
     private void composeFullLiteral(
-        SourceFormat format, LinkedList<Data> logicalLine, Token incomplete, LinkedList<Data> continuedLine,
-        LinkedList<Data> skipped, Token continuation, LinkedList<Data> continuingLine)
+        SourceFormat format, Line logicalLine, Token incomplete, Line continuedLine,
+        Line skipped, Token continuation, Line continuingLine)
     {
         var leadingQuote =
             Tokens.subtoken(continuation, 0, 1).withTags(SKIPPED).withoutTags(INCOMPLETE, PROGRAM_TEXT_AREA);
@@ -274,7 +291,9 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         logicalLine.addLast(incomplete.withoutTags(INCOMPLETE));
         shiftAllAndSkip(continuedLine, logicalLine);
         while (!pendingLines.isEmpty()) {
-            logicalLine.addAll(pendingLines.removeFirst());
+            var pendingLine = pendingLines.removeFirst();
+            logicalLine.addAll(pendingLine);
+            lines.recycle(pendingLine);
         }
         shiftAllAndSkip(skipped, logicalLine);
         logicalLine.addLast(leadingQuote);
@@ -282,8 +301,8 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         logicalLine.addAll(continuingLine);
     }
 
-    private LinkedList<Data> handleFixedContinuation(Token fixedIndicator,
-        LinkedList<Data> continuedLine, LinkedList<Data> continuingLine)
+    private Line handleFixedContinuation(Token fixedIndicator,
+        Line continuedLine, Line continuingLine)
     {
         // 'If there is a hyphen in the indicator area of a line,
         //  the first nonblank character of the continuation line
@@ -318,28 +337,29 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         }
     }
 
-    private LinkedList<Data> handleBasicNonBlankContinuation(
-        LinkedList<Data> continuedLine, LinkedList<Data> continuingLine)
+    private Line handleBasicNonBlankContinuation(
+        Line continuedLine, Line continuingLine)
     {
-        var skipped = new LinkedList<Data>();
+        var skipped = lines.obtain();
         var lastNonBlank = unshiftToLastNonBlank(continuedLine, skipped);
         var firstNonBlank = shiftToFirstNonBlank(continuingLine, skipped);
         if (LOGGER.isLoggable(FINER)) {
             LOGGER.finer("Continuing " + lastNonBlank + " with " + firstNonBlank);
         }
-        var fullLine = new LinkedList<Data>();
-        fullLine.addAll(continuedLine);
-        fullLine.add(lastNonBlank);
-        shiftAllAndSkip(skipped, fullLine);
-        fullLine.add(firstNonBlank);
-        fullLine.addAll(continuingLine);
-        return fullLine;
+        // The continued line becomes the full line.
+        continuedLine.add(lastNonBlank);
+        shiftAllAndSkip(skipped, continuedLine);
+        continuedLine.add(firstNonBlank);
+        continuedLine.addAll(continuingLine);
+        lines.recycle(skipped);
+        lines.recycle(continuingLine);
+        return continuedLine;
     }
 
-    private LinkedList<Data> handleClosedLiteralContinuation(
-        LinkedList<Data> continuedLine, LinkedList<Data> continuingLine)
+    private Line handleClosedLiteralContinuation(
+        Line continuedLine, Line continuingLine)
     {
-        var endOfContinuedLine = new LinkedList<Data>();
+        var endOfContinuedLine = lines.obtain();
         var closedLiteral = unshiftToLastProgramTextOtherThenEOLN(continuedLine, endOfContinuedLine);
 
         // Now, the COBOL z/OS spec states:
@@ -354,7 +374,7 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         // 1. I don't want to bother with the complexity of tabs in this place.
         // 2. Lines may exceed column 72 in VARIABLE formatting.
         // I may get back to this at some point if it proves to be causing problems.
-        var startOfContinuingLine = new LinkedList<Data>();
+        var startOfContinuingLine = lines.obtain();
         var firstNonBlank = shiftToFirstNonBlank(continuingLine, startOfContinuingLine);
 
         // The first non-blank, according to the spec, must start with two consecutive quotation marks.
@@ -373,6 +393,8 @@ public class ContinuationOfLines extends ChainingSource implements Source {
             while (!startOfContinuingLine.isEmpty()) {
                 continuingLine.addFirst(startOfContinuingLine.removeLast());
             }
+            lines.recycle(endOfContinuedLine);
+            lines.recycle(startOfContinuingLine);
             pendingLines.add(continuingLine);
             return continuedLine;
         }
@@ -384,7 +406,7 @@ public class ContinuationOfLines extends ChainingSource implements Source {
             Tokens.subtoken(firstNonBlank, 0, 1).withTags(SKIPPED).withoutTags(INCOMPLETE, PROGRAM_TEXT_AREA);
         var secondQuote =
             Tokens.subtoken(firstNonBlank, 1).withoutTags(PROGRAM_TEXT_AREA);
-        var endOfContinuingLine = new LinkedList<Data>();
+        var endOfContinuingLine = lines.obtain();
         var lastText = unshiftToLastProgramTextOtherThenEOLN(continuingLine, endOfContinuingLine);
         if (lastText != null) {
             continuingLine.addLast(lastText);
@@ -408,13 +430,17 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         continuingLine.add(furtherLiteral);
         continuingLine.addAll(continuingTokens);
         continuingLine.addAll(endOfContinuingLine);
+        lines.recycle(endOfContinuedLine);
+        lines.recycle(startOfContinuingLine);
+        lines.recycle(endOfContinuingLine);
         pendingLines.add(continuingLine);
         return continuedLine;
     }
 
-    private LinkedList<Token> tokens(LinkedList<Data> data) {
-        var tokens = new LinkedList<Token>();
-        for (var d : data) {
+    private List<Token> tokens(Line data) {
+        var tokens = new ArrayList<Token>(data.size());
+        for (var i = 0; i < data.size(); i++) {
+            var d = data.get(i);
             if (d instanceof Token) {
                 tokens.add((Token) d);
             }
@@ -422,7 +448,7 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         return tokens;
     }
 
-    private Token shiftToIncompleteToken(LinkedList<Data> line, LinkedList<Data> skipped) {
+    private Token shiftToIncompleteToken(Line line, Line skipped) {
         for (;;) {
             if (line.isEmpty()) {
                 return null;
@@ -436,7 +462,7 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         }
     }
 
-    private void shiftAllAndSkip(LinkedList<Data> line, LinkedList<Data> skipped) {
+    private void shiftAllAndSkip(Line line, Line skipped) {
         while (!line.isEmpty()) {
             var d = line.removeFirst();
             // TODO I'm removing TEXT from SKIPPED. Seems ok ?
@@ -448,7 +474,7 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         }
     }
 
-    private Token shiftToFirstNonBlank(LinkedList<Data> line, LinkedList<Data> skipped) {
+    private Token shiftToFirstNonBlank(Line line, Line skipped) {
         for (;;) {
             if (line.isEmpty()) {
                 return null;
@@ -467,7 +493,7 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         }
     }
 
-    private Token unshiftToLastNonBlank(LinkedList<Data> line, LinkedList<Data> unshifted) {
+    private Token unshiftToLastNonBlank(Line line, Line unshifted) {
         for (;;) {
             if (line.isEmpty()) {
                 return null;
@@ -486,7 +512,7 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         }
     }
 
-    private Token unshiftToLastProgramTextOtherThenEOLN(LinkedList<Data> line, LinkedList<Data> unshifted) {
+    private Token unshiftToLastProgramTextOtherThenEOLN(Line line, Line unshifted) {
         for (;;) {
             if (line.isEmpty()) {
                 return null;
@@ -503,7 +529,7 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         }
     }
 
-    private LinkedList<Data> grabNextSourceLine() {
+    private Line grabNextSourceLine() {
         // Check the pending lines for a source line.
         var i = pendingLines.listIterator();
         while (i.hasNext()) {
@@ -516,7 +542,7 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         }
         // If there isn't one in the pending lines, then grab more from the source.
         for (;;) {
-            var nextLine = Sources.getLine(source);
+            var nextLine = Sources.getLine(source, lines);
             if (nextLine == null || !isBlank(nextLine)) {
                 return nextLine;
             }
@@ -524,29 +550,29 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         }
     }
 
-    private LinkedList<Data> getPendingLine() {
+    private Line getPendingLine() {
         if (pendingLines.isEmpty()) {
-            return Sources.getLine(source);
+            return Sources.getLine(source, lines);
         } else {
             return pendingLines.removeFirst();
         }
     }
 
-    private boolean hasIncompleteToken(LinkedList<Data> line) {
-        var i = line.descendingIterator();
-        while (i.hasNext()) {
-            if (isIncompleteToken(i.next())) {
+    private boolean hasIncompleteToken(Line line) {
+        for (var i = line.size() - 1; i >= 0; i--) {
+            if (isIncompleteToken(line.get(i))) {
                 return true;
             }
         }
         return false;
     }
 
-    private Token findFixedIndicator(LinkedList<Data> line) {
+    private Token findFixedIndicator(Line line) {
         if (line == null) {
             return null;
         }
-        for (var d : line) {
+        for (var i = 0; i < line.size(); i++) {
+            var d = line.get(i);
             if (isFixedIndicator(d)) {
                 return (Token) d;
             }
@@ -554,10 +580,9 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         return null;
     }
 
-    private Token findLastProgramTextOtherThenEOLN(LinkedList<Data> line) {
-        var i = line.descendingIterator();
-        while (i.hasNext()) {
-            var d = i.next();
+    private Token findLastProgramTextOtherThenEOLN(Line line) {
+        for (var i = line.size() - 1; i >= 0; i--) {
+            var d = line.get(i);
             if (!(d instanceof Token)) {
                 continue;
             }
@@ -569,8 +594,9 @@ public class ContinuationOfLines extends ChainingSource implements Source {
         return null;
     }
 
-    private boolean isBlank(LinkedList<Data> line) {
-        for (var d : line) {
+    private boolean isBlank(Line line) {
+        for (var i = 0; i < line.size(); i++) {
+            var d = line.get(i);
             if (d instanceof Token) {
                 var t = (Token) d;
                 // TODO Refer to Grammar methods for this.
@@ -617,17 +643,13 @@ public class ContinuationOfLines extends ChainingSource implements Source {
      * Scan the line for any token which {@link #isFixedContinuationIndicator(Token)}
      * and mark those as {@linkplain StatusOfIndicator#HANDLED}.
      */
-    private void markFixedIndicatorAsHandled(LinkedList<Data> line) {
-        var tmp = new LinkedList<Data>();
-        while (!line.isEmpty()) {
-            var d = line.removeFirst();
+    private void markFixedIndicatorAsHandled(Line line) {
+        for (var i = 0; i < line.size(); i++) {
+            var d = line.get(i);
             if (d instanceof Token && isFixedContinuationIndicator((Token) d)) {
-                tmp.addLast(((Token) d).withTags(StatusOfIndicator.HANDLED));
-            } else {
-                tmp.addLast(d);
+                line.set(i, ((Token) d).withTags(StatusOfIndicator.HANDLED));
             }
         }
-        line.addAll(tmp);
     }
 
 }
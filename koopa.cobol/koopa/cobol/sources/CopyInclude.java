@@ -1,12 +1,16 @@
 package koopa.cobol.sources;
 
 import static koopa.core.data.tags.AreaTag.COMMENT;
+import static koopa.core.data.tags.AreaTag.COMPILER_DIRECTIVE;
+import static koopa.core.data.tags.SyntacticTag.END_OF_LINE;
 
 import java.nio.file.Files;
+import java.nio.file.Path;
 
 import java.io.Reader;
 import java.io.IOException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.LinkedList;
 
@@ -14,6 +18,8 @@ import java.util.logging.Logger;
 import static java.util.logging.Level.*;
 
 import koopa.cobol.CobolProject;
+import koopa.cobol.CobolTokens;
+import koopa.cobol.copybooks.CopybookCache;
 import koopa.cobol.grammar.preprocessing.CobolPreprocessingGrammar;
 import koopa.cobol.parser.preprocessing.replacing.Replacing;
 import koopa.cobol.parser.preprocessing.replacing.ReplacingPhrase;
@@ -25,6 +31,7 @@ import koopa.core.data.tags.SyntacticTag;
 import koopa.core.parsers.Parse;
 import koopa.core.sources.AsReplacing;
 import koopa.core.sources.ChainingSource;
+import koopa.core.sources.Line;
 import koopa.core.sources.LineSplitter;
 import koopa.core.sources.ListSource;
 import koopa.core.sources.Source;
@@ -33,7 +40,6 @@ import koopa.core.sources.StackOfSources;
 import koopa.core.trees.KoopaTreeBuilder;
 import koopa.core.trees.Tree;
 import koopa.core.trees.Trees;
-import koopa.core.util.LineEndings;
 
 public class CopyInclude extends ChainingSource implements Source {
 
@@ -43,18 +49,37 @@ public class CopyInclude extends ChainingSource implements Source {
     private final CobolProject project;
     private final StackOfSources inputStack;
 
-    private final LinkedList<Data> pending = new LinkedList<>();
+    private final Line pending = new Line();
+
+    private final Line.Pool lines = new Line.Pool();
 
     /**
      * All COPY statements which got handled are tracked here, in syntax tree form.
      */
     private final List<Tree> handledCopyStatements = new LinkedList<>();
 
+    /**
+     * Where we look for, and store, tokenized copybooks.
+     * May be <code>null</code>, in which case we don't.
+     */
+    private final CopybookCache cache;
+
+    /**
+     * Data from cached copybooks, which is to be read before anything else from the source.
+     */
+    private final LinkedList<Data> replay = new LinkedList<>();
+
+    /**
+     * Copybooks whose tokens we are recording for the {@link #cache}.
+     */
+    private final List<Recording> recordings = new LinkedList<>();
+
     public CopyInclude(Source source, CobolPreprocessingGrammar grammar, CobolProject project, StackOfSources stack) {
         super(source);
         this.project = project;
         this.inputStack = stack;
         this.grammar = grammar;
+        this.cache = project.getCopybookCache();
     }
 
     @Override
@@ -64,7 +89,7 @@ public class CopyInclude extends ChainingSource implements Source {
                 return pending.removeFirst();
             }
             // Grab line from source.
-            var line = Sources.getLine(source);
+            var line = nextLine();
             if (line == null) {
                 return null;
             }
@@ -72,6 +97,7 @@ public class CopyInclude extends ChainingSource implements Source {
             anythingUpToCopyBecomesPending(line);
             if (line.isEmpty()) {
                 // No COPY was found.
+                lines.recycle(line);
                 return pending.removeFirst();
             } else {
                 // We have a COPY statement. For sure?
@@ -81,6 +107,7 @@ public class CopyInclude extends ChainingSource implements Source {
                     // We didn't get any data, which means the COPY statement couldn't be detected in full.
                     // So we just make all data seen so far pending, and carry on.
                     pending.addAll(line);
+                    lines.recycle(line);
                     return pending.removeFirst();
                 }
                 // TODO Resolve any continuations.
@@ -92,6 +119,8 @@ public class CopyInclude extends ChainingSource implements Source {
                     // The COPY statement was probably mal-formed.
                     // So we just make all data seen so far pending, and carry on.
                     pending.addAll(line);
+                    lines.recycle(line);
+                    lines.recycle(copyStatement);
                     return pending.removeFirst();
                 }
                 // We now definitely have a COPY statement.
@@ -102,15 +131,48 @@ public class CopyInclude extends ChainingSource implements Source {
                     // So we just make all data seen so far pending, and carry on.
                     pending.addAll(copyStatement);
                     pending.addAll(line);
+                    lines.recycle(line);
+                    lines.recycle(copyStatement);
                     return pending.removeFirst();
                 } else {
                     pending.add(copy);
+                    lines.recycle(line);
+                    lines.recycle(copyStatement);
                 }
             }
         }
     }
 
-    private void anythingUpToCopyBecomesPending(LinkedList<Data> line) {
+    /**
+     * Grabs the next line of data, favouring anything which is being replayed
+     * from the {@link #cache} over what the source has to offer.
+     * Anything taken from the source gets passed along to any active {@link #recordings}.
+     */
+    private Line nextLine() {
+        if (replay.isEmpty()) {
+            var line = Sources.getLine(source, lines);
+            record(line);
+            return line;
+        }
+        var line = lines.obtain();
+        while (!replay.isEmpty()) {
+            var d = replay.removeFirst();
+            line.addLast(d);
+            if (d instanceof Token && ((Token) d).hasTag(END_OF_LINE)) {
+                return line;
+            }
+        }
+        // The replayed data did not end on a full line, so the source gets to complete it.
+        var rest = Sources.getLine(source, lines);
+        record(rest);
+        if (rest != null) {
+            line.addAll(rest);
+            lines.recycle(rest);
+        }
+        return line;
+    }
+
+    private void anythingUpToCopyBecomesPending(Line line) {
         // "A COPY statement shall be preceded by a space except when it is the first statement in a compilation group."
         var canStartCopyHere = true;
         for (;;) {
@@ -139,23 +201,25 @@ public class CopyInclude extends ChainingSource implements Source {
         }
     }
 
-    private LinkedList<Data> getCopyStatement(LinkedList<Data> line) {
-        var copy = new LinkedList<Data>();
+    private Line getCopyStatement(Line line) {
+        var copy = lines.obtain();
         for (;;) {
             // Do we need to read another line ?
             if (line.isEmpty()) {
                 // Yes, we do.
-                var nextLine = Sources.getLine(source);
+                var nextLine = nextLine();
                 // Did we get another line ?
                 if (nextLine != null) {
                     // Yes, we did.
                     line.addAll(nextLine);
+                    lines.recycle(nextLine);
                 } else {
                     // Nope. So the COPY statement is incomplete.
                     // We rewind all tokens by adding them back to the line.
                     while (!copy.isEmpty()) {
                         line.addFirst(copy.removeLast());
                     }
+                    lines.recycle(copy);
                     // And return null.
                     return null;
                 }
@@ -167,6 +231,7 @@ public class CopyInclude extends ChainingSource implements Source {
                 if (pseudoLiteral != null) {
                     // The entire pseudo-literal becomes part of the COPY statement.
                     copy.addAll(pseudoLiteral);
+                    lines.recycle(pseudoLiteral);
                 } else {
                     // Woops. Seems we couldn't grab the full pseudo-literal.
                     // Which leaves the COPY statement incomplete.
@@ -174,6 +239,7 @@ public class CopyInclude extends ChainingSource implements Source {
                     while (!copy.isEmpty()) {
                         line.addFirst(copy.removeLast());
                     }
+                    lines.recycle(copy);
                     // And return null.
                     return null;
                 }
@@ -190,29 +256,31 @@ public class CopyInclude extends ChainingSource implements Source {
         }
     }
 
-    private boolean atPseudoLiteral(LinkedList<Data> line) {
+    private boolean atPseudoLiteral(Line line) {
         return isEqualsSign(line, 0) && isEqualsSign(line, 1);
     }
 
-    private LinkedList<Data> getPseudoLiteral(LinkedList<Data> line) {
-        var pseudoLiteral = new LinkedList<Data>();
+    private Line getPseudoLiteral(Line line) {
+        var pseudoLiteral = lines.obtain();
         pseudoLiteral.add(line.removeFirst());
         pseudoLiteral.add(line.removeFirst());
         for (;;) {
             // Do we need more data ?
             if (line.isEmpty()) {
                 // Yes, we do.
-                var nextLine = Sources.getLine(source);
+                var nextLine = nextLine();
                 // Did we get another line ?
                 if (nextLine != null) {
                     // Yes, we did.
                     line.addAll(nextLine);
+                    lines.recycle(nextLine);
                 } else {
                     // Nope. So the pseudo-literal is incomplete.
                     // We rewind all tokens by adding them back to the line.
                     while (!pseudoLiteral.isEmpty()) {
                         line.addFirst(pseudoLiteral.removeLast());
                     }
+                    lines.recycle(pseudoLiteral);
                     // And return null.
                     return null;
                 }
@@ -226,11 +294,11 @@ public class CopyInclude extends ChainingSource implements Source {
         }
     }
 
-    private boolean atEndOfPseudoLiteral(LinkedList<Data> line) {
+    private boolean atEndOfPseudoLiteral(Line line) {
         return isEqualsSign(line, 0) && isEqualsSign(line, 1) && !isEqualsSign(line, 2);
     }
 
-    private boolean isEqualsSign(LinkedList<Data> line, int index) {
+    private boolean isEqualsSign(Line line, int index) {
         if (index >= line.size()) {
             return false;
         }
@@ -238,7 +306,7 @@ public class CopyInclude extends ChainingSource implements Source {
         return a != null && a instanceof Token && !((Token) a).hasTag(COMMENT) && ((Token) a).getText().equals("=");
     }
 
-    private boolean isSpace(LinkedList<Data> line, int index) {
+    private boolean isSpace(Line line, int index) {
         while (index < line.size()) {
             var d = line.get(index);
             if (d instanceof Token) {
@@ -250,7 +318,7 @@ public class CopyInclude extends ChainingSource implements Source {
         return true;
     }
 
-    private Tree parseCopyStatement(LinkedList<Data> copyStatement) {
+    private Tree parseCopyStatement(Line copyStatement) {
         var copyStatementSource = new ListSource(copyStatement);
         // There may be continuations which need to be resolved before we can parse it.
         var continuationOfLines = new ContinuationOfLines(copyStatementSource);
@@ -266,7 +334,7 @@ public class CopyInclude extends ChainingSource implements Source {
      *
      * @param line
      */
-    private boolean handleCopyStatement(Tree copy, LinkedList<Data> copyStatement, LinkedList<Data> line) {
+    private boolean handleCopyStatement(Tree copy, Line copyStatement, Line line) {
         if (LOGGER.isLoggable(FINE)) {
             LOGGER.fine("Processing a COPY statement");
         }
@@ -297,6 +365,25 @@ public class CopyInclude extends ChainingSource implements Source {
         if (LOGGER.isLoggable(FINE)) {
             LOGGER.fine("Found copybook at " + copybook);
         }
+
+        // A copybook which includes other copybooks does not get cached.
+        // The data following the nested COPY statement would get recorded twice.
+        abandonRecordingsAround(copyStatement);
+
+        CopybookCache.Key key = null;
+        if (cache != null) {
+            key = keyFor(copybook);
+            var tokens = (key == null) ? null : cache.get(key);
+            if (tokens != null) {
+                replayCopybook(copy, tokens, line);
+                handledCopyStatements.add(copy);
+                if (LOGGER.isLoggable(FINE)) {
+                    LOGGER.fine("Set up expansion of " + copybook + " from the cache");
+                }
+                return true;
+            }
+        }
+
         Reader copybookReader;
         try {
             copybookReader = Files.newBufferedReader(copybook);
@@ -324,6 +411,11 @@ public class CopyInclude extends ChainingSource implements Source {
         // If there are replacements to be activated, we have to make sure
         // we mark where they start and stop in the token stream.
 
+        // Anything still being replayed has to follow the copybook.
+        if (!replay.isEmpty()) {
+            inputStack.push(new ListSource(replay));
+            replay.clear();
+        }
         // This sets up the remainder of the line.
         if (!line.isEmpty()) {
             var remainderOfLine = new ListSource(line);
@@ -335,11 +427,14 @@ public class CopyInclude extends ChainingSource implements Source {
             inputStack.push(turnOffReplacements);
         }
         // This sets up the copybook as a source.
-        var lineEndings = LineEndings.getChoices();
-        var lineSplitter = new LineSplitter(copybook, copybookReader, lineEndings);
+        var lineSplitter = CobolTokens.getNewLineSplitter(copybook, copybookReader, project);
         // This marks all tokens coming from the copybook as being replacements for the COPY statement.
-        var asReplacing = new AsReplacing(lineSplitter, replaced(copy));
+        var replaced = replaced(copy);
+        var asReplacing = new AsReplacing(lineSplitter, replaced);
         inputStack.push(asReplacing);
+        if (key != null) {
+            recordings.add(new Recording(key, replaced));
+        }
         // Mark the start of any REPLACING instructions.
         if (replacements != null) {
             var turnOnReplacements = new ListSource(new ReplacementData(true, false, replacements));
@@ -352,6 +447,97 @@ public class CopyInclude extends ChainingSource implements Source {
         return true;
     }
 
+    /**
+     * Sets up the expansion of a copybook from its cached tokens.
+     * This mirrors what {@link #handleCopyStatement(Tree, Line, Line)} does via the input stack,
+     * except that the data goes straight to the {@link #replay}, as it needs no further tokenization.
+     */
+    private void replayCopybook(Tree copy, List<Token> tokens, Line line) {
+        var replacements = getReplacements(copy);
+        var replaced = replaced(copy);
+        var data = new ArrayList<Data>(tokens.size() + line.size() + 2);
+        if (replacements != null) {
+            data.add(new ReplacementData(true, false, replacements));
+        }
+        for (var token : tokens) {
+            data.add(token.asReplacing(replaced));
+        }
+        if (replacements != null) {
+            data.add(new ReplacementData(false, false, replacements));
+        }
+        data.addAll(line);
+        replay.addAll(0, data);
+    }
+
+    private CopybookCache.Key keyFor(Path copybook) {
+        var directives = source.getSource(CompilerDirectives.class);
+        var programArea = source.getSource(ProgramArea.class);
+        if (directives == null || programArea == null) {
+            return null;
+        }
+        return CopybookCache.keyFor(copybook, directives.getFormat(), programArea.getTabLength());
+    }
+
+    /**
+     * Passes the data from the source along to all active {@link #recordings},
+     * completing those which have seen all of their copybook.
+     * A <code>null</code> line means we are out of data, which completes them all.
+     */
+    private void record(List<Data> line) {
+        if (recordings.isEmpty()) {
+            return;
+        }
+        if (line == null) {
+            for (var recording : recordings) {
+                cache.put(recording.key, recording.tokens);
+            }
+            recordings.clear();
+            return;
+        }
+        for (var d : line) {
+            if (!(d instanceof Token)) {
+                continue;
+            }
+            var token = (Token) d;
+            var it = recordings.iterator();
+            while (it.hasNext()) {
+                var recording = it.next();
+                if (token.getReplaced() == recording.replaced) {
+                    if (token.hasTag(COMPILER_DIRECTIVE)) {
+                        // Directives affect what follows the copybook as well. Replaying them won't.
+                        it.remove();
+                    } else {
+                        recording.tokens.add(token);
+                    }
+                } else if (!isWithin(token.getReplaced(), recording.replaced)) {
+                    // We're past the copybook.
+                    it.remove();
+                    cache.put(recording.key, recording.tokens);
+                }
+            }
+        }
+    }
+
+    private void abandonRecordingsAround(Line copyStatement) {
+        if (recordings.isEmpty() || !(copyStatement.getFirst() instanceof Token)) {
+            return;
+        }
+        var replaced = ((Token) copyStatement.getFirst()).getReplaced();
+        recordings.removeIf(recording -> isWithin(replaced, recording.replaced));
+    }
+
+    /**
+     * Whether the given replacement is, or is nested in, the other one.
+     */
+    private static boolean isWithin(Replaced replaced, Replaced other) {
+        for (var r = replaced; r != null; r = r.getContext()) {
+            if (r == other) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private Replaced replaced(Tree copy) {
         var start = copy.getStartPosition();
         assert (start != null);
@@ -377,4 +563,18 @@ public class CopyInclude extends ChainingSource implements Source {
         return handledCopyStatements;
     }
 
+    /**
+     * The tokens of a copybook, as they are being recorded for the {@link #cache}.
+     */
+    private static final class Recording {
+        private final CopybookCache.Key key;
+        private final Replaced replaced;
+        private final List<Token> tokens = new ArrayList<>();
+
+        private Recording(CopybookCache.Key key, Replaced replaced) {
+            this.key = key;
+            this.replaced = replaced;
+        }
+    }
+
 }
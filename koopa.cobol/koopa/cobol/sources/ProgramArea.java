@@ -10,7 +10,7 @@ import static koopa.core.data.tags.AreaTag.COMMENT;
 import static koopa.core.data.tags.AreaTag.PROGRAM_TEXT_AREA;
 import static koopa.core.data.tags.SyntacticTag.END_OF_LINE;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 
 import java.util.logging.Logger;
 import static java.util.logging.Level.*;
@@ -26,6 +26,10 @@ import koopa.core.sources.Source;
 /**
  * This {@linkplain Source} takes individual lines, and splits them up into the different program areas
  * (cfr. {@linkplain AreaTag} and {@linkplain CobolAreaTag}) as defined by the {@linkplain SourceFormat}.
+ * <p>
+ * Areas are defined in terms of columns, where a tab takes up {@link #getTabLength()} of them.
+ * All boundaries on a line get mapped to character indices in a single pass,
+ * cfr. {@link #locate(String, int, int, int, int)}.
  */
 public class ProgramArea extends ChainingSource implements Source {
 
@@ -33,7 +37,26 @@ public class ProgramArea extends ChainingSource implements Source {
 
     private final int tabLength;
 
-    private final LinkedList<Token> pendingTokens = new LinkedList<>();
+    /**
+     * The areas of the last line which was split up.
+     * This gets reused from one line to the next.
+     */
+    private final ArrayList<Token> pendingTokens = new ArrayList<>();
+
+    /**
+     * The index of the next area in {@link #pendingTokens} to be returned.
+     */
+    private int next = 0;
+
+    /**
+     * The character indices of the column boundaries on the current line.
+     */
+    private final int[] indices = new int[4];
+
+    /**
+     * The number of columns taken up by the current line.
+     */
+    private int width = 0;
 
     public ProgramArea(Source source, int tabLength) {
         super(source);
@@ -42,8 +65,8 @@ public class ProgramArea extends ChainingSource implements Source {
 
     @Override
     protected Data nextElement() {
-        if (!pendingTokens.isEmpty()) {
-            return pendingTokens.removeFirst();
+        if (next < pendingTokens.size()) {
+            return pendingTokens.get(next++);
         }
         var d = source.next();
         if (d == null || !(d instanceof Token)) {
@@ -62,10 +85,12 @@ public class ProgramArea extends ChainingSource implements Source {
             return t;
         }
         tokenizeLine(t);
-        return pendingTokens.removeFirst();
+        return pendingTokens.get(next++);
     }
 
     protected void tokenizeLine(Token token) {
+        pendingTokens.clear();
+        next = 0;
         var text = token.getText();
         var length = text.length();
         if (length == 0) {
@@ -80,8 +105,9 @@ public class ProgramArea extends ChainingSource implements Source {
                 // This is only an indicator if it gets followed by a space.
                 // Otherwise it's program text.
                 if (text.charAt(1) == ' ') {
-                    extract(token, 0, 1, INDICATOR_AREA, format);
-                    extract(token, 1, length, COMMENT, format);
+                    locate(text, 1, length, length, length);
+                    extract(token, 0, 0, indices[0], INDICATOR_AREA, format);
+                    extract(token, 1, indices[0], indices[1], COMMENT, format);
 
                 } else {
                     extract(token, PROGRAM_TEXT_AREA);
@@ -90,38 +116,42 @@ public class ProgramArea extends ChainingSource implements Source {
                 // These are definitely indicators.
                 // Note: Keep this after the debug line check,
                 //  as the indicatesComment method accepts 'd' and 'D' as well.
-                extract(token, 0, 1, INDICATOR_AREA, format);
-                extract(token, 1, length, COMMENT, format);
+                locate(text, 1, length, length, length);
+                extract(token, 0, 0, indices[0], INDICATOR_AREA, format);
+                extract(token, 1, indices[0], indices[1], COMMENT, format);
             } else {
                 extract(token, PROGRAM_TEXT_AREA);
             }
         } else if (format == FIXED) {
-            extract(token, 0, 6, SEQUENCE_NUMBER_AREA, format);
-            var indicator = extract(token, 6, 7, INDICATOR_AREA, format);
+            locate(text, 6, 7, 72, length);
+            extract(token, 0, 0, indices[0], SEQUENCE_NUMBER_AREA, format);
+            var indicator = extract(token, 6, indices[0], indices[1], INDICATOR_AREA, format);
             var lineIsComment = indicator != null && indicatesComment(indicator.charAt(0));
-            extract(token, 7, 72, lineIsComment ? COMMENT : PROGRAM_TEXT_AREA, format);
-            extract(token, 72, length, IDENTIFICATION_AREA, format);
+            extract(token, 7, indices[1], indices[2], lineIsComment ? COMMENT : PROGRAM_TEXT_AREA, format);
+            extract(token, 72, indices[2], indices[3], IDENTIFICATION_AREA, format);
         } else if (format == VARIABLE) {
-            extract(token, 0, 6, SEQUENCE_NUMBER_AREA, format);
-            var indicator = extract(token, 6, 7, INDICATOR_AREA, format);
+            locate(text, 6, 7, length, length);
+            extract(token, 0, 0, indices[0], SEQUENCE_NUMBER_AREA, format);
+            var indicator = extract(token, 6, indices[0], indices[1], INDICATOR_AREA, format);
             var lineIsComment = indicator != null && indicatesComment(indicator.charAt(0));
-            extract(token, 7, length, lineIsComment ? COMMENT : PROGRAM_TEXT_AREA, format);
+            extract(token, 7, indices[1], indices[2], lineIsComment ? COMMENT : PROGRAM_TEXT_AREA, format);
         } else {
             throw new UnsupportedOperationException("Unexpected referenceFormat: " + format);
         }
     }
 
-    private Token extract(Token token, int start, int end, Object tag, SourceFormat format) {
-        var columns = columns(token);
-        if (start >= columns) {
+    /**
+     * Adds the area starting at the given column to the pending tokens, if the line has any text in it.
+     * The character indices are the ones found by {@link #locate(String, int, int, int, int)}.
+     */
+    private Token extract(Token token, int start, int startIndex, int endIndex, Object tag, SourceFormat format) {
+        if (start >= width) {
             return null;
         }
-        var startIndex = characterIndexForColumn(token, start);
-        var endIndex = characterIndexForColumn(token, end);
         if (endIndex <= startIndex) {
             return null;
         }
-        var extracted = tokenizeArea(token, startIndex, endIndex, tag, format);
+        var extracted = Tokens.subtoken(token, startIndex, endIndex, Tokens.tagsOf(token, tag, format));
         if (LOGGER.isLoggable(FINER)) {
             LOGGER.finer(tag + ": " + extracted);
         }
@@ -138,39 +168,48 @@ public class ProgramArea extends ChainingSource implements Source {
         return extracted;
     }
 
-    public static boolean indicatesComment(int c) {
-        return c == '*' || c == '/' || c == '$' || c == 'D' || c == 'd';
+    public int getTabLength() {
+        return tabLength;
     }
 
-    private Token tokenizeArea(Token token, int begin, int end, Object... tags) {
-        return Tokens.subtoken(token, begin, end).withTags(tags);
+    public static boolean indicatesComment(int c) {
+        return c == '*' || c == '/' || c == '$' || c == 'D' || c == 'd';
     }
 
-    private int columns(Token token) {
-        var text = token.getText();
-        if (tabLength == 1) {
-            return text.length();
+    /**
+     * Finds the character indices for the given columns, storing them in {@link #indices},
+     * as well as the number of columns taken up by the whole line, storing that in {@link #width}.
+     * <p>
+     * The index for a column is the one of the first character at or past that column,
+     * or the length of the text if there is no such character.
+     * <p>
+     * If every character takes up a single column, which is the case for lines without tabs,
+     * the columns are the indices. Otherwise this takes a single pass over the line.
+     */
+    private void locate(String text, int first, int second, int third, int fourth) {
+        var length = text.length();
+        if (tabLength == 1 || text.indexOf('\t') < 0) {
+            width = length;
+            indices[0] = Math.min(first, length);
+            indices[1] = Math.min(second, length);
+            indices[2] = Math.min(third, length);
+            indices[3] = Math.min(fourth, length);
+            return;
         }
+        indices[0] = indices[1] = indices[2] = indices[3] = -1;
         var columns = 0;
-        for (var i = 0; i < text.length(); i++) {
-            if (text.charAt(i) == '\t') {
-                columns += tabLength;
-            } else {
-                columns += 1;
+        for (var i = 0; i < length; i++) {
+            if (indices[0] < 0 && first <= columns) {
+                indices[0] = i;
             }
-        }
-        return columns;
-    }
-
-    private int characterIndexForColumn(Token token, int column) {
-        if (column <= 0) {
-            return 0;
-        }
-        var text = token.getText();
-        var columns = 0;
-        for (var i = 0; i < text.length(); i++) {
-            if (column <= columns) {
-                return i;
+            if (indices[1] < 0 && second <= columns) {
+                indices[1] = i;
+            }
+            if (indices[2] < 0 && third <= columns) {
+                indices[2] = i;
+            }
+            if (indices[3] < 0 && fourth <= columns) {
+                indices[3] = i;
             }
             if (text.charAt(i) == '\t') {
                 columns += tabLength;
@@ -178,7 +217,12 @@ public class ProgramArea extends ChainingSource implements Source {
                 columns += 1;
             }
         }
-        return text.length();
+        width = columns;
+        for (var k = 0; k < indices.length; k++) {
+            if (indices[k] < 0) {
+                indices[k] = length;
+            }
+        }
     }
 
 }
@@ -16,6 +16,7 @@ import koopa.core.data.Token;
 import koopa.core.data.tags.SyntacticTag;
 import koopa.core.parsers.Parse;
 import koopa.core.sources.ChainingSource;
+import koopa.core.sources.Line;
 import koopa.core.sources.ListSource;
 import koopa.core.sources.Source;
 import koopa.core.sources.Sources;
@@ -30,7 +31,9 @@ public class Replace extends ChainingSource implements Source {
 
     private final CobolPreprocessingGrammar grammar;
 
-    private final LinkedList<Data> pending = new LinkedList<>();
+    private final Line pending = new Line();
+
+    private final Line.Pool lines = new Line.Pool();
 
     /**
      * All REPLACE statements which got handled are tracked here, in syntax tree form.
@@ -49,7 +52,7 @@ public class Replace extends ChainingSource implements Source {
                 return pending.removeFirst();
             }
             // Grab line from source.
-            final LinkedList<Data> line = Sources.getLine(source);
+            final Line line = Sources.getLine(source, lines);
             if (line == null) {
                 return null;
             }
@@ -57,6 +60,7 @@ public class Replace extends ChainingSource implements Source {
             anythingUpToReplaceBecomesPending(line);
             if (line.isEmpty()) {
                 // No REPLACE was found.
+                lines.recycle(line);
                 return pending.removeFirst();
             } else {
                 // We have a REPLACE statement. For sure?
@@ -66,6 +70,7 @@ public class Replace extends ChainingSource implements Source {
                     // We didn't get any data, which means the REPLACE statement couldn't be detected in full.
                     // So we just make all data seen so far pending, and carry on.
                     pending.addAll(line);
+                    lines.recycle(line);
                     return pending.removeFirst();
                 }
                 // We should have a REPLACE statement, right?
@@ -76,6 +81,8 @@ public class Replace extends ChainingSource implements Source {
                     // The REPLACE statement was probably mal-formed.
                     // So we just make all data seen so far pending, and carry on.
                     pending.addAll(line);
+                    lines.recycle(line);
+                    lines.recycle(replaceStatement);
                     return pending.removeFirst();
                 }
                 // We now definitely have a REPLACE statement.
@@ -85,13 +92,17 @@ public class Replace extends ChainingSource implements Source {
                     // For some reason the REPLACE statement could not be handled.
                     // So we just make all data seen so far pending, and carry on.
                     pending.addAll(line);
+                    lines.recycle(line);
+                    lines.recycle(replaceStatement);
                     return pending.removeFirst();
                 }
+                lines.recycle(line);
+                lines.recycle(replaceStatement);
             }
         }
     }
 
-    private void anythingUpToReplaceBecomesPending(LinkedList<Data> line) {
+    private void anythingUpToReplaceBecomesPending(Line line) {
         // "A REPLACE statement shall be preceded by a space except when it is the first statement in a compilation group."
         var canStartReplaceHere = true;
         for (;;) {
@@ -119,23 +130,25 @@ public class Replace extends ChainingSource implements Source {
         }
     }
 
-    private LinkedList<Data> getReplaceStatement(LinkedList<Data> line) {
-        var replace = new LinkedList<Data>();
+    private Line getReplaceStatement(Line line) {
+        var replace = lines.obtain();
         for (;;) {
             // Do we need to read another line ?
             if (line.isEmpty()) {
                 // Yes, we do.
-                var nextLine = Sources.getLine(source);
+                var nextLine = Sources.getLine(source, lines);
                 // Did we get another line ?
                 if (nextLine != null) {
                     // Yes, we did.
                     line.addAll(nextLine);
+                    lines.recycle(nextLine);
                 } else {
                     // Nope. So the REPLACE statement is incomplete.
                     // We rewind all tokens by adding them back to the line.
                     while (!replace.isEmpty()) {
                         line.addFirst(replace.removeLast());
                     }
+                    lines.recycle(replace);
                     // And return null.
                     return null;
                 }
@@ -147,6 +160,7 @@ public class Replace extends ChainingSource implements Source {
                 if (pseudoLiteral != null) {
                     // The entire pseudo-literal becomes part of the REPLACE statement.
                     replace.addAll(pseudoLiteral);
+                    lines.recycle(pseudoLiteral);
                 } else {
                     // Woops. Seems we couldn't grab the full pseudo-literal.
                     // Which leaves the REPLACE statement incomplete.
@@ -154,6 +168,7 @@ public class Replace extends ChainingSource implements Source {
                     while (!replace.isEmpty()) {
                         line.addFirst(replace.removeLast());
                     }
+                    lines.recycle(replace);
                     // And return null.
                     return null;
                 }
@@ -170,29 +185,31 @@ public class Replace extends ChainingSource implements Source {
         }
     }
 
-    private boolean atPseudoLiteral(LinkedList<Data> line) {
+    private boolean atPseudoLiteral(Line line) {
         return isEqualsSign(line, 0) && isEqualsSign(line, 1);
     }
 
-    private LinkedList<Data> getPseudoLiteral(LinkedList<Data> line) {
-        var pseudoLiteral = new LinkedList<Data>();
+    private Line getPseudoLiteral(Line line) {
+        var pseudoLiteral = lines.obtain();
         pseudoLiteral.add(line.removeFirst());
         pseudoLiteral.add(line.removeFirst());
         for (;;) {
             // Do we need more data ?
             if (line.isEmpty()) {
                 // Yes, we do.
-                var nextLine = Sources.getLine(source);
+                var nextLine = Sources.getLine(source, lines);
                 // Did we get another line ?
                 if (nextLine != null) {
                     // Yes, we did.
                     line.addAll(nextLine);
+                    lines.recycle(nextLine);
                 } else {
                     // Nope. So the pseudo-literal is incomplete.
                     // We rewind all tokens by adding them back to the line.
                     while (!pseudoLiteral.isEmpty()) {
                         line.addFirst(pseudoLiteral.removeLast());
                     }
+                    lines.recycle(pseudoLiteral);
                     // And return null.
                     return null;
                 }
@@ -206,11 +223,11 @@ public class Replace extends ChainingSource implements Source {
         }
     }
 
-    private boolean atEndOfPseudoLiteral(LinkedList<Data> line) {
+    private boolean atEndOfPseudoLiteral(Line line) {
         return isEqualsSign(line, 0) && isEqualsSign(line, 1) && !isEqualsSign(line, 2);
     }
 
-    private boolean isEqualsSign(LinkedList<Data> line, int index) {
+    private boolean isEqualsSign(Line line, int index) {
         if (index >= line.size()) {
             return false;
         }
@@ -218,7 +235,7 @@ public class Replace extends ChainingSource implements Source {
         return a != null && a instanceof Token && !((Token) a).hasTag(COMMENT) && ((Token) a).getText().equals("=");
     }
 
-    private boolean isSpace(LinkedList<Data> line, int index) {
+    private boolean isSpace(Line line, int index) {
         while (index < line.size()) {
             var d = line.get(index);
             if (d instanceof Token) {
@@ -229,7 +246,7 @@ public class Replace extends ChainingSource implements Source {
         return true;
     }
 
-    private Tree parseReplaceStatement(LinkedList<Data> replaceStatement) {
+    private Tree parseReplaceStatement(Line replaceStatement) {
         var replaceStatementSource = new ListSource(replaceStatement);
         var treeBuilder = new KoopaTreeBuilder(grammar);
         var parse = Parse.of(replaceStatementSource).to(treeBuilder);
@@ -241,7 +258,7 @@ public class Replace extends ChainingSource implements Source {
      * Tries to set up handling of the REPLACE statement.
      * Tells whether it succeeded in doing so, or not.
      */
-    private boolean handleReplaceStatement(Tree replace, LinkedList<Data> replaceStatement, LinkedList<Data> line) {
+    private boolean handleReplaceStatement(Tree replace, Line replaceStatement, Line line) {
         if (replace.hasChild("off")) {
             var last = (replace.getDescendant("off", "last") != null);
             if (LOGGER.isLoggable(FINE)) {
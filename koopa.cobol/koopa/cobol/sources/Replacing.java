@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.logging.Logger;
 import static java.util.logging.Level.*;
 
+import koopa.cobol.parser.preprocessing.replacing.PhraseMatcher;
 import koopa.cobol.parser.preprocessing.replacing.ReplacingPhrase;
 import koopa.core.data.Data;
 import koopa.core.data.Token;
@@ -26,6 +27,12 @@ public class Replacing extends ChainingSource implements Source {
      */
     private final LinkedList<List<ReplacingPhrase>> replacements = new LinkedList<>();
 
+    /**
+     * All of the {@link #replacements}, compiled for finding the one which applies in one go.
+     * This gets set up again whenever the replacements change, once it is needed.
+     */
+    private PhraseMatcher matcher = null;
+
     /**
      * This is a list of {@link Token}s which have been substituted in for a match.
      */
@@ -99,6 +106,22 @@ public class Replacing extends ChainingSource implements Source {
             // Repositioning the token stream to start with the leftmost token.
             source.unshift(leftmost);
 
+            if (replacements.isEmpty()) {
+                return source.next();
+            }
+            if (matcher == null) {
+                matcher = new PhraseMatcher(replacements);
+            }
+            if (matcher.handlesAll()) {
+                // This finds the same phrase as trying them all in order of precedence,
+                // as described below, but looks at each library text-word only once.
+                var replacingPhrase = matcher.find(source);
+                if (replacingPhrase != null && replacingPhrase.appliedTo(source, replacementTokens)) {
+                    continue replacing;
+                }
+                return source.next();
+            }
+
             // There may be multiple sets of replacement directives which are active,
             // thanks to the complexity of the REPLACE statement.
             // We try them all in order of precedence.
@@ -141,15 +164,18 @@ public class Replacing extends ChainingSource implements Source {
     private void pushReplacements(List<ReplacingPhrase> r) {
         assert (r != null);
         replacements.addFirst(r);
+        matcher = null;
     }
 
     private void clearReplacements() {
         replacements.clear();
+        matcher = null;
     }
 
     private void popReplacements() {
         if (!replacements.isEmpty()) {
             replacements.removeFirst();
+            matcher = null;
         } else if (LOGGER.isLoggable(INFO)) {
             LOGGER.info("Tried to pop empty replacements.");
         }
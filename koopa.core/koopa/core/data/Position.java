@@ -1,40 +1,47 @@
 package koopa.core.data;
 
-import java.nio.file.Paths;
-
 /**
  * Representation of a position in a file.
  *
  * This tracks both overall position in the file, as well as a position relative to a line-number.
  * All values are character based, not byte based.
  * <p>
+ * Positions are created in great numbers, so they are kept small.
+ * The resource they belong to is a shared {@linkplain Resource},
+ * and any text for {@link #toString()} is only built when asked for.
+ * <p>
  * <b>Trying to keep this class immutable.</b>
  */
 public final class Position implements Comparable<Position> {
 
-    public static final Position ZERO = new Position(null, 0, 0, 0);
+    public static final Position ZERO = new Position((Resource) null, 0, 0, 0);
 
-    private final String resourceName;
-    private final String toStringPrefix;
+    private final Resource resource;
     private final int linenumber;
     private final int positionInFile;
     private final int positionInLine;
 
     public Position(int positionInFile, int linenumber, int positionInLine) {
-        this(null, positionInFile, linenumber, positionInLine);
+        this((Resource) null, positionInFile, linenumber, positionInLine);
     }
 
     public Position(String filename, int positionInFile, int linenumber, int positionInLine) {
-        this.resourceName = filename;
-        this.toStringPrefix = (resourceName == null) ?
-            "" : Paths.get(resourceName).getFileName().toString();
+        this(Resource.of(filename), positionInFile, linenumber, positionInLine);
+    }
+
+    public Position(Resource resource, int positionInFile, int linenumber, int positionInLine) {
+        this.resource = resource;
         this.positionInFile = positionInFile;
         this.linenumber = linenumber;
         this.positionInLine = positionInLine;
     }
 
+    public Resource getResource() {
+        return resource;
+    }
+
     public String getResourceName() {
-        return resourceName;
+        return (resource == null) ? null : resource.getName();
     }
 
     public int getLinenumber() {
@@ -50,12 +57,22 @@ public final class Position implements Comparable<Position> {
     }
 
     public Position offsetBy(int offset) {
-        return new Position(resourceName, positionInFile + offset, linenumber, positionInLine + offset);
+        return new Position(resource, positionInFile + offset, linenumber, positionInLine + offset);
+    }
+
+    /**
+     * This position, moved by the given number of characters in the file and the given number of lines.
+     * The position in the line stays the same.
+     * This is what happens to any text following an edit in a preceding line.
+     */
+    public Position movedBy(int offset, int lines) {
+        return new Position(resource, positionInFile + offset, linenumber + lines, positionInLine);
     }
 
     @Override
     public String toString() {
-        return toStringPrefix + ":" + linenumber + ":" + positionInLine;
+        var prefix = (resource == null) ? "" : resource.getShortName();
+        return prefix + ":" + linenumber + ":" + positionInLine;
     }
 
     @Override
@@ -69,7 +86,7 @@ public final class Position implements Comparable<Position> {
             return false;
         }
         var other = (Position) obj;
-        if (resourceName != null && !resourceName.equals(other.resourceName)) {
+        if (resource != null && !resource.equals(other.resource)) {
             return false;
         }
         return positionInFile == other.positionInFile;
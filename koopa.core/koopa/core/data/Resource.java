@@ -0,0 +1,69 @@
+package koopa.core.data;
+
+import java.nio.file.Paths;
+
+/**
+ * The resource (typically a file) which {@linkplain Position}s point into.
+ * <p>
+ * Sources are expected to create one of these for each resource they read,
+ * and then share it between all positions they hand out.
+ * That way positions don't each need to hold on to their own copy of
+ * anything derived from the resource name.
+ * <p>
+ * <b>Trying to keep this class immutable.</b>
+ * The short name is only worked out when it is first asked for.
+ */
+public final class Resource {
+
+    private final String name;
+
+    private String shortName = null;
+
+    private Resource(String name) {
+        assert (name != null);
+        this.name = name;
+    }
+
+    /**
+     * Returns a resource for the given name, or <code>null</code> if the name is <code>null</code>.
+     */
+    public static Resource of(String name) {
+        return (name == null) ? null : new Resource(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The name of the resource, sans any leading path.
+     */
+    public String getShortName() {
+        var s = shortName;
+        if (s == null) {
+            var fileName = Paths.get(name).getFileName();
+            s = (fileName == null) ? name : fileName.toString();
+            shortName = s;
+        }
+        return s;
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        return obj instanceof Resource && name.equals(((Resource) obj).name);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
@@ -0,0 +1,79 @@
+package koopa.core.data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Assigns bits to tags, so that {@linkplain TagSet}s can hold them in a single <code>long</code>.
+ * <p>
+ * Only enum constants get a bit, as they are what tags are (and should be) in practice.
+ * The first time we see a constant of some enum type, the whole enum gets a block
+ * of bits, one per constant, in ordinal order.
+ * Once all 64 bits have been handed out, constants of any other enum types
+ * get no bit, same as any other kind of tag.
+ */
+final class TagRegistry {
+
+    private TagRegistry() {
+    }
+
+    static final int NO_BIT = -1;
+
+    private static final int BITS = Long.SIZE;
+
+    /**
+     * Which tag got which bit.
+     */
+    private static final Object[] TAGS = new Object[BITS];
+
+    /**
+     * The first bit for any enum type we have seen, or {@link #NO_BIT} if we couldn't fit it.
+     */
+    private static final Map<Class<?>, Integer> FIRST_BITS = new HashMap<>();
+
+    private static int used = 0;
+
+    private static final ClassValue<Integer> FIRST_BIT = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return allocate(type);
+        }
+    };
+
+    /**
+     * The bit assigned to the given tag, or {@link #NO_BIT} if it does not have one.
+     */
+    static int bitOf(Object tag) {
+        if (!(tag instanceof Enum)) {
+            return NO_BIT;
+        }
+        var constant = (Enum<?>) tag;
+        int first = FIRST_BIT.get(constant.getDeclaringClass());
+        return (first == NO_BIT) ? NO_BIT : first + constant.ordinal();
+    }
+
+    /**
+     * The tag which was assigned the given bit.
+     */
+    static Object tagAt(int bit) {
+        return TAGS[bit];
+    }
+
+    private static synchronized int allocate(Class<?> type) {
+        // ClassValue may ask more than once for the same type.
+        var known = FIRST_BITS.get(type);
+        if (known != null) {
+            return known;
+        }
+        var constants = type.getEnumConstants();
+        var first = NO_BIT;
+        if (constants != null && used + constants.length <= BITS) {
+            first = used;
+            System.arraycopy(constants, 0, TAGS, first, constants.length);
+            used += constants.length;
+        }
+        FIRST_BITS.put(type, first);
+        return first;
+    }
+
+}
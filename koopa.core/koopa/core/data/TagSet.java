@@ -0,0 +1,147 @@
+package koopa.core.data;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The set of tags on a {@linkplain Token}.
+ * <p>
+ * Tags which the {@linkplain TagRegistry} has a bit for (i.e. enum constants)
+ * are held in a single <code>long</code>, so testing for them is a single bit test.
+ * Any other tags go into a (typically empty) array on the side.
+ * <p>
+ * <b>Immutable.</b> The methods for adding and removing tags return a new set,
+ * or this one if nothing would change.
+ */
+final class TagSet extends AbstractSet<Object> {
+
+    private static final Object[] NO_OTHERS = new Object[0];
+
+    static final TagSet EMPTY = new TagSet(0L, NO_OTHERS);
+
+    private final long bits;
+
+    /**
+     * Tags which have no bit, without duplicates.
+     */
+    private final Object[] others;
+
+    private TagSet(long bits, Object[] others) {
+        this.bits = bits;
+        this.others = others;
+    }
+
+    static TagSet of(Object... tags) {
+        return EMPTY.with(tags);
+    }
+
+    static TagSet of(Set<Object> tags) {
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        return of(tags.toArray());
+    }
+
+    @Override
+    public boolean contains(Object tag) {
+        var bit = TagRegistry.bitOf(tag);
+        if (bit != TagRegistry.NO_BIT) {
+            return (bits & (1L << bit)) != 0;
+        }
+        return indexOf(others, tag) >= 0;
+    }
+
+    TagSet with(Object... tags) {
+        var newBits = bits;
+        var newOthers = others;
+        for (var tag : tags) {
+            var bit = TagRegistry.bitOf(tag);
+            if (bit != TagRegistry.NO_BIT) {
+                newBits |= 1L << bit;
+            } else if (indexOf(newOthers, tag) < 0) {
+                newOthers = Arrays.copyOf(newOthers, newOthers.length + 1);
+                newOthers[newOthers.length - 1] = tag;
+            }
+        }
+        if (newBits == bits && newOthers == others) {
+            return this;
+        }
+        return new TagSet(newBits, newOthers);
+    }
+
+    TagSet without(Object... tags) {
+        var newBits = bits;
+        var newOthers = others;
+        for (var tag : tags) {
+            var bit = TagRegistry.bitOf(tag);
+            if (bit != TagRegistry.NO_BIT) {
+                newBits &= ~(1L << bit);
+                continue;
+            }
+            var index = indexOf(newOthers, tag);
+            if (index >= 0) {
+                var shorter = new Object[newOthers.length - 1];
+                System.arraycopy(newOthers, 0, shorter, 0, index);
+                System.arraycopy(newOthers, index + 1, shorter, index, shorter.length - index);
+                newOthers = shorter;
+            }
+        }
+        if (newBits == bits && newOthers == others) {
+            return this;
+        }
+        if (newBits == 0L && newOthers.length == 0) {
+            return EMPTY;
+        }
+        return new TagSet(newBits, newOthers);
+    }
+
+    private static int indexOf(Object[] tags, Object tag) {
+        for (var i = 0; i < tags.length; i++) {
+            if (Objects.equals(tags[i], tag)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return Long.bitCount(bits) + others.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return bits == 0L && others.length == 0;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return new Iterator<Object>() {
+            private long remaining = bits;
+            private int other = 0;
+
+            @Override
+            public boolean hasNext() {
+                return remaining != 0L || other < others.length;
+            }
+
+            @Override
+            public Object next() {
+                if (remaining != 0L) {
+                    var bit = Long.numberOfTrailingZeros(remaining);
+                    remaining &= remaining - 1;
+                    return TagRegistry.tagAt(bit);
+                }
+                if (other < others.length) {
+                    return others[other++];
+                }
+                throw new NoSuchElementException();
+            }
+        };
+    }
+
+}
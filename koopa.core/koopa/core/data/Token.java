@@ -1,11 +1,10 @@
 package koopa.core.data;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import koopa.core.targets.HoldingTarget;
 
@@ -32,9 +31,9 @@ public class Token implements Data {
     /**
      * Which tags does this token carry?
      * <p>
-     * <b>Unmodifiable !</b>
+     * <b>Immutable !</b> Enum tags are held as bits, cfr. {@linkplain TagSet}.
      */
-    private final Set<Object> tags;
+    private final TagSet tags;
 
     private final Replaced replaced;
 
@@ -78,7 +77,7 @@ public class Token implements Data {
         ranges.add(new Range(start, end));
 
         this.ranges = Collections.unmodifiableList(ranges);
-        this.tags = Collections.unmodifiableSet(new HashSet<Object>(Arrays.asList(tags)));
+        this.tags = TagSet.of(tags);
 
         this.replaced = null;
     }
@@ -97,11 +96,26 @@ public class Token implements Data {
         rangesCopy.addAll(ranges);
 
         this.ranges = Collections.unmodifiableList(rangesCopy);
-        this.tags = Collections.unmodifiableSet(tags);
+        this.tags = TagSet.of(tags);
 
         this.replaced = replacing;
     }
 
+    /**
+     * Same as {@link #Token(String, List, Set, Replaced)}, but for a token with a single range,
+     * and tags which can be shared as is.
+     * <p>
+     * <b>NOTE</b> This is package scoped on purpose.
+     * Intended for use by {@linkplain Tokens} only.
+     */
+    Token(String text, Range range, TagSet tags, Replaced replacing) {
+        assert (range != null);
+        this.text = text;
+        this.ranges = Collections.singletonList(range);
+        this.tags = tags;
+        this.replaced = replacing;
+    }
+
     /**
      * Creates a new token which is equivalent to the composition of the given ones, except for their tags.
      * <p>
@@ -130,7 +144,7 @@ public class Token implements Data {
         assert (list.size() > 0);
 
         this.ranges = Collections.unmodifiableList(list);
-        this.tags = Collections.unmodifiableSet(new HashSet<Object>(Arrays.asList(tags)));
+        this.tags = TagSet.of(tags);
         this.replaced = null;
     }
 
@@ -146,6 +160,16 @@ public class Token implements Data {
         this.replaced = replacing;
     }
 
+    /**
+     * Create a copy of one token, but with other tags.
+     */
+    Token(Token token, TagSet tags) {
+        this.text = token.text;
+        this.ranges = token.ranges;
+        this.tags = tags;
+        this.replaced = token.replaced;
+    }
+
     public String getText() {
         return this.text;
     }
@@ -215,12 +239,11 @@ public class Token implements Data {
         if (additionalTags.length == 0) {
             return this;
         }
-        if (hasTags(additionalTags)) {
+        var newTags = tags.with(additionalTags);
+        if (newTags == tags) {
             return this;
         }
-        var newTags = new HashSet<Object>(tags);
-        newTags.addAll(Arrays.asList(additionalTags));
-        return new Token(text, ranges, newTags, replaced);
+        return new Token(this, newTags);
     }
 
     /**
@@ -232,12 +255,11 @@ public class Token implements Data {
         if (theseTags.length == 0) {
             return this;
         }
-        if (!hasAnyTag(theseTags)) {
+        var newTags = tags.without(theseTags);
+        if (newTags == tags) {
             return this;
         }
-        var newTags = new HashSet<Object>(tags);
-        newTags.removeAll(Arrays.asList(theseTags));
-        return new Token(text, ranges, newTags, replaced);
+        return new Token(this, newTags);
     }
 
     /**
@@ -245,10 +267,8 @@ public class Token implements Data {
      * present), and with the addition of the other.
      */
     public Token replacingTag(Object oldTag, Object newTag) {
-        var newTags = new HashSet<Object>(tags);
-        newTags.remove(oldTag);
-        newTags.add(newTag);
-        return new Token(text, ranges, newTags, replaced);
+        var newTags = tags.without(oldTag).with(newTag);
+        return new Token(this, newTags);
     }
 
     /**
@@ -295,8 +315,8 @@ public class Token implements Data {
         this.skipped = skipped;
     }
 
-    private static int hashCounter = 0;
-    private final int HASHCODE = hashCounter++;
+    private static final AtomicInteger hashCounter = new AtomicInteger();
+    private final int HASHCODE = hashCounter.getAndIncrement();
 
     /**
      * For {@linkplain Token} instances, equality boils down to object identity.
@@ -2,6 +2,7 @@ package koopa.core.data;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 public final class Tokens {
     private Tokens() {}
@@ -20,7 +21,20 @@ public final class Tokens {
      * @return The requested subtoken.
      */
     public static Token subtoken(Token token, int beginIndex) {
+        if (beginIndex == 0) {
+            return token;
+        }
+        return subtoken(token, beginIndex, TagSet.of(token.getTags()));
+    }
+
+    /**
+     * Same as {@link #subtoken(Token, int)}, except that the new token gets
+     * the given tags rather than a copy of the ones on <code>token</code>.
+     * Cfr. {@link #subtoken(Token, int, int, Set)}.
+     */
+    public static Token subtoken(Token token, int beginIndex, Set<Object> tags) {
         var lengthOfToken = token.getLength();
+        var tagSet = TagSet.of(tags);
 
         // Check bounds.
         if (beginIndex < 0 || beginIndex > lengthOfToken) {
@@ -30,15 +44,13 @@ public final class Tokens {
 
         // Full token ?
         if (beginIndex == 0) {
-            return token;
+            return tagSet == token.getTags() ? token : new Token(token, tagSet);
         }
 
         // Empty token ?
         if (beginIndex == lengthOfToken) {
-            var ranges = new ArrayList<Range>(1);
             var end = token.getEnd();
-            ranges.add(new Range(end, end));
-            return new Token("", ranges, token.getTags(), token.getReplaced());
+            return new Token("", new Range(end, end), tagSet, token.getReplaced());
         }
 
         var index = beginIndex;
@@ -66,7 +78,7 @@ public final class Tokens {
         }
         assert (!ranges.isEmpty());
 
-        return new Token(text, ranges, token.getTags(), token.getReplaced());
+        return new Token(text, ranges, tagSet, token.getReplaced());
     }
 
     /**
@@ -86,14 +98,49 @@ public final class Tokens {
         if (beginIndex == 0 && endIndex == text.length()) {
             return token;
         }
+        return subtoken(token, text.substring(beginIndex, endIndex), beginIndex, endIndex, TagSet.of(token.getTags()));
+    }
 
+    /**
+     * Same as {@link #subtoken(Token, int, int)}, except that the new token gets
+     * the given tags rather than a copy of the ones on <code>token</code>.
+     * <p>
+     * This saves creating the token twice when it would be followed by
+     * {@linkplain Token#withTags(Object...)}. The tags can be shared between tokens,
+     * cfr. {@link #tagsOf(Token, Object...)}.
+     * <p>
+     * Will return <code>token</code> if the begin index is zero, the end index is equal to this token's length,
+     * and the tags are the same.
+     */
+    public static Token subtoken(Token token, int beginIndex, int endIndex, Set<Object> tags) {
+        var text = token.getText();
+        var tagSet = TagSet.of(tags);
+        if (beginIndex == 0 && endIndex == text.length()) {
+            return tagSet == token.getTags() ? token : new Token(token, tagSet);
+        }
+        return subtoken(token, text.substring(beginIndex, endIndex), beginIndex, endIndex, tagSet);
+    }
+
+    private static Token subtoken(Token token, String text, int beginIndex, int endIndex, TagSet tags) {
         var begin = beginIndex;
         var end = endIndex;
 
-        text = text.substring(begin, end);
+        var originalRanges = token.getRanges();
+        if (originalRanges.size() == 1) {
+            // This is what the loop below comes down to for a single range.
+            var range = originalRanges.get(0);
+            assert (begin <= range.getLength());
+            var length = range.getLength();
+            if (begin > 0 || end < length) {
+                var start = begin > 0 ? range.getStart().offsetBy(begin) : range.getStart();
+                var stop = end < length ? range.getStart().offsetBy(end - 1) : range.getEnd();
+                range = new Range(start, stop);
+            }
+            return new Token(text, range, tags, token.getReplaced());
+        }
 
         var ranges = new ArrayList<Range>();
-        for (var range : token.getRanges()) {
+        for (var range : originalRanges) {
             if (end < 0) {
                 // We have gone past the end index. Which means we're done.
                 break;
@@ -132,7 +179,16 @@ public final class Tokens {
         }
         assert (!ranges.isEmpty());
 
-        return new Token(text, ranges, token.getTags(), token.getReplaced());
+        return new Token(text, ranges, tags, token.getReplaced());
+    }
+
+    /**
+     * The tags on the given token, together with the given ones.
+     * The result is immutable, and can be handed to {@link #subtoken(Token, int, int, Set)}
+     * for any number of tokens.
+     */
+    public static Set<Object> tagsOf(Token token, Object... additionalTags) {
+        return TagSet.of(token.getTags()).with(additionalTags);
     }
 
     /**
@@ -177,4 +233,34 @@ public final class Tokens {
         }
     }
 
+    /**
+     * Moves a token by the given number of characters in the file and the given number of lines,
+     * as happens when text gets edited in some line before it.
+     * <p>
+     * Only ranges in the given resource get moved.
+     * Will return <code>token</code> if there is nothing to move.
+     * <p>
+     * Will copy all tags to the new token.
+     */
+    public static Token moved(Token token, Resource resource, int offset, int lines) {
+        if (offset == 0 && lines == 0) {
+            return token;
+        }
+        var moved = false;
+        var ranges = new ArrayList<Range>(token.getRanges().size());
+        for (var range : token.getRanges()) {
+            var start = range.getStart();
+            if (resource.equals(start.getResource())) {
+                ranges.add(new Range(start.movedBy(offset, lines), range.getEnd().movedBy(offset, lines)));
+                moved = true;
+            } else {
+                ranges.add(range);
+            }
+        }
+        if (!moved) {
+            return token;
+        }
+        return new Token(token.getText(), ranges, token.getTags(), token.getReplaced());
+    }
+
 }
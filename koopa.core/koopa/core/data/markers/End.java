@@ -1,7 +1,7 @@
 package koopa.core.data.markers;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import koopa.core.data.Marker;
 
@@ -15,7 +15,7 @@ import koopa.core.data.Marker;
  */
 public final class End extends Marker {
 
-    private static Map<String, End> markers = new HashMap<>();
+    private static final Map<String, End> markers = new ConcurrentHashMap<>();
 
     private final String namespace;
     private final String name;
@@ -31,10 +31,7 @@ public final class End extends Marker {
     public static End on(String namespace, String name) {
         var key = namespace + ":" + name;
 
-        if (!markers.containsKey(key)) {
-            markers.put(key, new End(namespace, name));
-        }
-        return markers.get(key);
+        return markers.computeIfAbsent(key, k -> new End(namespace, name));
     }
 
     public String getNamespace() {
@@ -1,7 +1,7 @@
 package koopa.core.data.markers;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import koopa.core.data.Marker;
 
@@ -15,7 +15,7 @@ import koopa.core.data.Marker;
  */
 public final class Start extends Marker {
 
-    private static Map<String, Start> markers = new HashMap<>();
+    private static final Map<String, Start> markers = new ConcurrentHashMap<>();
 
     private final String namespace;
     private final String name;
@@ -31,10 +31,7 @@ public final class Start extends Marker {
     public static Start on(String namespace, String name) {
         var key = namespace + ":" + name;
 
-        if (!markers.containsKey(key)) {
-            markers.put(key, new Start(namespace, name));
-        }
-        return markers.get(key);
+        return markers.computeIfAbsent(key, k -> new Start(namespace, name));
     }
 
     public String getNamespace() {
@@ -0,0 +1,189 @@
+package koopa.core.grammars;
+
+import java.util.Set;
+
+import koopa.core.data.Token;
+import koopa.core.data.tags.SyntacticTag;
+import koopa.core.grammars.combinators.Dispatched;
+import koopa.core.grammars.combinators.MatchKeyword;
+import koopa.core.grammars.combinators.MatchLiteral;
+import koopa.core.grammars.combinators.MatchNumber;
+import koopa.core.parsers.FirstSet;
+import koopa.core.parsers.Parse;
+import koopa.core.parsers.ParserCombinator;
+import koopa.core.parsers.combinators.NAryParserDecorator;
+import koopa.core.parsers.combinators.Sequence;
+import koopa.core.parsers.combinators.UnaryParserDecorator;
+import koopa.core.streams.Streams;
+
+/**
+ * The basis for rule definitions which have been compiled into plain Java code,
+ * rather than being built as a graph of {@linkplain ParserCombinator}s.
+ * <p>
+ * A compiled rule matches exactly what its interpreted counterpart would,
+ * but does so without pushing a frame on the stack for every sequence, choice,
+ * keyword and such in the definition. Parts which the compiler does not know about
+ * are taken from the interpreted definition (cfr. {@link #part(ParserCombinator, Object...)}),
+ * and get invoked as usual.
+ * <p>
+ * Anything which is not about matching (keywords in scope, lookahead, ...)
+ * is answered by the {@link #interpreted} definition.
+ * <p>
+ * Note that the inlined parts do not add anything to the trace.
+ */
+public abstract class CompiledRule extends ParserCombinator {
+
+    private static final String NO_KEYWORD = "";
+
+    protected final Grammar grammar;
+    protected final ParserCombinator interpreted;
+    private final ParserCombinator keyword;
+
+    protected CompiledRule(Grammar grammar, ParserCombinator interpreted) {
+        this.grammar = grammar;
+        this.interpreted = interpreted;
+        this.keyword = grammar.keyword();
+    }
+
+    /**
+     * Equivalent to a {@linkplain MatchKeyword} for the given word,
+     * which should have been passed through {@linkplain Grammar#comparableText(String)}.
+     */
+    protected boolean keyword(Parse parse, String word) {
+        grammar.skipAll(parse);
+        var stream = parse.getStream();
+        stream.bookmark();
+        if (keyword.accepts(parse)
+            && grammar.comparableText(Streams.getProgramTextFromBookmark(grammar, stream)).equals(word)) {
+            stream.commit();
+            return true;
+        } else {
+            stream.rewind();
+            return false;
+        }
+    }
+
+    /**
+     * Equivalent to a {@linkplain MatchLiteral} for the given text,
+     * which should have been passed through {@linkplain Grammar#comparableText(String)}.
+     */
+    protected boolean literal(Parse parse, String text) {
+        grammar.skipOther(parse, text);
+        var d = parse.getStream().forward();
+        return d instanceof Token && grammar.comparableText(((Token) d).getText()).equals(text);
+    }
+
+    /**
+     * Equivalent to a {@linkplain MatchNumber} for the given text,
+     * which should have been passed through {@linkplain Grammar#comparableText(String)}.
+     */
+    protected boolean number(Parse parse, String text) {
+        grammar.skipAll(parse);
+        var d = parse.getStream().forward();
+        return d instanceof Token && ((Token) d).hasTag(SyntacticTag.NUMBER) && text.equals(((Token) d).getText());
+    }
+
+    /**
+     * Skips ahead to the next {@linkplain Grammar#keyword()}, and returns its comparable text
+     * without consuming it. Returns an empty string if there is no keyword.
+     * <p>
+     * This shares its memoization with {@linkplain Dispatched}, and so does what it does.
+     */
+    protected String keywordAhead(Parse parse) {
+        grammar.skipAll(parse);
+        var stream = parse.getStream();
+        var peek = stream.peek();
+        var memoizedKeyword = parse.getKeyword(peek);
+        if (memoizedKeyword != null) {
+            return memoizedKeyword;
+        }
+        stream.bookmark();
+        String found;
+        if (!keyword.accepts(parse)) {
+            found = NO_KEYWORD;
+        } else {
+            found = grammar.comparableText(Streams.getProgramTextFromBookmark(grammar, stream));
+        }
+        stream.rewind();
+        parse.setKeyword(peek, found);
+        return found;
+    }
+
+    /**
+     * Looks up a part of the given parser. Every step in the path is either
+     * the index of a part in a {@linkplain Sequence} or other {@linkplain NAryParserDecorator},
+     * zero for the part of a {@linkplain UnaryParserDecorator},
+     * or a key in the lookup table of a {@linkplain Dispatched}.
+     */
+    protected static ParserCombinator part(ParserCombinator parser, Object... path) {
+        var p = parser;
+        for (var step : path) {
+            if (step instanceof String) {
+                p = ((Dispatched) p).getLookupTable().get(step);
+            } else if (p instanceof Sequence) {
+                p = ((Sequence) p).getParsers()[(Integer) step];
+            } else if (p instanceof NAryParserDecorator) {
+                p = ((NAryParserDecorator) p).getParsers()[(Integer) step];
+            } else {
+                p = ((UnaryParserDecorator) p).getParser();
+            }
+        }
+        return p;
+    }
+
+    @Override
+    public void addAllKeywordsInScopeTo(Set<String> keywords) {
+        interpreted.addAllKeywordsInScopeTo(keywords);
+    }
+
+    @Override
+    public void addAllLeadingKeywordsTo(Set<String> keywords) {
+        interpreted.addAllLeadingKeywordsTo(keywords);
+    }
+
+    @Override
+    public void addFirstSetTo(FirstSet first) {
+        interpreted.addFirstSetTo(first);
+    }
+
+    @Override
+    public boolean allowsLookahead() {
+        return interpreted.allowsLookahead();
+    }
+
+    @Override
+    public boolean canMatchEmptyInputs() {
+        return interpreted.canMatchEmptyInputs();
+    }
+
+    @Override
+    public boolean allowsKeywords() {
+        return interpreted.allowsKeywords();
+    }
+
+    @Override
+    public boolean isKeywordInScope(String word) {
+        return interpreted.isKeywordInScope(word);
+    }
+
+    @Override
+    public Set<String> keywordsInScope() {
+        return interpreted.keywordsInScope();
+    }
+
+    @Override
+    public boolean isMatching(String name) {
+        return interpreted.isMatching(name);
+    }
+
+    @Override
+    public boolean affectsContext() {
+        return interpreted.affectsContext();
+    }
+
+    @Override
+    public String toString() {
+        return interpreted.toString();
+    }
+
+}
@@ -1,9 +1,11 @@
 package koopa.core.grammars.combinators;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 
 import koopa.core.grammars.Grammar;
+import koopa.core.parsers.FirstSet;
 import koopa.core.parsers.Parse;
 import koopa.core.parsers.ParserCombinator;
 
@@ -29,6 +31,13 @@ public class Dispatched extends WithKeyword {
         this.lookupTable = lookupTable;
     }
 
+    /**
+     * Returns a read-only view of the lookup table, keyed by comparable text.
+     */
+    public Map<String, ParserCombinator> getLookupTable() {
+        return Collections.unmodifiableMap(lookupTable);
+    }
+
     @Override
     protected boolean matchesAtKeyword(Parse parse, String keyword) {
         if (!lookupTable.containsKey(keyword)) {
@@ -66,11 +75,23 @@ public class Dispatched extends WithKeyword {
         }
     }
 
+    @Override
+    public void addFirstSetTo(FirstSet first) {
+        for (var key : lookupTable.keySet()) {
+            first.addKeyword(grammar, key);
+        }
+    }
+
     @Override
     public boolean allowsLookahead() {
         return true;
     }
 
+    @Override
+    public boolean affectsContext() {
+        return false;
+    }
+
     @Override
     public String toString() {
         return SYMBOL;
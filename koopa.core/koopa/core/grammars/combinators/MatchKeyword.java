@@ -3,6 +3,7 @@ package koopa.core.grammars.combinators;
 import java.util.Set;
 
 import koopa.core.grammars.Grammar;
+import koopa.core.parsers.FirstSet;
 import koopa.core.parsers.Parse;
 
 /**
@@ -17,6 +18,13 @@ public class MatchKeyword extends TestProgramText {
         this.word = grammar.comparableText(text);
     }
 
+    /**
+     * The word to be matched, as passed through {@linkplain Grammar#comparableText(String)}.
+     */
+    public String getWord() {
+        return word;
+    }
+
     @Override
     protected boolean matchesProgramText(Parse parse, String text) {
         return grammar.comparableText(text).equals(word);
@@ -32,6 +40,11 @@ public class MatchKeyword extends TestProgramText {
         keywords.add(word);
     }
 
+    @Override
+    public void addFirstSetTo(FirstSet first) {
+        first.addKeyword(grammar, word);
+    }
+
     @Override
     public boolean allowsLookahead() {
         return true;
@@ -2,6 +2,7 @@ package koopa.core.grammars.combinators;
 
 import koopa.core.data.Token;
 import koopa.core.grammars.Grammar;
+import koopa.core.parsers.FirstSet;
 import koopa.core.parsers.Parse;
 import koopa.core.parsers.ParserCombinator;
 
@@ -17,6 +18,13 @@ public class MatchLiteral extends GrammaticalCombinator {
         this.comparableText = grammar.comparableText(text);
     }
 
+    /**
+     * The text to be matched, as passed through {@linkplain Grammar#comparableText(String)}.
+     */
+    public String getText() {
+        return comparableText;
+    }
+
     @Override
     protected boolean matchesAfterSkipped(Parse parse) {
         if (parse.getTrace().isEnabled()) {
@@ -43,6 +51,11 @@ public class MatchLiteral extends GrammaticalCombinator {
         }
     }
 
+    @Override
+    public void addFirstSetTo(FirstSet first) {
+        first.addLiteral(grammar, comparableText);
+    }
+
     @Override
     public String toString() {
         return "literal " + comparableText;
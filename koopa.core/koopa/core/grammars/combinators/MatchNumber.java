@@ -5,6 +5,7 @@ import java.util.Set;
 import koopa.core.data.Token;
 import koopa.core.data.tags.SyntacticTag;
 import koopa.core.grammars.Grammar;
+import koopa.core.parsers.FirstSet;
 import koopa.core.parsers.Parse;
 
 /**
@@ -19,6 +20,13 @@ public class MatchNumber extends GrammaticalCombinator {
         this.comparableText = grammar.comparableText(text);
     }
 
+    /**
+     * The text to be matched, as passed through {@linkplain Grammar#comparableText(String)}.
+     */
+    public String getText() {
+        return comparableText;
+    }
+
     @Override
     protected boolean matchesAfterSkipped(Parse parse) {
         var d = parse.getStream().forward();
@@ -58,6 +66,11 @@ public class MatchNumber extends GrammaticalCombinator {
         keywords.add(comparableText);
     }
 
+    @Override
+    public void addFirstSetTo(FirstSet first) {
+        first.addLiteral(grammar, comparableText);
+    }
+
     @Override
     public boolean allowsLookahead() {
         return false;
@@ -4,6 +4,7 @@ import java.util.Set;
 
 import koopa.core.data.Token;
 import koopa.core.grammars.Grammar;
+import koopa.core.parsers.FirstSet;
 import koopa.core.parsers.Parse;
 
 /**
@@ -51,6 +52,11 @@ public class MatchToken extends GrammaticalCombinator {
         keywords.add(comparableText);
     }
 
+    @Override
+    public void addFirstSetTo(FirstSet first) {
+        first.addLiteral(grammar, comparableText);
+    }
+
     @Override
     public boolean allowsLookahead() {
         return true;
@@ -20,7 +20,7 @@ public class OptimizingChoice extends Choice {
     private static final Logger LOGGER = Logger.getLogger("optimization");
 
     private final Grammar grammar;
-    private boolean optimizerRan = false;
+    private volatile boolean optimizerRan = false;
     private ParserCombinator optimized = null;
 
     public OptimizingChoice(Grammar grammar, ParserCombinator... parsers) {
@@ -31,45 +31,7 @@ public class OptimizingChoice extends Choice {
     @Override
     public boolean matches(Parse parse) {
         if (!optimizerRan) {
-            optimizerRan = true;
-
-            var count = Optimizer.countLeadingParsersAllowingLookahead(parsers);
-
-            if (count == parsers.length) {
-                // Best case: all alternatives allow lookahead, so a single dispatch table will do.
-
-                if (LOGGER.isLoggable(FINER)) {
-                    var scope = parse.getStack().getScope();
-                    LOGGER.finer(
-                        "choice in " + (scope == null ? "??" : scope.getName())
-                        + " : full dispatch of " + parsers.length
-                        + " alternatives.");
-                }
-                optimized = Optimizer.dispatched(grammar, parsers);
-
-            } else if (count > 2) {
-                // No point setting up dispatch for a single alternative.
-                // But not much point for just two cases either.
-                // Not sure what a good minimum is, but lets say three or more.
-
-                if (LOGGER.isLoggable(FINER)) {
-                    var scope = parse.getStack().getScope();
-                    LOGGER.finer(
-                        "choice in " + (scope == null ? "??" : scope.getName())
-                        + " : dispatching first " + count + " of "
-                        + parsers.length + " alternatives.");
-                }
-
-                // We'll replace the leading parsers with a single dispatch.
-                var reduced = new ParserCombinator[parsers.length - count + 1];
-                reduced[0] = Optimizer.dispatched(grammar, parsers, 0, count);
-                for (var i = 1; i < reduced.length; i++) {
-                    reduced[i] = parsers[count + i - 1];
-                }
-                optimized = new Choice(reduced);
-            }
-
-            // TODO Is it worth looking for other sets of alternatives in the parsers ?
+            optimize(parse);
         }
 
         if (optimized != null) {
@@ -79,6 +41,56 @@ public class OptimizingChoice extends Choice {
         }
     }
 
+    /**
+     * Grammars may be shared between threads, so we make sure only one of them
+     * runs the optimizer, and that the others get to see its result.
+     */
+    private synchronized void optimize(Parse parse) {
+        if (optimizerRan) {
+            return;
+        }
+
+        var count = Optimizer.countLeadingParsersAllowingLookahead(parsers);
+
+        if (count == parsers.length) {
+            // Best case: all alternatives allow lookahead, so a single dispatch table will do.
+
+            if (LOGGER.isLoggable(FINER)) {
+                var scope = parse.getStack().getScope();
+                LOGGER.finer(
+                    "choice in " + (scope == null ? "??" : scope.getName())
+                    + " : full dispatch of " + parsers.length
+                    + " alternatives.");
+            }
+            optimized = Optimizer.dispatched(grammar, parsers);
+
+        } else if (count > 2) {
+            // No point setting up dispatch for a single alternative.
+            // But not much point for just two cases either.
+            // Not sure what a good minimum is, but lets say three or more.
+
+            if (LOGGER.isLoggable(FINER)) {
+                var scope = parse.getStack().getScope();
+                LOGGER.finer(
+                    "choice in " + (scope == null ? "??" : scope.getName())
+                    + " : dispatching first " + count + " of "
+                    + parsers.length + " alternatives.");
+            }
+
+            // We'll replace the leading parsers with a single dispatch.
+            var reduced = new ParserCombinator[parsers.length - count + 1];
+            reduced[0] = Optimizer.dispatched(grammar, parsers, 0, count);
+            for (var i = 1; i < reduced.length; i++) {
+                reduced[i] = parsers[count + i - 1];
+            }
+            optimized = new Choice(reduced);
+        }
+
+        // TODO Is it worth looking for other sets of alternatives in the parsers ?
+
+        optimizerRan = true;
+    }
+
     @Override
     public String toString() {
         return optimized == null ? super.toString() : optimized.toString();
@@ -7,6 +7,7 @@ import koopa.core.data.markers.End;
 import koopa.core.data.markers.Start;
 import koopa.core.grammars.Grammar;
 import koopa.core.parsers.FutureParser;
+import koopa.core.parsers.Packrat;
 import koopa.core.parsers.Parse;
 
 public class Scoped extends FutureParser {
@@ -54,13 +55,11 @@ public class Scoped extends FutureParser {
     public boolean accepts(Parse parse) {
         var accepts = super.accepts(parse);
         if (accepts) {
-            var baseStream = parse.getFlow().getBaseStream();
-            var target = baseStream.getTarget();
-            var t = target.peekAtLastToken();
+            var t = parse.getFlow().getBaseStream().peekAtLastToken();
             if (t != null) {
                 var start = t.getStart();
                 if (parse.getFinalPosition().compareTo(start) < 0) {
-                    parse.setFinalMatch(start, parse.getStack().getHead());
+                    parse.setFinalMatch(start, parse.getStack().capture());
                 }
             }
         }
@@ -69,6 +68,40 @@ public class Scoped extends FutureParser {
 
     @Override
     public boolean matches(Parse parse) {
+        var profiler = parse.getProfiler();
+        if (profiler == null) {
+            return matchesMemoized(parse);
+        }
+        profiler.enter(parse);
+        var accepts = false;
+        try {
+            accepts = matchesMemoized(parse);
+            return accepts;
+        } finally {
+            profiler.exit(name, accepts);
+        }
+    }
+
+    private boolean matchesMemoized(Parse parse) {
+        var packrat = parse.getPackrat();
+        if (packrat == null) {
+            return matches(parse, null, null);
+        }
+        var key = packrat.keyFor(this, parse);
+        if (key == null) {
+            return matches(parse, null, null);
+        }
+        var memoized = packrat.replay(key, parse);
+        if (memoized == null) {
+            return matches(parse, packrat, key);
+        }
+        if (parse.getTrace().isEnabled()) {
+            parse.getTrace().add(toString() + " : " + (memoized ? "yes" : "no") + ", memoized");
+        }
+        return memoized;
+    }
+
+    private boolean matches(Parse parse, Packrat packrat, Packrat.Key key) {
         var stream = parse.getStream();
         if (parse.getTrace().isEnabled()) {
             parse.getTrace().indent(toString() + " ? " + stream.peekMore() + "...");
@@ -86,9 +119,15 @@ public class Scoped extends FutureParser {
             } else if (visibility.addsMarkers()) {
                 stream.insert(End.on(grammar.getNamespace(), name));
             }
+            if (packrat != null) {
+                packrat.record(key, parse, true);
+            }
             stream.commit();
         } else {
             stream.rewind();
+            if (packrat != null) {
+                packrat.record(key, parse, false);
+            }
         }
         if (parse.getTrace().isEnabled()) {
             parse.getTrace()
@@ -174,6 +213,10 @@ public class Scoped extends FutureParser {
         return name;
     }
 
+    public Visibility getVisibility() {
+        return visibility;
+    }
+
     @Override
     public String toString() {
         return "def " + name;
@@ -5,6 +5,7 @@ import java.util.Set;
 import koopa.core.data.Data;
 import koopa.core.data.tags.AreaTag;
 import koopa.core.grammars.Grammar;
+import koopa.core.parsers.FirstSet;
 import koopa.core.parsers.Parse;
 import koopa.core.parsers.ParserCombinator;
 import koopa.core.streams.Streams;
@@ -73,6 +74,11 @@ public abstract class TestProgramText extends GrammaticalCombinator {
         parser.addAllLeadingKeywordsTo(keywords);
     }
 
+    @Override
+    public void addFirstSetTo(FirstSet first) {
+        parser.addFirstSetTo(first);
+    }
+
     @Override
     public boolean allowsLookahead() {
         return parser.allowsLookahead();
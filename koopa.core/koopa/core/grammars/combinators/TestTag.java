@@ -2,6 +2,7 @@ package koopa.core.grammars.combinators;
 
 import koopa.core.data.Token;
 import koopa.core.grammars.Grammar;
+import koopa.core.parsers.FirstSet;
 import koopa.core.parsers.Parse;
 
 /**
@@ -40,6 +41,15 @@ public class TestTag extends GrammaticalCombinator {
         }
     }
 
+    /**
+     * As this does not consume the token, whatever comes next gets to add to the first set as well.
+     */
+    @Override
+    public void addFirstSetTo(FirstSet first) {
+        first.addTag(grammar, tag);
+        first.addEmpty();
+    }
+
     @Override
     public boolean canMatchEmptyInputs() {
         return true;
@@ -4,7 +4,6 @@ import koopa.core.grammars.Grammar;
 import koopa.core.parsers.Parse;
 import koopa.core.parsers.ParserCombinator;
 import koopa.core.streams.Streams;
-import koopa.core.util.Memo;
 
 /**
  * This {@linkplain ParserCombinator} provides the basis for others
@@ -39,17 +38,16 @@ public abstract class WithKeyword extends GrammaticalCombinator {
      * This returns the keyword at this point in the parse,
      * restoring the state of the parse to the starting point afterwards.
      * <p>
-     * We memoize the keywords which were found so that we can reuse them
-     * if we get asked for them again at some later point.
+     * We memoize the keywords which were found, on the {@linkplain Parse} itself,
+     * so that we can reuse them if we get asked for them again at some later point.
      */
     private String getKeyword(Parse parse) {
         var stream = parse.getStream();
         var peek = stream.peek();
-        var memo = Memo.forSubject("kw-" + parse.hashCode());        
-        var memoizedKeyword = memo.get(peek, String.class);
+        var memoizedKeyword = parse.getKeyword(peek);
         if (memoizedKeyword != null) {
             return memoizedKeyword;
-        }       
+        }
         stream.bookmark();
         var accepts = parser.accepts(parse);
         String keyword;
@@ -59,7 +57,7 @@ public abstract class WithKeyword extends GrammaticalCombinator {
             keyword = grammar.comparableText(Streams.getProgramTextFromBookmark(grammar, stream));
         }
         stream.rewind();
-        memo.put(peek, keyword);
+        parse.setKeyword(peek, keyword);
         return keyword;
     }
 
@@ -5,6 +5,7 @@ import java.util.Set;
 import koopa.core.data.markers.End;
 import koopa.core.data.markers.Start;
 import koopa.core.grammars.Grammar;
+import koopa.core.parsers.FirstSet;
 import koopa.core.parsers.Parse;
 import koopa.core.parsers.ParserCombinator;
 
@@ -51,6 +52,11 @@ public class WrappedAs extends ParserCombinator {
         parser.addAllLeadingKeywordsTo(keywords);
     }
 
+    @Override
+    public void addFirstSetTo(FirstSet first) {
+        parser.addFirstSetTo(first);
+    }
+
     @Override
     public boolean allowsLookahead() {
         return parser.allowsLookahead();
@@ -0,0 +1,242 @@
+package koopa.core.parsers;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import koopa.core.data.Marker;
+import koopa.core.data.Token;
+import koopa.core.grammars.Grammar;
+
+import static koopa.core.parsers.combinators.Opt.NOSKIP;
+
+/**
+ * What a {@linkplain ParserCombinator} may start with.
+ * That is, which program text it may expect to see first,
+ * once all separators have been skipped.
+ * <p>
+ * This can be keywords, literal texts or tags.
+ * A parser may also be able to match without consuming anything,
+ * or it may not be able to tell at all what it starts with.
+ * Either of these means that it can start anywhere.
+ * <p>
+ * Parsers fill this in via {@linkplain ParserCombinator#addFirstSetTo(FirstSet)}.
+ * Cfr. {@linkplain Optimizer#firstSet(ParserCombinator)}.
+ */
+public final class FirstSet {
+
+    /**
+     * For when we can not, or do not want to, tell what a parser starts with.
+     */
+    public static final FirstSet ANYTHING = new FirstSet();
+
+    static {
+        ANYTHING.addAnything();
+        ANYTHING.complete();
+    }
+
+    /**
+     * The first sets of all {@linkplain FutureParser}s seen while working out this one.
+     */
+    private final Map<FutureParser, FirstSet> known;
+
+    /**
+     * The {@linkplain FutureParser}s we're working out the first set for right now.
+     * Running into one of these again means we're going round in circles.
+     */
+    private final Set<FutureParser> pending;
+
+    private Grammar grammar = null;
+    private boolean anything = false;
+    private boolean empty = false;
+    private final Set<String> keywords = new HashSet<>();
+    private final Set<String> literals = new HashSet<>();
+    private final Set<Object> tags = new HashSet<>();
+
+    /**
+     * All prefixes of all {@link #keywords}. Set up by {@link #complete()}.
+     */
+    private Set<String> prefixes = null;
+
+    FirstSet() {
+        this(new HashMap<>(), new HashSet<>());
+    }
+
+    private FirstSet(Map<FutureParser, FirstSet> known, Set<FutureParser> pending) {
+        this.known = known;
+        this.pending = pending;
+    }
+
+    /**
+     * Returns a new, empty first set, for working out part of this one.
+     */
+    public FirstSet part() {
+        return new FirstSet(known, pending);
+    }
+
+    public void addAnything() {
+        anything = true;
+    }
+
+    public void addEmpty() {
+        empty = true;
+    }
+
+    /**
+     * The keyword should have been passed through {@linkplain Grammar#comparableText(String)}.
+     */
+    public void addKeyword(Grammar grammar, String keyword) {
+        use(grammar);
+        keywords.add(keyword);
+    }
+
+    /**
+     * The text should have been passed through {@linkplain Grammar#comparableText(String)}.
+     */
+    public void addLiteral(Grammar grammar, String text) {
+        use(grammar);
+        literals.add(text);
+    }
+
+    public void addTag(Grammar grammar, Object tag) {
+        use(grammar);
+        tags.add(tag);
+    }
+
+    /**
+     * We can only check against program text as seen by a single grammar.
+     */
+    private void use(Grammar grammar) {
+        if (this.grammar == null) {
+            this.grammar = grammar;
+        } else if (this.grammar != grammar) {
+            anything = true;
+        }
+    }
+
+    public void addAll(FirstSet other) {
+        addAllButEmpty(other);
+        empty |= other.empty;
+    }
+
+    /**
+     * Adds everything from the other set, except for it being able to match without consuming anything.
+     * This is what a sequence needs when the other set is for one of its leading parsers.
+     */
+    public void addAllButEmpty(FirstSet other) {
+        anything |= other.anything;
+        if (other.grammar != null) {
+            use(other.grammar);
+        }
+        keywords.addAll(other.keywords);
+        literals.addAll(other.literals);
+        tags.addAll(other.tags);
+    }
+
+    /**
+     * Adds the first set of the given parser's definition.
+     * These get worked out only once per first set, and recursion is cut short.
+     */
+    public void addAllOf(FutureParser future) {
+        var first = known.get(future);
+        if (first == null) {
+            var parser = future.getParser();
+            if (parser == null || !pending.add(future)) {
+                addAnything();
+                return;
+            }
+            first = part();
+            parser.addFirstSetTo(first);
+            pending.remove(future);
+            known.put(future, first);
+        }
+        addAll(first);
+    }
+
+    public boolean canBeEmpty() {
+        return empty;
+    }
+
+    /**
+     * Whether or not there is any point in calling {@link #mayStartAt(Parse)}.
+     */
+    public boolean canRejectAnything() {
+        return !anything && !empty && grammar != null;
+    }
+
+    void complete() {
+        prefixes = new HashSet<>();
+        for (var keyword : keywords) {
+            for (var i = 1; i <= keyword.length(); i++) {
+                prefixes.add(keyword.substring(0, i));
+            }
+        }
+    }
+
+    /**
+     * Whether or not a parser with this first set may match at the current point in the parse.
+     * This looks ahead in the stream the way {@linkplain Grammar#skipAll(Parse)} would skip,
+     * but without consuming anything.
+     * <p>
+     * When the upcoming program text is made up of several tokens,
+     * we only get to see the first of these. So rather than checking the keywords
+     * we check whether that token's text can be the start of any of them.
+     */
+    public boolean mayStartAt(Parse parse) {
+        if (!canRejectAnything()) {
+            return true;
+        }
+        var stream = parse.getStream();
+        var noskip = parse.isSet(NOSKIP);
+        for (var i = 0;; i++) {
+            var d = stream.peek(i);
+            if (d == null) {
+                return false;
+            }
+            // Skipping past a marker skips the data which follows it as well.
+            // Rather than working that out we leave this to the parsers.
+            if (d instanceof Marker) {
+                return true;
+            }
+            if (!grammar.isProgramText(d)) {
+                continue;
+            }
+            if (!(d instanceof Token)) {
+                return true;
+            }
+            var token = (Token) d;
+            var text = grammar.comparableText(token.getText());
+            // Literals do not get skipped, even when they are separators.
+            if (literals.contains(text)) {
+                return true;
+            }
+            if (!noskip && grammar.canBeSkipped(d, stream.getParse())) {
+                continue;
+            }
+            if (prefixes.contains(text)) {
+                return true;
+            }
+            for (var tag : tags) {
+                if (token.hasTag(tag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (anything) {
+            return "anything";
+        }
+        var b = new StringBuilder();
+        b.append(keywords).append(literals).append(tags);
+        if (empty) {
+            b.append(" or nothing");
+        }
+        return b.toString();
+    }
+
+}
@@ -1,7 +1,9 @@
 package koopa.core.parsers;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is a parser combinator whose internal parser can be set at a later time.
@@ -12,7 +14,18 @@ import java.util.Set;
 public class FutureParser extends ParserCombinator {
 
     protected ParserCombinator parser = null;
-    private Set<String> allKeywords;
+    private volatile Set<String> allKeywords;
+
+    /**
+     * The {@linkplain KeywordScope}s this parser leads to, by the scope it gets entered from.
+     */
+    private final Map<KeywordScope, KeywordScope> scopes = new ConcurrentHashMap<>();
+
+    /**
+     * The last of the {@link #scopes} we looked up. Most parsers only ever get entered
+     * from one scope, so this saves us a lookup most of the time.
+     */
+    private volatile KeywordScope.Step lastScope;
 
     public void setParser(ParserCombinator parser) {
         assert (this.parser == null);
@@ -20,6 +33,10 @@ public class FutureParser extends ParserCombinator {
         this.parser = parser;
     }
 
+    public ParserCombinator getParser() {
+        return parser;
+    }
+
     @Override
     public void addAllKeywordsInScopeTo(Set<String> keywords) {
         parser.addAllKeywordsInScopeTo(keywords);
@@ -30,6 +47,11 @@ public class FutureParser extends ParserCombinator {
         parser.addAllLeadingKeywordsTo(keywords);
     }
 
+    @Override
+    public void addFirstSetTo(FirstSet first) {
+        first.addAllOf(this);
+    }
+
     @Override
     public boolean allowsLookahead() {
         return parser.allowsLookahead();
@@ -42,15 +64,33 @@ public class FutureParser extends ParserCombinator {
 
     @Override
     public boolean isKeywordInScope(String word) {
-        return getAllKeywordsInScope().contains(word);
+        return keywordsInScope().contains(word);
+    }
+
+    /**
+     * Grammars may be shared between threads.
+     * At worst this means the set gets built more than once, but it only
+     * gets published once complete.
+     */
+    @Override
+    public Set<String> keywordsInScope() {
+        var keywords = allKeywords;
+        if (keywords == null) {
+            keywords = new HashSet<>();
+            parser.addAllKeywordsInScopeTo(keywords);
+            allKeywords = keywords;
+        }
+        return keywords;
     }
 
-    private Set<String> getAllKeywordsInScope() {
-        if (allKeywords == null) {
-            allKeywords = new HashSet<>();
-            parser.addAllKeywordsInScopeTo(allKeywords);
+    KeywordScope enterScope(KeywordScope outer) {
+        var last = lastScope;
+        if (last != null && last.outer == outer) {
+            return last.inner;
         }
-        return allKeywords;
+        var scope = scopes.computeIfAbsent(outer, o -> o.scopeFor(this));
+        lastScope = new KeywordScope.Step(outer, scope);
+        return scope;
     }
 
     @Override
@@ -0,0 +1,86 @@
+package koopa.core.parsers;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * All keywords in scope at some depth of a {@linkplain Stack}.
+ * <p>
+ * Going from the head to the base of the stack, a parser can say that a word is a keyword
+ * ({@linkplain ParserCombinator#isKeywordInScope(String)}), or that no words from further
+ * down are ({@linkplain ParserCombinator#allowsKeywords()}). The same goes for the parsers
+ * of any {@linkplain FutureParser} in between. A scope merges all of that into a single set.
+ * <p>
+ * Scopes never change, and get shared between all stacks (and threads).
+ * Each {@linkplain FutureParser} remembers the scopes it leads to,
+ * so these get worked out once per parser and outer scope.
+ */
+final class KeywordScope {
+
+    static final KeywordScope NONE = new KeywordScope(Collections.emptySet());
+
+    private final Set<String> keywords;
+
+    private KeywordScope(Set<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    boolean contains(String word) {
+        return keywords.contains(word);
+    }
+
+    /**
+     * The scope we're in after pushing the given parser onto a stack with this scope.
+     */
+    KeywordScope enter(ParserCombinator parser) {
+        if (parser instanceof FutureParser) {
+            return ((FutureParser) parser).enterScope(this);
+        } else {
+            return scopeFor(parser);
+        }
+    }
+
+    KeywordScope scopeFor(ParserCombinator parser) {
+        Set<String> own = Collections.emptySet();
+        var p = parser;
+        while (p != null) {
+            if (!p.allowsKeywords()) {
+                return new KeywordScope(own);
+            }
+            var more = p.keywordsInScope();
+            if (!more.isEmpty()) {
+                if (own.isEmpty()) {
+                    own = new HashSet<>();
+                }
+                own.addAll(more);
+            }
+            p = p instanceof FutureParser ? ((FutureParser) p).parser : null;
+        }
+        if (own.isEmpty() || keywords.containsAll(own)) {
+            // Nothing new, which is what we'll often see for recursive rules.
+            return this;
+        }
+        own.addAll(keywords);
+        return new KeywordScope(own);
+    }
+
+    @Override
+    public String toString() {
+        return keywords.toString();
+    }
+
+    /**
+     * Going from one scope into another.
+     */
+    static final class Step {
+        final KeywordScope outer;
+        final KeywordScope inner;
+
+        Step(KeywordScope outer, KeywordScope inner) {
+            this.outer = outer;
+            this.inner = inner;
+        }
+    }
+
+}
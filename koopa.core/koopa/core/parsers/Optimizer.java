@@ -48,6 +48,23 @@ public class Optimizer {
         return count;
     }
 
+    /**
+     * Work out what the given parser may start with.
+     * If the optimizer has been turned off this just answers {@linkplain FirstSet#ANYTHING}.
+     */
+    public static FirstSet firstSet(ParserCombinator parser) {
+        if (!SHOULD_RUN) {
+            return FirstSet.ANYTHING;
+        }
+        var first = new FirstSet();
+        parser.addFirstSetTo(first);
+        first.complete();
+        if (LOGGER.isLoggable(FINEST)) {
+            LOGGER.finest("first set of " + parser + " : " + first);
+        }
+        return first;
+    }
+
     /**
      * Build a dispatch table for the given parsers, mapping keywords to (a choice) of possible parsers.
      * <p>
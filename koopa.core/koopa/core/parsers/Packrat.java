@@ -0,0 +1,254 @@
+package koopa.core.parsers;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import koopa.core.data.Data;
+import koopa.core.data.Marker;
+import koopa.core.data.Token;
+import koopa.core.grammars.combinators.Scoped;
+import koopa.core.streams.Flow;
+
+/**
+ * Memoization of {@linkplain Scoped} rules for a single {@linkplain Parse}, packrat style.
+ * <p>
+ * Whenever a rule gets tried at some point in the stream we record whether it matched,
+ * and if so, all {@linkplain Data} it added to the stream.
+ * When that same rule gets tried again at that same point (as happens a lot
+ * when {@linkplain ParserCombinator}s backtrack) we can replay the recorded result
+ * instead of running the rule all over again.
+ * <p>
+ * A point in the stream is identified by the upcoming {@linkplain Token}.
+ * As tokens are only ever equal to themselves this is as good as a position.
+ * <p>
+ * Koopa rules are not context free, though.
+ * What a rule matches may depend on the keywords in scope, or on which rules
+ * are being matched further up the {@linkplain Stack}.
+ * So we also key on the context of the stack, which covers all parsers
+ * on it which {@linkplain ParserCombinator#affectsContext()}.
+ * Whenever the stream is limited (cfr. {@linkplain Flow#getStream()}) nothing gets memoized at all.
+ * <p>
+ * Memory use is bounded by a budget, expressed as the total number of {@linkplain Data}
+ * references held on to. The least recently used results get dropped first.
+ */
+public class Packrat {
+
+    /**
+     * Default budget, in number of {@linkplain Data} references held.
+     */
+    public static final int DEFAULT_BUDGET = 1 << 18;
+
+    private static final Data[] NO_DATA = new Data[0];
+    private static final boolean[] NO_FLAGS = new boolean[0];
+
+    private final int budget;
+
+    /**
+     * All memoized results, in least-recently-used order.
+     */
+    private final LinkedHashMap<Key, Result> results = new LinkedHashMap<>(1024, 0.75f, true);
+
+    private int held = 0;
+
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    public Packrat() {
+        this(DEFAULT_BUDGET);
+    }
+
+    public Packrat(int budget) {
+        if (budget < 1) {
+            throw new IllegalArgumentException("Budget must be 1 or greater. Got: " + budget);
+        }
+        this.budget = budget;
+    }
+
+    /**
+     * Get the key for memoizing the given rule at the current point in the parse.
+     * Returns <code>null</code> if we can not memoize anything right now.
+     */
+    public Key keyFor(ParserCombinator rule, Parse parse) {
+        var flow = parse.getFlow();
+        var base = flow.getBaseStream();
+        if (!flow.getLimitsEnabled() || parse.getStream() != base) {
+            return null;
+        }
+        var at = base.peek();
+        if (!(at instanceof Token)) {
+            return null;
+        }
+        return new Key(rule, at, parse.getStack().getContext());
+    }
+
+    /**
+     * Replays the result which was recorded for the given key, if any.
+     * <p>
+     * Returns <code>null</code> if there was nothing to replay,
+     * in which case the stream will have been left untouched.
+     */
+    public Boolean replay(Key key, Parse parse) {
+        var result = results.get(key);
+        if (result == null) {
+            misses += 1;
+            return null;
+        }
+        if (!result.accepts) {
+            hits += 1;
+            return Boolean.FALSE;
+        }
+        var stream = parse.getStream();
+        stream.bookmark();
+        for (var i = 0; i < result.data.length; i++) {
+            var d = result.data[i];
+            if (d instanceof Marker) {
+                stream.insert((Marker) d);
+                continue;
+            }
+            var next = result.skipped[i] ? stream.skip() : stream.forward();
+            if (next != d) {
+                // Should not happen. But if it does we just forget about it.
+                stream.rewind();
+                forget(key);
+                misses += 1;
+                return null;
+            }
+        }
+        stream.commit();
+        hits += 1;
+        return Boolean.TRUE;
+    }
+
+    /**
+     * Records the outcome of matching the rule for the given key.
+     * <p>
+     * When the rule was accepted this should be called while the rule's own bookmark
+     * is still active, as everything following it is what gets recorded.
+     */
+    public void record(Key key, Parse parse, boolean accepts) {
+        Result result;
+        if (!accepts) {
+            result = new Result(false, NO_DATA, NO_FLAGS);
+        } else {
+            var data = parse.getFlow().getBaseStream().getDataSinceBookmark();
+            if (data == null || data.size() > budget) {
+                return;
+            }
+            result = new Result(true, data);
+        }
+        var replaced = results.put(key, result);
+        if (replaced != null) {
+            held -= replaced.size();
+        }
+        held += result.size();
+        evict();
+    }
+
+    private void forget(Key key) {
+        var removed = results.remove(key);
+        if (removed != null) {
+            held -= removed.size();
+        }
+    }
+
+    private void evict() {
+        if (held <= budget) {
+            return;
+        }
+        var it = results.values().iterator();
+        while (held > budget && it.hasNext()) {
+            held -= it.next().size();
+            it.remove();
+            evictions += 1;
+        }
+    }
+
+    /**
+     * Drops all memoized results.
+     */
+    public void clear() {
+        results.clear();
+        held = 0;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public String toString() {
+        return "packrat { hits: " + hits + " | misses: " + misses
+            + " | evictions: " + evictions + " | held: " + held + "/" + budget + " }";
+    }
+
+    /**
+     * Identifies a rule being tried at some point in a parse.
+     */
+    public static final class Key {
+        private final ParserCombinator rule;
+        private final Data at;
+        private final long context;
+        private final int hash;
+
+        private Key(ParserCombinator rule, Data at, long context) {
+            this.rule = rule;
+            this.at = at;
+            this.context = context;
+            this.hash = 31 * (31 * rule.hashCode() + at.hashCode()) + Long.hashCode(context);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            var other = (Key) obj;
+            return rule == other.rule && at == other.at && context == other.context;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Result {
+        private final boolean accepts;
+        private final Data[] data;
+        private final boolean[] skipped;
+
+        private Result(boolean accepts, Data[] data, boolean[] skipped) {
+            this.accepts = accepts;
+            this.data = data;
+            this.skipped = skipped;
+        }
+
+        private Result(boolean accepts, List<Data> data) {
+            this.accepts = accepts;
+            this.data = data.toArray(NO_DATA);
+            this.skipped = new boolean[this.data.length];
+            for (var i = 0; i < this.data.length; i++) {
+                var d = this.data[i];
+                this.skipped[i] = d instanceof Token && ((Token) d).isSkipped();
+            }
+        }
+
+        private int size() {
+            return 1 + data.length;
+        }
+    }
+
+}
@@ -1,8 +1,12 @@
 package koopa.core.parsers;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import koopa.core.data.Data;
 import koopa.core.data.Position;
 import koopa.core.parsers.Stack.Frame;
 import koopa.core.parsers.combinators.Opt;
@@ -23,6 +27,25 @@ public class Parse {
 
     private Set<Opt> options = new HashSet<>();
 
+    /**
+     * Memoization of rules. This is off (<code>null</code>) by default.
+     */
+    private Packrat packrat = null;
+
+    /**
+     * Statistics on the rules being tried. This is off (<code>null</code>) by default.
+     */
+    private Profiler profiler = null;
+
+    /**
+     * Keywords found at some point in the parse, keyed by the {@linkplain Data} found there.
+     * {@linkplain Data} are only ever equal to themselves, so this is an identity lookup.
+     * <p>
+     * Entries get dropped again as soon as the stream lets go of the data they are keyed on
+     * (cfr. {@linkplain #forgetKeyword(Data)}), so this only ever covers the data being held.
+     */
+    private final Map<Data, String> keywords = new HashMap<>();
+
     private Parse() {
         this.stack = new Stack();
         this.trace = new Trace();
@@ -40,6 +63,7 @@ public class Parse {
     public Parse ofNested(Source source) {
         // TODO Shared stack ?
         var parse = new Parse(trace, messages);
+        parse.profiler = profiler;
         parse.getFlow().setSource(source);
         return parse;
     }
@@ -66,6 +90,7 @@ public class Parse {
     public void done() {
         // TODO stack.done() ?
         // TODO trace.done() ?
+        keywords.clear();
         flow.done();
     }
 
@@ -89,6 +114,64 @@ public class Parse {
         return messages;
     }
 
+    public Packrat getPackrat() {
+        return packrat;
+    }
+
+    /**
+     * Turn on memoization of rules for this parse by passing in a {@linkplain Packrat},
+     * or turn it off by passing <code>null</code>.
+     */
+    public void setPackrat(Packrat packrat) {
+        this.packrat = packrat;
+    }
+
+    public Profiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Turn on profiling of rules for this parse by passing in a {@linkplain Profiler},
+     * or turn it off by passing <code>null</code>.
+     * Nested parses share the profiler of the parse they were created from.
+     */
+    public void setProfiler(Profiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Get the keyword which was found at the given point in the parse,
+     * or <code>null</code> if it has not been looked for yet.
+     */
+    public String getKeyword(Data at) {
+        return keywords.get(at);
+    }
+
+    /**
+     * Remember the keyword which was found at the given point in the parse.
+     * This is forgotten again when the parse is {@linkplain #done()}.
+     */
+    public void setKeyword(Data at, String keyword) {
+        keywords.put(at, keyword);
+    }
+
+    /**
+     * Forget the keyword which was found at the given point in the parse, if any.
+     * This gets called once the stream will no longer be handing out that data.
+     */
+    public void forgetKeyword(Data at) {
+        if (!keywords.isEmpty()) {
+            keywords.remove(at);
+        }
+    }
+
+    /**
+     * How many keywords are being remembered right now.
+     */
+    public int getKeywordCount() {
+        return keywords.size();
+    }
+
     public boolean getOption(Opt noskip) {
         throw new UnsupportedOperationException();
     }
@@ -118,8 +201,8 @@ public class Parse {
         this.finalFrame = frame;
     }
 
-    private static int hashCounter = 0;
-    private final int HASHCODE = hashCounter++;
+    private static final AtomicInteger hashCounter = new AtomicInteger();
+    private final int HASHCODE = hashCounter.getAndIncrement();
 
     /**
      * For {@linkplain Parse} instances, equality boils down to object identity.
@@ -1,6 +1,8 @@
 package koopa.core.parsers;
 
+import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import koopa.core.grammars.Grammar;
 
@@ -66,6 +68,17 @@ public abstract class ParserCombinator {
         return false;
     }
 
+    /**
+     * Add what this parser may start with to the given {@linkplain FirstSet}.
+     * Parsers which have more than one parser leading their match
+     * should add the first sets of these via {@linkplain FirstSet#part()}.
+     * <p>
+     * By default this adds anything, as we can not tell what an arbitrary parser starts with.
+     */
+    public void addFirstSetTo(FirstSet first) {
+        first.addAnything();
+    }
+
     /**
      * Whether or not this parser can say that it {@linkplain #accepts(Parse)}
      * without actually having consumed anything from the stream.
@@ -97,6 +110,17 @@ public abstract class ParserCombinator {
         return false;
     }
 
+    /**
+     * All words for which {@linkplain #isKeywordInScope(String)} answers <code>true</code>.
+     * The {@linkplain Stack} relies on this to merge the keywords of all its frames,
+     * so parsers overriding the one should override the other as well.
+     * <p>
+     * By default this returns an empty set.
+     */
+    public Set<String> keywordsInScope() {
+        return Collections.emptySet();
+    }
+
     /**
      * Whether this parser matches a rule with the given name.
      * <p>
@@ -106,8 +130,22 @@ public abstract class ParserCombinator {
         return false;
     }
 
-    private static int hashCounter = 0;
-    private final int HASHCODE = hashCounter++;
+    /**
+     * Whether or not this parser, while it is on the {@linkplain Stack},
+     * can affect what the parsers it invokes will match.
+     * Think of keywords in scope, options being set,
+     * or parsers looking up the stack for some specific frame.
+     * <p>
+     * This is used when memoizing matches. Cfr. {@linkplain Packrat}.
+     * <p>
+     * <b>By default this answers <code>true</code></b>, which is always safe.
+     */
+    public boolean affectsContext() {
+        return true;
+    }
+
+    private static final AtomicInteger hashCounter = new AtomicInteger();
+    private final int HASHCODE = hashCounter.getAndIncrement();
 
     /**
      * For {@linkplain ParserCombinator} instances, equality boils down to object identity.
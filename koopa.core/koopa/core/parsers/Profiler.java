@@ -0,0 +1,276 @@
+package koopa.core.parsers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import koopa.core.grammars.combinators.Scoped;
+import koopa.core.streams.BaseStream;
+
+/**
+ * Keeps statistics on the {@linkplain Scoped} rules in a {@linkplain Parse}.
+ * <p>
+ * For every rule this counts how often it was tried, how often it matched,
+ * how much data it consumed when it did, how often the stream got rewound
+ * while it was being tried, and how much time went into it.
+ * <p>
+ * This is off by default. Cfr. {@linkplain Parse#setProfiler(Profiler)}.
+ * When it is off the only cost is a single check per rule being tried.
+ * <p>
+ * Times are given both in full and as self time, which leaves out the time spent in nested rules.
+ * Note that when a rule recurses its full time gets counted at every level,
+ * so these do not add up. The self times do.
+ * <p>
+ * Profilers of different parses can be combined with {@link #addAll(Profiler)},
+ * which is how you'd get the statistics for a batch of files.
+ */
+public class Profiler {
+
+    private final Map<String, Rule> rules = new LinkedHashMap<>();
+
+    /**
+     * The rules being tried right now, innermost last.
+     */
+    private Activation[] active = new Activation[64];
+    private int depth = 0;
+
+    /**
+     * Call this right before trying a rule.
+     */
+    public void enter(Parse parse) {
+        if (depth == active.length) {
+            active = Arrays.copyOf(active, depth << 1);
+        }
+        var activation = active[depth];
+        if (activation == null) {
+            activation = new Activation();
+            active[depth] = activation;
+        }
+        depth += 1;
+
+        var stream = parse.getFlow().getBaseStream();
+        activation.stream = stream;
+        activation.read = stream.getReadCount();
+        activation.rewinds = stream.getRewindCount();
+        activation.nested = 0;
+        activation.start = System.nanoTime();
+    }
+
+    /**
+     * Call this right after having tried a rule. Every {@link #enter(Parse)} must be matched by this.
+     */
+    public void exit(String name, boolean accepts) {
+        var end = System.nanoTime();
+        assert (depth > 0);
+        depth -= 1;
+        var activation = active[depth];
+        var stream = activation.stream;
+        activation.stream = null;
+
+        var nanos = end - activation.start;
+        var rule = rules.get(name);
+        if (rule == null) {
+            rule = new Rule(name);
+            rules.put(name, rule);
+        }
+        rule.attempts += 1;
+        rule.nanos += nanos;
+        rule.selfNanos += nanos - activation.nested;
+        rule.rewinds += stream.getRewindCount() - activation.rewinds;
+        if (accepts) {
+            rule.successes += 1;
+            rule.consumed += stream.getReadCount() - activation.read;
+        }
+        if (depth > 0) {
+            active[depth - 1].nested += nanos;
+        }
+    }
+
+    /**
+     * Adds all statistics from the other profiler to the ones in this one.
+     */
+    public void addAll(Profiler other) {
+        for (var theirs : other.rules.values()) {
+            var ours = rules.get(theirs.name);
+            if (ours == null) {
+                ours = new Rule(theirs.name);
+                rules.put(theirs.name, ours);
+            }
+            ours.attempts += theirs.attempts;
+            ours.successes += theirs.successes;
+            ours.consumed += theirs.consumed;
+            ours.rewinds += theirs.rewinds;
+            ours.nanos += theirs.nanos;
+            ours.selfNanos += theirs.selfNanos;
+        }
+    }
+
+    public Rule getRule(String name) {
+        return rules.get(name);
+    }
+
+    /**
+     * All rules which were tried, with the ones taking up the most (self) time first.
+     */
+    public List<Rule> getRules() {
+        var sorted = new ArrayList<>(rules.values());
+        sorted.sort(Comparator.comparingLong(Rule::getSelfNanos).reversed().thenComparing(Rule::getName));
+        return sorted;
+    }
+
+    /**
+     * Writes a table of the given number of rules taking up the most time.
+     */
+    public void print(Appendable out, int limit) {
+        var totalNanos = 0L;
+        for (var rule : rules.values()) {
+            totalNanos += rule.selfNanos;
+        }
+        try {
+            out.append(String.format("%-40s %12s %12s %12s %12s %10s %10s %6s%n",
+                "rule", "attempts", "successes", "consumed", "rewinds", "ms", "self ms", "self%"));
+            var count = 0;
+            for (var rule : getRules()) {
+                if (count == limit) {
+                    break;
+                }
+                out.append(String.format("%-40s %12d %12d %12d %12d %10.1f %10.1f %5.1f%%%n",
+                    rule.name, rule.attempts, rule.successes, rule.consumed, rule.rewinds,
+                    rule.nanos / 1e6, rule.selfNanos / 1e6,
+                    totalNanos == 0 ? 0.0 : 100.0 * rule.selfNanos / totalNanos));
+                count += 1;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes all statistics as comma separated values, with a header line.
+     */
+    public void writeCsv(Appendable out) {
+        try {
+            out.append("rule,attempts,successes,consumed,rewinds,nanos,selfNanos\n");
+            for (var rule : getRules()) {
+                out.append(rule.name).append(',')
+                   .append(Long.toString(rule.attempts)).append(',')
+                   .append(Long.toString(rule.successes)).append(',')
+                   .append(Long.toString(rule.consumed)).append(',')
+                   .append(Long.toString(rule.rewinds)).append(',')
+                   .append(Long.toString(rule.nanos)).append(',')
+                   .append(Long.toString(rule.selfNanos)).append('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes all statistics as a JSON array, with one object per rule.
+     */
+    public void writeJson(Appendable out) {
+        try {
+            out.append("[\n");
+            var first = true;
+            for (var rule : getRules()) {
+                if (!first) {
+                    out.append(",\n");
+                }
+                first = false;
+                out.append("  { \"rule\": \"").append(escaped(rule.name))
+                   .append("\", \"attempts\": ").append(Long.toString(rule.attempts))
+                   .append(", \"successes\": ").append(Long.toString(rule.successes))
+                   .append(", \"consumed\": ").append(Long.toString(rule.consumed))
+                   .append(", \"rewinds\": ").append(Long.toString(rule.rewinds))
+                   .append(", \"nanos\": ").append(Long.toString(rule.nanos))
+                   .append(", \"selfNanos\": ").append(Long.toString(rule.selfNanos))
+                   .append(" }");
+            }
+            out.append("\n]\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String escaped(String text) {
+        return text.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    @Override
+    public String toString() {
+        var attempts = 0L;
+        var nanos = 0L;
+        for (var rule : rules.values()) {
+            attempts += rule.attempts;
+            nanos += rule.selfNanos;
+        }
+        return "profiler { rules: " + rules.size() + " | attempts: " + attempts
+            + " | ms: " + (nanos / 1000000) + " }";
+    }
+
+    /**
+     * The statistics for a single rule.
+     */
+    public static final class Rule {
+        private final String name;
+        private long attempts = 0;
+        private long successes = 0;
+        private long consumed = 0;
+        private long rewinds = 0;
+        private long nanos = 0;
+        private long selfNanos = 0;
+
+        private Rule(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getAttempts() {
+            return attempts;
+        }
+
+        public long getSuccesses() {
+            return successes;
+        }
+
+        /**
+         * How much data (tokens, including separators) got consumed by successful matches.
+         */
+        public long getConsumed() {
+            return consumed;
+        }
+
+        /**
+         * How often the stream got rewound while the rule was being tried,
+         * including the rewinds done by nested rules.
+         */
+        public long getRewinds() {
+            return rewinds;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public long getSelfNanos() {
+            return selfNanos;
+        }
+    }
+
+    private static final class Activation {
+        private BaseStream stream;
+        private int read;
+        private long rewinds;
+        private long nested;
+        private long start;
+    }
+
+}
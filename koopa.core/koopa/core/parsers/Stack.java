@@ -1,6 +1,7 @@
 package koopa.core.parsers;
 
 import java.io.PrintStream;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
@@ -8,47 +9,292 @@ import java.util.Set;
 import koopa.core.grammars.Grammar;
 import koopa.core.grammars.combinators.Scoped;
 
+/**
+ * The stack of {@linkplain ParserCombinator}s which are currently matching.
+ * <p>
+ * This is held in arrays indexed by depth, with the base of the stack at index zero.
+ * Pushing and popping only move the {@link #top}, and do not allocate anything
+ * once the arrays have grown large enough.
+ * <p>
+ * {@linkplain Frame}s are views on a given depth of a stack. The ones handed out
+ * by {@link #getHead()} and {@link #find(Class)} get reused, and are only good
+ * until the stack is popped below them. Use {@link #capture()} to get a frame
+ * which can be held on to.
+ * <p>
+ * Every push gets stamped, so that we can tell cheaply how much of the stack
+ * a captured frame still has in common with it. {@link #switchTo(Frame)} and
+ * {@link #switchBack()} rely on this to only swap out the part which differs.
+ * <p>
+ * For {@link #isKeyword(String)} the stack also keeps a {@linkplain KeywordScope} per depth,
+ * holding all keywords in scope at that depth. These get worked out as needed.
+ */
 public class Stack {
 
-    private Frame head;
+    private static final int INITIAL_DEPTH = 64;
+
+    private ParserCombinator[] parsers;
+
+    /**
+     * A hash over all parsers from each depth down to the base which {@linkplain ParserCombinator#affectsContext()}.
+     * Frames with the same context can be expected to have their parsers match in the same way.
+     */
+    private long[] contexts;
+
+    /**
+     * Which push put the parser at each depth there. Two stacks which have the same stamp at some depth
+     * hold the same parsers from that depth down to the base.
+     */
+    private long[] stamps;
+
+    private long pushes;
+
+    /**
+     * Reusable views on each depth, created as needed.
+     */
+    private Frame[] frames;
+
+    /**
+     * The depth of the head of the stack. Zero means the stack is empty.
+     */
+    private int top;
+
+    /**
+     * The keywords in scope at each depth, up to {@link #scopedDepth}.
+     * Created on first use.
+     */
+    private KeywordScope[] scopes;
+
+    /**
+     * The parser each of the {@link #scopes} was worked out for, and the scope below it at the time.
+     * When the same parser gets pushed again onto the same scope, its scope need not be worked out again.
+     */
+    private ParserCombinator[] scoped;
+
+    private KeywordScope[] outers;
+
+    /**
+     * The depth up to which the {@link #scopes} match what is on the stack.
+     */
+    private int scopedDepth;
+
+    /**
+     * What {@link #switchTo(Frame)} swapped out, for {@link #switchBack()} to put back.
+     * Each switch leaves the part of the stack it replaced, followed by the depth that part started at,
+     * and the depth of the head at the time.
+     */
+    private ParserCombinator[] savedParsers;
+
+    private long[] savedContexts;
+
+    private long[] savedStamps;
+
+    private int[] switches;
+
+    private int savedCount;
+
+    private int switchCount;
 
     public Stack() {
-        head = new Frame(null, null);
+        this(INITIAL_DEPTH);
+    }
+
+    private Stack(int capacity) {
+        parsers = new ParserCombinator[capacity];
+        contexts = new long[capacity];
+        stamps = new long[capacity];
+        frames = null;
+        top = 0;
+        scopes = null;
+        scoped = null;
+        outers = null;
+        scopedDepth = 0;
     }
 
     public boolean isEmpty() {
-        return head.parser == null;
+        return top == 0;
     }
 
     public Frame getHead() {
-        return head;
+        return frameAt(top);
+    }
+
+    /**
+     * Returns a copy of the current stack, as a {@linkplain Frame} which stays valid
+     * no matter what happens to this stack afterwards.
+     */
+    public Frame capture() {
+        var copy = new Stack(top + 1);
+        System.arraycopy(parsers, 0, copy.parsers, 0, top + 1);
+        System.arraycopy(contexts, 0, copy.contexts, 0, top + 1);
+        System.arraycopy(stamps, 0, copy.stamps, 0, top + 1);
+        copy.top = top;
+        return new Frame(copy, top);
     }
 
+    /**
+     * Makes the given frame the head of this stack,
+     * replacing everything which was on the stack before.
+     */
     public void setHead(Frame head) {
-        this.head = head;
+        var depth = head.depth;
+        var shared = sharedDepth(head);
+        copyFrom(head.stack, shared + 1, depth + 1);
+        Arrays.fill(parsers, depth + 1, Math.max(depth + 1, top + 1), null);
+        top = depth;
+        scopedDepth = Math.min(scopedDepth, shared);
+    }
+
+    /**
+     * Makes the given frame the head of this stack, until the next call to {@link #switchBack()}.
+     * <p>
+     * Only the part of this stack which differs from the frame gets saved and replaced.
+     * For a frame captured from this stack, while it was lower down on the same branch,
+     * that is just whatever got pushed since then.
+     */
+    public void switchTo(Frame head) {
+        var depth = head.depth;
+        var shared = sharedDepth(head);
+        save(shared + 1, top + 1);
+        copyFrom(head.stack, shared + 1, depth + 1);
+        top = depth;
+        scopedDepth = Math.min(scopedDepth, shared);
+    }
+
+    /**
+     * Undoes the last {@link #switchTo(Frame)}. Anything pushed since then should have been popped again.
+     */
+    public void switchBack() {
+        assert (switchCount >= 2);
+        var head = switches[--switchCount];
+        var from = switches[--switchCount];
+        var length = head + 1 - from;
+        ensureCapacity(head + 1);
+        savedCount -= length;
+        System.arraycopy(savedParsers, savedCount, parsers, from, length);
+        System.arraycopy(savedContexts, savedCount, contexts, from, length);
+        System.arraycopy(savedStamps, savedCount, stamps, from, length);
+        Arrays.fill(savedParsers, savedCount, savedCount + length, null);
+        Arrays.fill(parsers, head + 1, Math.max(head + 1, top + 1), null);
+        top = head;
+        scopedDepth = Math.min(scopedDepth, from - 1);
+    }
+
+    /**
+     * The depth up to which this stack and the stack of the given frame hold the same parsers.
+     */
+    private int sharedDepth(Frame frame) {
+        var d = Math.min(frame.depth, top);
+        if (frame.stack == this) {
+            return d;
+        }
+        var other = frame.stack.stamps;
+        while (d > 0 && stamps[d] != other[d]) {
+            d -= 1;
+        }
+        return d;
+    }
+
+    private void copyFrom(Stack other, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        ensureCapacity(to);
+        System.arraycopy(other.parsers, from, parsers, from, to - from);
+        System.arraycopy(other.contexts, from, contexts, from, to - from);
+        System.arraycopy(other.stamps, from, stamps, from, to - from);
+    }
+
+    private void save(int from, int to) {
+        var length = Math.max(0, to - from);
+        if (savedParsers == null) {
+            savedParsers = new ParserCombinator[Math.max(INITIAL_DEPTH, length)];
+            savedContexts = new long[savedParsers.length];
+            savedStamps = new long[savedParsers.length];
+            switches = new int[INITIAL_DEPTH];
+        }
+        if (savedCount + length > savedParsers.length) {
+            var capacity = Math.max(savedParsers.length << 1, savedCount + length);
+            savedParsers = Arrays.copyOf(savedParsers, capacity);
+            savedContexts = Arrays.copyOf(savedContexts, capacity);
+            savedStamps = Arrays.copyOf(savedStamps, capacity);
+        }
+        if (switchCount + 2 > switches.length) {
+            switches = Arrays.copyOf(switches, switches.length << 1);
+        }
+        System.arraycopy(parsers, from, savedParsers, savedCount, length);
+        System.arraycopy(contexts, from, savedContexts, savedCount, length);
+        System.arraycopy(stamps, from, savedStamps, savedCount, length);
+        savedCount += length;
+        switches[switchCount++] = from;
+        switches[switchCount++] = to - 1;
     }
 
     public void push(ParserCombinator parser) {
-        head = head.push(parser);
+        if (top + 1 == parsers.length) {
+            ensureCapacity(parsers.length << 1);
+        }
+        var base = contexts[top];
+        top += 1;
+        parsers[top] = parser;
+        contexts[top] = (parser == null || !parser.affectsContext()) ? base : mix(base, parser.hashCode());
+        stamps[top] = ++pushes;
     }
 
     public ParserCombinator peek() {
-        return head.parser;
+        return parsers[top];
     }
 
     public ParserCombinator pop() {
-        var p = head.parser;
-        head = head.pop();
+        assert (top > 0);
+        var p = parsers[top];
+        parsers[top] = null;
+        top -= 1;
+        if (scopedDepth > top) {
+            scopedDepth = top;
+        }
         return p;
     }
 
+    /**
+     * The context of the head of the stack. Cfr. {@link #contexts}.
+     */
+    long getContext() {
+        return contexts[top];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= parsers.length) {
+            return;
+        }
+        parsers = Arrays.copyOf(parsers, capacity);
+        contexts = Arrays.copyOf(contexts, capacity);
+        stamps = Arrays.copyOf(stamps, capacity);
+        if (frames != null) {
+            frames = Arrays.copyOf(frames, capacity);
+        }
+        if (scopes != null) {
+            scopes = Arrays.copyOf(scopes, capacity);
+            scoped = Arrays.copyOf(scoped, capacity);
+            outers = Arrays.copyOf(outers, capacity);
+        }
+    }
+
+    private Frame frameAt(int depth) {
+        if (frames == null) {
+            frames = new Frame[parsers.length];
+        }
+        var frame = frames[depth];
+        if (frame == null) {
+            frame = new Frame(this, depth);
+            frames[depth] = frame;
+        }
+        return frame;
+    }
+
     public Scoped getScope() {
-        var h = head;
-        while (h.parser != null) {
-            if (h.parser instanceof Scoped) {
-                return (Scoped) h.parser;
-            } else {
-                h = h.up;
+        for (var d = top; d > 0; d--) {
+            if (parsers[d] instanceof Scoped) {
+                return (Scoped) parsers[d];
             }
         }
         return null;
@@ -60,28 +306,23 @@ public class Stack {
      * We assume that the given word has been passed through {@linkplain Grammar#comparableText(String)} already.
      */
     public boolean isKeyword(String word) {
-        var f = head;
-        while (f != null) {
-            var p = f.parser;
-            if (p == null) {
-                return false;
-            }
-            while (true) {
-                if (!p.allowsKeywords()) {
-                    return false;
-                }
-                if (p.isKeywordInScope(word)) {
-                    return true;
-                }
-                if (p instanceof FutureParser) {
-                    p = ((FutureParser) p).parser;
-                } else {
-                    break;
-                }
+        if (scopes == null) {
+            scopes = new KeywordScope[parsers.length];
+            scoped = new ParserCombinator[parsers.length];
+            outers = new KeywordScope[parsers.length];
+            scopes[0] = KeywordScope.NONE;
+        }
+        while (scopedDepth < top) {
+            var d = scopedDepth + 1;
+            var outer = scopes[d - 1];
+            if (scoped[d] != parsers[d] || outers[d] != outer) {
+                scopes[d] = outer.enter(parsers[d]);
+                scoped[d] = parsers[d];
+                outers[d] = outer;
             }
-            f = f.up();
+            scopedDepth = d;
         }
-        return false;
+        return scopes[top].contains(word);
     }
 
     /**
@@ -89,13 +330,13 @@ public class Stack {
      * Earlier rules names should appear closer to the head of the stack.
      */
     public boolean isMatching(String... ruleNames) {
-        var f = head;
+        var d = top;
         for (var i = 0; i < ruleNames.length; i++) {
             var name = ruleNames[i];
-            while (f.parser != null && !f.parser.isMatching(name)) {
-                f = f.up;
+            while (d > 0 && !parsers[d].isMatching(name)) {
+                d -= 1;
             }
-            if (f.parser == null) {
+            if (d == 0) {
                 return false;
             }
         }
@@ -103,11 +344,11 @@ public class Stack {
     }
 
     /**
-     * Walk the {@link #up()} chain of {@linkplain Frame}s, starting at the {@link #head},
-     * to find the first one which has a {@link #parser} of the given type.
+     * Walk the stack, starting at the head,
+     * to find the first {@linkplain Frame} which has a parser of the given type.
      */
     public Frame find(Class<?> clazz) {
-        return head.find(clazz);
+        return getHead().find(clazz);
     }
 
     public String toString() {
@@ -115,64 +356,61 @@ public class Stack {
             return "___";
         }
         var b = new StringBuilder();
-        var h = head;
-        while (h.parser != null) {
-            b.append(h.parser.toString());
+        for (var d = top; d > 0; d--) {
+            b.append(parsers[d].toString());
             b.append(" < ");
-            h = h.up;
         }
         b.append("___");
         return b.toString();
     }
 
-    public class Frame {
+    public static final class Frame {
 
-        private final ParserCombinator parser;
+        private final Stack stack;
 
         /**
-         * "Up" = towards the root of the stack.
+         * How far this frame is from the base of the stack.
          */
-        private final Frame up;
-
-        public Frame(Frame up, ParserCombinator parser) {
-            this.up = up;
-            this.parser = parser;
-        }
+        private final int depth;
 
-        private Frame push(ParserCombinator p) {
-            return new Frame(this, p);
+        private Frame(Stack stack, int depth) {
+            this.stack = stack;
+            this.depth = depth;
         }
 
         public Frame pop() {
-            return up;
+            return up();
         }
 
+        /**
+         * "Up" = towards the root of the stack.
+         */
         public Frame up() {
-            return up;
+            return depth == 0 ? null : stack.frameAt(depth - 1);
         }
 
         public ParserCombinator getParser() {
-            return parser;
+            return stack.parsers[depth];
         }
 
         public String toTrace() {
             var sb = new StringBuilder();
-            var frame = this;
-            do {
-                if (frame.parser == null || !(frame.parser instanceof Scoped)) {
+            for (var d = depth; d > 0; d--) {
+                var parser = stack.parsers[d];
+                if (!(parser instanceof Scoped)) {
                     continue;
                 }
                 if (sb.length() > 0) {
                     sb.append(" < ");
                 }
-                sb.append(((Scoped) frame.parser).getName());
-
-            } while ((frame = frame.up()) != null);
+                sb.append(((Scoped) parser).getName());
+            }
             return sb.toString();
         }
 
         @Override
         public String toString() {
+            var parser = getParser();
             if (parser == null) {
                 return "<base>";
             } else {
@@ -181,6 +419,7 @@ public class Stack {
         }
 
         private Set<String> getAllKeywords() {
+            var parser = getParser();
             if (parser == null) {
                 return Collections.emptySet();
             }
@@ -191,50 +430,46 @@ public class Stack {
 
         /**
          * Walk the {@link #up()} chain of {@linkplain Frame}s to find
-         * the first one which has a {@link #parser} of the given type.
+         * the first one which has a parser of the given type.
          */
         public Frame find(Class<?> clazz) {
-            var next = this;
-            while (next != null) {
-                if (next.parser != null && clazz.isInstance(next.parser)) {
-                    return next;
+            for (var d = depth; d > 0; d--) {
+                if (clazz.isInstance(stack.parsers[d])) {
+                    return stack.frameAt(d);
                 }
-                next = next.up();
             }
             return null;
         }
 
         public int depth() {
-            if (up == null) {
-                return 0;
-            } else {
-                return 1 + up.depth();
-            }
+            return depth;
         }
 
         public Frame getFrameUpBy(int offset) {
-            if (offset == 0) {
-                return this;
-            } else {
-                return up.getFrameUpBy(offset - 1);
-            }
+            return stack.frameAt(depth - offset);
         }
     }
 
+    private static long mix(long base, int code) {
+        var h = (base + code + 1) * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h *= 0xD6E8FEB86659FD93L;
+        return h ^ (h >>> 32);
+    }
+
     /**
      * This is just a debugging utility for printing the current frames
      * in the stack and their associated keywords.
      */
     public void traceKeywords(PrintStream out) {
-        var f = head;
-        while (f != null) {
+        for (var d = top; d >= 0; d--) {
+            var f = frameAt(d);
             var keywords = f.getAllKeywords();
-            if (f == head) {
+            if (d == top) {
                 out.println(f + " -- " + keywords);
             } else {
                 out.println("at " + f + " -- " + keywords);
             }
-            f = f.up();
         }
     }
 
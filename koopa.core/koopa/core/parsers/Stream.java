@@ -66,6 +66,15 @@ public interface Stream {
      */
     Data peek();
 
+    /**
+     * Get a look at the {@linkplain Data} coming up at the given offset,
+     * without anything actually getting consumed. An offset of zero is the same as {@link #peek()}.
+     * <p>
+     * This looks at the data as is. {@linkplain Marker}s are not taken out,
+     * and whatever limits there may be on the stream do not apply.
+     */
+    Data peek(int offset);
+
     /**
      * This is for tracing purposes.
      * Gives a textual representation of up to five upcoming tokens.
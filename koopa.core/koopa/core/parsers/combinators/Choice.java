@@ -1,5 +1,6 @@
 package koopa.core.parsers.combinators;
 
+import koopa.core.parsers.FirstSet;
 import koopa.core.parsers.Parse;
 import koopa.core.parsers.ParserCombinator;
 
@@ -39,6 +40,18 @@ public class Choice extends NAryParserDecorator {
         return false;
     }
 
+    @Override
+    public void addFirstSetTo(FirstSet first) {
+        for (var parser : parsers) {
+            parser.addFirstSetTo(first);
+        }
+    }
+
+    @Override
+    public boolean affectsContext() {
+        return false;
+    }
+
     @Override
     public String toString() {
         return SYMBOL;
@@ -11,22 +11,21 @@ public class Closure extends UnaryParserDecorator {
     public Closure(ParserCombinator parser, Parse parse) {
         super(parser);
 
-        // This grabs the context for this closure.
-        this.headAtTimeOfCreation = parse.getStack().getHead();
+        // This grabs (a copy of) the context for this closure.
+        this.headAtTimeOfCreation = parse.getStack().capture();
     }
 
     @Override
     protected boolean matches(Parse parse) {
-        var headAtTimeOfMatching = parse.getStack().getHead();
-
         // We change the parse context/stack to the one we grabbed earlier.
-        parse.getStack().setHead(headAtTimeOfCreation);
+        // The stack keeps aside whatever this replaces.
+        parse.getStack().switchTo(headAtTimeOfCreation);
 
         // And let the parse proceed with that.
         var accepts = parser.accepts(parse);
 
         // After which we restore the context/stack to what it was.
-        parse.getStack().setHead(headAtTimeOfMatching);
+        parse.getStack().switchBack();
 
         return accepts;
     }
@@ -15,6 +15,13 @@ public abstract class NAryParserDecorator extends ParserCombinator {
         this.parsers = parsers;
     }
 
+    /**
+     * Returns a copy of the {@link #parsers}, in order.
+     */
+    public ParserCombinator[] getParsers() {
+        return parsers.clone();
+    }
+
     /**
      * Will pass the message on to all {@link #parsers}.
      */
@@ -2,6 +2,7 @@ package koopa.core.parsers.combinators;
 
 import java.util.Set;
 
+import koopa.core.parsers.FirstSet;
 import koopa.core.parsers.Parse;
 import koopa.core.parsers.ParserCombinator;
 
@@ -50,6 +51,14 @@ public class Not extends UnaryParserDecorator {
         return false;
     }
 
+    /**
+     * This parser just tests the context of the stream it is in, and so never actually consumes any input.
+     */
+    @Override
+    public void addFirstSetTo(FirstSet first) {
+        first.addEmpty();
+    }
+
     /**
      * This parser just tests the context of the stream it is in, and so never actually consumes any input.
      */
@@ -58,6 +67,11 @@ public class Not extends UnaryParserDecorator {
         return true;
     }
 
+    @Override
+    public boolean affectsContext() {
+        return false;
+    }
+
     @Override
     public String toString() {
         return "%not " + parser.toString();
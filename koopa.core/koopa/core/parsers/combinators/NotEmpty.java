@@ -1,5 +1,6 @@
 package koopa.core.parsers.combinators;
 
+import koopa.core.parsers.FirstSet;
 import koopa.core.parsers.Parse;
 import koopa.core.parsers.ParserCombinator;
 
@@ -46,11 +47,21 @@ public class NotEmpty extends UnaryParserDecorator {
         return true;
     }
 
+    @Override
+    public void addFirstSetTo(FirstSet first) {
+        parser.addFirstSetTo(first);
+    }
+
     @Override
     public boolean canMatchEmptyInputs() {
         return true;
     }
 
+    @Override
+    public boolean affectsContext() {
+        return false;
+    }
+
     @Override
     public String toString() {
         return "%notEmpty " + parser;
@@ -1,5 +1,6 @@
 package koopa.core.parsers.combinators;
 
+import koopa.core.parsers.FirstSet;
 import koopa.core.parsers.Parse;
 import koopa.core.parsers.ParserCombinator;
 
@@ -20,6 +21,12 @@ public class Optional extends UnaryParserDecorator {
         if (parse.getTrace().isEnabled()) {
             parse.getTrace().indent(SYMBOL + " ?");
         }
+        if (!getParserFirstSet().mayStartAt(parse)) {
+            if (parse.getTrace().isEnabled()) {
+                parse.getTrace().dedent(SYMBOL + " : no, can not start here");
+            }
+            return true;
+        }
         stream.bookmark();
         var accepts = parser.accepts(parse);
         if (accepts) {
@@ -33,11 +40,22 @@ public class Optional extends UnaryParserDecorator {
         return true;
     }
 
+    @Override
+    public void addFirstSetTo(FirstSet first) {
+        parser.addFirstSetTo(first);
+        first.addEmpty();
+    }
+
     @Override
     public boolean canMatchEmptyInputs() {
         return true;
     }
 
+    @Override
+    public boolean affectsContext() {
+        return false;
+    }
+
     @Override
     public String toString() {
         return SYMBOL;
@@ -48,6 +48,11 @@ public class Permuted extends NAryParserDecorator {
         return accepts;
     }
 
+    @Override
+    public boolean affectsContext() {
+        return false;
+    }
+
     @Override
     public String toString() {
         return SYMBOL;
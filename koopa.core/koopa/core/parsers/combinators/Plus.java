@@ -1,5 +1,6 @@
 package koopa.core.parsers.combinators;
 
+import koopa.core.parsers.FirstSet;
 import koopa.core.parsers.Parse;
 import koopa.core.parsers.ParserCombinator;
 
@@ -20,6 +21,13 @@ public class Plus extends UnaryParserDecorator {
         if (parse.getTrace().isEnabled()) {
             parse.getTrace().indent(SYMBOL + " ?");
         }
+        var first = getParserFirstSet();
+        if (!first.mayStartAt(parse)) {
+            if (parse.getTrace().isEnabled()) {
+                parse.getTrace().dedent(SYMBOL + " : no, can not start here");
+            }
+            return false;
+        }
         stream.bookmark();
         if (!parser.accepts(parse)) {
             stream.rewind();
@@ -29,7 +37,7 @@ public class Plus extends UnaryParserDecorator {
             return false;
         }
         stream.commit();
-        while (true) {
+        while (first.mayStartAt(parse)) {
             stream.bookmark();
             if (!parser.accepts(parse)) {
                 stream.rewind();
@@ -43,6 +51,16 @@ public class Plus extends UnaryParserDecorator {
         return true;
     }
 
+    @Override
+    public void addFirstSetTo(FirstSet first) {
+        parser.addFirstSetTo(first);
+    }
+
+    @Override
+    public boolean affectsContext() {
+        return false;
+    }
+
     @Override
     public String toString() {
         return SYMBOL;
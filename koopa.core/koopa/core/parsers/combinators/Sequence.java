@@ -2,6 +2,8 @@ package koopa.core.parsers.combinators;
 
 import java.util.Set;
 
+import koopa.core.parsers.FirstSet;
+import koopa.core.parsers.Optimizer;
 import koopa.core.parsers.Parse;
 import koopa.core.parsers.ParserCombinator;
 
@@ -10,14 +12,29 @@ public class Sequence extends ParserCombinator {
     private final ParserCombinator[] parsers;
     private final int length;
 
+    private volatile FirstSet firstSet = null;
+
     public Sequence(ParserCombinator[] parsers) {
         assert (parsers != null && parsers.length > 0);
         this.parsers = parsers;
         this.length = parsers.length;
     }
 
+    /**
+     * Returns a copy of the parsers making up this sequence, in order.
+     */
+    public ParserCombinator[] getParsers() {
+        return parsers.clone();
+    }
+
     @Override
     public boolean matches(Parse parse) {
+        if (!getFirstSet().mayStartAt(parse)) {
+            if (parse.getTrace().isEnabled()) {
+                parse.getTrace().add(toString() + " : no, can not start here");
+            }
+            return false;
+        }
         for (var parser : parsers) {
             if (!parser.accepts(parse)) {
                 return false;
@@ -26,6 +43,19 @@ public class Sequence extends ParserCombinator {
         return true;
     }
 
+    /**
+     * What this sequence may start with, worked out on first use.
+     * Grammars may be shared between threads. At worst this gets worked out more than once.
+     */
+    private FirstSet getFirstSet() {
+        var first = firstSet;
+        if (first == null) {
+            first = Optimizer.firstSet(this);
+            firstSet = first;
+        }
+        return first;
+    }
+
     @Override
     public void addAllKeywordsInScopeTo(Set<String> keywords) {
         for (var parser : parsers) {
@@ -43,6 +73,19 @@ public class Sequence extends ParserCombinator {
         }
     }
 
+    @Override
+    public void addFirstSetTo(FirstSet first) {
+        for (var parser : parsers) {
+            var part = first.part();
+            parser.addFirstSetTo(part);
+            first.addAllButEmpty(part);
+            if (!part.canBeEmpty()) {
+                return;
+            }
+        }
+        first.addEmpty();
+    }
+
     @Override
     public boolean allowsLookahead() {
         for (var i = 0; i < length; i++) {
@@ -65,6 +108,11 @@ public class Sequence extends ParserCombinator {
         return true;
     }
 
+    @Override
+    public boolean affectsContext() {
+        return false;
+    }
+
     @Override
     public String toString() {
         return "(...)";
@@ -79,6 +79,11 @@ public class SkipTo extends UnaryParserDecorator {
         return true;
     }
 
+    @Override
+    public boolean affectsContext() {
+        return false;
+    }
+
     @Override
     public String toString() {
         return "--> " + parser.toString();
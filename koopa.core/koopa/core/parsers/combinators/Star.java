@@ -1,5 +1,6 @@
 package koopa.core.parsers.combinators;
 
+import koopa.core.parsers.FirstSet;
 import koopa.core.parsers.Parse;
 import koopa.core.parsers.ParserCombinator;
 
@@ -20,7 +21,8 @@ public class Star extends UnaryParserDecorator {
         if (parse.getTrace().isEnabled()) {
             parse.getTrace().indent(SYMBOL + " ?");
         }
-        while (true) {
+        var first = getParserFirstSet();
+        while (first.mayStartAt(parse)) {
             stream.bookmark();
             if (!parser.accepts(parse)) {
                 stream.rewind();
@@ -34,11 +36,22 @@ public class Star extends UnaryParserDecorator {
         return true;
     }
 
+    @Override
+    public void addFirstSetTo(FirstSet first) {
+        parser.addFirstSetTo(first);
+        first.addEmpty();
+    }
+
     @Override
     public boolean canMatchEmptyInputs() {
         return true;
     }
 
+    @Override
+    public boolean affectsContext() {
+        return false;
+    }
+
     @Override
     public String toString() {
         return SYMBOL;
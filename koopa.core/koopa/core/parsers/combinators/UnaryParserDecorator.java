@@ -2,6 +2,8 @@ package koopa.core.parsers.combinators;
 
 import java.util.Set;
 
+import koopa.core.parsers.FirstSet;
+import koopa.core.parsers.Optimizer;
 import koopa.core.parsers.ParserCombinator;
 
 /**
@@ -11,10 +13,30 @@ public abstract class UnaryParserDecorator extends ParserCombinator {
 
     protected final ParserCombinator parser;
 
+    private volatile FirstSet parserFirstSet = null;
+
     public UnaryParserDecorator(ParserCombinator parser) {
         this.parser = parser;
     }
 
+    public ParserCombinator getParser() {
+        return parser;
+    }
+
+    /**
+     * What the {@link #parser} may start with, worked out on first use
+     * (by which time the grammar will have been fully set up).
+     * Grammars may be shared between threads. At worst this gets worked out more than once.
+     */
+    protected FirstSet getParserFirstSet() {
+        var first = parserFirstSet;
+        if (first == null) {
+            first = Optimizer.firstSet(parser);
+            parserFirstSet = first;
+        }
+        return first;
+    }
+
     /**
      * Will pass the message on to {@link #parser}.
      */
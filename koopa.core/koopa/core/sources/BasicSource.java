@@ -1,6 +1,6 @@
 package koopa.core.sources;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
 
 import koopa.core.data.Data;
 
@@ -10,7 +10,7 @@ import koopa.core.data.Data;
  */
 public abstract class BasicSource implements Source {
 
-    private final LinkedList<Data> unseen = new LinkedList<>();
+    private final ArrayDeque<Data> unseen = new ArrayDeque<>();
 
     /**
      * Returns the next piece of data, or <code>null</code> if there is no more.
@@ -24,7 +24,7 @@ public abstract class BasicSource implements Source {
         if (unseen.isEmpty()) {
             return nextElement();
         } else {
-            return unseen.removeFirst();
+            return unseen.pollFirst();
         }
     }
 
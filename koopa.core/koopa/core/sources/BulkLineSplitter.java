@@ -0,0 +1,188 @@
+package koopa.core.sources;
+
+import static koopa.core.data.tags.SyntacticTag.END_OF_LINE;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import java.util.logging.Logger;
+import static java.util.logging.Level.*;
+
+import koopa.core.data.Data;
+import koopa.core.data.Position;
+import koopa.core.data.Token;
+import koopa.core.util.LineEndings;
+
+/**
+ * A {@linkplain LineSplitter} which reads all of its input in bulk,
+ * and then scans it for line endings directly.
+ * <p>
+ * The regular {@linkplain LineSplitter} reads one character at a time,
+ * and reads ahead and pushes back characters to look for line endings before each of them.
+ * That adds up for very large sources.
+ * This one reads the input in large chunks into a single buffer instead,
+ * at the cost of holding on to all of its text until it is done.
+ * <p>
+ * The tokens it produces, and their positions, are the same as for {@linkplain LineSplitter}.
+ */
+public class BulkLineSplitter extends LineSplitter {
+
+    private static final Logger LOGGER = Logger.getLogger("source.linesplitter");
+
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private Reader reader;
+
+    private final char[][] lineEndings;
+    private final boolean stickyEndings;
+    private int detectedLineEnding = -1;
+
+    private char[] text = null;
+    private int length = 0;
+
+    /**
+     * Index of the next character in {@link #text}.
+     * Its position in the file is one more than this.
+     */
+    private int index = 0;
+
+    private int linenumber = 1;
+    private int positionInLine = 1;
+
+    public BulkLineSplitter(Reader reader) {
+        this((String) null, reader, LineEndings.getDefaults());
+    }
+
+    public BulkLineSplitter(String resourceName, Reader reader) {
+        this(resourceName, reader, LineEndings.getDefaults());
+    }
+
+    public BulkLineSplitter(Path file, Reader reader, List<List<Character>> lineEndings) {
+        super(file, reader, lineEndings);
+        this.reader = reader;
+        this.lineEndings = toArrays(lineEndings);
+        this.stickyEndings = LineEndings.areSticky();
+    }
+
+    public BulkLineSplitter(String resourceName, Reader reader, List<List<Character>> lineEndings) {
+        super(resourceName, reader, lineEndings);
+        this.reader = reader;
+        this.lineEndings = toArrays(lineEndings);
+        this.stickyEndings = LineEndings.areSticky();
+    }
+
+    @Override
+    public Data nextElement() {
+        if (text == null) {
+            readAll();
+        }
+        if (index >= length) {
+            return null;
+        }
+        var startIndex = index;
+        var startInLine = positionInLine;
+        var len = atLineEnding(index);
+        if (len > 0) {
+            index += len;
+            positionInLine += len;
+            var lineEnding = produceToken(startIndex, startInLine, END_OF_LINE);
+            linenumber += 1;
+            positionInLine = 1;
+            return lineEnding;
+        } else {
+            do {
+                index += 1;
+            } while (index < length && atLineEnding(index) <= 0);
+            positionInLine += index - startIndex;
+            return produceToken(startIndex, startInLine);
+        }
+    }
+
+    /**
+     * Returns the length of the line ending found at the given index,
+     * or <code>-1</code> if there isn't one.
+     */
+    private int atLineEnding(int at) {
+        if (detectedLineEnding >= 0) {
+            return atLineEnding(at, lineEndings[detectedLineEnding]) ? lineEndings[detectedLineEnding].length : -1;
+        }
+        for (var i = 0; i < lineEndings.length; i++) {
+            if (atLineEnding(at, lineEndings[i])) {
+                if (stickyEndings) {
+                    detectedLineEnding = i;
+                    if (LOGGER.isLoggable(FINER)) {
+                        LOGGER.finer("Detected line ending: "
+                            + LineEndings.encodeLineEnding(getLineEndings().get(i)) + ". Stickying.");
+                    }
+                }
+                return lineEndings[i].length;
+            }
+        }
+        return -1;
+    }
+
+    private boolean atLineEnding(int at, char[] ending) {
+        if (at + ending.length > length) {
+            return false;
+        }
+        for (var i = 0; i < ending.length; i++) {
+            if (text[at + i] != ending[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Token produceToken(int startIndex, int startInLine, Object... tags) {
+        var resource = getResource();
+        var start = new Position(resource, startIndex + 1, linenumber, startInLine);
+        var end = new Position(resource, index, linenumber, positionInLine - 1);
+        return new Token(new String(text, startIndex, index - startIndex), start, end, tags);
+    }
+
+    private void readAll() {
+        text = new char[CHUNK_SIZE];
+        if (reader == null) {
+            return;
+        }
+        try {
+            int read;
+            while ((read = reader.read(text, length, text.length - length)) >= 0) {
+                length += read;
+                if (length == text.length) {
+                    text = Arrays.copyOf(text, 2 * text.length);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warning(e.toString());
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } finally {
+            reader = null;
+            text = null;
+        }
+    }
+
+    private static char[][] toArrays(List<List<Character>> lineEndings) {
+        var arrays = new char[lineEndings.size()][];
+        for (var i = 0; i < arrays.length; i++) {
+            var ending = lineEndings.get(i);
+            arrays[i] = new char[ending.size()];
+            for (var j = 0; j < arrays[i].length; j++) {
+                arrays[i][j] = ending.get(j);
+            }
+        }
+        return arrays;
+    }
+
+}
@@ -0,0 +1,191 @@
+package koopa.core.sources;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import koopa.core.data.Data;
+
+/**
+ * A line of {@linkplain Data}, as grabbed by {@linkplain Sources#getLine(Source, Pool)},
+ * which can then be taken apart and put back together from either end.
+ * <p>
+ * The data is kept in a circular array between a head and a tail cursor.
+ * Adding or removing at either end, and getting the data at any position, takes constant time.
+ * <p>
+ * Lines which are no longer needed can be handed back to the {@linkplain Pool} they came from,
+ * so the next line can reuse their array.
+ */
+public final class Line extends AbstractList<Data> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Always a power of two, with at least one free slot.
+     */
+    private Data[] data = new Data[INITIAL_CAPACITY];
+
+    /**
+     * The index of the first element.
+     */
+    private int head = 0;
+
+    /**
+     * The index just past the last element.
+     */
+    private int tail = 0;
+
+    @Override
+    public int size() {
+        return (tail - head) & (data.length - 1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    @Override
+    public Data get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return data[(head + index) & (data.length - 1)];
+    }
+
+    @Override
+    public Data set(int index, Data d) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        var i = (head + index) & (data.length - 1);
+        var previous = data[i];
+        data[i] = d;
+        return previous;
+    }
+
+    public Data getFirst() {
+        if (head == tail) {
+            throw new NoSuchElementException();
+        }
+        return data[head];
+    }
+
+    public Data getLast() {
+        if (head == tail) {
+            throw new NoSuchElementException();
+        }
+        return data[(tail - 1) & (data.length - 1)];
+    }
+
+    public void addFirst(Data d) {
+        head = (head - 1) & (data.length - 1);
+        data[head] = d;
+        if (head == tail) {
+            grow();
+        }
+    }
+
+    public void addLast(Data d) {
+        data[tail] = d;
+        tail = (tail + 1) & (data.length - 1);
+        if (head == tail) {
+            grow();
+        }
+    }
+
+    @Override
+    public boolean add(Data d) {
+        addLast(d);
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Data> c) {
+        if (c instanceof Line) {
+            var other = (Line) c;
+            var mask = other.data.length - 1;
+            for (var i = other.head; i != other.tail; i = (i + 1) & mask) {
+                addLast(other.data[i]);
+            }
+        } else {
+            for (var d : c) {
+                addLast(d);
+            }
+        }
+        return !c.isEmpty();
+    }
+
+    public Data removeFirst() {
+        if (head == tail) {
+            throw new NoSuchElementException();
+        }
+        var d = data[head];
+        data[head] = null;
+        head = (head + 1) & (data.length - 1);
+        return d;
+    }
+
+    public Data removeLast() {
+        if (head == tail) {
+            throw new NoSuchElementException();
+        }
+        tail = (tail - 1) & (data.length - 1);
+        var d = data[tail];
+        data[tail] = null;
+        return d;
+    }
+
+    @Override
+    public void clear() {
+        var mask = data.length - 1;
+        for (var i = head; i != tail; i = (i + 1) & mask) {
+            data[i] = null;
+        }
+        head = 0;
+        tail = 0;
+    }
+
+    /**
+     * Doubles the capacity once the array is full, i.e. when the head caught up with the tail.
+     */
+    private void grow() {
+        var n = data.length;
+        var bigger = new Data[n << 1];
+        var r = n - head;
+        System.arraycopy(data, head, bigger, 0, r);
+        System.arraycopy(data, 0, bigger, r, head);
+        data = bigger;
+        head = 0;
+        tail = n;
+    }
+
+    /**
+     * Keeps lines around for reuse. Lines get cleared when they are recycled.
+     * <p>
+     * This is not thread-safe. Every source should have its own.
+     */
+    public static final class Pool {
+
+        private final ArrayList<Line> free = new ArrayList<>();
+
+        public Line obtain() {
+            var n = free.size();
+            return n == 0 ? new Line() : free.remove(n - 1);
+        }
+
+        /**
+         * Hands a line back for reuse. Nothing should refer to it anymore.
+         * A <code>null</code> line is ignored.
+         */
+        public void recycle(Line line) {
+            if (line != null) {
+                line.clear();
+                free.add(line);
+            }
+        }
+    }
+
+}
@@ -16,6 +16,7 @@ import static java.util.logging.Level.*;
 
 import koopa.core.data.Data;
 import koopa.core.data.Position;
+import koopa.core.data.Resource;
 import koopa.core.data.Token;
 import koopa.core.data.tags.SyntacticTag;
 import koopa.core.util.LineEndings;
@@ -36,7 +37,7 @@ public class LineSplitter extends BasicSource implements Source {
     private static final Logger LOGGER = Logger.getLogger("source.linesplitter");
 
     private Path file = null;
-    private final String resourceName;
+    private final Resource resource;
     private PushbackReader reader = null;
     private final char[] lookahead;
 
@@ -82,7 +83,7 @@ public class LineSplitter extends BasicSource implements Source {
         assert (lineEndings != null && !lineEndings.isEmpty());
         var max = maxLengthOfLineEnding(lineEndings);
         assert (max > 0);
-        this.resourceName = resourceName;
+        this.resource = Resource.of(resourceName);
         var br = (reader instanceof BufferedReader) ? (BufferedReader) reader : new BufferedReader(reader);
         this.reader = new PushbackReader(br, max);
         this.lookahead = new char[max];
@@ -195,11 +196,11 @@ public class LineSplitter extends BasicSource implements Source {
     }
 
     private void markStart() {
-        start = new Position(resourceName, positionInFile, linenumber, positionInLine);
+        start = new Position(resource, positionInFile, linenumber, positionInLine);
     }
 
     private void markEnd() {
-        end = new Position(resourceName, positionInFile - 1, linenumber, positionInLine - 1);
+        end = new Position(resource, positionInFile - 1, linenumber, positionInLine - 1);
     }
 
     private Token produceToken(String text, Object... tags) {
@@ -232,4 +233,12 @@ public class LineSplitter extends BasicSource implements Source {
         return file;
     }
 
+    protected Resource getResource() {
+        return resource;
+    }
+
+    protected List<List<Character>> getLineEndings() {
+        return lineEndings;
+    }
+
 }
@@ -2,16 +2,25 @@ package koopa.core.sources;
 
 import static koopa.core.data.tags.SyntacticTag.END_OF_LINE;
 
-import java.util.LinkedList;
-
-import koopa.core.data.Data;
 import koopa.core.data.Token;
 
 public final class Sources {
     private Sources() {}
 
-    public static LinkedList<Data> getLine(Source source) {
-        LinkedList<Data> line = null;
+    /**
+     * Grabs all data up to and including the next end of line.
+     * Returns <code>null</code> if the source has no more data.
+     */
+    public static Line getLine(Source source) {
+        return getLine(source, null);
+    }
+
+    /**
+     * Same as {@link #getLine(Source)}, except that the line is taken from
+     * the given pool, if there is one.
+     */
+    public static Line getLine(Source source, Line.Pool pool) {
+        Line line = null;
 
         while (true) {
             var d = source.next();
@@ -19,9 +28,9 @@ public final class Sources {
                 return line;
             }
             if (line == null) {
-                line = new LinkedList<Data>();
+                line = pool == null ? new Line() : pool.obtain();
             }
-            line.add(d);
+            line.addLast(d);
             if (d instanceof Token && ((Token) d).hasTag(END_OF_LINE)) {
                 return line;
             }
@@ -0,0 +1,198 @@
+package koopa.core.sources;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import koopa.core.data.Data;
+
+/**
+ * This {@linkplain Source} reads its source on a thread of its own, so that
+ * whatever goes on upstream can run ahead of whatever is consuming the data here.
+ * <p>
+ * The data is handed over in a bounded queue, for a single producer and a single consumer.
+ * This does not take any locks. When the queue is full (or empty) the producer (or consumer)
+ * spins for a while, and then parks for short periods until there is room (or data).
+ * <p>
+ * Anything which gets {@linkplain #unshift(Data)}ed is kept on the consumer side,
+ * so it never goes back upstream.
+ * <p>
+ * The thread gets started on the first request for data, and is stopped by {@link #close()}.
+ * Any exception it runs into is rethrown to the consumer, once it gets there.
+ * <p>
+ * Note: the sources upstream of this one belong to the thread while it runs.
+ * They can be looked at (cfr. {@linkplain #getSource(Class)}) before any data
+ * has been read, and once all of it has been read, but not in between.
+ */
+public class ThreadedSource extends ChainingSource implements Source {
+
+    /**
+     * The default number of data items which may be waiting in the queue.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    /**
+     * How often we spin before starting to park, while waiting on the other side.
+     */
+    private static final int SPINS = 100;
+
+    private static final long PARK_NANOS = 20_000;
+
+    /**
+     * Marks the end of the data in the queue, as we can not put <code>null</code> in there.
+     */
+    private static final Object END = new Object();
+
+    private final Object[] buffer;
+    private final int mask;
+
+    /**
+     * The index of the next item to be taken. Only the consumer moves this.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * The index of the next item to be added. Only the producer moves this.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    private Thread producer = null;
+    private volatile boolean closed = false;
+    private volatile Throwable failure = null;
+    private boolean ended = false;
+
+    public ThreadedSource(Source source) {
+        this(source, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * The capacity gets rounded up to a power of two.
+     */
+    public ThreadedSource(Source source, int capacity) {
+        super(source);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be 1 or greater. Got: " + capacity);
+        }
+        var size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.buffer = new Object[size];
+        this.mask = size - 1;
+    }
+
+    @Override
+    protected Data nextElement() {
+        if (ended || closed) {
+            return null;
+        }
+        if (producer == null) {
+            start();
+        }
+        var h = head.get();
+        var spins = 0;
+        while (h == tail.getAcquire()) {
+            spins = await(spins);
+        }
+        var i = (int) h & mask;
+        var item = buffer[i];
+        buffer[i] = null;
+        head.setRelease(h + 1);
+        if (item == END) {
+            ended = true;
+            var t = failure;
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            } else if (t instanceof Error) {
+                throw (Error) t;
+            } else if (t != null) {
+                throw new IllegalStateException("Reading from the source failed.", t);
+            }
+            return null;
+        }
+        return (Data) item;
+    }
+
+    private void start() {
+        producer = new Thread(this::produce, "koopa-source-" + THREAD_COUNT.incrementAndGet());
+        // We don't want to keep the VM alive if a source never got closed.
+        producer.setDaemon(true);
+        producer.start();
+    }
+
+    /**
+     * What the producer thread runs. It reads all data from the source, and then adds the {@link #END}.
+     */
+    private void produce() {
+        try {
+            while (!closed) {
+                var d = source.next();
+                if (d == null || !offer(d)) {
+                    break;
+                }
+            }
+        } catch (Throwable t) {
+            failure = t;
+        } finally {
+            offer(END);
+        }
+    }
+
+    /**
+     * Adds the item to the queue, waiting for room if needed.
+     * Returns <code>false</code> if the source got closed in the mean time.
+     */
+    private boolean offer(Object item) {
+        var t = tail.get();
+        var spins = 0;
+        while (t - head.getAcquire() == buffer.length) {
+            if (closed) {
+                return false;
+            }
+            spins = await(spins);
+        }
+        buffer[(int) t & mask] = item;
+        tail.setRelease(t + 1);
+        return true;
+    }
+
+    private static int await(int spins) {
+        if (spins < SPINS) {
+            Thread.onSpinWait();
+            return spins + 1;
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+            return spins;
+        }
+    }
+
+    /**
+     * Stops the thread, if it is running, and then closes the source.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (producer != null) {
+            LockSupport.unpark(producer);
+            var interrupted = false;
+            for (;;) {
+                try {
+                    producer.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        super.close();
+    }
+
+}
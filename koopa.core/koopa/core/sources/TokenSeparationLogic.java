@@ -7,8 +7,9 @@ import static koopa.core.data.tags.SyntacticTag.STRING;
 import static koopa.core.data.tags.SyntacticTag.WHITESPACE;
 import static koopa.core.data.tags.SyntacticTag.WORD;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import koopa.core.data.Token;
 import koopa.core.data.Tokens;
@@ -20,47 +21,83 @@ import koopa.core.data.tags.SyntacticTag;
  */
 public class TokenSeparationLogic {
 
+    private static final byte OTHER = 0;
+    private static final byte BLANK = 1;
+    private static final byte QUOTE = 2;
+    private static final byte DIGIT = 3;
+    private static final byte LETTER = 4;
+
+    /**
+     * The class of each ASCII character. Anything beyond that is {@link #OTHER}.
+     */
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        CLASSES[' '] = BLANK;
+        CLASSES['\t'] = BLANK;
+        CLASSES['"'] = QUOTE;
+        CLASSES['\''] = QUOTE;
+        for (var c = '0'; c <= '9'; c++) {
+            CLASSES[c] = DIGIT;
+        }
+        for (var c = 'a'; c <= 'z'; c++) {
+            CLASSES[c] = LETTER;
+            CLASSES[Character.toUpperCase(c)] = LETTER;
+        }
+    }
+
     public static List<Token> apply(final Token token) {
-        var tokens = new LinkedList<Token>();
+        var tokens = new ArrayList<Token>();
+        apply(token, tokens);
+        return tokens;
+    }
+
+    /**
+     * Splits up the given token, adding the parts to the given list.
+     * <p>
+     * The list is not cleared first, so it can be reused from one token to the next.
+     * All parts with the same kind of tags share a single set of them.
+     */
+    public static void apply(final Token token, final List<Token> tokens) {
+        var tags = new Tags(token);
         var text = token.getText();
         var length = text.length();
         var position = 0;
         while (position < length) {
-            var c = text.charAt(position);
-            if (isWhitespace(c)) {
-                position = whitespace(token, text, position, length, tokens);
-            } else if (startsString(c)) {
-                position = string(token, text, position, 0, length, tokens);
-            } else if (isDigit(c)) {
-                position = number(token, text, position, length, tokens);
-            } else if (isLetter(c)) {
-                position = word(token, text, position, length, tokens);
-            } else {
-                // Everything else...
-                position = separator(token, text, position, length, tokens);
+            switch (classOf(text.charAt(position))) {
+                case BLANK:
+                    position = whitespace(token, text, position, length, tags, tokens);
+                    break;
+                case QUOTE:
+                    position = string(token, text, position, 0, length, tags, tokens);
+                    break;
+                case DIGIT:
+                    position = number(token, text, position, length, tags, tokens);
+                    break;
+                case LETTER:
+                    position = word(token, text, position, length, tags, tokens);
+                    break;
+                default:
+                    // Everything else...
+                    position = separator(token, position, tags, tokens);
             }
         }
-        return tokens;
     }
 
-    private static boolean startsString(char c) {
-        return c == '"' || c == '\'';
+    private static byte classOf(char c) {
+        return c < CLASSES.length ? CLASSES[c] : OTHER;
     }
 
-    private static boolean isWhitespace(char c) {
-        return c == ' ' || c == '\t';
-    }
-
-    private static int whitespace(Token token, String text, int start, int length, List<Token> tokens) {
+    private static int whitespace(Token token, String text, int start, int length, Tags tags, List<Token> tokens) {
         int position = start + 1;
-        while (position < length && isWhitespace(text.charAt(position))) {
+        while (position < length && classOf(text.charAt(position)) == BLANK) {
             position += 1;
         }
-        tokens.add( Tokens.subtoken(token, start, position).withTags(SEPARATOR, WHITESPACE) );
+        tokens.add( Tokens.subtoken(token, start, position, tags.whitespace()) );
         return position;
     }
 
-    private static int string(Token token, String text, int start, int prefixLength, int length, List<Token> tokens) {
+    private static int string(Token token, String text, int start, int prefixLength, int length, Tags tags, List<Token> tokens) {
         var quotationMark = text.charAt(start + prefixLength);
         var position = start + prefixLength + 1;
         while (position < length) {
@@ -71,7 +108,7 @@ public class TokenSeparationLogic {
                 continue;
             }
             if (position + 1 == length) {
-                tokens.add( Tokens.subtoken(token, start).withTags(STRING) );
+                tokens.add( Tokens.subtoken(token, start, tags.string()) );
                 return position + 1;
             }
             var d = text.charAt(position + 1);
@@ -87,56 +124,103 @@ public class TokenSeparationLogic {
                 position += 1;
             }
             if (hasFloatingContinuationIndicator) {
-                tokens.add( Tokens.subtoken(token, start, position + 1).withTags(STRING, INCOMPLETE) );
+                tokens.add( Tokens.subtoken(token, start, position + 1, tags.incompleteString()) );
             } else {
-                tokens.add( Tokens.subtoken(token, start, position + 1).withTags(STRING) );
+                tokens.add( Tokens.subtoken(token, start, position + 1, tags.string()) );
             }
 
             return position + 1;
         }
         // Incomplete string literal.
-        tokens.add( Tokens.subtoken(token, start).withTags(STRING, INCOMPLETE) );
+        tokens.add( Tokens.subtoken(token, start, tags.incompleteString()) );
         return length;
     }
 
-    private static int word(Token token, String text, int start, int length, List<Token> tokens) {
+    private static int word(Token token, String text, int start, int length, Tags tags, List<Token> tokens) {
         var position = start + 1;
         while (position < length) {
             var c = text.charAt(position);
-            if (!isLetter(c) && c != '-') {
+            if (classOf(c) != LETTER && c != '-') {
                 break;
             }
             position += 1;
         }
-        tokens.add( Tokens.subtoken(token, start, position).withTags(WORD) );
+        tokens.add( Tokens.subtoken(token, start, position, tags.word()) );
         return position;
     }
 
-    private static int number(Token token, String text, int start, int length, List<Token> tokens) {
+    private static int number(Token token, String text, int start, int length, Tags tags, List<Token> tokens) {
         var position = start + 1;
-        while (position < length) {
-            var c = text.charAt(position);
-            if (!isDigit(c)) {
-                break;
-            }
+        while (position < length && classOf(text.charAt(position)) == DIGIT) {
             position += 1;
         }
-        tokens.add( Tokens.subtoken(token, start, position).withTags(NUMBER) );
+        tokens.add( Tokens.subtoken(token, start, position, tags.number()) );
         return position;
     }
 
-    private static boolean isLetter(char c) {
-        return ('a' <= c && c <= 'z') || ('A' <= c && c <= 'Z');
+    private static int separator(Token token, int start, Tags tags, List<Token> tokens) {
+        var position = start + 1;
+        tokens.add( Tokens.subtoken(token, start, position, tags.separator()) );
+        return position;
     }
 
-    private static boolean isDigit(char c) {
-        return '0' <= c && c <= '9';
-    }
+    /**
+     * The tags for each kind of part of a token, worked out when first needed.
+     */
+    private static final class Tags {
+        private final Token token;
+        private Set<Object> whitespace = null;
+        private Set<Object> string = null;
+        private Set<Object> incompleteString = null;
+        private Set<Object> word = null;
+        private Set<Object> number = null;
+        private Set<Object> separator = null;
+
+        private Tags(Token token) {
+            this.token = token;
+        }
 
-    private static int separator(Token token, String text, int start, int length, List<Token> tokens) {
-        var position = start + 1;
-        tokens.add( Tokens.subtoken(token, start, position).withTags(SEPARATOR) );
-        return position;
+        private Set<Object> whitespace() {
+            if (whitespace == null) {
+                whitespace = Tokens.tagsOf(token, SEPARATOR, WHITESPACE);
+            }
+            return whitespace;
+        }
+
+        private Set<Object> string() {
+            if (string == null) {
+                string = Tokens.tagsOf(token, STRING);
+            }
+            return string;
+        }
+
+        private Set<Object> incompleteString() {
+            if (incompleteString == null) {
+                incompleteString = Tokens.tagsOf(token, STRING, INCOMPLETE);
+            }
+            return incompleteString;
+        }
+
+        private Set<Object> word() {
+            if (word == null) {
+                word = Tokens.tagsOf(token, WORD);
+            }
+            return word;
+        }
+
+        private Set<Object> number() {
+            if (number == null) {
+                number = Tokens.tagsOf(token, NUMBER);
+            }
+            return number;
+        }
+
+        private Set<Object> separator() {
+            if (separator == null) {
+                separator = Tokens.tagsOf(token, SEPARATOR);
+            }
+            return separator;
+        }
     }
 
 }
@@ -5,7 +5,7 @@ import static koopa.core.data.tags.AreaTag.PROGRAM_TEXT_AREA;
 import static koopa.core.data.tags.SyntacticTag.END_OF_LINE;
 import static koopa.core.data.tags.SyntacticTag.SEPARATOR;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 
 import koopa.core.data.Data;
 import koopa.core.data.Token;
@@ -20,7 +20,16 @@ import koopa.core.data.tags.AreaTag;
  */
 public class TokenSeparator extends ChainingSource implements Source {
 
-    private final LinkedList<Token> pendingTokens = new LinkedList<>();
+    /**
+     * The parts of the last token which was separated.
+     * This gets reused from one token to the next.
+     */
+    private final ArrayList<Token> pendingTokens = new ArrayList<>();
+
+    /**
+     * The index of the next part in {@link #pendingTokens} to be returned.
+     */
+    private int next = 0;
 
     public TokenSeparator(Source source) {
         super(source);
@@ -28,8 +37,8 @@ public class TokenSeparator extends ChainingSource implements Source {
 
     @Override
     protected Data nextElement() {
-        if (!pendingTokens.isEmpty()) {
-            return pendingTokens.removeFirst();
+        if (next < pendingTokens.size()) {
+            return pendingTokens.get(next++);
         }
         var d = source.next();
         if (d == null || !(d instanceof Token)) {
@@ -42,13 +51,13 @@ public class TokenSeparator extends ChainingSource implements Source {
             return t;
         }
         tokenizeProgramText(t);
-        return pendingTokens.removeFirst();
+        return pendingTokens.get(next++);
     }
 
     protected void tokenizeProgramText(Token token) {
-        for (var t : TokenSeparationLogic.apply(token)) {
-            pendingTokens.add(t);
-        }
+        pendingTokens.clear();
+        next = 0;
+        TokenSeparationLogic.apply(token, pendingTokens);
     }
 
 }
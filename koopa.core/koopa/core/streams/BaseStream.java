@@ -1,6 +1,7 @@
 package koopa.core.streams;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -10,6 +11,7 @@ import koopa.core.data.Marker;
 import koopa.core.data.Token;
 import koopa.core.data.markers.Start;
 import koopa.core.parsers.Parse;
+import koopa.core.parsers.Profiler;
 import koopa.core.parsers.Stream;
 import koopa.core.sources.Source;
 import koopa.core.targets.HoldingTarget;
@@ -20,21 +22,47 @@ import koopa.core.targets.Target;
  *
  * It holds on to all {@linkplain Token}s it consumed from a {@linkplain Source},
  * and {@linkplain Marker}s which were added by the grammar,
- * until (that part of) the parse has been completed.
- * At that time it forwards the result to the {@linkplain Target}.
+ * for as long as a {@linkplain #bookmark()} may still want them back.
+ * Whenever the last active bookmark gets committed, everything up to that point
+ * gets forwarded to the {@linkplain Target}, so what is being held is bounded
+ * by the backtracking window rather than by the size of the parse.
  * <p>
  * When the parse is complete (either successfully or not)
  * the {@linkplain BaseStream} will no longer be holding on to any {@linkplain Data} itself.
  * In particular, any {@linkplain Token}s which were consumed but did not match
  * will have been returned to their {@linkplain Source}.
+ * <p>
+ * While the parse is in progress everything taken from the {@linkplain Source}
+ * is kept in a {@linkplain #lookahead} buffer. Rewinding just moves a cursor back
+ * in that buffer, rather than returning data to the source one piece at a time.
  */
 public class BaseStream implements Stream {
 
+    private static final int INITIAL_LOOKAHEAD = 64;
+
     /**
      * The stream fetches {@linkplain Token}s from this {@linkplain Source}.
      */
     private final Source source;
 
+    /**
+     * All {@linkplain Data} taken from the {@link #source} since the last release,
+     * other than {@linkplain Marker}s which have been passed on.
+     * Everything before {@link #read} has been handed out, and is held in {@link #pendingData}.
+     * Everything from there up to {@link #fetched} is yet to be (re)read.
+     */
+    private Data[] lookahead;
+
+    private int read;
+
+    private int fetched;
+
+    /**
+     * How much data was read, and let go of again, since everything was last committed in full.
+     * Cfr. {@link #releaseUnbookmarked()}.
+     */
+    private int released;
+
     /**
      * Everything the parser has processed, but which has not been committed yet in full.
      * <p>
@@ -43,6 +71,12 @@ public class BaseStream implements Stream {
      */
     private final HoldingTarget pendingData;
 
+    /**
+     * The last token which was passed on from the {@link #pendingData}.
+     * Cfr. {@link #peekAtLastToken()}.
+     */
+    private Token lastReleasedToken = null;
+
     /**
      * A list of {@linkplain Marker}s which are yet to be passed to the {@link #pendingData}.
      */
@@ -61,6 +95,11 @@ public class BaseStream implements Stream {
      */
     private int nextActiveBookmark;
 
+    /**
+     * How often we were rewound to a bookmark. Cfr. {@linkplain Profiler}.
+     */
+    private long rewinds = 0;
+
     /**
      * The {@linkplain Parse} this stream is part of.
      */
@@ -71,6 +110,10 @@ public class BaseStream implements Stream {
         assert (target != null);
 
         this.source = source;
+        this.lookahead = new Data[INITIAL_LOOKAHEAD];
+        this.read = 0;
+        this.fetched = 0;
+        this.released = 0;
         this.pendingData = new HoldingTarget(target);
         this.delayed = new ArrayList<>();
         this.allBookmarks = new ArrayList<>();
@@ -81,7 +124,7 @@ public class BaseStream implements Stream {
     public Data forward() {
         insertDelayedMarkers();
         for (;;) {
-            var d = source.next();
+            var d = take();
             if (d == null) {
                 return null;
             }
@@ -97,7 +140,7 @@ public class BaseStream implements Stream {
     @Override
     public Data skip() {
         for (;;) {
-            var d = source.next();
+            var d = take();
             if (d == null) {
                 return null;
             }
@@ -157,32 +200,40 @@ public class BaseStream implements Stream {
     @Override
     public void rewind(Data data) {
         for (;;) {
+            // Anything which was not covered by a bookmark may have been forwarded already.
+            if (pendingData.isEmpty()) {
+                return;
+            }
             var d = pendingData.pop();
             if (d == null) {
                 return;
             }
             assert (!(d instanceof Marker));
+            if (d instanceof Marker) {
+                continue;
+            }
+            read -= 1;
+            assert (lookahead[read] == d);
             // TODO We're dropping everything up to the mentioned item. Ok ?
             if (d != data) {
+                drop(read);
                 continue;
             }
             if (d instanceof Token) {
                 ((Token) d).setSkipped(false);
             }
-            if (!(d instanceof Marker)) {
-                source.unshift(d);
-            }
             break;
         }
     }
 
     @Override
     public Data peek() {
-        var peeked = source.next();
-        if (peeked != null) {
-            source.unshift(peeked);
-        }
-        return peeked;
+        return at(read);
+    }
+
+    @Override
+    public Data peek(int offset) {
+        return at(read + offset);
     }
 
     @Override
@@ -190,7 +241,7 @@ public class BaseStream implements Stream {
         var peeked = new Data[5];
         var p = 0;
         while (p < peeked.length) {
-            peeked[p] = source.next();
+            peeked[p] = at(read + p);
             if (peeked[p] == null) {
                 break;
             }
@@ -208,9 +259,6 @@ public class BaseStream implements Stream {
                 builder.append( String.valueOf(d) );
             }
         }
-        for (var i = p - 1; i >= 0; i--) {
-            source.unshift(peeked[i]);
-        }
         return builder.toString();
     }
 
@@ -221,6 +269,7 @@ public class BaseStream implements Stream {
 
     @Override
     public void rewind() {
+        rewinds += 1;
         if (hasActiveBookmarks()) {
             var rewound = popBookmark();
             delayed.clear();
@@ -243,7 +292,8 @@ public class BaseStream implements Stream {
             if (d instanceof Token) {
                 ((Token) d).setSkipped(false);
             }
-            source.unshift(d);
+            read -= 1;
+            assert (lookahead[read] == d);
         }
     }
 
@@ -251,10 +301,141 @@ public class BaseStream implements Stream {
     public void commit() {
         if (hasActiveBookmarks()) {
             popBookmark();
+            if (!hasActiveBookmarks()) {
+                releaseUnbookmarked();
+            }
         } else {
             assert (delayed.isEmpty());
-            pendingData.shiftAllToNextTarget();
+            shiftPendingData();
+            release();
+        }
+    }
+
+    /**
+     * Returns the data at the given index in the {@link #lookahead},
+     * taking more from the {@link #source} as needed.
+     * Returns <code>null</code> if the source runs out before that.
+     */
+    private Data at(int index) {
+        while (fetched <= index) {
+            var d = source.next();
+            if (d == null) {
+                return null;
+            }
+            if (fetched == lookahead.length) {
+                lookahead = Arrays.copyOf(lookahead, lookahead.length << 1);
+            }
+            lookahead[fetched++] = d;
+        }
+        return lookahead[index];
+    }
+
+    /**
+     * Moves the cursor past the next piece of data, returning it.
+     * {@linkplain Marker}s are dropped from the {@link #lookahead} when taken,
+     * as they do not get returned by a rewind.
+     */
+    private Data take() {
+        var d = at(read);
+        if (d instanceof Marker) {
+            drop(read);
+        } else if (d != null) {
+            read += 1;
+        }
+        return d;
+    }
+
+    /**
+     * Removes the data at the given index from the {@link #lookahead}.
+     */
+    private void drop(int index) {
+        forgetKeywords(index, index + 1);
+        System.arraycopy(lookahead, index + 1, lookahead, index, fetched - index - 1);
+        fetched -= 1;
+        lookahead[fetched] = null;
+    }
+
+    /**
+     * Called once everything which was read has been committed in full.
+     * Lets go of all of that in one go, and returns whatever was not read (again)
+     * to the {@link #source}, so that it is found there by whoever reads on.
+     */
+    private void release() {
+        forgetKeywords(0, fetched);
+        for (var i = fetched - 1; i >= read; i--) {
+            source.unshift(lookahead[i]);
         }
+        Arrays.fill(lookahead, 0, fetched, null);
+        read = 0;
+        fetched = 0;
+        released = 0;
+    }
+
+    /**
+     * Called when the last active bookmark got committed. Nothing can take back what was read so far,
+     * so we forward all of it to the target, and stop holding on to it in the {@link #lookahead}.
+     * <p>
+     * Unlike {@link #release()} this leaves what was fetched but not read in the lookahead.
+     * Any {@linkplain Marker}s which are being delayed also stay that way.
+     */
+    private void releaseUnbookmarked() {
+        if (pendingData.isEmpty()) {
+            return;
+        }
+        shiftPendingData();
+        forgetKeywords(0, read);
+        System.arraycopy(lookahead, read, lookahead, 0, fetched - read);
+        Arrays.fill(lookahead, fetched - read, fetched, null);
+        fetched -= read;
+        released += read;
+        read = 0;
+    }
+
+    /**
+     * Lets the {@link #parse} know that the data in the given range of the {@link #lookahead}
+     * is on its way out, so it need not remember the keywords found there.
+     */
+    private void forgetKeywords(int from, int to) {
+        if (parse == null) {
+            return;
+        }
+        for (var i = from; i < to; i++) {
+            parse.forgetKeyword(lookahead[i]);
+        }
+    }
+
+    private void shiftPendingData() {
+        var last = pendingData.peekAtLastToken();
+        if (last != null) {
+            lastReleasedToken = last;
+        }
+        pendingData.shiftAllToNextTarget();
+    }
+
+    /**
+     * The last token which was read and not taken back again.
+     * <p>
+     * Unlike asking the {@linkplain #getTarget() target}, this still works after
+     * a commit has passed everything on.
+     */
+    public Token peekAtLastToken() {
+        var last = pendingData.peekAtLastToken();
+        return last != null ? last : lastReleasedToken;
+    }
+
+    /**
+     * How much data has been read since everything was last committed in full.
+     * This moves back again when the stream gets rewound.
+     */
+    public int getReadCount() {
+        return released + read;
+    }
+
+    /**
+     * How often this stream has been rewound to a bookmark.
+     */
+    public long getRewindCount() {
+        return rewinds;
     }
 
     @Override
@@ -280,29 +461,7 @@ public class BaseStream implements Stream {
         var numberOfDelayedMarkers = bookmark.markers == null ? 0 : bookmark.markers.size();
         var positionOfBookmark = bookmark.position + numberOfDelayedMarkers;
 
-        return new Iterator<Data>() {
-            int currentPosition = pendingData.size();
-            Iterator<Data> reverseIterator = null;
-
-            @Override
-            public boolean hasNext() {
-                return currentPosition > positionOfBookmark;
-            }
-            @Override
-            public Data next() {
-                if (reverseIterator == null) {
-                    reverseIterator = pendingData.descendingIterator();
-                }
-                currentPosition -= 1;
-                return reverseIterator.next();
-            }
-            @Override
-            public void remove() {
-                if (reverseIterator != null) {
-                    reverseIterator.remove();
-                }
-            }
-        };
+        return pendingData.descendingIterator(positionOfBookmark);
     }
 
     @Override
@@ -316,6 +475,55 @@ public class BaseStream implements Stream {
         return pendingData.listIterator(positionOfBookmark);
     }
 
+    /**
+     * Get a copy of all {@linkplain Data} which was added since the latest bookmark,
+     * leaving out any {@linkplain Marker}s which were still being delayed when that bookmark was set.
+     * <p>
+     * Returns <code>null</code> if there is no bookmark, or if the data since the bookmark
+     * can not be told apart reliably. The latter happens when markers are still being delayed,
+     * or when the ones which were delayed at the time of the bookmark went missing.
+     */
+    public List<Data> getDataSinceBookmark() {
+        if (!hasActiveBookmarks()) {
+            return null;
+        }
+        var bookmark = peekBookmark();
+        var flushed = delayed.isEmpty();
+        if (!flushed && !sameMarkers(delayed, bookmark.markers)) {
+            return null;
+        }
+        var data = new ArrayList<Data>(pendingData.size() - bookmark.position);
+        for (var i = bookmark.position; i < pendingData.size(); i++) {
+            data.add(pendingData.get(i));
+        }
+        if (flushed) {
+            // The delayed markers were flushed together, in order, at some point after the bookmark.
+            var index = 0;
+            for (var marker : bookmark.markers) {
+                while (index < data.size() && data.get(index) != marker) {
+                    index += 1;
+                }
+                if (index == data.size()) {
+                    return null;
+                }
+                data.remove(index);
+            }
+        }
+        return data;
+    }
+
+    private static boolean sameMarkers(List<Marker> a, List<Marker> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (var i = 0; i < a.size(); i++) {
+            if (a.get(i) != b.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public BaseStream getBaseStream() {
         return this;
@@ -41,6 +41,11 @@ public abstract class StreamDecorator implements Stream {
         return stream.peek();
     }
 
+    @Override
+    public Data peek(int offset) {
+        return stream.peek(offset);
+    }
+
     @Override
     public String peekMore() {
         return stream.peekMore();
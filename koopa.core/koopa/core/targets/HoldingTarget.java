@@ -1,8 +1,10 @@
 package koopa.core.targets;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import koopa.core.data.Data;
 import koopa.core.data.Token;
@@ -13,9 +15,16 @@ import koopa.core.data.Token;
  * <p>
  * In addition to the delay, you can also retract the data which was pushed
  * up to the point of the last {@link #shiftAllToNextTarget()}.
+ * <p>
+ * The data is held in a growable array, so it can be addressed by index
+ * (cfr. {@link #get(int)}), and pushing or popping does not allocate anything
+ * once the array has grown large enough. Data only ever leaves from the front
+ * all at once (cfr. {@link #shiftAllToNextTarget()}), so the oldest data is always at index zero.
  */
 public class HoldingTarget implements Target {
 
+    private static final int INITIAL_CAPACITY = 64;
+
     /**
      * The recipient of our {@linkplain Data}.
      */
@@ -24,7 +33,12 @@ public class HoldingTarget implements Target {
     /**
      * The {@linkplain Data} we're holding on to.
      */
-    private final LinkedList<Data> queue;
+    private Data[] queue;
+
+    /**
+     * How much {@linkplain Data} is in the {@link #queue}.
+     */
+    private int size = 0;
 
     private final List<RawObserver> rawObservers;
 
@@ -38,16 +52,20 @@ public class HoldingTarget implements Target {
     public HoldingTarget(Target target) {
         assert (target != null);
         this.target = target;
-        this.queue = new LinkedList<>();
-        this.rawObservers = new LinkedList<>();
-        this.observers = new LinkedList<>();
+        this.queue = new Data[INITIAL_CAPACITY];
+        this.rawObservers = new ArrayList<>();
+        this.observers = new ArrayList<>();
     }
 
     @Override
     public void push(Data data) {
-        queue.addLast(data);
-        for (var observer : rawObservers) {
-            observer.pushed(data);
+        if (size == queue.length) {
+            queue = Arrays.copyOf(queue, queue.length << 1);
+        }
+        queue[size] = data;
+        size += 1;
+        for (var i = 0; i < rawObservers.size(); i++) {
+            rawObservers.get(i).pushed(data);
         }
         if (!(data instanceof Token)) {
             return;
@@ -58,21 +76,19 @@ public class HoldingTarget implements Target {
         }
         if (!notificationsInProgress) {
             notificationsInProgress = true;
-            for (var observer : observers) {
-                observer.pushed(this, token);
+            for (var i = 0; i < observers.size(); i++) {
+                observers.get(i).pushed(this, token);
             }
-            assert (queue.getLast() == data);
+            assert (get(size - 1) == data);
             notificationsInProgress = false;
         }
     }
 
     public Token peekAtLastToken() {
-        var it = queue.listIterator(queue.size());
-        while (it.hasPrevious()) {
-            var d = it.previous();
+        for (var i = size - 1; i >= 0; i--) {
+            var d = get(i);
             if (d instanceof Token) {
-                final Token t = (Token) d;
-                return t;
+                return (Token) d;
             }
         }
         return null;
@@ -85,18 +101,20 @@ public class HoldingTarget implements Target {
      * Undoes the latest {@link #push(Data)}, returning the data which was pushed.
      */
     public Data pop() {
-        assert (!queue.isEmpty());
-        var last = queue.removeLast();
-        for (var observer : rawObservers) {
-            observer.popping(last);
+        assert (size > 0);
+        size -= 1;
+        var last = queue[size];
+        queue[size] = null;
+        for (var i = 0; i < rawObservers.size(); i++) {
+            rawObservers.get(i).popping(last);
         }
         if (!notificationsInProgress && last instanceof Token) {
             var token = (Token) last;
             if (!token.isSkipped()) {
                 notificationsInProgress = true;
                 // final Token data = peekAtLastToken();
-                for (var observer : observers) {
-                    observer.popping(this,token);
+                for (var i = 0; i < observers.size(); i++) {
+                    observers.get(i).popping(this, token);
                 }
                 // assert (peekAtLastToken() == data);
                 notificationsInProgress = false;
@@ -109,8 +127,11 @@ public class HoldingTarget implements Target {
      * This will {@linkplain Target#push(Data)} all data which is being held {@link TokenTracker} the {@link #target}.
      */
     public void shiftAllToNextTarget() {
-        while (!queue.isEmpty()) {
-            var data = queue.removeFirst();
+        var count = size;
+        size = 0;
+        for (var i = 0; i < count; i++) {
+            var data = queue[i];
+            queue[i] = null;
             target.push(data);
         }
     }
@@ -119,28 +140,104 @@ public class HoldingTarget implements Target {
      * Whether or not we're holding on to {@linkplain Data}.
      */
     public boolean isEmpty() {
-        return queue.isEmpty();
+        return size == 0;
     }
 
     /**
      * How much {@linkplain Data} we're holding on to.
      */
     public int size() {
-        return queue.size();
+        return size;
+    }
+
+    /**
+     * Get the {@linkplain Data} being held at the given index,
+     * where index zero is the oldest data.
+     */
+    public Data get(int index) {
+        assert (index >= 0 && index < size);
+        return queue[index];
+    }
+
+    /**
+     * Removes the {@linkplain Data} being held at the given index,
+     * moving everything after it one place forward.
+     * <p>
+     * Observers are not told about this.
+     */
+    public Data remove(int index) {
+        assert (index >= 0 && index < size);
+        var removed = queue[index];
+        System.arraycopy(queue, index + 1, queue, index, size - index - 1);
+        size -= 1;
+        queue[size] = null;
+        return removed;
     }
 
     /**
      * Get an {@linkplain Iterator} over all {@linkplain Data} being held, in reverse order.
      */
     public Iterator<Data> descendingIterator() {
-        return queue.descendingIterator();
+        return descendingIterator(0);
+    }
+
+    /**
+     * Get an {@linkplain Iterator} over all {@linkplain Data} being held, in reverse order,
+     * stopping at the given index (inclusive).
+     * <p>
+     * The iterator supports {@link Iterator#remove()}.
+     */
+    public Iterator<Data> descendingIterator(int lowerBound) {
+        return new Iterator<Data>() {
+            int next = size - 1;
+            int last = -1;
+
+            @Override
+            public boolean hasNext() {
+                return next >= lowerBound;
+            }
+
+            @Override
+            public Data next() {
+                if (next < lowerBound) {
+                    throw new NoSuchElementException();
+                }
+                last = next;
+                next -= 1;
+                return get(last);
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+                HoldingTarget.this.remove(last);
+                last = -1;
+            }
+        };
     }
 
     /**
      * Get an {@linkplain Iterator} over all {@linkplain Data} being held, starting at the given index.
      */
     public Iterator<Data> listIterator(int index) {
-        return queue.listIterator(index);
+        return new Iterator<Data>() {
+            int next = index;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Data next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
     }
 
     public interface RawObserver {
@@ -179,7 +276,14 @@ public class HoldingTarget implements Target {
 
     @Override
     public String toString() {
-        return queue.toString();
+        var b = new StringBuilder("[");
+        for (var i = 0; i < size; i++) {
+            if (i > 0) {
+                b.append(", ");
+            }
+            b.append(get(i));
+        }
+        return b.append("]").toString();
     }
 
 }
@@ -0,0 +1,291 @@
+package koopa.core.trees;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import koopa.core.data.Token;
+import koopa.core.data.markers.End;
+import koopa.core.data.markers.InWater;
+import koopa.core.data.markers.Start;
+import koopa.core.data.tags.AreaTag;
+
+/**
+ * A {@linkplain TreeBuildingTarget} which writes out XML as the data comes in,
+ * rather than building a {@linkplain Tree} first.
+ * <p>
+ * The XML is the same as what {@linkplain XMLSerializer} writes for the tree
+ * a {@linkplain KoopaTreeBuilder} would have built, with one exception.
+ * When including positions we only know where an element starts by the time
+ * we get to write it, not where it ends.
+ * So elements will have the <code>from</code> attributes, but not the <code>to</code> ones.
+ * <p>
+ * Output is only held back for as long as needed to figure out an element's start position,
+ * or whether it is empty. So this target itself does not need more memory for larger sources.
+ * Note though that it only gets data as the parse commits it, which for a bookmark spanning
+ * the whole source means all at once, at the end.
+ * <p>
+ * The writer gets closed once the parse is {@linkplain #done()}.
+ */
+public class StreamingXMLSerializer extends TreeBuildingTarget {
+
+    /**
+     * Output gets passed to the writer in chunks of about this size.
+     */
+    private static final int CHUNK_SIZE = 1 << 13;
+
+    private final Writer writer;
+
+    private final boolean includePositioning;
+
+    /**
+     * Output which has not been passed to the writer yet.
+     */
+    private final StringBuilder out = new StringBuilder(2 * CHUNK_SIZE);
+
+    /**
+     * Any tokens preceding the first tree get tracked here.
+     * They will be added to the first tree once we get it.
+     */
+    private final LinkedList<Token> leading = new LinkedList<>();
+
+    /**
+     * Everything we're in the middle of. Either {@linkplain Element}s or water.
+     */
+    private final ArrayList<Element> open = new ArrayList<>();
+
+    /**
+     * Elements which are waiting for their start position.
+     * Their attributes will be inserted into {@link #out} once we know it.
+     */
+    private final List<Element> waitingForStart = new ArrayList<>();
+
+    /**
+     * How many of the {@link #open} items are water, which does not get written.
+     */
+    private int water = 0;
+
+    /**
+     * Only the first tree gets written, same as with the {@linkplain XMLSerializer}.
+     */
+    private boolean firstTreeDone = false;
+
+    public StreamingXMLSerializer(Writer writer) {
+        this(writer, XMLSerializer.INCLUDE_POSITIONING);
+    }
+
+    public StreamingXMLSerializer(Writer writer, boolean includePositioning) {
+        super(false);
+        this.writer = writer;
+        this.includePositioning = includePositioning;
+        out.append(XMLSerializer.PROLOG);
+        out.append("<koopa>\n");
+    }
+
+    private boolean isWriting() {
+        return !firstTreeDone && water == 0;
+    }
+
+    @Override
+    protected void down(Start start) {
+        var element = new Element(start.getName());
+        if (open.isEmpty()) {
+            open.add(element);
+            if (isWriting()) {
+                openTag(element);
+                while (!leading.isEmpty()) {
+                    token(leading.removeFirst());
+                }
+            }
+        } else {
+            var writing = isWriting();
+            if (writing) {
+                addChild();
+            }
+            open.add(element);
+            if (writing) {
+                openTag(element);
+            }
+        }
+    }
+
+    @Override
+    protected void leaf(Token token) {
+        if (open.isEmpty()) {
+            if (!firstTreeDone) {
+                leading.add(token);
+            }
+        } else if (isWriting()) {
+            token(token);
+        } else if (water > 0 && !token.hasTag(AreaTag.COMMENT)) {
+            // Tokens in water don't get written, but they still count for where things start.
+            startsAt(token);
+        }
+    }
+
+    @Override
+    protected void up(End end) {
+        assert (!open.isEmpty());
+        var element = open.remove(open.size() - 1);
+        if (isWriting()) {
+            closeTag(element);
+        }
+        if (open.isEmpty()) {
+            firstTreeDone = true;
+        }
+        flushIfNeeded();
+    }
+
+    @Override
+    protected void water(InWater inWater) {
+        if (!open.isEmpty() && isWriting()) {
+            addChild();
+        }
+        open.add(null);
+        water += 1;
+    }
+
+    @Override
+    protected void land() {
+        assert (!open.isEmpty());
+        open.remove(open.size() - 1);
+        water -= 1;
+        if (open.isEmpty()) {
+            firstTreeDone = true;
+        }
+    }
+
+    @Override
+    public void done() {
+        // Don't leave things hanging, even if the parse did.
+        while (!open.isEmpty()) {
+            var element = open.remove(open.size() - 1);
+            if (element != null && isWriting()) {
+                closeTag(element);
+            }
+            if (element == null) {
+                water -= 1;
+            }
+        }
+        waitingForStart.clear();
+        out.append("</koopa>\n");
+        try {
+            writer.append(out);
+            out.setLength(0);
+            writer.flush();
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void openTag(Element element) {
+        indent(open.size() - 1);
+        out.append('<').append(element.name);
+        if (includePositioning) {
+            element.attributesAt = out.length();
+            waitingForStart.add(element);
+        }
+        element.tagOpen = true;
+    }
+
+    /**
+     * Finish the open tag of the current element, if needed, as it is getting a child.
+     */
+    private void addChild() {
+        var parent = open.get(open.size() - 1);
+        if (parent != null && parent.tagOpen) {
+            out.append(">\n");
+            parent.tagOpen = false;
+        }
+    }
+
+    private void closeTag(Element element) {
+        if (element.attributesAt >= 0) {
+            // Nothing in here had a start position.
+            waitingForStart.remove(element);
+            element.attributesAt = -1;
+        }
+        if (element.tagOpen) {
+            out.append(" />\n");
+            element.tagOpen = false;
+        } else {
+            indent(open.size());
+            out.append("</").append(element.name).append(">\n");
+        }
+    }
+
+    private void token(Token token) {
+        addChild();
+        indent(open.size());
+        if (token.hasTag(AreaTag.COMMENT)) {
+            out.append("<!-- ");
+            XMLSerializer.appendComment(out, token.getText());
+            out.append(" -->\n");
+        } else {
+            startsAt(token);
+            out.append("<t><![CDATA[");
+            XMLSerializer.appendCData(out, token.getText());
+            out.append("]]></t>\n");
+        }
+        flushIfNeeded();
+    }
+
+    /**
+     * All elements still waiting for a start position start at the given token.
+     */
+    private void startsAt(Token token) {
+        if (waitingForStart.isEmpty()) {
+            return;
+        }
+        var position = token.getStart();
+        var attributes = " from=\"" + position.getPositionInFile() + "\""
+            + " from-line=\"" + position.getLinenumber() + "\""
+            + " from-column=\"" + position.getPositionInLine() + "\"";
+        // Going backwards, so inserting doesn't move what is still to come.
+        for (var i = waitingForStart.size() - 1; i >= 0; i--) {
+            var element = waitingForStart.get(i);
+            out.insert(element.attributesAt, attributes);
+            element.attributesAt = -1;
+        }
+        waitingForStart.clear();
+    }
+
+    private void indent(int depth) {
+        XMLSerializer.appendIndent(out, depth + 1);
+    }
+
+    private void flushIfNeeded() {
+        if (out.length() < CHUNK_SIZE || !waitingForStart.isEmpty()) {
+            return;
+        }
+        try {
+            writer.append(out);
+            out.setLength(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Element {
+        private final String name;
+
+        /**
+         * Whether we still need to close off the open tag, one way or another.
+         */
+        private boolean tagOpen = false;
+
+        /**
+         * Where in the output the start position should go, if it's still unknown.
+         */
+        private int attributesAt = -1;
+
+        private Element(String name) {
+            this.name = name;
+        }
+    }
+
+}
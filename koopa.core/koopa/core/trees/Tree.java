@@ -253,6 +253,14 @@ public class Tree implements Data {
         }
     }
 
+    public void setChild(int index, Tree child) {
+        var old = children.set(index, child);
+        old.childIndex = -1;
+        old.parent = null;
+        child.childIndex = index;
+        child.parent = this;
+    }
+
     public void removeChild(int index) {
         var child = children.remove(index);
         child.childIndex = -1;
@@ -10,9 +10,13 @@ import koopa.core.data.tags.AreaTag;
 
 public class XMLSerializer {
 
-    private static final boolean INCLUDE_POSITIONING =
+    static final boolean INCLUDE_POSITIONING =
         Boolean.getBoolean("koopa.xml.include_positioning");
 
+    static final String PROLOG = "<?xml version='1.0' encoding='UTF-8'?>\n";
+
+    private static final char[] SPACES = "                                                                ".toCharArray();
+
     public static String serialize(Tree tree) throws IOException {
         StringWriter writer = new StringWriter();
         serialize(tree, writer);
@@ -27,7 +31,7 @@ public class XMLSerializer {
 
     public static void serialize(Tree tree, Writer writer) throws IOException {
         // XML prolog/declaration
-        writer.append("<?xml version='1.0' encoding='UTF-8'?>\n");
+        writer.append(PROLOG);
         writer.append("<koopa>\n");
         if (tree != null) {
             walk(writer, tree, "  ");
@@ -62,18 +66,16 @@ public class XMLSerializer {
                 // not allowed Reading comments with double-hyphen will fail in
                 // compliant XML parsers. For convenience '--' is replaced by
                 // '-_'. Otherwise, we'd have to throw an error.
-                writer.append(dent
-                    + "<!-- "
-                    + tree.getText().replaceAll("--", "-_")
-                    + " -->\n" );
+                var line = new StringBuilder(dent).append("<!-- ");
+                appendComment(line, tree.getText());
+                writer.append(line.append(" -->\n"));
             } else {
                 // TODO Should escape stuff where necessary.
                 // A command like DISPLAY ']]>' would generate invalid XML
                 // without substitution
-                writer.append(dent
-                    + "<t><![CDATA["
-                    + tree.getText().replaceAll("]]>", "]]]]><![CDATA[>")
-                    + "]]></t>\n" );
+                var line = new StringBuilder(dent).append("<t><![CDATA[");
+                appendCData(line, tree.getText());
+                writer.append(line.append("]]></t>\n"));
             }
         }
     }
@@ -96,4 +98,47 @@ public class XMLSerializer {
         }
     }
 
+    /**
+     * Appends text for use in a comment, replacing any <code>--</code> by <code>-_</code>.
+     */
+    static void appendComment(StringBuilder out, String text) {
+        var length = text.length();
+        for (var i = 0; i < length; i++) {
+            var c = text.charAt(i);
+            if (c == '-' && i + 1 < length && text.charAt(i + 1) == '-') {
+                out.append("-_");
+                i += 1;
+            } else {
+                out.append(c);
+            }
+        }
+    }
+
+    /**
+     * Appends text for use in a CDATA section, splitting up any <code>]]&gt;</code>
+     * across two sections.
+     */
+    static void appendCData(StringBuilder out, String text) {
+        var from = 0;
+        var at = text.indexOf("]]>");
+        while (at >= 0) {
+            out.append(text, from, at).append("]]]]><![CDATA[>");
+            from = at + 3;
+            at = text.indexOf("]]>", from);
+        }
+        out.append(text, from, text.length());
+    }
+
+    /**
+     * Appends the indentation for the given depth, two spaces per level.
+     */
+    static void appendIndent(StringBuilder out, int depth) {
+        var count = 2 * depth;
+        while (count > SPACES.length) {
+            out.append(SPACES);
+            count -= SPACES.length;
+        }
+        out.append(SPACES, 0, count);
+    }
+
 }
@@ -8,7 +8,7 @@ public class Memo {
     private static final WeakHashMap<String, Memo> MEMOS = new WeakHashMap<String, Memo>();
     private final WeakHashMap<Object, Object> memos = new WeakHashMap<>();
 
-    public static Memo forSubject(String subject) {
+    public static synchronized Memo forSubject(String subject) {
         var memo = MEMOS.get(subject);
         if (memo == null) {
             memo = new Memo();
@@ -17,12 +17,12 @@ public class Memo {
         return memo;
     }
 
-    public void put(Object key, Object value) {
+    public synchronized void put(Object key, Object value) {
         memos.put(key, value);
     }
 
     @SuppressWarnings("unchecked")
-    public <T> T get(Object key, Class<T> clazz) {
+    public synchronized <T> T get(Object key, Class<T> clazz) {
         return (T) memos.get(key);
     }
 
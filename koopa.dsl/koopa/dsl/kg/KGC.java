@@ -0,0 +1,41 @@
+package koopa.dsl.kg;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import koopa.core.grammars.KoopaGrammar;
+import koopa.dsl.kg.generator.KGCompiler;
+
+/**
+ * Main class to compile {@linkplain KoopaGrammar}s into specialized Java code.
+ * <p>
+ * This takes the name of a grammar class, which should be on the classpath,
+ * and the source folder to write the compiled grammar into.
+ * E.g. <code>KGC koopa.cobol.grammar.CobolGrammar src</code>
+ * generates <code>src/koopa/cobol/grammar/CobolCompiledGrammar.java</code>.
+ */
+public class KGC {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: KGC <grammar class> <source folder>");
+            System.exit(-1);
+        }
+
+        var folder = Paths.get(args[1]);
+        if (!Files.isDirectory(folder)) {
+            System.err.println("Not a folder: " + folder);
+            System.exit(-1);
+        }
+
+        var grammarClass = Class.forName(args[0]);
+        if (!KoopaGrammar.class.isAssignableFrom(grammarClass)) {
+            System.err.println("Not a KoopaGrammar: " + grammarClass.getName());
+            System.exit(-1);
+        }
+
+        System.out.println("Compiling " + grammarClass.getName() + "...");
+        KGCompiler.compile(grammarClass.asSubclass(KoopaGrammar.class), folder);
+    }
+
+}
@@ -0,0 +1,631 @@
+package koopa.dsl.kg.generator;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import koopa.core.grammars.CompiledRule;
+import koopa.core.grammars.KoopaGrammar;
+import koopa.core.grammars.combinators.Dispatched;
+import koopa.core.grammars.combinators.MatchKeyword;
+import koopa.core.grammars.combinators.MatchLiteral;
+import koopa.core.grammars.combinators.MatchNumber;
+import koopa.core.grammars.combinators.OptimizingChoice;
+import koopa.core.grammars.combinators.Scoped;
+import koopa.core.parsers.Optimizer;
+import koopa.core.parsers.ParserCombinator;
+import koopa.core.parsers.combinators.Choice;
+import koopa.core.parsers.combinators.Optional;
+import koopa.core.parsers.combinators.Plus;
+import koopa.core.parsers.combinators.Sequence;
+import koopa.core.parsers.combinators.Star;
+import koopa.core.util.IndentingLogger;
+
+/**
+ * Compiles the rules of a loaded {@linkplain KoopaGrammar} into Java code.
+ * <p>
+ * The result is a subclass of the grammar, which overrides every rule so that its definition
+ * becomes a {@linkplain CompiledRule}. Sequences, choices, optionals, repetitions,
+ * keywords, literals and numbers get turned into plain code. Choices which the
+ * {@linkplain OptimizingChoice} would dispatch on become a switch on the upcoming keyword.
+ * Everything else is left to the interpreted definition.
+ * <p>
+ * We compile from the grammar as it is loaded, rather than from its .kg source,
+ * so that the compiled rules are guaranteed to match what the interpreted ones do.
+ */
+public class Compilation {
+
+    private static final IndentingLogger LOGGER = new IndentingLogger(Logger.getLogger("kg.compilation"));
+
+    /**
+     * Compound parts which would grow a method beyond this many lines
+     * get moved into methods of their own. This keeps methods small enough
+     * for the JIT to want to compile them.
+     */
+    private static final int MAX_LINES = 200;
+
+    private static final Set<String> RESERVED = Set.of("g", "m", "parse", "stream", "grammar", "interpreted");
+
+    private final Class<? extends KoopaGrammar> grammarClass;
+    private final KoopaGrammar grammar;
+    private final Map<ParserCombinator, Method> rules = new IdentityHashMap<>();
+    private final List<Method> compiledRules = new ArrayList<>();
+
+    public Compilation(Class<? extends KoopaGrammar> grammarClass) {
+        this.grammarClass = grammarClass;
+        this.grammar = instantiate(grammarClass);
+        findRules();
+    }
+
+    public String getCompiledName() {
+        return grammarClass.getSimpleName().replaceFirst("Grammar$", "") + "CompiledGrammar";
+    }
+
+    private static KoopaGrammar instantiate(Class<? extends KoopaGrammar> grammarClass) {
+        try {
+            return (KoopaGrammar) grammarClass.getMethod("instance").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Can not get an instance of " + grammarClass.getName(), e);
+        }
+    }
+
+    /**
+     * Rules are the methods of the grammar, and those of its base grammars,
+     * which return a {@linkplain Scoped} parser.
+     */
+    private void findRules() {
+        for (Class<?> c = grammarClass; c != KoopaGrammar.class; c = c.getSuperclass()) {
+            var methods = c.getDeclaredMethods();
+            Arrays.sort(methods, (a, b) -> a.getName().compareTo(b.getName()));
+            for (var method : methods) {
+                if (method.getParameterCount() > 0 || method.getReturnType() != ParserCombinator.class
+                    || Modifier.isStatic(method.getModifiers()) || Modifier.isPrivate(method.getModifiers())) {
+                    continue;
+                }
+                var parser = invoke(method);
+                if (!(parser instanceof Scoped) || rules.containsKey(parser)) {
+                    continue;
+                }
+                rules.put(parser, method);
+                if (c == grammarClass) {
+                    compiledRules.add(method);
+                }
+            }
+        }
+
+        if (LOGGER.isEnabled()) {
+            LOGGER.add("Found " + rules.size() + " rules, " + compiledRules.size() + " of which get compiled.");
+        }
+    }
+
+    private ParserCombinator invoke(Method method) {
+        try {
+            method.setAccessible(true);
+            return (ParserCombinator) method.invoke(grammar);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Can not get rule " + method.getName(), e);
+        }
+    }
+
+    public String generate() {
+        var name = getCompiledName();
+        var base = grammarClass.getSimpleName();
+        var code = new StringBuilder();
+
+        code.append("package ").append(grammarClass.getPackageName()).append(";\n");
+        code.append("\n");
+        code.append("import koopa.core.grammars.CompiledRule;\n");
+        code.append("import koopa.core.parsers.FutureParser;\n");
+        code.append("import koopa.core.parsers.Parse;\n");
+        code.append("import koopa.core.parsers.ParserCombinator;\n");
+        code.append("\n");
+        code.append("import static koopa.core.grammars.combinators.Scoped.Visibility.PUBLIC;\n");
+        code.append("import static koopa.core.grammars.combinators.Scoped.Visibility.PRIVATE;\n");
+        code.append("import static koopa.core.grammars.combinators.Scoped.Visibility.HIDING;\n");
+        code.append("\n");
+        code.append("\n");
+        code.append("/**\n");
+        code.append(" * <b>This is generated code.<b>\n");
+        code.append(" * <p>\n");
+        code.append(" * The rules of {@linkplain ").append(base).append("}, compiled into plain Java code.\n");
+        code.append(" * <p>\n");
+        code.append(" * @see <code>koopa.dsl.kg.KGC</code>\n");
+        code.append(" */\n");
+        code.append("public class ").append(name).append(" extends ").append(base).append(" {\n");
+        code.append("    private static ").append(name).append(" INSTANCE = null;\n");
+        code.append("\n");
+        code.append("    protected ").append(name).append("() {\n");
+        code.append("    }\n");
+        code.append("    \n");
+        code.append("    public static synchronized ").append(name).append(" instance() {\n");
+        code.append("      if (INSTANCE == null)\n");
+        code.append("        INSTANCE = new ").append(name).append("();\n");
+        code.append("        \n");
+        code.append("      return INSTANCE;\n");
+        code.append("    }\n");
+
+        var classNames = new HashSet<String>();
+        for (var method : compiledRules) {
+            var rule = (Scoped) invoke(method);
+            var className = uniqueName(classNameFor(method.getName()), classNames);
+            generateOverride(code, method, rule, className);
+            new RuleCompilation(rule, className, name).generate(code);
+        }
+
+        code.append("}\n");
+        return code.toString();
+    }
+
+    private void generateOverride(StringBuilder code, Method method, Scoped rule, String className) {
+        var ruleName = method.getName();
+        var modifier = Modifier.isPublic(method.getModifiers()) ? "public" : "protected";
+
+        code.append("    \n");
+        code.append("    // ========================================================\n");
+        code.append("    // ").append(rule.getName()).append("\n");
+        code.append("    // ........................................................\n");
+        code.append("    \n");
+        code.append("    private ParserCombinator ").append(ruleName).append("Parser = null;\n");
+        code.append("    \n");
+        code.append("    @Override\n");
+        code.append("    ").append(modifier).append(" synchronized ParserCombinator ").append(ruleName).append("() {\n");
+        code.append("      if (").append(ruleName).append("Parser == null) {\n");
+        code.append("        FutureParser future = scoped(").append(quote(rule.getName())).append(", ")
+            .append(rule.getVisibility()).append(", ").append(rule.allowsKeywords()).append(");\n");
+        code.append("        ").append(ruleName).append("Parser = future;\n");
+        code.append("        var interpreted = (FutureParser) super.").append(ruleName).append("();\n");
+        code.append("        future.setParser(new ").append(className).append("(this, interpreted.getParser()));\n");
+        code.append("      }\n");
+        code.append("    \n");
+        code.append("      return ").append(ruleName).append("Parser;\n");
+        code.append("    }\n");
+    }
+
+    /**
+     * Compiles the definition of a single rule into a {@linkplain CompiledRule}.
+     */
+    private class RuleCompilation {
+        private final Scoped rule;
+        private final String className;
+        private final String grammarName;
+
+        private final Map<Method, String> ruleFields = new LinkedHashMap<>();
+        private final Map<String, String> partFields = new LinkedHashMap<>();
+        private final Map<String, ParserCombinator> partParsers = new LinkedHashMap<>();
+        private final List<List<String>> methods = new ArrayList<>();
+        private final Set<String> fieldNames = new HashSet<>();
+        private int labels = 0;
+
+        RuleCompilation(Scoped rule, String className, String grammarName) {
+            this.rule = rule;
+            this.className = className;
+            this.grammarName = grammarName;
+        }
+
+        void generate(StringBuilder code) {
+            var body = compile(rule.getParser(), new ArrayList<>());
+
+            code.append("    \n");
+            code.append("    private static final class ").append(className).append(" extends CompiledRule {\n");
+            for (var field : ruleFields.values()) {
+                code.append("        private final ParserCombinator ").append(field).append(";\n");
+            }
+            for (var entry : partFields.entrySet()) {
+                code.append("        private final ParserCombinator ").append(entry.getValue()).append("; // ")
+                    .append(partParsers.get(entry.getValue()).getClass().getSimpleName()).append("\n");
+            }
+            if (!ruleFields.isEmpty() || !partFields.isEmpty()) {
+                code.append("    \n");
+            }
+            code.append("        ").append(className).append("(").append(grammarName)
+                .append(" g, ParserCombinator interpreted) {\n");
+            code.append("            super(g, interpreted);\n");
+            for (var entry : ruleFields.entrySet()) {
+                code.append("            ").append(entry.getValue()).append(" = g.")
+                    .append(entry.getKey().getName()).append("();\n");
+            }
+            for (var entry : partFields.entrySet()) {
+                code.append("            ").append(entry.getValue()).append(" = part(interpreted")
+                    .append(entry.getKey().isEmpty() ? "" : ", " + entry.getKey()).append(");\n");
+            }
+            code.append("        }\n");
+
+            generateMethod(code, "@Override\n        protected boolean matches(Parse parse)", body);
+            for (var i = 0; i < methods.size(); i++) {
+                generateMethod(code, "private boolean part" + (i + 1) + "(Parse parse)", methods.get(i));
+            }
+            code.append("    }\n");
+        }
+
+        private void generateMethod(StringBuilder code, String signature, List<String> body) {
+            code.append("    \n");
+            code.append("        ").append(signature).append(" {\n");
+            if (usesStream(body)) {
+                code.append("            var stream = parse.getStream();\n");
+            }
+            code.append("            boolean m;\n");
+            for (var line : body) {
+                code.append("            ").append(line).append("\n");
+            }
+            code.append("            return m;\n");
+            code.append("        }\n");
+        }
+
+        private boolean usesStream(List<String> body) {
+            for (var line : body) {
+                if (line.contains("stream.")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns statements which leave the result of matching the given parser in <code>m</code>.
+         * The path leads from the rule's definition to the parser, cfr. {@linkplain CompiledRule#part(ParserCombinator, Object...)}.
+         */
+        private List<String> compile(ParserCombinator parser, List<Object> path) {
+            var type = parser.getClass();
+
+            if (parser instanceof Scoped && rules.containsKey(parser)) {
+                return List.of("m = " + ruleField(rules.get(parser)) + ".accepts(parse);");
+
+            } else if (type == MatchKeyword.class) {
+                return List.of("m = keyword(parse, " + quote(((MatchKeyword) parser).getWord()) + ");");
+
+            } else if (type == MatchLiteral.class) {
+                return List.of("m = literal(parse, " + quote(((MatchLiteral) parser).getText()) + ");");
+
+            } else if (type == MatchNumber.class) {
+                return List.of("m = number(parse, " + quote(((MatchNumber) parser).getText()) + ");");
+
+            } else if (type == Sequence.class) {
+                return compileSequence(children(((Sequence) parser).getParsers(), path));
+
+            } else if (type == Choice.class) {
+                return compileChoice(children(((Choice) parser).getParsers(), path));
+
+            } else if (type == OptimizingChoice.class) {
+                return compileOptimizingChoice(children(((Choice) parser).getParsers(), path));
+
+            } else if (type == Dispatched.class) {
+                var table = new TreeMap<String, List<Part>>();
+                for (var entry : ((Dispatched) parser).getLookupTable().entrySet()) {
+                    table.put(entry.getKey(), List.of(new Part(entry.getValue(), append(path, entry.getKey()))));
+                }
+                return compileDispatch(table);
+
+            } else if (type == Optional.class) {
+                return compileOptional(child(((Optional) parser).getParser(), path));
+
+            } else if (type == Star.class) {
+                return compileStar(child(((Star) parser).getParser(), path));
+
+            } else if (type == Plus.class) {
+                return compilePlus(child(((Plus) parser).getParser(), path));
+
+            } else {
+                return List.of("m = " + partField(parser, path) + ".accepts(parse);");
+            }
+        }
+
+        private List<String> compileSequence(List<Part> parts) {
+            var label = "s" + (++labels);
+            var lines = new ArrayList<String>();
+            lines.add(label + ": {");
+            var compiled = compileAll(parts);
+            for (var i = 0; i < compiled.size(); i++) {
+                indent(lines, compiled.get(i));
+                if (i < compiled.size() - 1) {
+                    lines.add("    if (!m) break " + label + ";");
+                }
+            }
+            lines.add("}");
+            return lines;
+        }
+
+        private List<String> compileChoice(List<Part> parts) {
+            var label = "c" + (++labels);
+            var lines = new ArrayList<String>();
+            lines.add(label + ": {");
+            for (var compiled : compileAll(parts)) {
+                lines.add("    stream.bookmark();");
+                indent(lines, compiled);
+                lines.add("    if (m) {");
+                lines.add("        stream.commit();");
+                lines.add("        break " + label + ";");
+                lines.add("    }");
+                lines.add("    stream.rewind();");
+            }
+            lines.add("}");
+            return lines;
+        }
+
+        /**
+         * Mirrors what the {@linkplain OptimizingChoice} decides to do when it first gets used.
+         */
+        private List<String> compileOptimizingChoice(List<Part> parts) {
+            var parsers = new ParserCombinator[parts.size()];
+            for (var i = 0; i < parsers.length; i++) {
+                parsers[i] = parts.get(i).parser;
+            }
+            var count = Optimizer.countLeadingParsersAllowingLookahead(parsers);
+
+            if (count == parts.size()) {
+                return compileDispatch(dispatchTable(parts));
+
+            } else if (count > 2) {
+                var dispatched = compileDispatch(dispatchTable(parts.subList(0, count)));
+                var alternatives = new ArrayList<Part>();
+                alternatives.add(new Part(dispatched));
+                alternatives.addAll(parts.subList(count, parts.size()));
+                return compileChoice(alternatives);
+
+            } else {
+                return compileChoice(parts);
+            }
+        }
+
+        /**
+         * Same as {@linkplain Optimizer}'s dispatch table: keywords in order of appearance,
+         * each with the alternatives they lead, in order.
+         */
+        private Map<String, List<Part>> dispatchTable(List<Part> parts) {
+            var table = new LinkedHashMap<String, List<Part>>();
+            for (var part : parts) {
+                var keywords = new LinkedHashSet<String>();
+                part.parser.addAllLeadingKeywordsTo(keywords);
+                for (var kw : keywords) {
+                    table.computeIfAbsent(kw, k -> new ArrayList<>()).add(part);
+                }
+            }
+            return table;
+        }
+
+        private List<String> compileDispatch(Map<String, List<Part>> table) {
+            var label = "d" + (++labels);
+            var lines = new ArrayList<String>();
+            lines.add(label + ": switch (keywordAhead(parse)) {");
+            var cases = new ArrayList<Part>();
+            for (var alternatives : table.values()) {
+                if (alternatives.size() == 1) {
+                    cases.add(alternatives.get(0));
+                } else {
+                    cases.add(new Part(compileChoice(alternatives)));
+                }
+            }
+            var compiled = compileAll(cases);
+            var i = 0;
+            for (var keyword : table.keySet()) {
+                lines.add("    case " + quote(keyword) + ":");
+                for (var line : compiled.get(i++)) {
+                    lines.add("        " + line);
+                }
+                lines.add("        break " + label + ";");
+            }
+            lines.add("    default:");
+            lines.add("        m = false;");
+            lines.add("}");
+            return lines;
+        }
+
+        private List<String> compileOptional(Part part) {
+            var lines = new ArrayList<String>();
+            lines.add("stream.bookmark();");
+            lines.addAll(compileAll(List.of(part)).get(0));
+            lines.add("if (m) {");
+            lines.add("    stream.commit();");
+            lines.add("} else {");
+            lines.add("    stream.rewind();");
+            lines.add("}");
+            lines.add("m = true;");
+            return lines;
+        }
+
+        private List<String> compileStar(Part part) {
+            var label = "l" + (++labels);
+            var lines = new ArrayList<String>();
+            lines.add(label + ": for (;;) {");
+            lines.add("    stream.bookmark();");
+            indent(lines, compileAll(List.of(part)).get(0));
+            lines.add("    if (!m) {");
+            lines.add("        stream.rewind();");
+            lines.add("        break " + label + ";");
+            lines.add("    }");
+            lines.add("    stream.commit();");
+            lines.add("}");
+            lines.add("m = true;");
+            return lines;
+        }
+
+        private List<String> compilePlus(Part part) {
+            var n = ++labels;
+            var label = "l" + n;
+            var found = "f" + n;
+            var lines = new ArrayList<String>();
+            lines.add("var " + found + " = false;");
+            lines.add(label + ": for (;;) {");
+            lines.add("    stream.bookmark();");
+            indent(lines, compileAll(List.of(part)).get(0));
+            lines.add("    if (!m) {");
+            lines.add("        stream.rewind();");
+            lines.add("        break " + label + ";");
+            lines.add("    }");
+            lines.add("    stream.commit();");
+            lines.add("    " + found + " = true;");
+            lines.add("}");
+            lines.add("m = " + found + ";");
+            return lines;
+        }
+
+        /**
+         * Compiles all parts. As long as that adds up to too much code,
+         * the largest of them gets moved into a method of its own.
+         */
+        private List<List<String>> compileAll(List<Part> parts) {
+            var compiled = new ArrayList<List<String>>();
+            var total = 0;
+            for (var part : parts) {
+                var lines = part.compiled != null ? part.compiled : compile(part.parser, part.path);
+                compiled.add(lines);
+                total += lines.size();
+            }
+            while (total > MAX_LINES) {
+                var largest = -1;
+                for (var i = 0; i < compiled.size(); i++) {
+                    if (compiled.get(i).size() > 1 && (largest < 0 || compiled.get(i).size() > compiled.get(largest).size())) {
+                        largest = i;
+                    }
+                }
+                if (largest < 0) {
+                    break;
+                }
+                var lines = compiled.get(largest);
+                methods.add(lines);
+                compiled.set(largest, List.of("m = part" + methods.size() + "(parse);"));
+                total -= lines.size() - 1;
+            }
+            return compiled;
+        }
+
+        private void indent(List<String> lines, List<String> more) {
+            for (var line : more) {
+                lines.add("    " + line);
+            }
+        }
+
+        private List<Part> children(ParserCombinator[] parsers, List<Object> path) {
+            var parts = new ArrayList<Part>();
+            for (var i = 0; i < parsers.length; i++) {
+                parts.add(new Part(parsers[i], append(path, i)));
+            }
+            return parts;
+        }
+
+        private Part child(ParserCombinator parser, List<Object> path) {
+            return new Part(parser, append(path, 0));
+        }
+
+        private String ruleField(Method method) {
+            var field = ruleFields.get(method);
+            if (field == null) {
+                field = method.getName();
+                if (RESERVED.contains(field)) {
+                    field = field + "Rule";
+                }
+                field = uniqueName(field, fieldNames);
+                ruleFields.put(method, field);
+            }
+            return field;
+        }
+
+        private String partField(ParserCombinator parser, List<Object> path) {
+            var key = new StringBuilder();
+            for (var step : path) {
+                if (key.length() > 0) {
+                    key.append(", ");
+                }
+                key.append(step instanceof String ? quote((String) step) : step.toString());
+            }
+            var field = partFields.get(key.toString());
+            if (field == null) {
+                field = uniqueName("p" + (partFields.size() + 1), fieldNames);
+                partFields.put(key.toString(), field);
+                partParsers.put(field, parser);
+            }
+            return field;
+        }
+    }
+
+    /**
+     * Either a parser still to be compiled, found at the given path,
+     * or something which has been compiled already.
+     */
+    private static final class Part {
+        private final ParserCombinator parser;
+        private final List<Object> path;
+        private final List<String> compiled;
+
+        private Part(ParserCombinator parser, List<Object> path) {
+            this.parser = parser;
+            this.path = path;
+            this.compiled = null;
+        }
+
+        private Part(List<String> compiled) {
+            this.parser = null;
+            this.path = null;
+            this.compiled = compiled;
+        }
+    }
+
+    private static List<Object> append(List<Object> path, Object step) {
+        var extended = new ArrayList<Object>(path);
+        extended.add(step);
+        return extended;
+    }
+
+    private static String classNameFor(String ruleName) {
+        var name = new StringBuilder();
+        var upper = true;
+        for (var c : ruleName.toCharArray()) {
+            if (c == '$' || c == '_') {
+                upper = true;
+            } else {
+                name.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return name.append("Rule").toString();
+    }
+
+    private static String uniqueName(String name, Set<String> taken) {
+        var unique = name;
+        for (var i = 2; taken.contains(unique); i++) {
+            unique = name + i;
+        }
+        taken.add(unique);
+        return unique;
+    }
+
+    private static String quote(String text) {
+        var quoted = new StringBuilder("\"");
+        for (var c : text.toCharArray()) {
+            switch (c) {
+            case '"':
+                quoted.append("\\\"");
+                break;
+            case '\\':
+                quoted.append("\\\\");
+                break;
+            case '\t':
+                quoted.append("\\t");
+                break;
+            case '\n':
+                quoted.append("\\n");
+                break;
+            case '\r':
+                quoted.append("\\r");
+                break;
+            default:
+                if (c < ' ' || c > '~') {
+                    quoted.append(String.format("\\u%04x", (int) c));
+                } else {
+                    quoted.append(c);
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+}
@@ -0,0 +1,22 @@
+package koopa.dsl.kg.generator;
+
+import java.nio.file.Path;
+
+import koopa.core.grammars.KoopaGrammar;
+import koopa.dsl.kg.util.KGUtil;
+
+public class KGCompiler {
+    private KGCompiler() {}
+
+    public static void compile(Class<? extends KoopaGrammar> grammarClass, Path sourceFolder) {
+        var compilation = new Compilation(grammarClass);
+        var code = compilation.generate();
+        var java = sourceFolder
+            .resolve(grammarClass.getPackageName().replace('.', '/'))
+            .resolve(compilation.getCompiledName() + ".java");
+        System.out.println("Generating " + java);
+        KGUtil.writeFile(java,code);
+        System.out.println("Compilation complete.");
+    }
+
+}
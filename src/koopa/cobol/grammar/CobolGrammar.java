@@ -21,7 +21,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     protected CobolGrammar() {
     }
     
-    public static CobolGrammar instance() {
+    public static synchronized CobolGrammar instance() {
       if (INSTANCE == null)
         INSTANCE = new CobolGrammar();
         
@@ -36,7 +36,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start compilationGroup = Start.on(getNamespace(), "compilationGroup");
     
-    public ParserCombinator compilationGroup() {
+    public synchronized ParserCombinator compilationGroup() {
       if (compilationGroupParser == null) {
         FutureParser future = scoped("compilationGroup", PUBLIC, true);
         compilationGroupParser = future;
@@ -66,7 +66,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start copybook = Start.on(getNamespace(), "copybook");
     
-    public ParserCombinator copybook() {
+    public synchronized ParserCombinator copybook() {
       if (copybookParser == null) {
         FutureParser future = scoped("copybook", PUBLIC, false);
         copybookParser = future;
@@ -97,7 +97,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start copybookHoldingData = Start.on(getNamespace(), "copybookHoldingData");
     
-    public ParserCombinator copybookHoldingData() {
+    public synchronized ParserCombinator copybookHoldingData() {
       if (copybookHoldingDataParser == null) {
         FutureParser future = scoped("copybookHoldingData", PUBLIC, true);
         copybookHoldingDataParser = future;
@@ -143,7 +143,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start copybookHoldingBehaviour = Start.on(getNamespace(), "copybookHoldingBehaviour");
     
-    public ParserCombinator copybookHoldingBehaviour() {
+    public synchronized ParserCombinator copybookHoldingBehaviour() {
       if (copybookHoldingBehaviourParser == null) {
         FutureParser future = scoped("copybookHoldingBehaviour", PUBLIC, true);
         copybookHoldingBehaviourParser = future;
@@ -176,7 +176,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start sourceUnit = Start.on(getNamespace(), "sourceUnit");
     
-    public ParserCombinator sourceUnit() {
+    public synchronized ParserCombinator sourceUnit() {
       if (sourceUnitParser == null) {
         FutureParser future = scoped("sourceUnit", PUBLIC, false);
         sourceUnitParser = future;
@@ -211,7 +211,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start programPrototype = Start.on(getNamespace(), "programPrototype");
     
-    public ParserCombinator programPrototype() {
+    public synchronized ParserCombinator programPrototype() {
       if (programPrototypeParser == null) {
         FutureParser future = scoped("programPrototype", PUBLIC, true);
         programPrototypeParser = future;
@@ -265,7 +265,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start programPrototypeIdParagraph = Start.on(getNamespace(), "programPrototypeIdParagraph");
     
-    public ParserCombinator programPrototypeIdParagraph() {
+    public synchronized ParserCombinator programPrototypeIdParagraph() {
       if (programPrototypeIdParagraphParser == null) {
         FutureParser future = scoped("programPrototypeIdParagraph", PUBLIC, true);
         programPrototypeIdParagraphParser = future;
@@ -304,7 +304,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start functionPrototype = Start.on(getNamespace(), "functionPrototype");
     
-    public ParserCombinator functionPrototype() {
+    public synchronized ParserCombinator functionPrototype() {
       if (functionPrototypeParser == null) {
         FutureParser future = scoped("functionPrototype", PUBLIC, true);
         functionPrototypeParser = future;
@@ -358,7 +358,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start functionPrototypeIdParagraph = Start.on(getNamespace(), "functionPrototypeIdParagraph");
     
-    public ParserCombinator functionPrototypeIdParagraph() {
+    public synchronized ParserCombinator functionPrototypeIdParagraph() {
       if (functionPrototypeIdParagraphParser == null) {
         FutureParser future = scoped("functionPrototypeIdParagraph", PUBLIC, true);
         functionPrototypeIdParagraphParser = future;
@@ -397,7 +397,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start programDefinition = Start.on(getNamespace(), "programDefinition");
     
-    public ParserCombinator programDefinition() {
+    public synchronized ParserCombinator programDefinition() {
       if (programDefinitionParser == null) {
         FutureParser future = scoped("programDefinition", PUBLIC, true);
         programDefinitionParser = future;
@@ -480,7 +480,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start programIdParagraph = Start.on(getNamespace(), "programIdParagraph");
     
-    public ParserCombinator programIdParagraph() {
+    public synchronized ParserCombinator programIdParagraph() {
       if (programIdParagraphParser == null) {
         FutureParser future = scoped("programIdParagraph", PUBLIC, true);
         programIdParagraphParser = future;
@@ -532,7 +532,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start functionDefinition = Start.on(getNamespace(), "functionDefinition");
     
-    public ParserCombinator functionDefinition() {
+    public synchronized ParserCombinator functionDefinition() {
       if (functionDefinitionParser == null) {
         FutureParser future = scoped("functionDefinition", PUBLIC, true);
         functionDefinitionParser = future;
@@ -586,7 +586,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start functionIdParagraph = Start.on(getNamespace(), "functionIdParagraph");
     
-    public ParserCombinator functionIdParagraph() {
+    public synchronized ParserCombinator functionIdParagraph() {
       if (functionIdParagraphParser == null) {
         FutureParser future = scoped("functionIdParagraph", PUBLIC, true);
         functionIdParagraphParser = future;
@@ -621,7 +621,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start classDefinition = Start.on(getNamespace(), "classDefinition");
     
-    public ParserCombinator classDefinition() {
+    public synchronized ParserCombinator classDefinition() {
       if (classDefinitionParser == null) {
         FutureParser future = scoped("classDefinition", PUBLIC, true);
         classDefinitionParser = future;
@@ -675,7 +675,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start classIdParagraph = Start.on(getNamespace(), "classIdParagraph");
     
-    public ParserCombinator classIdParagraph() {
+    public synchronized ParserCombinator classIdParagraph() {
       if (classIdParagraphParser == null) {
         FutureParser future = scoped("classIdParagraph", PUBLIC, true);
         classIdParagraphParser = future;
@@ -773,7 +773,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start factoryDefinition = Start.on(getNamespace(), "factoryDefinition");
     
-    public ParserCombinator factoryDefinition() {
+    public synchronized ParserCombinator factoryDefinition() {
       if (factoryDefinitionParser == null) {
         FutureParser future = scoped("factoryDefinition", PUBLIC, true);
         factoryDefinitionParser = future;
@@ -826,7 +826,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start factoryParagraph = Start.on(getNamespace(), "factoryParagraph");
     
-    public ParserCombinator factoryParagraph() {
+    public synchronized ParserCombinator factoryParagraph() {
       if (factoryParagraphParser == null) {
         FutureParser future = scoped("factoryParagraph", PUBLIC, true);
         factoryParagraphParser = future;
@@ -860,7 +860,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start instanceDefinition = Start.on(getNamespace(), "instanceDefinition");
     
-    public ParserCombinator instanceDefinition() {
+    public synchronized ParserCombinator instanceDefinition() {
       if (instanceDefinitionParser == null) {
         FutureParser future = scoped("instanceDefinition", PUBLIC, true);
         instanceDefinitionParser = future;
@@ -913,7 +913,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start objectParagraph = Start.on(getNamespace(), "objectParagraph");
     
-    public ParserCombinator objectParagraph() {
+    public synchronized ParserCombinator objectParagraph() {
       if (objectParagraphParser == null) {
         FutureParser future = scoped("objectParagraph", PUBLIC, true);
         objectParagraphParser = future;
@@ -949,7 +949,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start interfaceDefinition = Start.on(getNamespace(), "interfaceDefinition");
     
-    public ParserCombinator interfaceDefinition() {
+    public synchronized ParserCombinator interfaceDefinition() {
       if (interfaceDefinitionParser == null) {
         FutureParser future = scoped("interfaceDefinition", PUBLIC, true);
         interfaceDefinitionParser = future;
@@ -1000,7 +1000,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start interfaceIdParagraph = Start.on(getNamespace(), "interfaceIdParagraph");
     
-    public ParserCombinator interfaceIdParagraph() {
+    public synchronized ParserCombinator interfaceIdParagraph() {
       if (interfaceIdParagraphParser == null) {
         FutureParser future = scoped("interfaceIdParagraph", PUBLIC, true);
         interfaceIdParagraphParser = future;
@@ -1057,7 +1057,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start methodDefinition = Start.on(getNamespace(), "methodDefinition");
     
-    public ParserCombinator methodDefinition() {
+    public synchronized ParserCombinator methodDefinition() {
       if (methodDefinitionParser == null) {
         FutureParser future = scoped("methodDefinition", PUBLIC, true);
         methodDefinitionParser = future;
@@ -1113,7 +1113,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start methodIdParagraph = Start.on(getNamespace(), "methodIdParagraph");
     
-    public ParserCombinator methodIdParagraph() {
+    public synchronized ParserCombinator methodIdParagraph() {
       if (methodIdParagraphParser == null) {
         FutureParser future = scoped("methodIdParagraph", PUBLIC, true);
         methodIdParagraphParser = future;
@@ -1171,7 +1171,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start callPrototypeDefinition = Start.on(getNamespace(), "callPrototypeDefinition");
     
-    public ParserCombinator callPrototypeDefinition() {
+    public synchronized ParserCombinator callPrototypeDefinition() {
       if (callPrototypeDefinitionParser == null) {
         FutureParser future = scoped("callPrototypeDefinition", PUBLIC, true);
         callPrototypeDefinitionParser = future;
@@ -1229,7 +1229,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start callPrototypeIdParagraph = Start.on(getNamespace(), "callPrototypeIdParagraph");
     
-    public ParserCombinator callPrototypeIdParagraph() {
+    public synchronized ParserCombinator callPrototypeIdParagraph() {
       if (callPrototypeIdParagraphParser == null) {
         FutureParser future = scoped("callPrototypeIdParagraph", PUBLIC, true);
         callPrototypeIdParagraphParser = future;
@@ -1265,7 +1265,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start delegateDefinition = Start.on(getNamespace(), "delegateDefinition");
     
-    public ParserCombinator delegateDefinition() {
+    public synchronized ParserCombinator delegateDefinition() {
       if (delegateDefinitionParser == null) {
         FutureParser future = scoped("delegateDefinition", PUBLIC, true);
         delegateDefinitionParser = future;
@@ -1309,7 +1309,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start delegateIdParagraph = Start.on(getNamespace(), "delegateIdParagraph");
     
-    public ParserCombinator delegateIdParagraph() {
+    public synchronized ParserCombinator delegateIdParagraph() {
       if (delegateIdParagraphParser == null) {
         FutureParser future = scoped("delegateIdParagraph", PUBLIC, true);
         delegateIdParagraphParser = future;
@@ -1362,7 +1362,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start enumDefinition = Start.on(getNamespace(), "enumDefinition");
     
-    public ParserCombinator enumDefinition() {
+    public synchronized ParserCombinator enumDefinition() {
       if (enumDefinitionParser == null) {
         FutureParser future = scoped("enumDefinition", PUBLIC, true);
         enumDefinitionParser = future;
@@ -1412,7 +1412,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start enumIdParagraph = Start.on(getNamespace(), "enumIdParagraph");
     
-    public ParserCombinator enumIdParagraph() {
+    public synchronized ParserCombinator enumIdParagraph() {
       if (enumIdParagraphParser == null) {
         FutureParser future = scoped("enumIdParagraph", PUBLIC, true);
         enumIdParagraphParser = future;
@@ -1465,7 +1465,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start iteratorDefinition = Start.on(getNamespace(), "iteratorDefinition");
     
-    public ParserCombinator iteratorDefinition() {
+    public synchronized ParserCombinator iteratorDefinition() {
       if (iteratorDefinitionParser == null) {
         FutureParser future = scoped("iteratorDefinition", PUBLIC, true);
         iteratorDefinitionParser = future;
@@ -1515,7 +1515,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start iteratorIdParagraph = Start.on(getNamespace(), "iteratorIdParagraph");
     
-    public ParserCombinator iteratorIdParagraph() {
+    public synchronized ParserCombinator iteratorIdParagraph() {
       if (iteratorIdParagraphParser == null) {
         FutureParser future = scoped("iteratorIdParagraph", PUBLIC, true);
         iteratorIdParagraphParser = future;
@@ -1568,7 +1568,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start operatorDefinition = Start.on(getNamespace(), "operatorDefinition");
     
-    public ParserCombinator operatorDefinition() {
+    public synchronized ParserCombinator operatorDefinition() {
       if (operatorDefinitionParser == null) {
         FutureParser future = scoped("operatorDefinition", PUBLIC, true);
         operatorDefinitionParser = future;
@@ -1618,7 +1618,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start operatorIdParagraph = Start.on(getNamespace(), "operatorIdParagraph");
     
-    public ParserCombinator operatorIdParagraph() {
+    public synchronized ParserCombinator operatorIdParagraph() {
       if (operatorIdParagraphParser == null) {
         FutureParser future = scoped("operatorIdParagraph", PUBLIC, true);
         operatorIdParagraphParser = future;
@@ -1686,7 +1686,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start valueTypeDefinition = Start.on(getNamespace(), "valueTypeDefinition");
     
-    public ParserCombinator valueTypeDefinition() {
+    public synchronized ParserCombinator valueTypeDefinition() {
       if (valueTypeDefinitionParser == null) {
         FutureParser future = scoped("valueTypeDefinition", PUBLIC, true);
         valueTypeDefinitionParser = future;
@@ -1736,7 +1736,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start valueTypeIdParagraph = Start.on(getNamespace(), "valueTypeIdParagraph");
     
-    public ParserCombinator valueTypeIdParagraph() {
+    public synchronized ParserCombinator valueTypeIdParagraph() {
       if (valueTypeIdParagraphParser == null) {
         FutureParser future = scoped("valueTypeIdParagraph", PUBLIC, true);
         valueTypeIdParagraphParser = future;
@@ -1805,7 +1805,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start endMarker = Start.on(getNamespace(), "endMarker");
     
-    public ParserCombinator endMarker() {
+    public synchronized ParserCombinator endMarker() {
       if (endMarkerParser == null) {
         FutureParser future = scoped("endMarker", PUBLIC, true);
         endMarkerParser = future;
@@ -1873,7 +1873,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start optionsParagraph = Start.on(getNamespace(), "optionsParagraph");
     
-    public ParserCombinator optionsParagraph() {
+    public synchronized ParserCombinator optionsParagraph() {
       if (optionsParagraphParser == null) {
         FutureParser future = scoped("optionsParagraph", PUBLIC, true);
         optionsParagraphParser = future;
@@ -1909,7 +1909,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start arithmeticClause = Start.on(getNamespace(), "arithmeticClause");
     
-    public ParserCombinator arithmeticClause() {
+    public synchronized ParserCombinator arithmeticClause() {
       if (arithmeticClauseParser == null) {
         FutureParser future = scoped("arithmeticClause", PUBLIC, true);
         arithmeticClauseParser = future;
@@ -1940,7 +1940,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start defaultRoundedClause = Start.on(getNamespace(), "defaultRoundedClause");
     
-    public ParserCombinator defaultRoundedClause() {
+    public synchronized ParserCombinator defaultRoundedClause() {
       if (defaultRoundedClauseParser == null) {
         FutureParser future = scoped("defaultRoundedClause", PUBLIC, true);
         defaultRoundedClauseParser = future;
@@ -1979,7 +1979,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start entryConventionClause = Start.on(getNamespace(), "entryConventionClause");
     
-    public ParserCombinator entryConventionClause() {
+    public synchronized ParserCombinator entryConventionClause() {
       if (entryConventionClauseParser == null) {
         FutureParser future = scoped("entryConventionClause", PUBLIC, true);
         entryConventionClauseParser = future;
@@ -2008,7 +2008,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start intermediateRoundingClause = Start.on(getNamespace(), "intermediateRoundingClause");
     
-    public ParserCombinator intermediateRoundingClause() {
+    public synchronized ParserCombinator intermediateRoundingClause() {
       if (intermediateRoundingClauseParser == null) {
         FutureParser future = scoped("intermediateRoundingClause", PUBLIC, true);
         intermediateRoundingClauseParser = future;
@@ -2040,7 +2040,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start metadata = Start.on(getNamespace(), "metadata");
     
-    public ParserCombinator metadata() {
+    public synchronized ParserCombinator metadata() {
       if (metadataParser == null) {
         FutureParser future = scoped("metadata", PUBLIC, true);
         metadataParser = future;
@@ -2128,7 +2128,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start environmentDivision = Start.on(getNamespace(), "environmentDivision");
     
-    public ParserCombinator environmentDivision() {
+    public synchronized ParserCombinator environmentDivision() {
       if (environmentDivisionParser == null) {
         FutureParser future = scoped("environmentDivision", PUBLIC, true);
         environmentDivisionParser = future;
@@ -2163,7 +2163,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start environmentDivision$body = Start.on(getNamespace(), "body");
     
-    protected ParserCombinator environmentDivision$body() {
+    protected synchronized ParserCombinator environmentDivision$body() {
       if (environmentDivision$bodyParser == null) {
         FutureParser future = scoped("body", PRIVATE, true);
         environmentDivision$bodyParser = future;
@@ -2198,7 +2198,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start configurationSection = Start.on(getNamespace(), "configurationSection");
     
-    public ParserCombinator configurationSection() {
+    public synchronized ParserCombinator configurationSection() {
       if (configurationSectionParser == null) {
         FutureParser future = scoped("configurationSection", PUBLIC, true);
         configurationSectionParser = future;
@@ -2233,7 +2233,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start configurationSection$body = Start.on(getNamespace(), "body");
     
-    protected ParserCombinator configurationSection$body() {
+    protected synchronized ParserCombinator configurationSection$body() {
       if (configurationSection$bodyParser == null) {
         FutureParser future = scoped("body", PRIVATE, true);
         configurationSection$bodyParser = future;
@@ -2274,7 +2274,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start sourceComputerParagraph = Start.on(getNamespace(), "sourceComputerParagraph");
     
-    public ParserCombinator sourceComputerParagraph() {
+    public synchronized ParserCombinator sourceComputerParagraph() {
       if (sourceComputerParagraphParser == null) {
         FutureParser future = scoped("sourceComputerParagraph", PUBLIC, true);
         sourceComputerParagraphParser = future;
@@ -2315,7 +2315,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start withDebuggingMode = Start.on(getNamespace(), "withDebuggingMode");
     
-    public ParserCombinator withDebuggingMode() {
+    public synchronized ParserCombinator withDebuggingMode() {
       if (withDebuggingModeParser == null) {
         FutureParser future = scoped("withDebuggingMode", PUBLIC, true);
         withDebuggingModeParser = future;
@@ -2341,7 +2341,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start objectComputerParagraph = Start.on(getNamespace(), "objectComputerParagraph");
     
-    public ParserCombinator objectComputerParagraph() {
+    public synchronized ParserCombinator objectComputerParagraph() {
       if (objectComputerParagraphParser == null) {
         FutureParser future = scoped("objectComputerParagraph", PUBLIC, true);
         objectComputerParagraphParser = future;
@@ -2384,7 +2384,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start constraintsParagraph = Start.on(getNamespace(), "constraintsParagraph");
     
-    public ParserCombinator constraintsParagraph() {
+    public synchronized ParserCombinator constraintsParagraph() {
       if (constraintsParagraphParser == null) {
         FutureParser future = scoped("constraintsParagraph", PUBLIC, true);
         constraintsParagraphParser = future;
@@ -2416,7 +2416,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start classAttributesParagraph = Start.on(getNamespace(), "classAttributesParagraph");
     
-    public ParserCombinator classAttributesParagraph() {
+    public synchronized ParserCombinator classAttributesParagraph() {
       if (classAttributesParagraphParser == null) {
         FutureParser future = scoped("classAttributesParagraph", PUBLIC, true);
         classAttributesParagraphParser = future;
@@ -2448,7 +2448,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start assemblyAttributesParagraph = Start.on(getNamespace(), "assemblyAttributesParagraph");
     
-    public ParserCombinator assemblyAttributesParagraph() {
+    public synchronized ParserCombinator assemblyAttributesParagraph() {
       if (assemblyAttributesParagraphParser == null) {
         FutureParser future = scoped("assemblyAttributesParagraph", PUBLIC, true);
         assemblyAttributesParagraphParser = future;
@@ -2480,7 +2480,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start genericStringDef = Start.on(getNamespace(), "genericStringDef");
     
-    public ParserCombinator genericStringDef() {
+    public synchronized ParserCombinator genericStringDef() {
       if (genericStringDefParser == null) {
         FutureParser future = scoped("genericStringDef", PUBLIC, true);
         genericStringDefParser = future;
@@ -2513,7 +2513,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start specialNamesParagraph = Start.on(getNamespace(), "specialNamesParagraph");
     
-    public ParserCombinator specialNamesParagraph() {
+    public synchronized ParserCombinator specialNamesParagraph() {
       if (specialNamesParagraphParser == null) {
         FutureParser future = scoped("specialNamesParagraph", PUBLIC, true);
         specialNamesParagraphParser = future;
@@ -2558,7 +2558,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start specialNameStatement = Start.on(getNamespace(), "specialNameStatement");
     
-    public ParserCombinator specialNameStatement() {
+    public synchronized ParserCombinator specialNameStatement() {
       if (specialNameStatementParser == null) {
         FutureParser future = scoped("specialNameStatement", PUBLIC, true);
         specialNameStatementParser = future;
@@ -2618,7 +2618,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start consoleIsCRT = Start.on(getNamespace(), "consoleIsCRT");
     
-    public ParserCombinator consoleIsCRT() {
+    public synchronized ParserCombinator consoleIsCRT() {
       if (consoleIsCRTParser == null) {
         FutureParser future = scoped("consoleIsCRT", PUBLIC, true);
         consoleIsCRTParser = future;
@@ -2644,7 +2644,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start cobolDevice = Start.on(getNamespace(), "cobolDevice");
     
-    public ParserCombinator cobolDevice() {
+    public synchronized ParserCombinator cobolDevice() {
       if (cobolDeviceParser == null) {
         FutureParser future = scoped("cobolDevice", PUBLIC, true);
         cobolDeviceParser = future;
@@ -2701,7 +2701,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start cobolSwitch = Start.on(getNamespace(), "cobolSwitch");
     
-    public ParserCombinator cobolSwitch() {
+    public synchronized ParserCombinator cobolSwitch() {
       if (cobolSwitchParser == null) {
         FutureParser future = scoped("cobolSwitch", PUBLIC, true);
         cobolSwitchParser = future;
@@ -2731,7 +2731,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start alphabetIs = Start.on(getNamespace(), "alphabetIs");
     
-    public ParserCombinator alphabetIs() {
+    public synchronized ParserCombinator alphabetIs() {
       if (alphabetIsParser == null) {
         FutureParser future = scoped("alphabetIs", PUBLIC, true);
         alphabetIsParser = future;
@@ -2758,7 +2758,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start alphabetType = Start.on(getNamespace(), "alphabetType");
     
-    public ParserCombinator alphabetType() {
+    public synchronized ParserCombinator alphabetType() {
       if (alphabetTypeParser == null) {
         FutureParser future = scoped("alphabetType", PUBLIC, true);
         alphabetTypeParser = future;
@@ -2786,7 +2786,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start standard1AlphabetType = Start.on(getNamespace(), "standard1AlphabetType");
     
-    public ParserCombinator standard1AlphabetType() {
+    public synchronized ParserCombinator standard1AlphabetType() {
       if (standard1AlphabetTypeParser == null) {
         FutureParser future = scoped("standard1AlphabetType", PUBLIC, true);
         standard1AlphabetTypeParser = future;
@@ -2806,7 +2806,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start standard2AlphabetType = Start.on(getNamespace(), "standard2AlphabetType");
     
-    public ParserCombinator standard2AlphabetType() {
+    public synchronized ParserCombinator standard2AlphabetType() {
       if (standard2AlphabetTypeParser == null) {
         FutureParser future = scoped("standard2AlphabetType", PUBLIC, true);
         standard2AlphabetTypeParser = future;
@@ -2826,7 +2826,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start nativeAlphabetType = Start.on(getNamespace(), "nativeAlphabetType");
     
-    public ParserCombinator nativeAlphabetType() {
+    public synchronized ParserCombinator nativeAlphabetType() {
       if (nativeAlphabetTypeParser == null) {
         FutureParser future = scoped("nativeAlphabetType", PUBLIC, true);
         nativeAlphabetTypeParser = future;
@@ -2846,7 +2846,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start asciiAlphabetType = Start.on(getNamespace(), "asciiAlphabetType");
     
-    public ParserCombinator asciiAlphabetType() {
+    public synchronized ParserCombinator asciiAlphabetType() {
       if (asciiAlphabetTypeParser == null) {
         FutureParser future = scoped("asciiAlphabetType", PUBLIC, true);
         asciiAlphabetTypeParser = future;
@@ -2866,7 +2866,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start ebcdicAlphabetType = Start.on(getNamespace(), "ebcdicAlphabetType");
     
-    public ParserCombinator ebcdicAlphabetType() {
+    public synchronized ParserCombinator ebcdicAlphabetType() {
       if (ebcdicAlphabetTypeParser == null) {
         FutureParser future = scoped("ebcdicAlphabetType", PUBLIC, true);
         ebcdicAlphabetTypeParser = future;
@@ -2886,7 +2886,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start explicitAlphabetType = Start.on(getNamespace(), "explicitAlphabetType");
     
-    public ParserCombinator explicitAlphabetType() {
+    public synchronized ParserCombinator explicitAlphabetType() {
       if (explicitAlphabetTypeParser == null) {
         FutureParser future = scoped("explicitAlphabetType", PUBLIC, true);
         explicitAlphabetTypeParser = future;
@@ -2920,7 +2920,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start codeNameAlphabetType = Start.on(getNamespace(), "codeNameAlphabetType");
     
-    public ParserCombinator codeNameAlphabetType() {
+    public synchronized ParserCombinator codeNameAlphabetType() {
       if (codeNameAlphabetTypeParser == null) {
         FutureParser future = scoped("codeNameAlphabetType", PUBLIC, true);
         codeNameAlphabetTypeParser = future;
@@ -2940,7 +2940,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start literalRange = Start.on(getNamespace(), "literalRange");
     
-    public ParserCombinator literalRange() {
+    public synchronized ParserCombinator literalRange() {
       if (literalRangeParser == null) {
         FutureParser future = scoped("literalRange", PUBLIC, true);
         literalRangeParser = future;
@@ -2967,7 +2967,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start symbolicChars = Start.on(getNamespace(), "symbolicChars");
     
-    public ParserCombinator symbolicChars() {
+    public synchronized ParserCombinator symbolicChars() {
       if (symbolicCharsParser == null) {
         FutureParser future = scoped("symbolicChars", PUBLIC, true);
         symbolicCharsParser = future;
@@ -3017,7 +3017,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start classIs = Start.on(getNamespace(), "classIs");
     
-    public ParserCombinator classIs() {
+    public synchronized ParserCombinator classIs() {
       if (classIsParser == null) {
         FutureParser future = scoped("classIs", PUBLIC, true);
         classIsParser = future;
@@ -3049,7 +3049,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start localeIs = Start.on(getNamespace(), "localeIs");
     
-    public ParserCombinator localeIs() {
+    public synchronized ParserCombinator localeIs() {
       if (localeIsParser == null) {
         FutureParser future = scoped("localeIs", PUBLIC, true);
         localeIsParser = future;
@@ -3076,7 +3076,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start currencySignIs = Start.on(getNamespace(), "currencySignIs");
     
-    public ParserCombinator currencySignIs() {
+    public synchronized ParserCombinator currencySignIs() {
       if (currencySignIsParser == null) {
         FutureParser future = scoped("currencySignIs", PUBLIC, true);
         currencySignIsParser = future;
@@ -3101,7 +3101,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start currencySignIs$sign = Start.on(getNamespace(), "sign");
     
-    public ParserCombinator currencySignIs$sign() {
+    public synchronized ParserCombinator currencySignIs$sign() {
       if (currencySignIs$signParser == null) {
         FutureParser future = scoped("sign", PUBLIC, true);
         currencySignIs$signParser = future;
@@ -3130,7 +3130,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start currencySignIs$symbol = Start.on(getNamespace(), "symbol");
     
-    public ParserCombinator currencySignIs$symbol() {
+    public synchronized ParserCombinator currencySignIs$symbol() {
       if (currencySignIs$symbolParser == null) {
         FutureParser future = scoped("symbol", PUBLIC, true);
         currencySignIs$symbolParser = future;
@@ -3157,7 +3157,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start decimalIsComma = Start.on(getNamespace(), "decimalIsComma");
     
-    public ParserCombinator decimalIsComma() {
+    public synchronized ParserCombinator decimalIsComma() {
       if (decimalIsCommaParser == null) {
         FutureParser future = scoped("decimalIsComma", PUBLIC, true);
         decimalIsCommaParser = future;
@@ -3183,7 +3183,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start numericSignIs = Start.on(getNamespace(), "numericSignIs");
     
-    public ParserCombinator numericSignIs() {
+    public synchronized ParserCombinator numericSignIs() {
       if (numericSignIsParser == null) {
         FutureParser future = scoped("numericSignIs", PUBLIC, true);
         numericSignIsParser = future;
@@ -3227,7 +3227,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start callConvention = Start.on(getNamespace(), "callConvention");
     
-    public ParserCombinator callConvention() {
+    public synchronized ParserCombinator callConvention() {
       if (callConventionParser == null) {
         FutureParser future = scoped("callConvention", PUBLIC, true);
         callConventionParser = future;
@@ -3254,7 +3254,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start cursorIs = Start.on(getNamespace(), "cursorIs");
     
-    public ParserCombinator cursorIs() {
+    public synchronized ParserCombinator cursorIs() {
       if (cursorIsParser == null) {
         FutureParser future = scoped("cursorIs", PUBLIC, true);
         cursorIsParser = future;
@@ -3280,7 +3280,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start crtStatusIs = Start.on(getNamespace(), "crtStatusIs");
     
-    public ParserCombinator crtStatusIs() {
+    public synchronized ParserCombinator crtStatusIs() {
       if (crtStatusIsParser == null) {
         FutureParser future = scoped("crtStatusIs", PUBLIC, true);
         crtStatusIsParser = future;
@@ -3307,7 +3307,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start xmlSchemaIs = Start.on(getNamespace(), "xmlSchemaIs");
     
-    public ParserCombinator xmlSchemaIs() {
+    public synchronized ParserCombinator xmlSchemaIs() {
       if (xmlSchemaIsParser == null) {
         FutureParser future = scoped("xmlSchemaIs", PUBLIC, true);
         xmlSchemaIsParser = future;
@@ -3337,7 +3337,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start screenControlIs = Start.on(getNamespace(), "screenControlIs");
     
-    public ParserCombinator screenControlIs() {
+    public synchronized ParserCombinator screenControlIs() {
       if (screenControlIsParser == null) {
         FutureParser future = scoped("screenControlIs", PUBLIC, true);
         screenControlIsParser = future;
@@ -3364,7 +3364,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start eventStatusIs = Start.on(getNamespace(), "eventStatusIs");
     
-    public ParserCombinator eventStatusIs() {
+    public synchronized ParserCombinator eventStatusIs() {
       if (eventStatusIsParser == null) {
         FutureParser future = scoped("eventStatusIs", PUBLIC, true);
         eventStatusIsParser = future;
@@ -3391,7 +3391,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start repositoryParagraph = Start.on(getNamespace(), "repositoryParagraph");
     
-    public ParserCombinator repositoryParagraph() {
+    public synchronized ParserCombinator repositoryParagraph() {
       if (repositoryParagraphParser == null) {
         FutureParser future = scoped("repositoryParagraph", PUBLIC, true);
         repositoryParagraphParser = future;
@@ -3430,7 +3430,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start classSpecifier = Start.on(getNamespace(), "classSpecifier");
     
-    public ParserCombinator classSpecifier() {
+    public synchronized ParserCombinator classSpecifier() {
       if (classSpecifierParser == null) {
         FutureParser future = scoped("classSpecifier", PUBLIC, true);
         classSpecifierParser = future;
@@ -3470,7 +3470,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start interfaceSpecifier = Start.on(getNamespace(), "interfaceSpecifier");
     
-    public ParserCombinator interfaceSpecifier() {
+    public synchronized ParserCombinator interfaceSpecifier() {
       if (interfaceSpecifierParser == null) {
         FutureParser future = scoped("interfaceSpecifier", PUBLIC, true);
         interfaceSpecifierParser = future;
@@ -3510,7 +3510,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start programSpecifier = Start.on(getNamespace(), "programSpecifier");
     
-    public ParserCombinator programSpecifier() {
+    public synchronized ParserCombinator programSpecifier() {
       if (programSpecifierParser == null) {
         FutureParser future = scoped("programSpecifier", PUBLIC, true);
         programSpecifierParser = future;
@@ -3539,7 +3539,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start propertySpecifier = Start.on(getNamespace(), "propertySpecifier");
     
-    public ParserCombinator propertySpecifier() {
+    public synchronized ParserCombinator propertySpecifier() {
       if (propertySpecifierParser == null) {
         FutureParser future = scoped("propertySpecifier", PUBLIC, true);
         propertySpecifierParser = future;
@@ -3568,7 +3568,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start functionSpecifier = Start.on(getNamespace(), "functionSpecifier");
     
-    public ParserCombinator functionSpecifier() {
+    public synchronized ParserCombinator functionSpecifier() {
       if (functionSpecifierParser == null) {
         FutureParser future = scoped("functionSpecifier", PUBLIC, true);
         functionSpecifierParser = future;
@@ -3610,7 +3610,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start delegateSpecifier = Start.on(getNamespace(), "delegateSpecifier");
     
-    public ParserCombinator delegateSpecifier() {
+    public synchronized ParserCombinator delegateSpecifier() {
       if (delegateSpecifierParser == null) {
         FutureParser future = scoped("delegateSpecifier", PUBLIC, true);
         delegateSpecifierParser = future;
@@ -3639,7 +3639,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start enumSpecifier = Start.on(getNamespace(), "enumSpecifier");
     
-    public ParserCombinator enumSpecifier() {
+    public synchronized ParserCombinator enumSpecifier() {
       if (enumSpecifierParser == null) {
         FutureParser future = scoped("enumSpecifier", PUBLIC, true);
         enumSpecifierParser = future;
@@ -3668,7 +3668,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start ioSection = Start.on(getNamespace(), "ioSection");
     
-    public ParserCombinator ioSection() {
+    public synchronized ParserCombinator ioSection() {
       if (ioSectionParser == null) {
         FutureParser future = scoped("ioSection", PUBLIC, true);
         ioSectionParser = future;
@@ -3703,7 +3703,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start ioSection$body = Start.on(getNamespace(), "body");
     
-    protected ParserCombinator ioSection$body() {
+    protected synchronized ParserCombinator ioSection$body() {
       if (ioSection$bodyParser == null) {
         FutureParser future = scoped("body", PRIVATE, true);
         ioSection$bodyParser = future;
@@ -3739,7 +3739,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start fileControlParagraph = Start.on(getNamespace(), "fileControlParagraph");
     
-    public ParserCombinator fileControlParagraph() {
+    public synchronized ParserCombinator fileControlParagraph() {
       if (fileControlParagraphParser == null) {
         FutureParser future = scoped("fileControlParagraph", PUBLIC, true);
         fileControlParagraphParser = future;
@@ -3773,7 +3773,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start fileControlEntry = Start.on(getNamespace(), "fileControlEntry");
     
-    public ParserCombinator fileControlEntry() {
+    public synchronized ParserCombinator fileControlEntry() {
       if (fileControlEntryParser == null) {
         FutureParser future = scoped("fileControlEntry", PUBLIC, true);
         fileControlEntryParser = future;
@@ -3798,7 +3798,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start selectStatement = Start.on(getNamespace(), "selectStatement");
     
-    public ParserCombinator selectStatement() {
+    public synchronized ParserCombinator selectStatement() {
       if (selectStatementParser == null) {
         FutureParser future = scoped("selectStatement", PUBLIC, true);
         selectStatementParser = future;
@@ -3841,7 +3841,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start selectClause = Start.on(getNamespace(), "selectClause");
     
-    public ParserCombinator selectClause() {
+    public synchronized ParserCombinator selectClause() {
       if (selectClauseParser == null) {
         FutureParser future = scoped("selectClause", PUBLIC, true);
         selectClauseParser = future;
@@ -3873,7 +3873,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start assignClause = Start.on(getNamespace(), "assignClause");
     
-    public ParserCombinator assignClause() {
+    public synchronized ParserCombinator assignClause() {
       if (assignClauseParser == null) {
         FutureParser future = scoped("assignClause", PUBLIC, true);
         assignClauseParser = future;
@@ -3899,7 +3899,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start assignUsingClause = Start.on(getNamespace(), "assignUsingClause");
     
-    public ParserCombinator assignUsingClause() {
+    public synchronized ParserCombinator assignUsingClause() {
       if (assignUsingClauseParser == null) {
         FutureParser future = scoped("assignUsingClause", PUBLIC, true);
         assignUsingClauseParser = future;
@@ -3922,7 +3922,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start assignToClause = Start.on(getNamespace(), "assignToClause");
     
-    public ParserCombinator assignToClause() {
+    public synchronized ParserCombinator assignToClause() {
       if (assignToClauseParser == null) {
         FutureParser future = scoped("assignToClause", PUBLIC, true);
         assignToClauseParser = future;
@@ -3957,7 +3957,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start diskClause = Start.on(getNamespace(), "diskClause");
     
-    public ParserCombinator diskClause() {
+    public synchronized ParserCombinator diskClause() {
       if (diskClauseParser == null) {
         FutureParser future = scoped("diskClause", PUBLIC, true);
         diskClauseParser = future;
@@ -4048,7 +4048,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start collationClause = Start.on(getNamespace(), "collationClause");
     
-    public ParserCombinator collationClause() {
+    public synchronized ParserCombinator collationClause() {
       if (collationClauseParser == null) {
         FutureParser future = scoped("collationClause", PUBLIC, true);
         collationClauseParser = future;
@@ -4077,7 +4077,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start recordDelimiterClause = Start.on(getNamespace(), "recordDelimiterClause");
     
-    public ParserCombinator recordDelimiterClause() {
+    public synchronized ParserCombinator recordDelimiterClause() {
       if (recordDelimiterClauseParser == null) {
         FutureParser future = scoped("recordDelimiterClause", PUBLIC, true);
         recordDelimiterClauseParser = future;
@@ -4108,7 +4108,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start reserveClause = Start.on(getNamespace(), "reserveClause");
     
-    public ParserCombinator reserveClause() {
+    public synchronized ParserCombinator reserveClause() {
       if (reserveClauseParser == null) {
         FutureParser future = scoped("reserveClause", PUBLIC, true);
         reserveClauseParser = future;
@@ -4143,7 +4143,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start organizationClause = Start.on(getNamespace(), "organizationClause");
     
-    public ParserCombinator organizationClause() {
+    public synchronized ParserCombinator organizationClause() {
       if (organizationClauseParser == null) {
         FutureParser future = scoped("organizationClause", PUBLIC, true);
         organizationClauseParser = future;
@@ -4188,7 +4188,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start accessModeClause = Start.on(getNamespace(), "accessModeClause");
     
-    public ParserCombinator accessModeClause() {
+    public synchronized ParserCombinator accessModeClause() {
       if (accessModeClauseParser == null) {
         FutureParser future = scoped("accessModeClause", PUBLIC, true);
         accessModeClauseParser = future;
@@ -4234,7 +4234,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start lockModeClause = Start.on(getNamespace(), "lockModeClause");
     
-    public ParserCombinator lockModeClause() {
+    public synchronized ParserCombinator lockModeClause() {
       if (lockModeClauseParser == null) {
         FutureParser future = scoped("lockModeClause", PUBLIC, true);
         lockModeClauseParser = future;
@@ -4277,7 +4277,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start lockModeWithClause = Start.on(getNamespace(), "lockModeWithClause");
     
-    public ParserCombinator lockModeWithClause() {
+    public synchronized ParserCombinator lockModeWithClause() {
       if (lockModeWithClauseParser == null) {
         FutureParser future = scoped("lockModeWithClause", PUBLIC, true);
         lockModeWithClauseParser = future;
@@ -4315,7 +4315,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start relativeKeyClause = Start.on(getNamespace(), "relativeKeyClause");
     
-    public ParserCombinator relativeKeyClause() {
+    public synchronized ParserCombinator relativeKeyClause() {
       if (relativeKeyClauseParser == null) {
         FutureParser future = scoped("relativeKeyClause", PUBLIC, true);
         relativeKeyClauseParser = future;
@@ -4344,7 +4344,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start recordKeyClause = Start.on(getNamespace(), "recordKeyClause");
     
-    public ParserCombinator recordKeyClause() {
+    public synchronized ParserCombinator recordKeyClause() {
       if (recordKeyClauseParser == null) {
         FutureParser future = scoped("recordKeyClause", PUBLIC, true);
         recordKeyClauseParser = future;
@@ -4376,7 +4376,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start alternateRecordKeyClause = Start.on(getNamespace(), "alternateRecordKeyClause");
     
-    public ParserCombinator alternateRecordKeyClause() {
+    public synchronized ParserCombinator alternateRecordKeyClause() {
       if (alternateRecordKeyClauseParser == null) {
         FutureParser future = scoped("alternateRecordKeyClause", PUBLIC, true);
         alternateRecordKeyClauseParser = future;
@@ -4420,7 +4420,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start recordKeyDefinition = Start.on(getNamespace(), "recordKeyDefinition");
     
-    public ParserCombinator recordKeyDefinition() {
+    public synchronized ParserCombinator recordKeyDefinition() {
       if (recordKeyDefinitionParser == null) {
         FutureParser future = scoped("recordKeyDefinition", PUBLIC, true);
         recordKeyDefinitionParser = future;
@@ -4460,7 +4460,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start fileStatusClause = Start.on(getNamespace(), "fileStatusClause");
     
-    public ParserCombinator fileStatusClause() {
+    public synchronized ParserCombinator fileStatusClause() {
       if (fileStatusClauseParser == null) {
         FutureParser future = scoped("fileStatusClause", PUBLIC, true);
         fileStatusClauseParser = future;
@@ -4489,7 +4489,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start sortStatusClause = Start.on(getNamespace(), "sortStatusClause");
     
-    public ParserCombinator sortStatusClause() {
+    public synchronized ParserCombinator sortStatusClause() {
       if (sortStatusClauseParser == null) {
         FutureParser future = scoped("sortStatusClause", PUBLIC, true);
         sortStatusClauseParser = future;
@@ -4516,7 +4516,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start passwordClause = Start.on(getNamespace(), "passwordClause");
     
-    public ParserCombinator passwordClause() {
+    public synchronized ParserCombinator passwordClause() {
       if (passwordClauseParser == null) {
         FutureParser future = scoped("passwordClause", PUBLIC, true);
         passwordClauseParser = future;
@@ -4542,7 +4542,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start suppressClause = Start.on(getNamespace(), "suppressClause");
     
-    public ParserCombinator suppressClause() {
+    public synchronized ParserCombinator suppressClause() {
       if (suppressClauseParser == null) {
         FutureParser future = scoped("suppressClause", PUBLIC, true);
         suppressClauseParser = future;
@@ -4577,7 +4577,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start sharingClause = Start.on(getNamespace(), "sharingClause");
     
-    public ParserCombinator sharingClause() {
+    public synchronized ParserCombinator sharingClause() {
       if (sharingClauseParser == null) {
         FutureParser future = scoped("sharingClause", PUBLIC, true);
         sharingClauseParser = future;
@@ -4617,7 +4617,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start paddingClause = Start.on(getNamespace(), "paddingClause");
     
-    public ParserCombinator paddingClause() {
+    public synchronized ParserCombinator paddingClause() {
       if (paddingClauseParser == null) {
         FutureParser future = scoped("paddingClause", PUBLIC, true);
         paddingClauseParser = future;
@@ -4649,7 +4649,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start ioControlParagraph = Start.on(getNamespace(), "ioControlParagraph");
     
-    public ParserCombinator ioControlParagraph() {
+    public synchronized ParserCombinator ioControlParagraph() {
       if (ioControlParagraphParser == null) {
         FutureParser future = scoped("ioControlParagraph", PUBLIC, true);
         ioControlParagraphParser = future;
@@ -4681,7 +4681,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start objectSection = Start.on(getNamespace(), "objectSection");
     
-    public ParserCombinator objectSection() {
+    public synchronized ParserCombinator objectSection() {
       if (objectSectionParser == null) {
         FutureParser future = scoped("objectSection", PUBLIC, true);
         objectSectionParser = future;
@@ -4716,7 +4716,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start objectSection$body = Start.on(getNamespace(), "body");
     
-    public ParserCombinator objectSection$body() {
+    public synchronized ParserCombinator objectSection$body() {
       if (objectSection$bodyParser == null) {
         FutureParser future = scoped("body", PUBLIC, true);
         objectSection$bodyParser = future;
@@ -4741,7 +4741,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start classControlParagraph = Start.on(getNamespace(), "classControlParagraph");
     
-    public ParserCombinator classControlParagraph() {
+    public synchronized ParserCombinator classControlParagraph() {
       if (classControlParagraphParser == null) {
         FutureParser future = scoped("classControlParagraph", PUBLIC, true);
         classControlParagraphParser = future;
@@ -4778,7 +4778,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start dataDivision = Start.on(getNamespace(), "dataDivision");
     
-    public ParserCombinator dataDivision() {
+    public synchronized ParserCombinator dataDivision() {
       if (dataDivisionParser == null) {
         FutureParser future = scoped("dataDivision", PUBLIC, true);
         dataDivisionParser = future;
@@ -4813,7 +4813,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start dataDivision$body = Start.on(getNamespace(), "body");
     
-    protected ParserCombinator dataDivision$body() {
+    protected synchronized ParserCombinator dataDivision$body() {
       if (dataDivision$bodyParser == null) {
         FutureParser future = scoped("body", PRIVATE, true);
         dataDivision$bodyParser = future;
@@ -4846,7 +4846,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start fileSection = Start.on(getNamespace(), "fileSection");
     
-    public ParserCombinator fileSection() {
+    public synchronized ParserCombinator fileSection() {
       if (fileSectionParser == null) {
         FutureParser future = scoped("fileSection", PUBLIC, true);
         fileSectionParser = future;
@@ -4892,7 +4892,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start fileSection$body = Start.on(getNamespace(), "body");
     
-    protected ParserCombinator fileSection$body() {
+    protected synchronized ParserCombinator fileSection$body() {
       if (fileSection$bodyParser == null) {
         FutureParser future = scoped("body", PRIVATE, true);
         fileSection$bodyParser = future;
@@ -4922,7 +4922,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start fileDescriptionEntry = Start.on(getNamespace(), "fileDescriptionEntry");
     
-    public ParserCombinator fileDescriptionEntry() {
+    public synchronized ParserCombinator fileDescriptionEntry() {
       if (fileDescriptionEntryParser == null) {
         FutureParser future = scoped("fileDescriptionEntry", PUBLIC, true);
         fileDescriptionEntryParser = future;
@@ -4945,7 +4945,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start fdFileDescriptionEntry = Start.on(getNamespace(), "fdFileDescriptionEntry");
     
-    public ParserCombinator fdFileDescriptionEntry() {
+    public synchronized ParserCombinator fdFileDescriptionEntry() {
       if (fdFileDescriptionEntryParser == null) {
         FutureParser future = scoped("fdFileDescriptionEntry", PUBLIC, true);
         fdFileDescriptionEntryParser = future;
@@ -4990,7 +4990,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start sdFileDescriptionEntry = Start.on(getNamespace(), "sdFileDescriptionEntry");
     
-    public ParserCombinator sdFileDescriptionEntry() {
+    public synchronized ParserCombinator sdFileDescriptionEntry() {
       if (sdFileDescriptionEntryParser == null) {
         FutureParser future = scoped("sdFileDescriptionEntry", PUBLIC, true);
         sdFileDescriptionEntryParser = future;
@@ -5027,7 +5027,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start workingStorageSection = Start.on(getNamespace(), "workingStorageSection");
     
-    public ParserCombinator workingStorageSection() {
+    public synchronized ParserCombinator workingStorageSection() {
       if (workingStorageSectionParser == null) {
         FutureParser future = scoped("workingStorageSection", PUBLIC, true);
         workingStorageSectionParser = future;
@@ -5067,7 +5067,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start threadLocalStorageSection = Start.on(getNamespace(), "threadLocalStorageSection");
     
-    public ParserCombinator threadLocalStorageSection() {
+    public synchronized ParserCombinator threadLocalStorageSection() {
       if (threadLocalStorageSectionParser == null) {
         FutureParser future = scoped("threadLocalStorageSection", PUBLIC, true);
         threadLocalStorageSectionParser = future;
@@ -5107,7 +5107,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start objectStorageSection = Start.on(getNamespace(), "objectStorageSection");
     
-    public ParserCombinator objectStorageSection() {
+    public synchronized ParserCombinator objectStorageSection() {
       if (objectStorageSectionParser == null) {
         FutureParser future = scoped("objectStorageSection", PUBLIC, true);
         objectStorageSectionParser = future;
@@ -5147,7 +5147,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start localStorageSection = Start.on(getNamespace(), "localStorageSection");
     
-    public ParserCombinator localStorageSection() {
+    public synchronized ParserCombinator localStorageSection() {
       if (localStorageSectionParser == null) {
         FutureParser future = scoped("localStorageSection", PUBLIC, true);
         localStorageSectionParser = future;
@@ -5187,7 +5187,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start linkageSection = Start.on(getNamespace(), "linkageSection");
     
-    public ParserCombinator linkageSection() {
+    public synchronized ParserCombinator linkageSection() {
       if (linkageSectionParser == null) {
         FutureParser future = scoped("linkageSection", PUBLIC, true);
         linkageSectionParser = future;
@@ -5227,7 +5227,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start communicationSection = Start.on(getNamespace(), "communicationSection");
     
-    public ParserCombinator communicationSection() {
+    public synchronized ParserCombinator communicationSection() {
       if (communicationSectionParser == null) {
         FutureParser future = scoped("communicationSection", PUBLIC, true);
         communicationSectionParser = future;
@@ -5261,7 +5261,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start communicationDescriptionEntry = Start.on(getNamespace(), "communicationDescriptionEntry");
     
-    public ParserCombinator communicationDescriptionEntry() {
+    public synchronized ParserCombinator communicationDescriptionEntry() {
       if (communicationDescriptionEntryParser == null) {
         FutureParser future = scoped("communicationDescriptionEntry", PUBLIC, true);
         communicationDescriptionEntryParser = future;
@@ -5285,7 +5285,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start communicationDescriptionEntry_format1 = Start.on(getNamespace(), "communicationDescriptionEntry_format1");
     
-    public ParserCombinator communicationDescriptionEntry_format1() {
+    public synchronized ParserCombinator communicationDescriptionEntry_format1() {
       if (communicationDescriptionEntry_format1Parser == null) {
         FutureParser future = scoped("communicationDescriptionEntry_format1", PUBLIC, true);
         communicationDescriptionEntry_format1Parser = future;
@@ -5428,7 +5428,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start communicationDescriptionEntry_format2 = Start.on(getNamespace(), "communicationDescriptionEntry_format2");
     
-    public ParserCombinator communicationDescriptionEntry_format2() {
+    public synchronized ParserCombinator communicationDescriptionEntry_format2() {
       if (communicationDescriptionEntry_format2Parser == null) {
         FutureParser future = scoped("communicationDescriptionEntry_format2", PUBLIC, true);
         communicationDescriptionEntry_format2Parser = future;
@@ -5530,7 +5530,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start communicationDescriptionEntry_format3 = Start.on(getNamespace(), "communicationDescriptionEntry_format3");
     
-    public ParserCombinator communicationDescriptionEntry_format3() {
+    public synchronized ParserCombinator communicationDescriptionEntry_format3() {
       if (communicationDescriptionEntry_format3Parser == null) {
         FutureParser future = scoped("communicationDescriptionEntry_format3", PUBLIC, true);
         communicationDescriptionEntry_format3Parser = future;
@@ -5623,7 +5623,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start reportSection = Start.on(getNamespace(), "reportSection");
     
-    public ParserCombinator reportSection() {
+    public synchronized ParserCombinator reportSection() {
       if (reportSectionParser == null) {
         FutureParser future = scoped("reportSection", PUBLIC, true);
         reportSectionParser = future;
@@ -5659,7 +5659,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start reportDescriptionEntry = Start.on(getNamespace(), "reportDescriptionEntry");
     
-    public ParserCombinator reportDescriptionEntry() {
+    public synchronized ParserCombinator reportDescriptionEntry() {
       if (reportDescriptionEntryParser == null) {
         FutureParser future = scoped("reportDescriptionEntry", PUBLIC, true);
         reportDescriptionEntryParser = future;
@@ -5691,7 +5691,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start reportGroupDescriptionEntry = Start.on(getNamespace(), "reportGroupDescriptionEntry");
     
-    public ParserCombinator reportGroupDescriptionEntry() {
+    public synchronized ParserCombinator reportGroupDescriptionEntry() {
       if (reportGroupDescriptionEntryParser == null) {
         FutureParser future = scoped("reportGroupDescriptionEntry", PUBLIC, true);
         reportGroupDescriptionEntryParser = future;
@@ -5737,7 +5737,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start screenSection = Start.on(getNamespace(), "screenSection");
     
-    public ParserCombinator screenSection() {
+    public synchronized ParserCombinator screenSection() {
       if (screenSectionParser == null) {
         FutureParser future = scoped("screenSection", PUBLIC, true);
         screenSectionParser = future;
@@ -5777,7 +5777,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start screenDescriptionEntry = Start.on(getNamespace(), "screenDescriptionEntry");
     
-    public ParserCombinator screenDescriptionEntry() {
+    public synchronized ParserCombinator screenDescriptionEntry() {
       if (screenDescriptionEntryParser == null) {
         FutureParser future = scoped("screenDescriptionEntry", PUBLIC, true);
         screenDescriptionEntryParser = future;
@@ -5838,7 +5838,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start recordDescriptionEntry = Start.on(getNamespace(), "recordDescriptionEntry");
     
-    public ParserCombinator recordDescriptionEntry() {
+    public synchronized ParserCombinator recordDescriptionEntry() {
       if (recordDescriptionEntryParser == null) {
         FutureParser future = scoped("recordDescriptionEntry", PUBLIC, true);
         recordDescriptionEntryParser = future;
@@ -5862,7 +5862,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start dataDescriptionEntry = Start.on(getNamespace(), "dataDescriptionEntry");
     
-    public ParserCombinator dataDescriptionEntry() {
+    public synchronized ParserCombinator dataDescriptionEntry() {
       if (dataDescriptionEntryParser == null) {
         FutureParser future = scoped("dataDescriptionEntry", PUBLIC, true);
         dataDescriptionEntryParser = future;
@@ -5886,7 +5886,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start constantEntry = Start.on(getNamespace(), "constantEntry");
     
-    public ParserCombinator constantEntry() {
+    public synchronized ParserCombinator constantEntry() {
       if (constantEntryParser == null) {
         FutureParser future = scoped("constantEntry", PUBLIC, true);
         constantEntryParser = future;
@@ -5909,7 +5909,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start constantEntry_level01 = Start.on(getNamespace(), "constantEntry_level01");
     
-    protected ParserCombinator constantEntry_level01() {
+    protected synchronized ParserCombinator constantEntry_level01() {
       if (constantEntry_level01Parser == null) {
         FutureParser future = scoped("constantEntry_level01", PRIVATE, true);
         constantEntry_level01Parser = future;
@@ -5959,7 +5959,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start constantEntry_level78 = Start.on(getNamespace(), "constantEntry_level78");
     
-    protected ParserCombinator constantEntry_level78() {
+    protected synchronized ParserCombinator constantEntry_level78() {
       if (constantEntry_level78Parser == null) {
         FutureParser future = scoped("constantEntry_level78", PRIVATE, true);
         constantEntry_level78Parser = future;
@@ -5997,7 +5997,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start dataDescriptionEntry_format1 = Start.on(getNamespace(), "dataDescriptionEntry_format1");
     
-    protected ParserCombinator dataDescriptionEntry_format1() {
+    protected synchronized ParserCombinator dataDescriptionEntry_format1() {
       if (dataDescriptionEntry_format1Parser == null) {
         FutureParser future = scoped("dataDescriptionEntry_format1", PRIVATE, true);
         dataDescriptionEntry_format1Parser = future;
@@ -6111,7 +6111,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start dataDescriptionEntry_format2 = Start.on(getNamespace(), "dataDescriptionEntry_format2");
     
-    protected ParserCombinator dataDescriptionEntry_format2() {
+    protected synchronized ParserCombinator dataDescriptionEntry_format2() {
       if (dataDescriptionEntry_format2Parser == null) {
         FutureParser future = scoped("dataDescriptionEntry_format2", PRIVATE, true);
         dataDescriptionEntry_format2Parser = future;
@@ -6149,7 +6149,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start dataDescriptionEntry_format3_and_4 = Start.on(getNamespace(), "dataDescriptionEntry_format3_and_4");
     
-    protected ParserCombinator dataDescriptionEntry_format3_and_4() {
+    protected synchronized ParserCombinator dataDescriptionEntry_format3_and_4() {
       if (dataDescriptionEntry_format3_and_4Parser == null) {
         FutureParser future = scoped("dataDescriptionEntry_format3_and_4", PRIVATE, true);
         dataDescriptionEntry_format3_and_4Parser = future;
@@ -6197,7 +6197,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start dataRecords = Start.on(getNamespace(), "dataRecords");
     
-    public ParserCombinator dataRecords() {
+    public synchronized ParserCombinator dataRecords() {
       if (dataRecordsParser == null) {
         FutureParser future = scoped("dataRecords", PUBLIC, true);
         dataRecordsParser = future;
@@ -6238,7 +6238,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start labelRecords = Start.on(getNamespace(), "labelRecords");
     
-    public ParserCombinator labelRecords() {
+    public synchronized ParserCombinator labelRecords() {
       if (labelRecordsParser == null) {
         FutureParser future = scoped("labelRecords", PUBLIC, true);
         labelRecordsParser = future;
@@ -6281,7 +6281,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start recordingMode = Start.on(getNamespace(), "recordingMode");
     
-    public ParserCombinator recordingMode() {
+    public synchronized ParserCombinator recordingMode() {
       if (recordingModeParser == null) {
         FutureParser future = scoped("recordingMode", PUBLIC, true);
         recordingModeParser = future;
@@ -6317,7 +6317,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start valueOfFileId = Start.on(getNamespace(), "valueOfFileId");
     
-    public ParserCombinator valueOfFileId() {
+    public synchronized ParserCombinator valueOfFileId() {
       if (valueOfFileIdParser == null) {
         FutureParser future = scoped("valueOfFileId", PUBLIC, true);
         valueOfFileIdParser = future;
@@ -6348,7 +6348,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start valueOf = Start.on(getNamespace(), "valueOf");
     
-    public ParserCombinator valueOf() {
+    public synchronized ParserCombinator valueOf() {
       if (valueOfParser == null) {
         FutureParser future = scoped("valueOf", PUBLIC, true);
         valueOfParser = future;
@@ -6387,7 +6387,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start cicsValue = Start.on(getNamespace(), "cicsValue");
     
-    public ParserCombinator cicsValue() {
+    public synchronized ParserCombinator cicsValue() {
       if (cicsValueParser == null) {
         FutureParser future = scoped("cicsValue", PUBLIC, true);
         cicsValueParser = future;
@@ -6415,7 +6415,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start whenSetToFalseClause = Start.on(getNamespace(), "whenSetToFalseClause");
     
-    public ParserCombinator whenSetToFalseClause() {
+    public synchronized ParserCombinator whenSetToFalseClause() {
       if (whenSetToFalseClauseParser == null) {
         FutureParser future = scoped("whenSetToFalseClause", PUBLIC, true);
         whenSetToFalseClauseParser = future;
@@ -6450,7 +6450,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start blankWhenZero = Start.on(getNamespace(), "blankWhenZero");
     
-    public ParserCombinator blankWhenZero() {
+    public synchronized ParserCombinator blankWhenZero() {
       if (blankWhenZeroParser == null) {
         FutureParser future = scoped("blankWhenZero", PUBLIC, true);
         blankWhenZeroParser = future;
@@ -6476,7 +6476,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start threadLocalClause = Start.on(getNamespace(), "threadLocalClause");
     
-    public ParserCombinator threadLocalClause() {
+    public synchronized ParserCombinator threadLocalClause() {
       if (threadLocalClauseParser == null) {
         FutureParser future = scoped("threadLocalClause", PUBLIC, true);
         threadLocalClauseParser = future;
@@ -6501,7 +6501,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start zero = Start.on(getNamespace(), "zero");
     
-    public ParserCombinator zero() {
+    public synchronized ParserCombinator zero() {
       if (zeroParser == null) {
         FutureParser future = scoped("zero", PUBLIC, true);
         zeroParser = future;
@@ -6525,7 +6525,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start space = Start.on(getNamespace(), "space");
     
-    public ParserCombinator space() {
+    public synchronized ParserCombinator space() {
       if (spaceParser == null) {
         FutureParser future = scoped("space", PUBLIC, true);
         spaceParser = future;
@@ -6548,7 +6548,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start justified = Start.on(getNamespace(), "justified");
     
-    public ParserCombinator justified() {
+    public synchronized ParserCombinator justified() {
       if (justifiedParser == null) {
         FutureParser future = scoped("justified", PUBLIC, true);
         justifiedParser = future;
@@ -6583,7 +6583,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start valueClause = Start.on(getNamespace(), "valueClause");
     
-    public ParserCombinator valueClause() {
+    public synchronized ParserCombinator valueClause() {
       if (valueClauseParser == null) {
         FutureParser future = scoped("valueClause", PUBLIC, true);
         valueClauseParser = future;
@@ -6725,7 +6725,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start alignedClause = Start.on(getNamespace(), "alignedClause");
     
-    public ParserCombinator alignedClause() {
+    public synchronized ParserCombinator alignedClause() {
       if (alignedClauseParser == null) {
         FutureParser future = scoped("alignedClause", PUBLIC, true);
         alignedClauseParser = future;
@@ -6745,7 +6745,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start anyLengthClause = Start.on(getNamespace(), "anyLengthClause");
     
-    public ParserCombinator anyLengthClause() {
+    public synchronized ParserCombinator anyLengthClause() {
       if (anyLengthClauseParser == null) {
         FutureParser future = scoped("anyLengthClause", PUBLIC, true);
         anyLengthClauseParser = future;
@@ -6768,7 +6768,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start autoClause = Start.on(getNamespace(), "autoClause");
     
-    public ParserCombinator autoClause() {
+    public synchronized ParserCombinator autoClause() {
       if (autoClauseParser == null) {
         FutureParser future = scoped("autoClause", PUBLIC, true);
         autoClauseParser = future;
@@ -6791,7 +6791,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start backgroundColorClause = Start.on(getNamespace(), "backgroundColorClause");
     
-    public ParserCombinator backgroundColorClause() {
+    public synchronized ParserCombinator backgroundColorClause() {
       if (backgroundColorClauseParser == null) {
         FutureParser future = scoped("backgroundColorClause", PUBLIC, true);
         backgroundColorClauseParser = future;
@@ -6820,7 +6820,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start basedClause = Start.on(getNamespace(), "basedClause");
     
-    public ParserCombinator basedClause() {
+    public synchronized ParserCombinator basedClause() {
       if (basedClauseParser == null) {
         FutureParser future = scoped("basedClause", PUBLIC, true);
         basedClauseParser = future;
@@ -6840,7 +6840,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start bellClause = Start.on(getNamespace(), "bellClause");
     
-    public ParserCombinator bellClause() {
+    public synchronized ParserCombinator bellClause() {
       if (bellClauseParser == null) {
         FutureParser future = scoped("bellClause", PUBLIC, true);
         bellClauseParser = future;
@@ -6860,7 +6860,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start blankClause = Start.on(getNamespace(), "blankClause");
     
-    public ParserCombinator blankClause() {
+    public synchronized ParserCombinator blankClause() {
       if (blankClauseParser == null) {
         FutureParser future = scoped("blankClause", PUBLIC, true);
         blankClauseParser = future;
@@ -6886,7 +6886,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start blankWhenZeroClause = Start.on(getNamespace(), "blankWhenZeroClause");
     
-    public ParserCombinator blankWhenZeroClause() {
+    public synchronized ParserCombinator blankWhenZeroClause() {
       if (blankWhenZeroClauseParser == null) {
         FutureParser future = scoped("blankWhenZeroClause", PUBLIC, true);
         blankWhenZeroClauseParser = future;
@@ -6912,7 +6912,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start blinkClause = Start.on(getNamespace(), "blinkClause");
     
-    public ParserCombinator blinkClause() {
+    public synchronized ParserCombinator blinkClause() {
       if (blinkClauseParser == null) {
         FutureParser future = scoped("blinkClause", PUBLIC, true);
         blinkClauseParser = future;
@@ -6932,7 +6932,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start blockContainsClause = Start.on(getNamespace(), "blockContainsClause");
     
-    public ParserCombinator blockContainsClause() {
+    public synchronized ParserCombinator blockContainsClause() {
       if (blockContainsClauseParser == null) {
         FutureParser future = scoped("blockContainsClause", PUBLIC, true);
         blockContainsClauseParser = future;
@@ -6970,7 +6970,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start classClause = Start.on(getNamespace(), "classClause");
     
-    public ParserCombinator classClause() {
+    public synchronized ParserCombinator classClause() {
       if (classClauseParser == null) {
         FutureParser future = scoped("classClause", PUBLIC, true);
         classClauseParser = future;
@@ -7003,7 +7003,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start codeClause = Start.on(getNamespace(), "codeClause");
     
-    public ParserCombinator codeClause() {
+    public synchronized ParserCombinator codeClause() {
       if (codeClauseParser == null) {
         FutureParser future = scoped("codeClause", PUBLIC, true);
         codeClauseParser = future;
@@ -7032,7 +7032,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start codeSetClause = Start.on(getNamespace(), "codeSetClause");
     
-    public ParserCombinator codeSetClause() {
+    public synchronized ParserCombinator codeSetClause() {
       if (codeSetClauseParser == null) {
         FutureParser future = scoped("codeSetClause", PUBLIC, true);
         codeSetClauseParser = future;
@@ -7066,7 +7066,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start columnClause = Start.on(getNamespace(), "columnClause");
     
-    public ParserCombinator columnClause() {
+    public synchronized ParserCombinator columnClause() {
       if (columnClauseParser == null) {
         FutureParser future = scoped("columnClause", PUBLIC, true);
         columnClauseParser = future;
@@ -7129,7 +7129,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start constantRecordClause = Start.on(getNamespace(), "constantRecordClause");
     
-    public ParserCombinator constantRecordClause() {
+    public synchronized ParserCombinator constantRecordClause() {
       if (constantRecordClauseParser == null) {
         FutureParser future = scoped("constantRecordClause", PUBLIC, true);
         constantRecordClauseParser = future;
@@ -7152,7 +7152,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start constantValueClause = Start.on(getNamespace(), "constantValueClause");
     
-    public ParserCombinator constantValueClause() {
+    public synchronized ParserCombinator constantValueClause() {
       if (constantValueClauseParser == null) {
         FutureParser future = scoped("constantValueClause", PUBLIC, true);
         constantValueClauseParser = future;
@@ -7226,7 +7226,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start controlClause = Start.on(getNamespace(), "controlClause");
     
-    public ParserCombinator controlClause() {
+    public synchronized ParserCombinator controlClause() {
       if (controlClauseParser == null) {
         FutureParser future = scoped("controlClause", PUBLIC, true);
         controlClauseParser = future;
@@ -7272,7 +7272,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start defaultClause = Start.on(getNamespace(), "defaultClause");
     
-    public ParserCombinator defaultClause() {
+    public synchronized ParserCombinator defaultClause() {
       if (defaultClauseParser == null) {
         FutureParser future = scoped("defaultClause", PUBLIC, true);
         defaultClauseParser = future;
@@ -7302,7 +7302,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start destinationClause = Start.on(getNamespace(), "destinationClause");
     
-    public ParserCombinator destinationClause() {
+    public synchronized ParserCombinator destinationClause() {
       if (destinationClauseParser == null) {
         FutureParser future = scoped("destinationClause", PUBLIC, true);
         destinationClauseParser = future;
@@ -7330,7 +7330,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start eraseClause = Start.on(getNamespace(), "eraseClause");
     
-    public ParserCombinator eraseClause() {
+    public synchronized ParserCombinator eraseClause() {
       if (eraseClauseParser == null) {
         FutureParser future = scoped("eraseClause", PUBLIC, true);
         eraseClauseParser = future;
@@ -7376,7 +7376,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start externalClause = Start.on(getNamespace(), "externalClause");
     
-    public ParserCombinator externalClause() {
+    public synchronized ParserCombinator externalClause() {
       if (externalClauseParser == null) {
         FutureParser future = scoped("externalClause", PUBLIC, true);
         externalClauseParser = future;
@@ -7410,7 +7410,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start foregroundColorClause = Start.on(getNamespace(), "foregroundColorClause");
     
-    public ParserCombinator foregroundColorClause() {
+    public synchronized ParserCombinator foregroundColorClause() {
       if (foregroundColorClauseParser == null) {
         FutureParser future = scoped("foregroundColorClause", PUBLIC, true);
         foregroundColorClauseParser = future;
@@ -7442,7 +7442,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start formatClause = Start.on(getNamespace(), "formatClause");
     
-    public ParserCombinator formatClause() {
+    public synchronized ParserCombinator formatClause() {
       if (formatClauseParser == null) {
         FutureParser future = scoped("formatClause", PUBLIC, true);
         formatClauseParser = future;
@@ -7470,7 +7470,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start fullClause = Start.on(getNamespace(), "fullClause");
     
-    public ParserCombinator fullClause() {
+    public synchronized ParserCombinator fullClause() {
       if (fullClauseParser == null) {
         FutureParser future = scoped("fullClause", PUBLIC, true);
         fullClauseParser = future;
@@ -7490,7 +7490,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start globalClause = Start.on(getNamespace(), "globalClause");
     
-    public ParserCombinator globalClause() {
+    public synchronized ParserCombinator globalClause() {
       if (globalClauseParser == null) {
         FutureParser future = scoped("globalClause", PUBLIC, true);
         globalClauseParser = future;
@@ -7515,7 +7515,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start groupIndicateClause = Start.on(getNamespace(), "groupIndicateClause");
     
-    public ParserCombinator groupIndicateClause() {
+    public synchronized ParserCombinator groupIndicateClause() {
       if (groupIndicateClauseParser == null) {
         FutureParser future = scoped("groupIndicateClause", PUBLIC, true);
         groupIndicateClauseParser = future;
@@ -7540,7 +7540,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start groupUsageClause = Start.on(getNamespace(), "groupUsageClause");
     
-    public ParserCombinator groupUsageClause() {
+    public synchronized ParserCombinator groupUsageClause() {
       if (groupUsageClauseParser == null) {
         FutureParser future = scoped("groupUsageClause", PUBLIC, true);
         groupUsageClauseParser = future;
@@ -7569,7 +7569,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start highlightClause = Start.on(getNamespace(), "highlightClause");
     
-    public ParserCombinator highlightClause() {
+    public synchronized ParserCombinator highlightClause() {
       if (highlightClauseParser == null) {
         FutureParser future = scoped("highlightClause", PUBLIC, true);
         highlightClauseParser = future;
@@ -7592,7 +7592,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start invalidClause = Start.on(getNamespace(), "invalidClause");
     
-    public ParserCombinator invalidClause() {
+    public synchronized ParserCombinator invalidClause() {
       if (invalidClauseParser == null) {
         FutureParser future = scoped("invalidClause", PUBLIC, true);
         invalidClauseParser = future;
@@ -7616,7 +7616,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start justifiedClause = Start.on(getNamespace(), "justifiedClause");
     
-    public ParserCombinator justifiedClause() {
+    public synchronized ParserCombinator justifiedClause() {
       if (justifiedClauseParser == null) {
         FutureParser future = scoped("justifiedClause", PUBLIC, true);
         justifiedClauseParser = future;
@@ -7644,7 +7644,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start linageClause = Start.on(getNamespace(), "linageClause");
     
-    public ParserCombinator linageClause() {
+    public synchronized ParserCombinator linageClause() {
       if (linageClauseParser == null) {
         FutureParser future = scoped("linageClause", PUBLIC, true);
         linageClauseParser = future;
@@ -7685,7 +7685,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start footingClause = Start.on(getNamespace(), "footingClause");
     
-    public ParserCombinator footingClause() {
+    public synchronized ParserCombinator footingClause() {
       if (footingClauseParser == null) {
         FutureParser future = scoped("footingClause", PUBLIC, true);
         footingClauseParser = future;
@@ -7717,7 +7717,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start linesAtTopClause = Start.on(getNamespace(), "linesAtTopClause");
     
-    public ParserCombinator linesAtTopClause() {
+    public synchronized ParserCombinator linesAtTopClause() {
       if (linesAtTopClauseParser == null) {
         FutureParser future = scoped("linesAtTopClause", PUBLIC, true);
         linesAtTopClauseParser = future;
@@ -7749,7 +7749,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start linesAtBottomClause = Start.on(getNamespace(), "linesAtBottomClause");
     
-    public ParserCombinator linesAtBottomClause() {
+    public synchronized ParserCombinator linesAtBottomClause() {
       if (linesAtBottomClauseParser == null) {
         FutureParser future = scoped("linesAtBottomClause", PUBLIC, true);
         linesAtBottomClauseParser = future;
@@ -7781,7 +7781,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start lineClause = Start.on(getNamespace(), "lineClause");
     
-    public ParserCombinator lineClause() {
+    public synchronized ParserCombinator lineClause() {
       if (lineClauseParser == null) {
         FutureParser future = scoped("lineClause", PUBLIC, true);
         lineClauseParser = future;
@@ -7872,7 +7872,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start nextGroupClause = Start.on(getNamespace(), "nextGroupClause");
     
-    public ParserCombinator nextGroupClause() {
+    public synchronized ParserCombinator nextGroupClause() {
       if (nextGroupClauseParser == null) {
         FutureParser future = scoped("nextGroupClause", PUBLIC, true);
         nextGroupClauseParser = future;
@@ -7917,7 +7917,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start occursClause = Start.on(getNamespace(), "occursClause");
     
-    public ParserCombinator occursClause() {
+    public synchronized ParserCombinator occursClause() {
       if (occursClauseParser == null) {
         FutureParser future = scoped("occursClause", PUBLIC, true);
         occursClauseParser = future;
@@ -8050,7 +8050,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start pageClause = Start.on(getNamespace(), "pageClause");
     
-    public ParserCombinator pageClause() {
+    public synchronized ParserCombinator pageClause() {
       if (pageClauseParser == null) {
         FutureParser future = scoped("pageClause", PUBLIC, true);
         pageClauseParser = future;
@@ -8117,7 +8117,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start pictureClause = Start.on(getNamespace(), "pictureClause");
     
-    public ParserCombinator pictureClause() {
+    public synchronized ParserCombinator pictureClause() {
       if (pictureClauseParser == null) {
         FutureParser future = scoped("pictureClause", PUBLIC, true);
         pictureClauseParser = future;
@@ -8149,7 +8149,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start pictureLocaleClause = Start.on(getNamespace(), "pictureLocaleClause");
     
-    public ParserCombinator pictureLocaleClause() {
+    public synchronized ParserCombinator pictureLocaleClause() {
       if (pictureLocaleClauseParser == null) {
         FutureParser future = scoped("pictureLocaleClause", PUBLIC, true);
         pictureLocaleClauseParser = future;
@@ -8184,7 +8184,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start presentWhenClause = Start.on(getNamespace(), "presentWhenClause");
     
-    public ParserCombinator presentWhenClause() {
+    public synchronized ParserCombinator presentWhenClause() {
       if (presentWhenClauseParser == null) {
         FutureParser future = scoped("presentWhenClause", PUBLIC, true);
         presentWhenClauseParser = future;
@@ -8208,7 +8208,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start propertyClause = Start.on(getNamespace(), "propertyClause");
     
-    public ParserCombinator propertyClause() {
+    public synchronized ParserCombinator propertyClause() {
       if (propertyClauseParser == null) {
         FutureParser future = scoped("propertyClause", PUBLIC, true);
         propertyClauseParser = future;
@@ -8250,7 +8250,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start recordClause = Start.on(getNamespace(), "recordClause");
     
-    public ParserCombinator recordClause() {
+    public synchronized ParserCombinator recordClause() {
       if (recordClauseParser == null) {
         FutureParser future = scoped("recordClause", PUBLIC, true);
         recordClauseParser = future;
@@ -8276,7 +8276,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start recordContainsClause = Start.on(getNamespace(), "recordContainsClause");
     
-    public ParserCombinator recordContainsClause() {
+    public synchronized ParserCombinator recordContainsClause() {
       if (recordContainsClauseParser == null) {
         FutureParser future = scoped("recordContainsClause", PUBLIC, true);
         recordContainsClauseParser = future;
@@ -8310,7 +8310,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start recordIsVaryingClause = Start.on(getNamespace(), "recordIsVaryingClause");
     
-    public ParserCombinator recordIsVaryingClause() {
+    public synchronized ParserCombinator recordIsVaryingClause() {
       if (recordIsVaryingClauseParser == null) {
         FutureParser future = scoped("recordIsVaryingClause", PUBLIC, true);
         recordIsVaryingClauseParser = future;
@@ -8367,7 +8367,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start redefinesClause = Start.on(getNamespace(), "redefinesClause");
     
-    public ParserCombinator redefinesClause() {
+    public synchronized ParserCombinator redefinesClause() {
       if (redefinesClauseParser == null) {
         FutureParser future = scoped("redefinesClause", PUBLIC, true);
         redefinesClauseParser = future;
@@ -8390,7 +8390,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start renamesClause = Start.on(getNamespace(), "renamesClause");
     
-    public ParserCombinator renamesClause() {
+    public synchronized ParserCombinator renamesClause() {
       if (renamesClauseParser == null) {
         FutureParser future = scoped("renamesClause", PUBLIC, true);
         renamesClauseParser = future;
@@ -8422,7 +8422,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start reportClause = Start.on(getNamespace(), "reportClause");
     
-    public ParserCombinator reportClause() {
+    public synchronized ParserCombinator reportClause() {
       if (reportClauseParser == null) {
         FutureParser future = scoped("reportClause", PUBLIC, true);
         reportClauseParser = future;
@@ -8460,7 +8460,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start reportGroupTypeClause = Start.on(getNamespace(), "reportGroupTypeClause");
     
-    public ParserCombinator reportGroupTypeClause() {
+    public synchronized ParserCombinator reportGroupTypeClause() {
       if (reportGroupTypeClauseParser == null) {
         FutureParser future = scoped("reportGroupTypeClause", PUBLIC, true);
         reportGroupTypeClauseParser = future;
@@ -8557,7 +8557,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start reportGroupUsageClause = Start.on(getNamespace(), "reportGroupUsageClause");
     
-    public ParserCombinator reportGroupUsageClause() {
+    public synchronized ParserCombinator reportGroupUsageClause() {
       if (reportGroupUsageClauseParser == null) {
         FutureParser future = scoped("reportGroupUsageClause", PUBLIC, true);
         reportGroupUsageClauseParser = future;
@@ -8586,7 +8586,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start reportSectionValueClause = Start.on(getNamespace(), "reportSectionValueClause");
     
-    public ParserCombinator reportSectionValueClause() {
+    public synchronized ParserCombinator reportSectionValueClause() {
       if (reportSectionValueClauseParser == null) {
         FutureParser future = scoped("reportSectionValueClause", PUBLIC, true);
         reportSectionValueClauseParser = future;
@@ -8627,7 +8627,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start reverseVideoClause = Start.on(getNamespace(), "reverseVideoClause");
     
-    public ParserCombinator reverseVideoClause() {
+    public synchronized ParserCombinator reverseVideoClause() {
       if (reverseVideoClauseParser == null) {
         FutureParser future = scoped("reverseVideoClause", PUBLIC, true);
         reverseVideoClauseParser = future;
@@ -8647,7 +8647,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start requiredClause = Start.on(getNamespace(), "requiredClause");
     
-    public ParserCombinator requiredClause() {
+    public synchronized ParserCombinator requiredClause() {
       if (requiredClauseParser == null) {
         FutureParser future = scoped("requiredClause", PUBLIC, true);
         requiredClauseParser = future;
@@ -8667,7 +8667,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start sameAsClause = Start.on(getNamespace(), "sameAsClause");
     
-    public ParserCombinator sameAsClause() {
+    public synchronized ParserCombinator sameAsClause() {
       if (sameAsClauseParser == null) {
         FutureParser future = scoped("sameAsClause", PUBLIC, true);
         sameAsClauseParser = future;
@@ -8691,7 +8691,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start screenFromClause = Start.on(getNamespace(), "screenFromClause");
     
-    public ParserCombinator screenFromClause() {
+    public synchronized ParserCombinator screenFromClause() {
       if (screenFromClauseParser == null) {
         FutureParser future = scoped("screenFromClause", PUBLIC, true);
         screenFromClauseParser = future;
@@ -8717,7 +8717,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start screenToClause = Start.on(getNamespace(), "screenToClause");
     
-    public ParserCombinator screenToClause() {
+    public synchronized ParserCombinator screenToClause() {
       if (screenToClauseParser == null) {
         FutureParser future = scoped("screenToClause", PUBLIC, true);
         screenToClauseParser = future;
@@ -8740,7 +8740,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start screenUsingClause = Start.on(getNamespace(), "screenUsingClause");
     
-    public ParserCombinator screenUsingClause() {
+    public synchronized ParserCombinator screenUsingClause() {
       if (screenUsingClauseParser == null) {
         FutureParser future = scoped("screenUsingClause", PUBLIC, true);
         screenUsingClauseParser = future;
@@ -8763,7 +8763,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start screenValueClause = Start.on(getNamespace(), "screenValueClause");
     
-    public ParserCombinator screenValueClause() {
+    public synchronized ParserCombinator screenValueClause() {
       if (screenValueClauseParser == null) {
         FutureParser future = scoped("screenValueClause", PUBLIC, true);
         screenValueClauseParser = future;
@@ -8789,7 +8789,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start secureClause = Start.on(getNamespace(), "secureClause");
     
-    public ParserCombinator secureClause() {
+    public synchronized ParserCombinator secureClause() {
       if (secureClauseParser == null) {
         FutureParser future = scoped("secureClause", PUBLIC, true);
         secureClauseParser = future;
@@ -8809,7 +8809,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start selectWhenClause = Start.on(getNamespace(), "selectWhenClause");
     
-    public ParserCombinator selectWhenClause() {
+    public synchronized ParserCombinator selectWhenClause() {
       if (selectWhenClauseParser == null) {
         FutureParser future = scoped("selectWhenClause", PUBLIC, true);
         selectWhenClauseParser = future;
@@ -8836,7 +8836,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start signClause = Start.on(getNamespace(), "signClause");
     
-    public ParserCombinator signClause() {
+    public synchronized ParserCombinator signClause() {
       if (signClauseParser == null) {
         FutureParser future = scoped("signClause", PUBLIC, true);
         signClauseParser = future;
@@ -8883,7 +8883,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start sourceClause = Start.on(getNamespace(), "sourceClause");
     
-    public ParserCombinator sourceClause() {
+    public synchronized ParserCombinator sourceClause() {
       if (sourceClauseParser == null) {
         FutureParser future = scoped("sourceClause", PUBLIC, true);
         sourceClauseParser = future;
@@ -8932,7 +8932,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start sumClause = Start.on(getNamespace(), "sumClause");
     
-    public ParserCombinator sumClause() {
+    public synchronized ParserCombinator sumClause() {
       if (sumClauseParser == null) {
         FutureParser future = scoped("sumClause", PUBLIC, true);
         sumClauseParser = future;
@@ -8989,7 +8989,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start synchronizedClause = Start.on(getNamespace(), "synchronizedClause");
     
-    public ParserCombinator synchronizedClause() {
+    public synchronized ParserCombinator synchronizedClause() {
       if (synchronizedClauseParser == null) {
         FutureParser future = scoped("synchronizedClause", PUBLIC, true);
         synchronizedClauseParser = future;
@@ -9020,7 +9020,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start typedefClause = Start.on(getNamespace(), "typedefClause");
     
-    public ParserCombinator typedefClause() {
+    public synchronized ParserCombinator typedefClause() {
       if (typedefClauseParser == null) {
         FutureParser future = scoped("typedefClause", PUBLIC, true);
         typedefClauseParser = future;
@@ -9048,7 +9048,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start typeNameTypeClause = Start.on(getNamespace(), "typeNameTypeClause");
     
-    public ParserCombinator typeNameTypeClause() {
+    public synchronized ParserCombinator typeNameTypeClause() {
       if (typeNameTypeClauseParser == null) {
         FutureParser future = scoped("typeNameTypeClause", PUBLIC, true);
         typeNameTypeClauseParser = future;
@@ -9074,7 +9074,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start underlineClause = Start.on(getNamespace(), "underlineClause");
     
-    public ParserCombinator underlineClause() {
+    public synchronized ParserCombinator underlineClause() {
       if (underlineClauseParser == null) {
         FutureParser future = scoped("underlineClause", PUBLIC, true);
         underlineClauseParser = future;
@@ -9094,7 +9094,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start usageClause = Start.on(getNamespace(), "usageClause");
     
-    public ParserCombinator usageClause() {
+    public synchronized ParserCombinator usageClause() {
       if (usageClauseParser == null) {
         FutureParser future = scoped("usageClause", PUBLIC, true);
         usageClauseParser = future;
@@ -9124,7 +9124,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start usageOperand = Start.on(getNamespace(), "usageOperand");
     
-    public ParserCombinator usageOperand() {
+    public synchronized ParserCombinator usageOperand() {
       if (usageOperandParser == null) {
         FutureParser future = scoped("usageOperand", PUBLIC, true);
         usageOperandParser = future;
@@ -9303,7 +9303,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start validateStatusClause = Start.on(getNamespace(), "validateStatusClause");
     
-    public ParserCombinator validateStatusClause() {
+    public synchronized ParserCombinator validateStatusClause() {
       if (validateStatusClauseParser == null) {
         FutureParser future = scoped("validateStatusClause", PUBLIC, true);
         validateStatusClauseParser = future;
@@ -9356,7 +9356,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start varyingClause = Start.on(getNamespace(), "varyingClause");
     
-    public ParserCombinator varyingClause() {
+    public synchronized ParserCombinator varyingClause() {
       if (varyingClauseParser == null) {
         FutureParser future = scoped("varyingClause", PUBLIC, true);
         varyingClauseParser = future;
@@ -9395,7 +9395,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start procedureDivision = Start.on(getNamespace(), "procedureDivision");
     
-    public ParserCombinator procedureDivision() {
+    public synchronized ParserCombinator procedureDivision() {
       if (procedureDivisionParser == null) {
         FutureParser future = scoped("procedureDivision", PUBLIC, true);
         procedureDivisionParser = future;
@@ -9429,7 +9429,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start procedureDivision$header = Start.on(getNamespace(), "header");
     
-    public ParserCombinator procedureDivision$header() {
+    public synchronized ParserCombinator procedureDivision$header() {
       if (procedureDivision$headerParser == null) {
         FutureParser future = scoped("header", PUBLIC, true);
         procedureDivision$headerParser = future;
@@ -9462,7 +9462,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start procedureDivision$header$using = Start.on(getNamespace(), "using");
     
-    public ParserCombinator procedureDivision$header$using() {
+    public synchronized ParserCombinator procedureDivision$header$using() {
       if (procedureDivision$header$usingParser == null) {
         FutureParser future = scoped("using", PUBLIC, true);
         procedureDivision$header$usingParser = future;
@@ -9498,7 +9498,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start procedureDivision$header$using$byReference = Start.on(getNamespace(), "byReference");
     
-    public ParserCombinator procedureDivision$header$using$byReference() {
+    public synchronized ParserCombinator procedureDivision$header$using$byReference() {
       if (procedureDivision$header$using$byReferenceParser == null) {
         FutureParser future = scoped("byReference", PUBLIC, true);
         procedureDivision$header$using$byReferenceParser = future;
@@ -9535,7 +9535,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start procedureDivision$header$using$byValue = Start.on(getNamespace(), "byValue");
     
-    public ParserCombinator procedureDivision$header$using$byValue() {
+    public synchronized ParserCombinator procedureDivision$header$using$byValue() {
       if (procedureDivision$header$using$byValueParser == null) {
         FutureParser future = scoped("byValue", PUBLIC, true);
         procedureDivision$header$using$byValueParser = future;
@@ -9568,7 +9568,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start procedureDivision$header$using$byOutput = Start.on(getNamespace(), "byOutput");
     
-    public ParserCombinator procedureDivision$header$using$byOutput() {
+    public synchronized ParserCombinator procedureDivision$header$using$byOutput() {
       if (procedureDivision$header$using$byOutputParser == null) {
         FutureParser future = scoped("byOutput", PUBLIC, true);
         procedureDivision$header$using$byOutputParser = future;
@@ -9599,7 +9599,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start procedureDivision$header$using$arg = Start.on(getNamespace(), "arg");
     
-    public ParserCombinator procedureDivision$header$using$arg() {
+    public synchronized ParserCombinator procedureDivision$header$using$arg() {
       if (procedureDivision$header$using$argParser == null) {
         FutureParser future = scoped("arg", PUBLIC, true);
         procedureDivision$header$using$argParser = future;
@@ -9643,7 +9643,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start procedureDivision$header$using$arg$value = Start.on(getNamespace(), "value");
     
-    public ParserCombinator procedureDivision$header$using$arg$value() {
+    public synchronized ParserCombinator procedureDivision$header$using$arg$value() {
       if (procedureDivision$header$using$arg$valueParser == null) {
         FutureParser future = scoped("value", PUBLIC, true);
         procedureDivision$header$using$arg$valueParser = future;
@@ -9668,7 +9668,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start procedureDivision$header$using$arg$sizeIs = Start.on(getNamespace(), "sizeIs");
     
-    public ParserCombinator procedureDivision$header$using$arg$sizeIs() {
+    public synchronized ParserCombinator procedureDivision$header$using$arg$sizeIs() {
       if (procedureDivision$header$using$arg$sizeIsParser == null) {
         FutureParser future = scoped("sizeIs", PUBLIC, true);
         procedureDivision$header$using$arg$sizeIsParser = future;
@@ -9698,7 +9698,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start procedureDivision$header$using$repeated = Start.on(getNamespace(), "repeated");
     
-    public ParserCombinator procedureDivision$header$using$repeated() {
+    public synchronized ParserCombinator procedureDivision$header$using$repeated() {
       if (procedureDivision$header$using$repeatedParser == null) {
         FutureParser future = scoped("repeated", PUBLIC, true);
         procedureDivision$header$using$repeatedParser = future;
@@ -9727,7 +9727,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start procedureDivision$header$using$asTypeName = Start.on(getNamespace(), "asTypeName");
     
-    public ParserCombinator procedureDivision$header$using$asTypeName() {
+    public synchronized ParserCombinator procedureDivision$header$using$asTypeName() {
       if (procedureDivision$header$using$asTypeNameParser == null) {
         FutureParser future = scoped("asTypeName", PUBLIC, true);
         procedureDivision$header$using$asTypeNameParser = future;
@@ -9753,7 +9753,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start procedureDivision$header$returning = Start.on(getNamespace(), "returning");
     
-    public ParserCombinator procedureDivision$header$returning() {
+    public synchronized ParserCombinator procedureDivision$header$returning() {
       if (procedureDivision$header$returningParser == null) {
         FutureParser future = scoped("returning", PUBLIC, true);
         procedureDivision$header$returningParser = future;
@@ -9789,7 +9789,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start roundedPhrase = Start.on(getNamespace(), "roundedPhrase");
     
-    public ParserCombinator roundedPhrase() {
+    public synchronized ParserCombinator roundedPhrase() {
       if (roundedPhraseParser == null) {
         FutureParser future = scoped("roundedPhrase", PUBLIC, true);
         roundedPhraseParser = future;
@@ -9829,7 +9829,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start declaratives = Start.on(getNamespace(), "declaratives");
     
-    public ParserCombinator declaratives() {
+    public synchronized ParserCombinator declaratives() {
       if (declarativesParser == null) {
         FutureParser future = scoped("declaratives", PUBLIC, true);
         declarativesParser = future;
@@ -9858,7 +9858,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start declarativeSection = Start.on(getNamespace(), "declarativeSection");
     
-    public ParserCombinator declarativeSection() {
+    public synchronized ParserCombinator declarativeSection() {
       if (declarativeSectionParser == null) {
         FutureParser future = scoped("declarativeSection", PUBLIC, true);
         declarativeSectionParser = future;
@@ -9896,7 +9896,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start section = Start.on(getNamespace(), "section");
     
-    public ParserCombinator section() {
+    public synchronized ParserCombinator section() {
       if (sectionParser == null) {
         FutureParser future = scoped("section", PUBLIC, true);
         sectionParser = future;
@@ -9929,7 +9929,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start paragraph = Start.on(getNamespace(), "paragraph");
     
-    public ParserCombinator paragraph() {
+    public synchronized ParserCombinator paragraph() {
       if (paragraphParser == null) {
         FutureParser future = scoped("paragraph", PUBLIC, true);
         paragraphParser = future;
@@ -9955,7 +9955,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start sentence = Start.on(getNamespace(), "sentence");
     
-    public ParserCombinator sentence() {
+    public synchronized ParserCombinator sentence() {
       if (sentenceParser == null) {
         FutureParser future = scoped("sentence", PUBLIC, true);
         sentenceParser = future;
@@ -9989,7 +9989,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start nestedCopyStatement = Start.on(getNamespace(), "nestedCopyStatement");
     
-    protected ParserCombinator nestedCopyStatement() {
+    protected synchronized ParserCombinator nestedCopyStatement() {
       if (nestedCopyStatementParser == null) {
         FutureParser future = scoped("nestedCopyStatement", PRIVATE, true);
         nestedCopyStatementParser = future;
@@ -10026,7 +10026,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start statement = Start.on(getNamespace(), "statement");
     
-    public ParserCombinator statement() {
+    public synchronized ParserCombinator statement() {
       if (statementParser == null) {
         FutureParser future = scoped("statement", PUBLIC, true);
         statementParser = future;
@@ -10204,7 +10204,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start continuationOfStatement = Start.on(getNamespace(), "continuationOfStatement");
     
-    public ParserCombinator continuationOfStatement() {
+    public synchronized ParserCombinator continuationOfStatement() {
       if (continuationOfStatementParser == null) {
         FutureParser future = scoped("continuationOfStatement", PUBLIC, true);
         continuationOfStatementParser = future;
@@ -10230,7 +10230,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start nestedStatements = Start.on(getNamespace(), "nestedStatements");
     
-    public ParserCombinator nestedStatements() {
+    public synchronized ParserCombinator nestedStatements() {
       if (nestedStatementsParser == null) {
         FutureParser future = scoped("nestedStatements", PUBLIC, true);
         nestedStatementsParser = future;
@@ -10252,7 +10252,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start eventPhrase = Start.on(getNamespace(), "eventPhrase");
     
-    protected ParserCombinator eventPhrase() {
+    protected synchronized ParserCombinator eventPhrase() {
       if (eventPhraseParser == null) {
         FutureParser future = scoped("eventPhrase", PRIVATE, true);
         eventPhraseParser = future;
@@ -10283,7 +10283,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start eventType = Start.on(getNamespace(), "eventType");
     
-    protected ParserCombinator eventType() {
+    protected synchronized ParserCombinator eventType() {
       if (eventTypeParser == null) {
         FutureParser future = scoped("eventType", PRIVATE, true);
         eventTypeParser = future;
@@ -10319,7 +10319,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start retryPhrase = Start.on(getNamespace(), "retryPhrase");
     
-    public ParserCombinator retryPhrase() {
+    public synchronized ParserCombinator retryPhrase() {
       if (retryPhraseParser == null) {
         FutureParser future = scoped("retryPhrase", PUBLIC, true);
         retryPhraseParser = future;
@@ -10359,7 +10359,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start endOfStatementMarker = Start.on(getNamespace(), "endOfStatementMarker");
     
-    protected ParserCombinator endOfStatementMarker() {
+    protected synchronized ParserCombinator endOfStatementMarker() {
       if (endOfStatementMarkerParser == null) {
         FutureParser future = scoped("endOfStatementMarker", PRIVATE, true);
         endOfStatementMarkerParser = future;
@@ -10402,7 +10402,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start somethingFollowingAStatement = Start.on(getNamespace(), "somethingFollowingAStatement");
     
-    protected ParserCombinator somethingFollowingAStatement() {
+    protected synchronized ParserCombinator somethingFollowingAStatement() {
       if (somethingFollowingAStatementParser == null) {
         FutureParser future = scoped("somethingFollowingAStatement", PRIVATE, true);
         somethingFollowingAStatementParser = future;
@@ -10513,7 +10513,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start verb = Start.on(getNamespace(), "verb");
     
-    public ParserCombinator verb() {
+    public synchronized ParserCombinator verb() {
       if (verbParser == null) {
         FutureParser future = scoped("verb", PUBLIC, true);
         verbParser = future;
@@ -10620,7 +10620,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start acceptStatement = Start.on(getNamespace(), "acceptStatement");
     
-    public ParserCombinator acceptStatement() {
+    public synchronized ParserCombinator acceptStatement() {
       if (acceptStatementParser == null) {
         FutureParser future = scoped("acceptStatement", PUBLIC, true);
         acceptStatementParser = future;
@@ -10661,7 +10661,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start acceptFromMnemonic = Start.on(getNamespace(), "acceptFromMnemonic");
     
-    public ParserCombinator acceptFromMnemonic() {
+    public synchronized ParserCombinator acceptFromMnemonic() {
       if (acceptFromMnemonicParser == null) {
         FutureParser future = scoped("acceptFromMnemonic", PUBLIC, true);
         acceptFromMnemonicParser = future;
@@ -10693,7 +10693,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start acceptFromOther = Start.on(getNamespace(), "acceptFromOther");
     
-    public ParserCombinator acceptFromOther() {
+    public synchronized ParserCombinator acceptFromOther() {
       if (acceptFromOtherParser == null) {
         FutureParser future = scoped("acceptFromOther", PUBLIC, true);
         acceptFromOtherParser = future;
@@ -10761,7 +10761,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start acceptScreenFormat = Start.on(getNamespace(), "acceptScreenFormat");
     
-    public ParserCombinator acceptScreenFormat() {
+    public synchronized ParserCombinator acceptScreenFormat() {
       if (acceptScreenFormatParser == null) {
         FutureParser future = scoped("acceptScreenFormat", PUBLIC, true);
         acceptScreenFormatParser = future;
@@ -10827,7 +10827,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start acceptFromDate = Start.on(getNamespace(), "acceptFromDate");
     
-    public ParserCombinator acceptFromDate() {
+    public synchronized ParserCombinator acceptFromDate() {
       if (acceptFromDateParser == null) {
         FutureParser future = scoped("acceptFromDate", PUBLIC, true);
         acceptFromDateParser = future;
@@ -10877,7 +10877,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start acceptMessageCount = Start.on(getNamespace(), "acceptMessageCount");
     
-    public ParserCombinator acceptMessageCount() {
+    public synchronized ParserCombinator acceptMessageCount() {
       if (acceptMessageCountParser == null) {
         FutureParser future = scoped("acceptMessageCount", PUBLIC, true);
         acceptMessageCountParser = future;
@@ -10903,7 +10903,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start unitPhrase = Start.on(getNamespace(), "unitPhrase");
     
-    public ParserCombinator unitPhrase() {
+    public synchronized ParserCombinator unitPhrase() {
       if (unitPhraseParser == null) {
         FutureParser future = scoped("unitPhrase", PUBLIC, true);
         unitPhraseParser = future;
@@ -10929,7 +10929,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start modeIsBlockPhrase = Start.on(getNamespace(), "modeIsBlockPhrase");
     
-    public ParserCombinator modeIsBlockPhrase() {
+    public synchronized ParserCombinator modeIsBlockPhrase() {
       if (modeIsBlockPhraseParser == null) {
         FutureParser future = scoped("modeIsBlockPhrase", PUBLIC, true);
         modeIsBlockPhraseParser = future;
@@ -10955,7 +10955,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start acceptScreenSizeData = Start.on(getNamespace(), "acceptScreenSizeData");
     
-    public ParserCombinator acceptScreenSizeData() {
+    public synchronized ParserCombinator acceptScreenSizeData() {
       if (acceptScreenSizeDataParser == null) {
         FutureParser future = scoped("acceptScreenSizeData", PUBLIC, true);
         acceptScreenSizeDataParser = future;
@@ -10982,7 +10982,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start acceptFromCommandLine = Start.on(getNamespace(), "acceptFromCommandLine");
     
-    public ParserCombinator acceptFromCommandLine() {
+    public synchronized ParserCombinator acceptFromCommandLine() {
       if (acceptFromCommandLineParser == null) {
         FutureParser future = scoped("acceptFromCommandLine", PUBLIC, true);
         acceptFromCommandLineParser = future;
@@ -11010,7 +11010,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start addStatement = Start.on(getNamespace(), "addStatement");
     
-    public ParserCombinator addStatement() {
+    public synchronized ParserCombinator addStatement() {
       if (addStatementParser == null) {
         FutureParser future = scoped("addStatement", PUBLIC, true);
         addStatementParser = future;
@@ -11048,7 +11048,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start addStatement$format1 = Start.on(getNamespace(), "format1");
     
-    protected ParserCombinator addStatement$format1() {
+    protected synchronized ParserCombinator addStatement$format1() {
       if (addStatement$format1Parser == null) {
         FutureParser future = scoped("format1", PRIVATE, true);
         addStatement$format1Parser = future;
@@ -11089,7 +11089,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start addStatement$format2 = Start.on(getNamespace(), "format2");
     
-    protected ParserCombinator addStatement$format2() {
+    protected synchronized ParserCombinator addStatement$format2() {
       if (addStatement$format2Parser == null) {
         FutureParser future = scoped("format2", PRIVATE, true);
         addStatement$format2Parser = future;
@@ -11146,7 +11146,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start addStatement$format3 = Start.on(getNamespace(), "format3");
     
-    protected ParserCombinator addStatement$format3() {
+    protected synchronized ParserCombinator addStatement$format3() {
       if (addStatement$format3Parser == null) {
         FutureParser future = scoped("format3", PRIVATE, true);
         addStatement$format3Parser = future;
@@ -11192,7 +11192,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start allocateStatement = Start.on(getNamespace(), "allocateStatement");
     
-    public ParserCombinator allocateStatement() {
+    public synchronized ParserCombinator allocateStatement() {
       if (allocateStatementParser == null) {
         FutureParser future = scoped("allocateStatement", PUBLIC, true);
         allocateStatementParser = future;
@@ -11230,7 +11230,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start alterStatement = Start.on(getNamespace(), "alterStatement");
     
-    public ParserCombinator alterStatement() {
+    public synchronized ParserCombinator alterStatement() {
       if (alterStatementParser == null) {
         FutureParser future = scoped("alterStatement", PUBLIC, true);
         alterStatementParser = future;
@@ -11255,7 +11255,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start alterationClause = Start.on(getNamespace(), "alterationClause");
     
-    public ParserCombinator alterationClause() {
+    public synchronized ParserCombinator alterationClause() {
       if (alterationClauseParser == null) {
         FutureParser future = scoped("alterationClause", PUBLIC, true);
         alterationClauseParser = future;
@@ -11285,7 +11285,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start callStatement = Start.on(getNamespace(), "callStatement");
     
-    public ParserCombinator callStatement() {
+    public synchronized ParserCombinator callStatement() {
       if (callStatementParser == null) {
         FutureParser future = scoped("callStatement", PUBLIC, true);
         callStatementParser = future;
@@ -11357,7 +11357,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start callStatement$programName = Start.on(getNamespace(), "programName");
     
-    public ParserCombinator callStatement$programName() {
+    public synchronized ParserCombinator callStatement$programName() {
       if (callStatement$programNameParser == null) {
         FutureParser future = scoped("programName", PUBLIC, true);
         callStatement$programNameParser = future;
@@ -11380,7 +11380,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start callStatement$programPrototypeName = Start.on(getNamespace(), "programPrototypeName");
     
-    public ParserCombinator callStatement$programPrototypeName() {
+    public synchronized ParserCombinator callStatement$programPrototypeName() {
       if (callStatement$programPrototypeNameParser == null) {
         FutureParser future = scoped("programPrototypeName", PUBLIC, true);
         callStatement$programPrototypeNameParser = future;
@@ -11400,7 +11400,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start callStatement$using = Start.on(getNamespace(), "using");
     
-    public ParserCombinator callStatement$using() {
+    public synchronized ParserCombinator callStatement$using() {
       if (callStatement$usingParser == null) {
         FutureParser future = scoped("using", PUBLIC, true);
         callStatement$usingParser = future;
@@ -11430,7 +11430,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start callStatement$using$byReference = Start.on(getNamespace(), "byReference");
     
-    public ParserCombinator callStatement$using$byReference() {
+    public synchronized ParserCombinator callStatement$using$byReference() {
       if (callStatement$using$byReferenceParser == null) {
         FutureParser future = scoped("byReference", PUBLIC, true);
         callStatement$using$byReferenceParser = future;
@@ -11465,7 +11465,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start callStatement$using$byContent = Start.on(getNamespace(), "byContent");
     
-    public ParserCombinator callStatement$using$byContent() {
+    public synchronized ParserCombinator callStatement$using$byContent() {
       if (callStatement$using$byContentParser == null) {
         FutureParser future = scoped("byContent", PUBLIC, true);
         callStatement$using$byContentParser = future;
@@ -11496,7 +11496,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start callStatement$using$byValue = Start.on(getNamespace(), "byValue");
     
-    public ParserCombinator callStatement$using$byValue() {
+    public synchronized ParserCombinator callStatement$using$byValue() {
       if (callStatement$using$byValueParser == null) {
         FutureParser future = scoped("byValue", PUBLIC, true);
         callStatement$using$byValueParser = future;
@@ -11527,7 +11527,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start callStatement$using$modifier = Start.on(getNamespace(), "modifier");
     
-    public ParserCombinator callStatement$using$modifier() {
+    public synchronized ParserCombinator callStatement$using$modifier() {
       if (callStatement$using$modifierParser == null) {
         FutureParser future = scoped("modifier", PUBLIC, true);
         callStatement$using$modifierParser = future;
@@ -11552,7 +11552,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start callStatement$using$modifier$sizeIs = Start.on(getNamespace(), "sizeIs");
     
-    public ParserCombinator callStatement$using$modifier$sizeIs() {
+    public synchronized ParserCombinator callStatement$using$modifier$sizeIs() {
       if (callStatement$using$modifier$sizeIsParser == null) {
         FutureParser future = scoped("sizeIs", PUBLIC, true);
         callStatement$using$modifier$sizeIsParser = future;
@@ -11582,7 +11582,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start callStatement$using$arg = Start.on(getNamespace(), "arg");
     
-    public ParserCombinator callStatement$using$arg() {
+    public synchronized ParserCombinator callStatement$using$arg() {
       if (callStatement$using$argParser == null) {
         FutureParser future = scoped("arg", PUBLIC, true);
         callStatement$using$argParser = future;
@@ -11621,7 +11621,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start callStatement$giving = Start.on(getNamespace(), "giving");
     
-    public ParserCombinator callStatement$giving() {
+    public synchronized ParserCombinator callStatement$giving() {
       if (callStatement$givingParser == null) {
         FutureParser future = scoped("giving", PUBLIC, true);
         callStatement$givingParser = future;
@@ -11655,7 +11655,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start cancelStatement = Start.on(getNamespace(), "cancelStatement");
     
-    public ParserCombinator cancelStatement() {
+    public synchronized ParserCombinator cancelStatement() {
       if (cancelStatementParser == null) {
         FutureParser future = scoped("cancelStatement", PUBLIC, true);
         cancelStatementParser = future;
@@ -11683,7 +11683,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start chainStatement = Start.on(getNamespace(), "chainStatement");
     
-    public ParserCombinator chainStatement() {
+    public synchronized ParserCombinator chainStatement() {
       if (chainStatementParser == null) {
         FutureParser future = scoped("chainStatement", PUBLIC, true);
         chainStatementParser = future;
@@ -11717,7 +11717,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start chainUsing = Start.on(getNamespace(), "chainUsing");
     
-    public ParserCombinator chainUsing() {
+    public synchronized ParserCombinator chainUsing() {
       if (chainUsingParser == null) {
         FutureParser future = scoped("chainUsing", PUBLIC, true);
         chainUsingParser = future;
@@ -11799,7 +11799,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start closeStatement = Start.on(getNamespace(), "closeStatement");
     
-    public ParserCombinator closeStatement() {
+    public synchronized ParserCombinator closeStatement() {
       if (closeStatementParser == null) {
         FutureParser future = scoped("closeStatement", PUBLIC, true);
         closeStatementParser = future;
@@ -11862,7 +11862,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start commitStatement = Start.on(getNamespace(), "commitStatement");
     
-    public ParserCombinator commitStatement() {
+    public synchronized ParserCombinator commitStatement() {
       if (commitStatementParser == null) {
         FutureParser future = scoped("commitStatement", PUBLIC, true);
         commitStatementParser = future;
@@ -11887,7 +11887,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start computeStatement = Start.on(getNamespace(), "computeStatement");
     
-    public ParserCombinator computeStatement() {
+    public synchronized ParserCombinator computeStatement() {
       if (computeStatementParser == null) {
         FutureParser future = scoped("computeStatement", PUBLIC, true);
         computeStatementParser = future;
@@ -11933,7 +11933,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start continueStatement = Start.on(getNamespace(), "continueStatement");
     
-    public ParserCombinator continueStatement() {
+    public synchronized ParserCombinator continueStatement() {
       if (continueStatementParser == null) {
         FutureParser future = scoped("continueStatement", PUBLIC, true);
         continueStatementParser = future;
@@ -11953,7 +11953,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start deleteStatement = Start.on(getNamespace(), "deleteStatement");
     
-    public ParserCombinator deleteStatement() {
+    public synchronized ParserCombinator deleteStatement() {
       if (deleteStatementParser == null) {
         FutureParser future = scoped("deleteStatement", PUBLIC, true);
         deleteStatementParser = future;
@@ -11993,7 +11993,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start invalidKey = Start.on(getNamespace(), "invalidKey");
     
-    public ParserCombinator invalidKey() {
+    public synchronized ParserCombinator invalidKey() {
       if (invalidKeyParser == null) {
         FutureParser future = scoped("invalidKey", PUBLIC, true);
         invalidKeyParser = future;
@@ -12019,7 +12019,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start notInvalidKey = Start.on(getNamespace(), "notInvalidKey");
     
-    public ParserCombinator notInvalidKey() {
+    public synchronized ParserCombinator notInvalidKey() {
       if (notInvalidKeyParser == null) {
         FutureParser future = scoped("notInvalidKey", PUBLIC, true);
         notInvalidKeyParser = future;
@@ -12046,7 +12046,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start deleteFileStatement = Start.on(getNamespace(), "deleteFileStatement");
     
-    public ParserCombinator deleteFileStatement() {
+    public synchronized ParserCombinator deleteFileStatement() {
       if (deleteFileStatementParser == null) {
         FutureParser future = scoped("deleteFileStatement", PUBLIC, true);
         deleteFileStatementParser = future;
@@ -12072,7 +12072,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start disableStatement = Start.on(getNamespace(), "disableStatement");
     
-    public ParserCombinator disableStatement() {
+    public synchronized ParserCombinator disableStatement() {
       if (disableStatementParser == null) {
         FutureParser future = scoped("disableStatement", PUBLIC, true);
         disableStatementParser = future;
@@ -12116,7 +12116,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start displayStatement = Start.on(getNamespace(), "displayStatement");
     
-    public ParserCombinator displayStatement() {
+    public synchronized ParserCombinator displayStatement() {
       if (displayStatementParser == null) {
         FutureParser future = scoped("displayStatement", PUBLIC, true);
         displayStatementParser = future;
@@ -12186,7 +12186,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start displayDeviceFormat = Start.on(getNamespace(), "displayDeviceFormat");
     
-    public ParserCombinator displayDeviceFormat() {
+    public synchronized ParserCombinator displayDeviceFormat() {
       if (displayDeviceFormatParser == null) {
         FutureParser future = scoped("displayDeviceFormat", PUBLIC, true);
         displayDeviceFormatParser = future;
@@ -12225,7 +12225,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start uponClause = Start.on(getNamespace(), "uponClause");
     
-    public ParserCombinator uponClause() {
+    public synchronized ParserCombinator uponClause() {
       if (uponClauseParser == null) {
         FutureParser future = scoped("uponClause", PUBLIC, true);
         uponClauseParser = future;
@@ -12255,7 +12255,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start withNoAdvancing = Start.on(getNamespace(), "withNoAdvancing");
     
-    public ParserCombinator withNoAdvancing() {
+    public synchronized ParserCombinator withNoAdvancing() {
       if (withNoAdvancingParser == null) {
         FutureParser future = scoped("withNoAdvancing", PUBLIC, true);
         withNoAdvancingParser = future;
@@ -12281,7 +12281,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start displayTerminalFormat = Start.on(getNamespace(), "displayTerminalFormat");
     
-    public ParserCombinator displayTerminalFormat() {
+    public synchronized ParserCombinator displayTerminalFormat() {
       if (displayTerminalFormatParser == null) {
         FutureParser future = scoped("displayTerminalFormat", PUBLIC, true);
         displayTerminalFormatParser = future;
@@ -12338,7 +12338,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start dtAtPositioning = Start.on(getNamespace(), "dtAtPositioning");
     
-    public ParserCombinator dtAtPositioning() {
+    public synchronized ParserCombinator dtAtPositioning() {
       if (dtAtPositioningParser == null) {
         FutureParser future = scoped("dtAtPositioning", PUBLIC, true);
         dtAtPositioningParser = future;
@@ -12364,7 +12364,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start dtLineColPositioning = Start.on(getNamespace(), "dtLineColPositioning");
     
-    public ParserCombinator dtLineColPositioning() {
+    public synchronized ParserCombinator dtLineColPositioning() {
       if (dtLineColPositioningParser == null) {
         FutureParser future = scoped("dtLineColPositioning", PUBLIC, true);
         dtLineColPositioningParser = future;
@@ -12405,7 +12405,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start dtLinePos = Start.on(getNamespace(), "dtLinePos");
     
-    public ParserCombinator dtLinePos() {
+    public synchronized ParserCombinator dtLinePos() {
       if (dtLinePosParser == null) {
         FutureParser future = scoped("dtLinePos", PUBLIC, true);
         dtLinePosParser = future;
@@ -12444,7 +12444,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start dtColPos = Start.on(getNamespace(), "dtColPos");
     
-    public ParserCombinator dtColPos() {
+    public synchronized ParserCombinator dtColPos() {
       if (dtColPosParser == null) {
         FutureParser future = scoped("dtColPos", PUBLIC, true);
         dtColPosParser = future;
@@ -12488,7 +12488,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start screenEntryPhrase = Start.on(getNamespace(), "screenEntryPhrase");
     
-    public ParserCombinator screenEntryPhrase() {
+    public synchronized ParserCombinator screenEntryPhrase() {
       if (screenEntryPhraseParser == null) {
         FutureParser future = scoped("screenEntryPhrase", PUBLIC, true);
         screenEntryPhraseParser = future;
@@ -12545,7 +12545,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start autoPhrase = Start.on(getNamespace(), "autoPhrase");
     
-    public ParserCombinator autoPhrase() {
+    public synchronized ParserCombinator autoPhrase() {
       if (autoPhraseParser == null) {
         FutureParser future = scoped("autoPhrase", PUBLIC, true);
         autoPhraseParser = future;
@@ -12568,7 +12568,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start backgroundPhrase = Start.on(getNamespace(), "backgroundPhrase");
     
-    public ParserCombinator backgroundPhrase() {
+    public synchronized ParserCombinator backgroundPhrase() {
       if (backgroundPhraseParser == null) {
         FutureParser future = scoped("backgroundPhrase", PUBLIC, true);
         backgroundPhraseParser = future;
@@ -12597,7 +12597,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start beepPhrase = Start.on(getNamespace(), "beepPhrase");
     
-    public ParserCombinator beepPhrase() {
+    public synchronized ParserCombinator beepPhrase() {
       if (beepPhraseParser == null) {
         FutureParser future = scoped("beepPhrase", PUBLIC, true);
         beepPhraseParser = future;
@@ -12625,7 +12625,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start blankPhrase = Start.on(getNamespace(), "blankPhrase");
     
-    public ParserCombinator blankPhrase() {
+    public synchronized ParserCombinator blankPhrase() {
       if (blankPhraseParser == null) {
         FutureParser future = scoped("blankPhrase", PUBLIC, true);
         blankPhraseParser = future;
@@ -12668,7 +12668,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start blinkPhrase = Start.on(getNamespace(), "blinkPhrase");
     
-    public ParserCombinator blinkPhrase() {
+    public synchronized ParserCombinator blinkPhrase() {
       if (blinkPhraseParser == null) {
         FutureParser future = scoped("blinkPhrase", PUBLIC, true);
         blinkPhraseParser = future;
@@ -12691,7 +12691,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start boldPhrase = Start.on(getNamespace(), "boldPhrase");
     
-    public ParserCombinator boldPhrase() {
+    public synchronized ParserCombinator boldPhrase() {
       if (boldPhraseParser == null) {
         FutureParser future = scoped("boldPhrase", PUBLIC, true);
         boldPhraseParser = future;
@@ -12711,7 +12711,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start capitalizationPhrase = Start.on(getNamespace(), "capitalizationPhrase");
     
-    public ParserCombinator capitalizationPhrase() {
+    public synchronized ParserCombinator capitalizationPhrase() {
       if (capitalizationPhraseParser == null) {
         FutureParser future = scoped("capitalizationPhrase", PUBLIC, true);
         capitalizationPhraseParser = future;
@@ -12734,7 +12734,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start controlPhrase = Start.on(getNamespace(), "controlPhrase");
     
-    public ParserCombinator controlPhrase() {
+    public synchronized ParserCombinator controlPhrase() {
       if (controlPhraseParser == null) {
         FutureParser future = scoped("controlPhrase", PUBLIC, true);
         controlPhraseParser = future;
@@ -12763,7 +12763,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start convertPhrase = Start.on(getNamespace(), "convertPhrase");
     
-    public ParserCombinator convertPhrase() {
+    public synchronized ParserCombinator convertPhrase() {
       if (convertPhraseParser == null) {
         FutureParser future = scoped("convertPhrase", PUBLIC, true);
         convertPhraseParser = future;
@@ -12786,7 +12786,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start cursorPhrase = Start.on(getNamespace(), "cursorPhrase");
     
-    public ParserCombinator cursorPhrase() {
+    public synchronized ParserCombinator cursorPhrase() {
       if (cursorPhraseParser == null) {
         FutureParser future = scoped("cursorPhrase", PUBLIC, true);
         cursorPhraseParser = future;
@@ -12812,7 +12812,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start echoPhrase = Start.on(getNamespace(), "echoPhrase");
     
-    public ParserCombinator echoPhrase() {
+    public synchronized ParserCombinator echoPhrase() {
       if (echoPhraseParser == null) {
         FutureParser future = scoped("echoPhrase", PUBLIC, true);
         echoPhraseParser = future;
@@ -12832,7 +12832,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start erasePhrase = Start.on(getNamespace(), "erasePhrase");
     
-    public ParserCombinator erasePhrase() {
+    public synchronized ParserCombinator erasePhrase() {
       if (erasePhraseParser == null) {
         FutureParser future = scoped("erasePhrase", PUBLIC, true);
         erasePhraseParser = future;
@@ -12875,7 +12875,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start foregroundPhrase = Start.on(getNamespace(), "foregroundPhrase");
     
-    public ParserCombinator foregroundPhrase() {
+    public synchronized ParserCombinator foregroundPhrase() {
       if (foregroundPhraseParser == null) {
         FutureParser future = scoped("foregroundPhrase", PUBLIC, true);
         foregroundPhraseParser = future;
@@ -12904,7 +12904,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start fullPhrase = Start.on(getNamespace(), "fullPhrase");
     
-    public ParserCombinator fullPhrase() {
+    public synchronized ParserCombinator fullPhrase() {
       if (fullPhraseParser == null) {
         FutureParser future = scoped("fullPhrase", PUBLIC, true);
         fullPhraseParser = future;
@@ -12927,7 +12927,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start gridPhrase = Start.on(getNamespace(), "gridPhrase");
     
-    public ParserCombinator gridPhrase() {
+    public synchronized ParserCombinator gridPhrase() {
       if (gridPhraseParser == null) {
         FutureParser future = scoped("gridPhrase", PUBLIC, true);
         gridPhraseParser = future;
@@ -12947,7 +12947,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start highPhrase = Start.on(getNamespace(), "highPhrase");
     
-    public ParserCombinator highPhrase() {
+    public synchronized ParserCombinator highPhrase() {
       if (highPhraseParser == null) {
         FutureParser future = scoped("highPhrase", PUBLIC, true);
         highPhraseParser = future;
@@ -12970,7 +12970,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start linePhrase = Start.on(getNamespace(), "linePhrase");
     
-    public ParserCombinator linePhrase() {
+    public synchronized ParserCombinator linePhrase() {
       if (linePhraseParser == null) {
         FutureParser future = scoped("linePhrase", PUBLIC, true);
         linePhraseParser = future;
@@ -12994,7 +12994,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start lowPhrase = Start.on(getNamespace(), "lowPhrase");
     
-    public ParserCombinator lowPhrase() {
+    public synchronized ParserCombinator lowPhrase() {
       if (lowPhraseParser == null) {
         FutureParser future = scoped("lowPhrase", PUBLIC, true);
         lowPhraseParser = future;
@@ -13017,7 +13017,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start offPhrase = Start.on(getNamespace(), "offPhrase");
     
-    public ParserCombinator offPhrase() {
+    public synchronized ParserCombinator offPhrase() {
       if (offPhraseParser == null) {
         FutureParser future = scoped("offPhrase", PUBLIC, true);
         offPhraseParser = future;
@@ -13037,7 +13037,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start promptPhrase = Start.on(getNamespace(), "promptPhrase");
     
-    public ParserCombinator promptPhrase() {
+    public synchronized ParserCombinator promptPhrase() {
       if (promptPhraseParser == null) {
         FutureParser future = scoped("promptPhrase", PUBLIC, true);
         promptPhraseParser = future;
@@ -13079,7 +13079,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start requiredPhrase = Start.on(getNamespace(), "requiredPhrase");
     
-    public ParserCombinator requiredPhrase() {
+    public synchronized ParserCombinator requiredPhrase() {
       if (requiredPhraseParser == null) {
         FutureParser future = scoped("requiredPhrase", PUBLIC, true);
         requiredPhraseParser = future;
@@ -13102,7 +13102,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start reversePhrase = Start.on(getNamespace(), "reversePhrase");
     
-    public ParserCombinator reversePhrase() {
+    public synchronized ParserCombinator reversePhrase() {
       if (reversePhraseParser == null) {
         FutureParser future = scoped("reversePhrase", PUBLIC, true);
         reversePhraseParser = future;
@@ -13126,7 +13126,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start scrollPhrase = Start.on(getNamespace(), "scrollPhrase");
     
-    public ParserCombinator scrollPhrase() {
+    public synchronized ParserCombinator scrollPhrase() {
       if (scrollPhraseParser == null) {
         FutureParser future = scoped("scrollPhrase", PUBLIC, true);
         scrollPhraseParser = future;
@@ -13167,7 +13167,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start securePhrase = Start.on(getNamespace(), "securePhrase");
     
-    public ParserCombinator securePhrase() {
+    public synchronized ParserCombinator securePhrase() {
       if (securePhraseParser == null) {
         FutureParser future = scoped("securePhrase", PUBLIC, true);
         securePhraseParser = future;
@@ -13190,7 +13190,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start sizePhrase = Start.on(getNamespace(), "sizePhrase");
     
-    public ParserCombinator sizePhrase() {
+    public synchronized ParserCombinator sizePhrase() {
       if (sizePhraseParser == null) {
         FutureParser future = scoped("sizePhrase", PUBLIC, true);
         sizePhraseParser = future;
@@ -13219,7 +13219,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start standardPhrase = Start.on(getNamespace(), "standardPhrase");
     
-    public ParserCombinator standardPhrase() {
+    public synchronized ParserCombinator standardPhrase() {
       if (standardPhraseParser == null) {
         FutureParser future = scoped("standardPhrase", PUBLIC, true);
         standardPhraseParser = future;
@@ -13239,7 +13239,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start tabPhrase = Start.on(getNamespace(), "tabPhrase");
     
-    public ParserCombinator tabPhrase() {
+    public synchronized ParserCombinator tabPhrase() {
       if (tabPhraseParser == null) {
         FutureParser future = scoped("tabPhrase", PUBLIC, true);
         tabPhraseParser = future;
@@ -13259,7 +13259,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start timePhrase = Start.on(getNamespace(), "timePhrase");
     
-    public ParserCombinator timePhrase() {
+    public synchronized ParserCombinator timePhrase() {
       if (timePhraseParser == null) {
         FutureParser future = scoped("timePhrase", PUBLIC, true);
         timePhraseParser = future;
@@ -13288,7 +13288,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start timeoutPhrase = Start.on(getNamespace(), "timeoutPhrase");
     
-    public ParserCombinator timeoutPhrase() {
+    public synchronized ParserCombinator timeoutPhrase() {
       if (timeoutPhraseParser == null) {
         FutureParser future = scoped("timeoutPhrase", PUBLIC, true);
         timeoutPhraseParser = future;
@@ -13318,7 +13318,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start justificationPhrase = Start.on(getNamespace(), "justificationPhrase");
     
-    public ParserCombinator justificationPhrase() {
+    public synchronized ParserCombinator justificationPhrase() {
       if (justificationPhraseParser == null) {
         FutureParser future = scoped("justificationPhrase", PUBLIC, true);
         justificationPhraseParser = future;
@@ -13341,7 +13341,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start fillPhrase = Start.on(getNamespace(), "fillPhrase");
     
-    public ParserCombinator fillPhrase() {
+    public synchronized ParserCombinator fillPhrase() {
       if (fillPhraseParser == null) {
         FutureParser future = scoped("fillPhrase", PUBLIC, true);
         fillPhraseParser = future;
@@ -13364,7 +13364,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start trailingSignPhrase = Start.on(getNamespace(), "trailingSignPhrase");
     
-    public ParserCombinator trailingSignPhrase() {
+    public synchronized ParserCombinator trailingSignPhrase() {
       if (trailingSignPhraseParser == null) {
         FutureParser future = scoped("trailingSignPhrase", PUBLIC, true);
         trailingSignPhraseParser = future;
@@ -13384,7 +13384,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start updatePhrase = Start.on(getNamespace(), "updatePhrase");
     
-    public ParserCombinator updatePhrase() {
+    public synchronized ParserCombinator updatePhrase() {
       if (updatePhraseParser == null) {
         FutureParser future = scoped("updatePhrase", PUBLIC, true);
         updatePhraseParser = future;
@@ -13404,7 +13404,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start divideStatement = Start.on(getNamespace(), "divideStatement");
     
-    public ParserCombinator divideStatement() {
+    public synchronized ParserCombinator divideStatement() {
       if (divideStatementParser == null) {
         FutureParser future = scoped("divideStatement", PUBLIC, true);
         divideStatementParser = future;
@@ -13442,7 +13442,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start divideStatement$format1 = Start.on(getNamespace(), "format1");
     
-    protected ParserCombinator divideStatement$format1() {
+    protected synchronized ParserCombinator divideStatement$format1() {
       if (divideStatement$format1Parser == null) {
         FutureParser future = scoped("format1", PRIVATE, true);
         divideStatement$format1Parser = future;
@@ -13496,7 +13496,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start divideStatement$format2 = Start.on(getNamespace(), "format2");
     
-    protected ParserCombinator divideStatement$format2() {
+    protected synchronized ParserCombinator divideStatement$format2() {
       if (divideStatement$format2Parser == null) {
         FutureParser future = scoped("format2", PRIVATE, true);
         divideStatement$format2Parser = future;
@@ -13548,7 +13548,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start divideStatement$format3 = Start.on(getNamespace(), "format3");
     
-    protected ParserCombinator divideStatement$format3() {
+    protected synchronized ParserCombinator divideStatement$format3() {
       if (divideStatement$format3Parser == null) {
         FutureParser future = scoped("format3", PRIVATE, true);
         divideStatement$format3Parser = future;
@@ -13586,7 +13586,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start enableStatement = Start.on(getNamespace(), "enableStatement");
     
-    public ParserCombinator enableStatement() {
+    public synchronized ParserCombinator enableStatement() {
       if (enableStatementParser == null) {
         FutureParser future = scoped("enableStatement", PUBLIC, true);
         enableStatementParser = future;
@@ -13630,7 +13630,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start entryStatement = Start.on(getNamespace(), "entryStatement");
     
-    public ParserCombinator entryStatement() {
+    public synchronized ParserCombinator entryStatement() {
       if (entryStatementParser == null) {
         FutureParser future = scoped("entryStatement", PUBLIC, true);
         entryStatementParser = future;
@@ -13710,7 +13710,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start entryStatement$byReference = Start.on(getNamespace(), "byReference");
     
-    public ParserCombinator entryStatement$byReference() {
+    public synchronized ParserCombinator entryStatement$byReference() {
       if (entryStatement$byReferenceParser == null) {
         FutureParser future = scoped("byReference", PUBLIC, true);
         entryStatement$byReferenceParser = future;
@@ -13735,7 +13735,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start entryStatement$byValue = Start.on(getNamespace(), "byValue");
     
-    public ParserCombinator entryStatement$byValue() {
+    public synchronized ParserCombinator entryStatement$byValue() {
       if (entryStatement$byValueParser == null) {
         FutureParser future = scoped("byValue", PUBLIC, true);
         entryStatement$byValueParser = future;
@@ -13760,7 +13760,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start entryStatement$byContent = Start.on(getNamespace(), "byContent");
     
-    public ParserCombinator entryStatement$byContent() {
+    public synchronized ParserCombinator entryStatement$byContent() {
       if (entryStatement$byContentParser == null) {
         FutureParser future = scoped("byContent", PUBLIC, true);
         entryStatement$byContentParser = future;
@@ -13785,7 +13785,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start evaluateStatement = Start.on(getNamespace(), "evaluateStatement");
     
-    public ParserCombinator evaluateStatement() {
+    public synchronized ParserCombinator evaluateStatement() {
       if (evaluateStatementParser == null) {
         FutureParser future = scoped("evaluateStatement", PUBLIC, true);
         evaluateStatementParser = future;
@@ -13825,7 +13825,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start subject = Start.on(getNamespace(), "subject");
     
-    public ParserCombinator subject() {
+    public synchronized ParserCombinator subject() {
       if (subjectParser == null) {
         FutureParser future = scoped("subject", PUBLIC, true);
         subjectParser = future;
@@ -13868,7 +13868,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start when = Start.on(getNamespace(), "when");
     
-    public ParserCombinator when() {
+    public synchronized ParserCombinator when() {
       if (whenParser == null) {
         FutureParser future = scoped("when", PUBLIC, true);
         whenParser = future;
@@ -13905,7 +13905,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start whenOther = Start.on(getNamespace(), "whenOther");
     
-    public ParserCombinator whenOther() {
+    public synchronized ParserCombinator whenOther() {
       if (whenOtherParser == null) {
         FutureParser future = scoped("whenOther", PUBLIC, true);
         whenOtherParser = future;
@@ -13929,7 +13929,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start object = Start.on(getNamespace(), "object");
     
-    public ParserCombinator object() {
+    public synchronized ParserCombinator object() {
       if (objectParser == null) {
         FutureParser future = scoped("object", PUBLIC, true);
         objectParser = future;
@@ -13991,7 +13991,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start object$rangeExpression = Start.on(getNamespace(), "rangeExpression");
     
-    public ParserCombinator object$rangeExpression() {
+    public synchronized ParserCombinator object$rangeExpression() {
       if (object$rangeExpressionParser == null) {
         FutureParser future = scoped("rangeExpression", PUBLIC, true);
         object$rangeExpressionParser = future;
@@ -14049,7 +14049,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start examineStatement = Start.on(getNamespace(), "examineStatement");
     
-    public ParserCombinator examineStatement() {
+    public synchronized ParserCombinator examineStatement() {
       if (examineStatementParser == null) {
         FutureParser future = scoped("examineStatement", PUBLIC, true);
         examineStatementParser = future;
@@ -14108,7 +14108,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start execStatement = Start.on(getNamespace(), "execStatement");
     
-    protected ParserCombinator execStatement() {
+    protected synchronized ParserCombinator execStatement() {
       if (execStatementParser == null) {
         FutureParser future = scoped("execStatement", PRIVATE, true);
         execStatementParser = future;
@@ -14131,7 +14131,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start execTextDataStatement = Start.on(getNamespace(), "execTextDataStatement");
     
-    public ParserCombinator execTextDataStatement() {
+    public synchronized ParserCombinator execTextDataStatement() {
       if (execTextDataStatementParser == null) {
         FutureParser future = scoped("execTextDataStatement", PUBLIC, true);
         execTextDataStatementParser = future;
@@ -14167,7 +14167,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start exitStatement = Start.on(getNamespace(), "exitStatement");
     
-    public ParserCombinator exitStatement() {
+    public synchronized ParserCombinator exitStatement() {
       if (exitStatementParser == null) {
         FutureParser future = scoped("exitStatement", PUBLIC, true);
         exitStatementParser = future;
@@ -14210,7 +14210,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start returningPhrase = Start.on(getNamespace(), "returningPhrase");
     
-    public ParserCombinator returningPhrase() {
+    public synchronized ParserCombinator returningPhrase() {
       if (returningPhraseParser == null) {
         FutureParser future = scoped("returningPhrase", PUBLIC, true);
         returningPhraseParser = future;
@@ -14239,7 +14239,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start generateStatement = Start.on(getNamespace(), "generateStatement");
     
-    public ParserCombinator generateStatement() {
+    public synchronized ParserCombinator generateStatement() {
       if (generateStatementParser == null) {
         FutureParser future = scoped("generateStatement", PUBLIC, true);
         generateStatementParser = future;
@@ -14265,7 +14265,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start freeStatement = Start.on(getNamespace(), "freeStatement");
     
-    public ParserCombinator freeStatement() {
+    public synchronized ParserCombinator freeStatement() {
       if (freeStatementParser == null) {
         FutureParser future = scoped("freeStatement", PUBLIC, true);
         freeStatementParser = future;
@@ -14300,7 +14300,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start gobackStatement = Start.on(getNamespace(), "gobackStatement");
     
-    public ParserCombinator gobackStatement() {
+    public synchronized ParserCombinator gobackStatement() {
       if (gobackStatementParser == null) {
         FutureParser future = scoped("gobackStatement", PUBLIC, true);
         gobackStatementParser = future;
@@ -14335,7 +14335,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start goToStatement = Start.on(getNamespace(), "goToStatement");
     
-    public ParserCombinator goToStatement() {
+    public synchronized ParserCombinator goToStatement() {
       if (goToStatementParser == null) {
         FutureParser future = scoped("goToStatement", PUBLIC, true);
         goToStatementParser = future;
@@ -14366,7 +14366,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start dependingOn = Start.on(getNamespace(), "dependingOn");
     
-    public ParserCombinator dependingOn() {
+    public synchronized ParserCombinator dependingOn() {
       if (dependingOnParser == null) {
         FutureParser future = scoped("dependingOn", PUBLIC, true);
         dependingOnParser = future;
@@ -14392,7 +14392,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start ifStatement = Start.on(getNamespace(), "ifStatement");
     
-    public ParserCombinator ifStatement() {
+    public synchronized ParserCombinator ifStatement() {
       if (ifStatementParser == null) {
         FutureParser future = scoped("ifStatement", PUBLIC, true);
         ifStatementParser = future;
@@ -14424,7 +14424,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start thenBranch = Start.on(getNamespace(), "thenBranch");
     
-    public ParserCombinator thenBranch() {
+    public synchronized ParserCombinator thenBranch() {
       if (thenBranchParser == null) {
         FutureParser future = scoped("thenBranch", PUBLIC, true);
         thenBranchParser = future;
@@ -14456,7 +14456,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start elseBranch = Start.on(getNamespace(), "elseBranch");
     
-    public ParserCombinator elseBranch() {
+    public synchronized ParserCombinator elseBranch() {
       if (elseBranchParser == null) {
         FutureParser future = scoped("elseBranch", PUBLIC, true);
         elseBranchParser = future;
@@ -14486,7 +14486,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start initiateStatement = Start.on(getNamespace(), "initiateStatement");
     
-    public ParserCombinator initiateStatement() {
+    public synchronized ParserCombinator initiateStatement() {
       if (initiateStatementParser == null) {
         FutureParser future = scoped("initiateStatement", PUBLIC, true);
         initiateStatementParser = future;
@@ -14511,7 +14511,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start invokeStatement = Start.on(getNamespace(), "invokeStatement");
     
-    public ParserCombinator invokeStatement() {
+    public synchronized ParserCombinator invokeStatement() {
       if (invokeStatementParser == null) {
         FutureParser future = scoped("invokeStatement", PUBLIC, true);
         invokeStatementParser = future;
@@ -14649,7 +14649,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start exhibitStatement = Start.on(getNamespace(), "exhibitStatement");
     
-    public ParserCombinator exhibitStatement() {
+    public synchronized ParserCombinator exhibitStatement() {
       if (exhibitStatementParser == null) {
         FutureParser future = scoped("exhibitStatement", PUBLIC, true);
         exhibitStatementParser = future;
@@ -14683,7 +14683,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start identifiedByStatement = Start.on(getNamespace(), "identifiedByStatement");
     
-    public ParserCombinator identifiedByStatement() {
+    public synchronized ParserCombinator identifiedByStatement() {
       if (identifiedByStatementParser == null) {
         FutureParser future = scoped("identifiedByStatement", PUBLIC, true);
         identifiedByStatementParser = future;
@@ -14720,7 +14720,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start initializeStatement = Start.on(getNamespace(), "initializeStatement");
     
-    public ParserCombinator initializeStatement() {
+    public synchronized ParserCombinator initializeStatement() {
       if (initializeStatementParser == null) {
         FutureParser future = scoped("initializeStatement", PUBLIC, true);
         initializeStatementParser = future;
@@ -14755,7 +14755,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start replacingInitClause = Start.on(getNamespace(), "replacingInitClause");
     
-    public ParserCombinator replacingInitClause() {
+    public synchronized ParserCombinator replacingInitClause() {
       if (replacingInitClauseParser == null) {
         FutureParser future = scoped("replacingInitClause", PUBLIC, true);
         replacingInitClauseParser = future;
@@ -14786,7 +14786,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start replacementTarget = Start.on(getNamespace(), "replacementTarget");
     
-    public ParserCombinator replacementTarget() {
+    public synchronized ParserCombinator replacementTarget() {
       if (replacementTargetParser == null) {
         FutureParser future = scoped("replacementTarget", PUBLIC, true);
         replacementTargetParser = future;
@@ -14816,7 +14816,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start inspectStatement = Start.on(getNamespace(), "inspectStatement");
     
-    public ParserCombinator inspectStatement() {
+    public synchronized ParserCombinator inspectStatement() {
       if (inspectStatementParser == null) {
         FutureParser future = scoped("inspectStatement", PUBLIC, true);
         inspectStatementParser = future;
@@ -14849,7 +14849,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start convertingPhrase = Start.on(getNamespace(), "convertingPhrase");
     
-    public ParserCombinator convertingPhrase() {
+    public synchronized ParserCombinator convertingPhrase() {
       if (convertingPhraseParser == null) {
         FutureParser future = scoped("convertingPhrase", PUBLIC, true);
         convertingPhraseParser = future;
@@ -14883,7 +14883,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start tallyingPhrase = Start.on(getNamespace(), "tallyingPhrase");
     
-    public ParserCombinator tallyingPhrase() {
+    public synchronized ParserCombinator tallyingPhrase() {
       if (tallyingPhraseParser == null) {
         FutureParser future = scoped("tallyingPhrase", PUBLIC, true);
         tallyingPhraseParser = future;
@@ -14917,7 +14917,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start tallyingCharactersPhrase = Start.on(getNamespace(), "tallyingCharactersPhrase");
     
-    public ParserCombinator tallyingCharactersPhrase() {
+    public synchronized ParserCombinator tallyingCharactersPhrase() {
       if (tallyingCharactersPhraseParser == null) {
         FutureParser future = scoped("tallyingCharactersPhrase", PUBLIC, true);
         tallyingCharactersPhraseParser = future;
@@ -14942,7 +14942,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start tallyingAllLeadingOrTrailingPhrase = Start.on(getNamespace(), "tallyingAllLeadingOrTrailingPhrase");
     
-    public ParserCombinator tallyingAllLeadingOrTrailingPhrase() {
+    public synchronized ParserCombinator tallyingAllLeadingOrTrailingPhrase() {
       if (tallyingAllLeadingOrTrailingPhraseParser == null) {
         FutureParser future = scoped("tallyingAllLeadingOrTrailingPhrase", PUBLIC, true);
         tallyingAllLeadingOrTrailingPhraseParser = future;
@@ -14984,7 +14984,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start replacingPhrase = Start.on(getNamespace(), "replacingPhrase");
     
-    public ParserCombinator replacingPhrase() {
+    public synchronized ParserCombinator replacingPhrase() {
       if (replacingPhraseParser == null) {
         FutureParser future = scoped("replacingPhrase", PUBLIC, true);
         replacingPhraseParser = future;
@@ -15012,7 +15012,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start replacingCharactersPhrase = Start.on(getNamespace(), "replacingCharactersPhrase");
     
-    public ParserCombinator replacingCharactersPhrase() {
+    public synchronized ParserCombinator replacingCharactersPhrase() {
       if (replacingCharactersPhraseParser == null) {
         FutureParser future = scoped("replacingCharactersPhrase", PUBLIC, true);
         replacingCharactersPhraseParser = future;
@@ -15042,7 +15042,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start replacingAllLeadingFirstOrTrailingPhrase = Start.on(getNamespace(), "replacingAllLeadingFirstOrTrailingPhrase");
     
-    public ParserCombinator replacingAllLeadingFirstOrTrailingPhrase() {
+    public synchronized ParserCombinator replacingAllLeadingFirstOrTrailingPhrase() {
       if (replacingAllLeadingFirstOrTrailingPhraseParser == null) {
         FutureParser future = scoped("replacingAllLeadingFirstOrTrailingPhrase", PUBLIC, true);
         replacingAllLeadingFirstOrTrailingPhraseParser = future;
@@ -15085,7 +15085,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start locationPhrase = Start.on(getNamespace(), "locationPhrase");
     
-    public ParserCombinator locationPhrase() {
+    public synchronized ParserCombinator locationPhrase() {
       if (locationPhraseParser == null) {
         FutureParser future = scoped("locationPhrase", PUBLIC, true);
         locationPhraseParser = future;
@@ -15117,7 +15117,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start mergeStatement = Start.on(getNamespace(), "mergeStatement");
     
-    public ParserCombinator mergeStatement() {
+    public synchronized ParserCombinator mergeStatement() {
       if (mergeStatementParser == null) {
         FutureParser future = scoped("mergeStatement", PUBLIC, true);
         mergeStatementParser = future;
@@ -15220,7 +15220,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start moveStatement = Start.on(getNamespace(), "moveStatement");
     
-    public ParserCombinator moveStatement() {
+    public synchronized ParserCombinator moveStatement() {
       if (moveStatementParser == null) {
         FutureParser future = scoped("moveStatement", PUBLIC, true);
         moveStatementParser = future;
@@ -15268,7 +15268,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start multiplyStatement = Start.on(getNamespace(), "multiplyStatement");
     
-    public ParserCombinator multiplyStatement() {
+    public synchronized ParserCombinator multiplyStatement() {
       if (multiplyStatementParser == null) {
         FutureParser future = scoped("multiplyStatement", PUBLIC, true);
         multiplyStatementParser = future;
@@ -15305,7 +15305,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start multiplyStatement$format1 = Start.on(getNamespace(), "format1");
     
-    protected ParserCombinator multiplyStatement$format1() {
+    protected synchronized ParserCombinator multiplyStatement$format1() {
       if (multiplyStatement$format1Parser == null) {
         FutureParser future = scoped("format1", PRIVATE, true);
         multiplyStatement$format1Parser = future;
@@ -15354,7 +15354,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start multiplyStatement$format2 = Start.on(getNamespace(), "format2");
     
-    protected ParserCombinator multiplyStatement$format2() {
+    protected synchronized ParserCombinator multiplyStatement$format2() {
       if (multiplyStatement$format2Parser == null) {
         FutureParser future = scoped("format2", PRIVATE, true);
         multiplyStatement$format2Parser = future;
@@ -15392,7 +15392,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start nextSentenceStatement = Start.on(getNamespace(), "nextSentenceStatement");
     
-    public ParserCombinator nextSentenceStatement() {
+    public synchronized ParserCombinator nextSentenceStatement() {
       if (nextSentenceStatementParser == null) {
         FutureParser future = scoped("nextSentenceStatement", PUBLIC, true);
         nextSentenceStatementParser = future;
@@ -15415,7 +15415,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start onStatement = Start.on(getNamespace(), "onStatement");
     
-    public ParserCombinator onStatement() {
+    public synchronized ParserCombinator onStatement() {
       if (onStatementParser == null) {
         FutureParser future = scoped("onStatement", PUBLIC, true);
         onStatementParser = future;
@@ -15485,7 +15485,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start openStatement = Start.on(getNamespace(), "openStatement");
     
-    public ParserCombinator openStatement() {
+    public synchronized ParserCombinator openStatement() {
       if (openStatementParser == null) {
         FutureParser future = scoped("openStatement", PUBLIC, true);
         openStatementParser = future;
@@ -15560,7 +15560,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start performStatement = Start.on(getNamespace(), "performStatement");
     
-    public ParserCombinator performStatement() {
+    public synchronized ParserCombinator performStatement() {
       if (performStatementParser == null) {
         FutureParser future = scoped("performStatement", PUBLIC, true);
         performStatementParser = future;
@@ -15634,7 +15634,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start times = Start.on(getNamespace(), "times");
     
-    public ParserCombinator times() {
+    public synchronized ParserCombinator times() {
       if (timesParser == null) {
         FutureParser future = scoped("times", PUBLIC, true);
         timesParser = future;
@@ -15660,7 +15660,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start testPosition = Start.on(getNamespace(), "testPosition");
     
-    public ParserCombinator testPosition() {
+    public synchronized ParserCombinator testPosition() {
       if (testPositionParser == null) {
         FutureParser future = scoped("testPosition", PUBLIC, true);
         testPositionParser = future;
@@ -15689,7 +15689,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start until = Start.on(getNamespace(), "until");
     
-    public ParserCombinator until() {
+    public synchronized ParserCombinator until() {
       if (untilParser == null) {
         FutureParser future = scoped("until", PUBLIC, true);
         untilParser = future;
@@ -15723,7 +15723,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start varying = Start.on(getNamespace(), "varying");
     
-    public ParserCombinator varying() {
+    public synchronized ParserCombinator varying() {
       if (varyingParser == null) {
         FutureParser future = scoped("varying", PUBLIC, true);
         varyingParser = future;
@@ -15805,7 +15805,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start purgeStatement = Start.on(getNamespace(), "purgeStatement");
     
-    public ParserCombinator purgeStatement() {
+    public synchronized ParserCombinator purgeStatement() {
       if (purgeStatementParser == null) {
         FutureParser future = scoped("purgeStatement", PUBLIC, true);
         purgeStatementParser = future;
@@ -15828,7 +15828,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start raiseStatement = Start.on(getNamespace(), "raiseStatement");
     
-    public ParserCombinator raiseStatement() {
+    public synchronized ParserCombinator raiseStatement() {
       if (raiseStatementParser == null) {
         FutureParser future = scoped("raiseStatement", PUBLIC, true);
         raiseStatementParser = future;
@@ -15853,7 +15853,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start readStatement = Start.on(getNamespace(), "readStatement");
     
-    public ParserCombinator readStatement() {
+    public synchronized ParserCombinator readStatement() {
       if (readStatementParser == null) {
         FutureParser future = scoped("readStatement", PUBLIC, true);
         readStatementParser = future;
@@ -15951,7 +15951,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start readWithClause = Start.on(getNamespace(), "readWithClause");
     
-    public ParserCombinator readWithClause() {
+    public synchronized ParserCombinator readWithClause() {
       if (readWithClauseParser == null) {
         FutureParser future = scoped("readWithClause", PUBLIC, true);
         readWithClauseParser = future;
@@ -15979,7 +15979,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start readLockClause = Start.on(getNamespace(), "readLockClause");
     
-    public ParserCombinator readLockClause() {
+    public synchronized ParserCombinator readLockClause() {
       if (readLockClauseParser == null) {
         FutureParser future = scoped("readLockClause", PUBLIC, true);
         readLockClauseParser = future;
@@ -16008,7 +16008,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start readyTraceStatement = Start.on(getNamespace(), "readyTraceStatement");
     
-    public ParserCombinator readyTraceStatement() {
+    public synchronized ParserCombinator readyTraceStatement() {
       if (readyTraceStatementParser == null) {
         FutureParser future = scoped("readyTraceStatement", PUBLIC, true);
         readyTraceStatementParser = future;
@@ -16034,7 +16034,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start receiveStatement = Start.on(getNamespace(), "receiveStatement");
     
-    public ParserCombinator receiveStatement() {
+    public synchronized ParserCombinator receiveStatement() {
       if (receiveStatementParser == null) {
         FutureParser future = scoped("receiveStatement", PUBLIC, true);
         receiveStatementParser = future;
@@ -16148,7 +16148,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start noData = Start.on(getNamespace(), "noData");
     
-    public ParserCombinator noData() {
+    public synchronized ParserCombinator noData() {
       if (noDataParser == null) {
         FutureParser future = scoped("noData", PUBLIC, true);
         noDataParser = future;
@@ -16172,7 +16172,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start withData = Start.on(getNamespace(), "withData");
     
-    public ParserCombinator withData() {
+    public synchronized ParserCombinator withData() {
       if (withDataParser == null) {
         FutureParser future = scoped("withData", PUBLIC, true);
         withDataParser = future;
@@ -16196,7 +16196,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start releaseStatement = Start.on(getNamespace(), "releaseStatement");
     
-    public ParserCombinator releaseStatement() {
+    public synchronized ParserCombinator releaseStatement() {
       if (releaseStatementParser == null) {
         FutureParser future = scoped("releaseStatement", PUBLIC, true);
         releaseStatementParser = future;
@@ -16225,7 +16225,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start resetTraceStatement = Start.on(getNamespace(), "resetTraceStatement");
     
-    public ParserCombinator resetTraceStatement() {
+    public synchronized ParserCombinator resetTraceStatement() {
       if (resetTraceStatementParser == null) {
         FutureParser future = scoped("resetTraceStatement", PUBLIC, true);
         resetTraceStatementParser = future;
@@ -16251,7 +16251,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start returnStatement = Start.on(getNamespace(), "returnStatement");
     
-    public ParserCombinator returnStatement() {
+    public synchronized ParserCombinator returnStatement() {
       if (returnStatementParser == null) {
         FutureParser future = scoped("returnStatement", PUBLIC, true);
         returnStatementParser = future;
@@ -16294,7 +16294,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start rewriteStatement = Start.on(getNamespace(), "rewriteStatement");
     
-    public ParserCombinator rewriteStatement() {
+    public synchronized ParserCombinator rewriteStatement() {
       if (rewriteStatementParser == null) {
         FutureParser future = scoped("rewriteStatement", PUBLIC, true);
         rewriteStatementParser = future;
@@ -16357,7 +16357,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start rollbackStatement = Start.on(getNamespace(), "rollbackStatement");
     
-    public ParserCombinator rollbackStatement() {
+    public synchronized ParserCombinator rollbackStatement() {
       if (rollbackStatementParser == null) {
         FutureParser future = scoped("rollbackStatement", PUBLIC, true);
         rollbackStatementParser = future;
@@ -16377,7 +16377,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start searchStatement = Start.on(getNamespace(), "searchStatement");
     
-    public ParserCombinator searchStatement() {
+    public synchronized ParserCombinator searchStatement() {
       if (searchStatementParser == null) {
         FutureParser future = scoped("searchStatement", PUBLIC, true);
         searchStatementParser = future;
@@ -16440,7 +16440,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start atEnd = Start.on(getNamespace(), "atEnd");
     
-    public ParserCombinator atEnd() {
+    public synchronized ParserCombinator atEnd() {
       if (atEndParser == null) {
         FutureParser future = scoped("atEnd", PUBLIC, true);
         atEndParser = future;
@@ -16466,7 +16466,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start notAtEnd = Start.on(getNamespace(), "notAtEnd");
     
-    public ParserCombinator notAtEnd() {
+    public synchronized ParserCombinator notAtEnd() {
       if (notAtEndParser == null) {
         FutureParser future = scoped("notAtEnd", PUBLIC, true);
         notAtEndParser = future;
@@ -16493,7 +16493,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start sendStatement = Start.on(getNamespace(), "sendStatement");
     
-    public ParserCombinator sendStatement() {
+    public synchronized ParserCombinator sendStatement() {
       if (sendStatementParser == null) {
         FutureParser future = scoped("sendStatement", PUBLIC, true);
         sendStatementParser = future;
@@ -16597,7 +16597,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start serviceStatement = Start.on(getNamespace(), "serviceStatement");
     
-    public ParserCombinator serviceStatement() {
+    public synchronized ParserCombinator serviceStatement() {
       if (serviceStatementParser == null) {
         FutureParser future = scoped("serviceStatement", PUBLIC, true);
         serviceStatementParser = future;
@@ -16626,7 +16626,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start sortStatement = Start.on(getNamespace(), "sortStatement");
     
-    public ParserCombinator sortStatement() {
+    public synchronized ParserCombinator sortStatement() {
       if (sortStatementParser == null) {
         FutureParser future = scoped("sortStatement", PUBLIC, true);
         sortStatementParser = future;
@@ -16833,7 +16833,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start setStatement = Start.on(getNamespace(), "setStatement");
     
-    public ParserCombinator setStatement() {
+    public synchronized ParserCombinator setStatement() {
       if (setStatementParser == null) {
         FutureParser future = scoped("setStatement", PUBLIC, true);
         setStatementParser = future;
@@ -16866,7 +16866,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start setEnvironmentVariable = Start.on(getNamespace(), "setEnvironmentVariable");
     
-    protected ParserCombinator setEnvironmentVariable() {
+    protected synchronized ParserCombinator setEnvironmentVariable() {
       if (setEnvironmentVariableParser == null) {
         FutureParser future = scoped("setEnvironmentVariable", PRIVATE, true);
         setEnvironmentVariableParser = future;
@@ -16899,7 +16899,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start setOther = Start.on(getNamespace(), "setOther");
     
-    protected ParserCombinator setOther() {
+    protected synchronized ParserCombinator setOther() {
       if (setOtherParser == null) {
         FutureParser future = scoped("setOther", PRIVATE, true);
         setOtherParser = future;
@@ -17010,7 +17010,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start startStatement = Start.on(getNamespace(), "startStatement");
     
-    public ParserCombinator startStatement() {
+    public synchronized ParserCombinator startStatement() {
       if (startStatementParser == null) {
         FutureParser future = scoped("startStatement", PUBLIC, true);
         startStatementParser = future;
@@ -17079,7 +17079,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start sizeModifier = Start.on(getNamespace(), "sizeModifier");
     
-    public ParserCombinator sizeModifier() {
+    public synchronized ParserCombinator sizeModifier() {
       if (sizeModifierParser == null) {
         FutureParser future = scoped("sizeModifier", PUBLIC, true);
         sizeModifierParser = future;
@@ -17108,7 +17108,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start whileKeyModifier = Start.on(getNamespace(), "whileKeyModifier");
     
-    public ParserCombinator whileKeyModifier() {
+    public synchronized ParserCombinator whileKeyModifier() {
       if (whileKeyModifierParser == null) {
         FutureParser future = scoped("whileKeyModifier", PUBLIC, true);
         whileKeyModifierParser = future;
@@ -17149,7 +17149,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start likeMods = Start.on(getNamespace(), "likeMods");
     
-    public ParserCombinator likeMods() {
+    public synchronized ParserCombinator likeMods() {
       if (likeModsParser == null) {
         FutureParser future = scoped("likeMods", PUBLIC, true);
         likeModsParser = future;
@@ -17188,7 +17188,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start stopStatement = Start.on(getNamespace(), "stopStatement");
     
-    public ParserCombinator stopStatement() {
+    public synchronized ParserCombinator stopStatement() {
       if (stopStatementParser == null) {
         FutureParser future = scoped("stopStatement", PUBLIC, true);
         stopStatementParser = future;
@@ -17265,7 +17265,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start stringStatement = Start.on(getNamespace(), "stringStatement");
     
-    public ParserCombinator stringStatement() {
+    public synchronized ParserCombinator stringStatement() {
       if (stringStatementParser == null) {
         FutureParser future = scoped("stringStatement", PUBLIC, true);
         stringStatementParser = future;
@@ -17330,7 +17330,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start subtractStatement = Start.on(getNamespace(), "subtractStatement");
     
-    public ParserCombinator subtractStatement() {
+    public synchronized ParserCombinator subtractStatement() {
       if (subtractStatementParser == null) {
         FutureParser future = scoped("subtractStatement", PUBLIC, true);
         subtractStatementParser = future;
@@ -17368,7 +17368,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start subtractStatement$format1 = Start.on(getNamespace(), "format1");
     
-    protected ParserCombinator subtractStatement$format1() {
+    protected synchronized ParserCombinator subtractStatement$format1() {
       if (subtractStatement$format1Parser == null) {
         FutureParser future = scoped("format1", PRIVATE, true);
         subtractStatement$format1Parser = future;
@@ -17407,7 +17407,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start subtractStatement$format2 = Start.on(getNamespace(), "format2");
     
-    protected ParserCombinator subtractStatement$format2() {
+    protected synchronized ParserCombinator subtractStatement$format2() {
       if (subtractStatement$format2Parser == null) {
         FutureParser future = scoped("format2", PRIVATE, true);
         subtractStatement$format2Parser = future;
@@ -17458,7 +17458,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start subtractStatement$format3 = Start.on(getNamespace(), "format3");
     
-    protected ParserCombinator subtractStatement$format3() {
+    protected synchronized ParserCombinator subtractStatement$format3() {
       if (subtractStatement$format3Parser == null) {
         FutureParser future = scoped("format3", PRIVATE, true);
         subtractStatement$format3Parser = future;
@@ -17498,7 +17498,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start suppressStatement = Start.on(getNamespace(), "suppressStatement");
     
-    public ParserCombinator suppressStatement() {
+    public synchronized ParserCombinator suppressStatement() {
       if (suppressStatementParser == null) {
         FutureParser future = scoped("suppressStatement", PUBLIC, true);
         suppressStatementParser = future;
@@ -17523,7 +17523,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start terminateStatement = Start.on(getNamespace(), "terminateStatement");
     
-    public ParserCombinator terminateStatement() {
+    public synchronized ParserCombinator terminateStatement() {
       if (terminateStatementParser == null) {
         FutureParser future = scoped("terminateStatement", PUBLIC, true);
         terminateStatementParser = future;
@@ -17548,7 +17548,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start transformStatement = Start.on(getNamespace(), "transformStatement");
     
-    public ParserCombinator transformStatement() {
+    public synchronized ParserCombinator transformStatement() {
       if (transformStatementParser == null) {
         FutureParser future = scoped("transformStatement", PUBLIC, true);
         transformStatementParser = future;
@@ -17586,7 +17586,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start unlockStatement = Start.on(getNamespace(), "unlockStatement");
     
-    public ParserCombinator unlockStatement() {
+    public synchronized ParserCombinator unlockStatement() {
       if (unlockStatementParser == null) {
         FutureParser future = scoped("unlockStatement", PUBLIC, true);
         unlockStatementParser = future;
@@ -17615,7 +17615,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start unstringStatement = Start.on(getNamespace(), "unstringStatement");
     
-    public ParserCombinator unstringStatement() {
+    public synchronized ParserCombinator unstringStatement() {
       if (unstringStatementParser == null) {
         FutureParser future = scoped("unstringStatement", PUBLIC, true);
         unstringStatementParser = future;
@@ -17718,7 +17718,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start useStatement = Start.on(getNamespace(), "useStatement");
     
-    public ParserCombinator useStatement() {
+    public synchronized ParserCombinator useStatement() {
       if (useStatementParser == null) {
         FutureParser future = scoped("useStatement", PUBLIC, true);
         useStatementParser = future;
@@ -17746,7 +17746,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start errorDeclarative = Start.on(getNamespace(), "errorDeclarative");
     
-    public ParserCombinator errorDeclarative() {
+    public synchronized ParserCombinator errorDeclarative() {
       if (errorDeclarativeParser == null) {
         FutureParser future = scoped("errorDeclarative", PUBLIC, true);
         errorDeclarativeParser = future;
@@ -17800,7 +17800,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start debugDeclarative = Start.on(getNamespace(), "debugDeclarative");
     
-    public ParserCombinator debugDeclarative() {
+    public synchronized ParserCombinator debugDeclarative() {
       if (debugDeclarativeParser == null) {
         FutureParser future = scoped("debugDeclarative", PUBLIC, true);
         debugDeclarativeParser = future;
@@ -17852,7 +17852,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start labelDeclarative = Start.on(getNamespace(), "labelDeclarative");
     
-    public ParserCombinator labelDeclarative() {
+    public synchronized ParserCombinator labelDeclarative() {
       if (labelDeclarativeParser == null) {
         FutureParser future = scoped("labelDeclarative", PUBLIC, true);
         labelDeclarativeParser = future;
@@ -17907,7 +17907,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start beforeReportingDeclarative = Start.on(getNamespace(), "beforeReportingDeclarative");
     
-    public ParserCombinator beforeReportingDeclarative() {
+    public synchronized ParserCombinator beforeReportingDeclarative() {
       if (beforeReportingDeclarativeParser == null) {
         FutureParser future = scoped("beforeReportingDeclarative", PUBLIC, true);
         beforeReportingDeclarativeParser = future;
@@ -17934,7 +17934,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start waitStatement = Start.on(getNamespace(), "waitStatement");
     
-    public ParserCombinator waitStatement() {
+    public synchronized ParserCombinator waitStatement() {
       if (waitStatementParser == null) {
         FutureParser future = scoped("waitStatement", PUBLIC, true);
         waitStatementParser = future;
@@ -17998,7 +17998,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start writeStatement = Start.on(getNamespace(), "writeStatement");
     
-    public ParserCombinator writeStatement() {
+    public synchronized ParserCombinator writeStatement() {
       if (writeStatementParser == null) {
         FutureParser future = scoped("writeStatement", PUBLIC, true);
         writeStatementParser = future;
@@ -18100,7 +18100,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start atEndOfPage = Start.on(getNamespace(), "atEndOfPage");
     
-    public ParserCombinator atEndOfPage() {
+    public synchronized ParserCombinator atEndOfPage() {
       if (atEndOfPageParser == null) {
         FutureParser future = scoped("atEndOfPage", PUBLIC, true);
         atEndOfPageParser = future;
@@ -18129,7 +18129,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start notAtEndOfPage = Start.on(getNamespace(), "notAtEndOfPage");
     
-    public ParserCombinator notAtEndOfPage() {
+    public synchronized ParserCombinator notAtEndOfPage() {
       if (notAtEndOfPageParser == null) {
         FutureParser future = scoped("notAtEndOfPage", PUBLIC, true);
         notAtEndOfPageParser = future;
@@ -18159,7 +18159,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start xmlGenerateStatement = Start.on(getNamespace(), "xmlGenerateStatement");
     
-    public ParserCombinator xmlGenerateStatement() {
+    public synchronized ParserCombinator xmlGenerateStatement() {
       if (xmlGenerateStatementParser == null) {
         FutureParser future = scoped("xmlGenerateStatement", PUBLIC, true);
         xmlGenerateStatementParser = future;
@@ -18254,7 +18254,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start xmlGenerateStatement$codepage = Start.on(getNamespace(), "codepage");
     
-    public ParserCombinator xmlGenerateStatement$codepage() {
+    public synchronized ParserCombinator xmlGenerateStatement$codepage() {
       if (xmlGenerateStatement$codepageParser == null) {
         FutureParser future = scoped("codepage", PUBLIC, true);
         xmlGenerateStatement$codepageParser = future;
@@ -18277,7 +18277,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start xmlParseStatement = Start.on(getNamespace(), "xmlParseStatement");
     
-    public ParserCombinator xmlParseStatement() {
+    public synchronized ParserCombinator xmlParseStatement() {
       if (xmlParseStatementParser == null) {
         FutureParser future = scoped("xmlParseStatement", PUBLIC, true);
         xmlParseStatementParser = future;
@@ -18357,7 +18357,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start xmlParseStatement$codepage = Start.on(getNamespace(), "codepage");
     
-    public ParserCombinator xmlParseStatement$codepage() {
+    public synchronized ParserCombinator xmlParseStatement$codepage() {
       if (xmlParseStatement$codepageParser == null) {
         FutureParser future = scoped("codepage", PUBLIC, true);
         xmlParseStatement$codepageParser = future;
@@ -18380,7 +18380,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start xmlParseStatement$xmlSchemaName = Start.on(getNamespace(), "xmlSchemaName");
     
-    public ParserCombinator xmlParseStatement$xmlSchemaName() {
+    public synchronized ParserCombinator xmlParseStatement$xmlSchemaName() {
       if (xmlParseStatement$xmlSchemaNameParser == null) {
         FutureParser future = scoped("xmlSchemaName", PUBLIC, true);
         xmlParseStatement$xmlSchemaNameParser = future;
@@ -18400,7 +18400,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start attributeClause = Start.on(getNamespace(), "attributeClause");
     
-    public ParserCombinator attributeClause() {
+    public synchronized ParserCombinator attributeClause() {
       if (attributeClauseParser == null) {
         FutureParser future = scoped("attributeClause", PUBLIC, true);
         attributeClauseParser = future;
@@ -18446,7 +18446,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start positionSpecification = Start.on(getNamespace(), "positionSpecification");
     
-    public ParserCombinator positionSpecification() {
+    public synchronized ParserCombinator positionSpecification() {
       if (positionSpecificationParser == null) {
         FutureParser future = scoped("positionSpecification", PUBLIC, true);
         positionSpecificationParser = future;
@@ -18476,7 +18476,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start positionSpecification$lin = Start.on(getNamespace(), "lin");
     
-    public ParserCombinator positionSpecification$lin() {
+    public synchronized ParserCombinator positionSpecification$lin() {
       if (positionSpecification$linParser == null) {
         FutureParser future = scoped("lin", PUBLIC, true);
         positionSpecification$linParser = future;
@@ -18518,7 +18518,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start positionSpecification$col = Start.on(getNamespace(), "col");
     
-    public ParserCombinator positionSpecification$col() {
+    public synchronized ParserCombinator positionSpecification$col() {
       if (positionSpecification$colParser == null) {
         FutureParser future = scoped("col", PUBLIC, true);
         positionSpecification$colParser = future;
@@ -18555,7 +18555,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start onOverflow = Start.on(getNamespace(), "onOverflow");
     
-    public ParserCombinator onOverflow() {
+    public synchronized ParserCombinator onOverflow() {
       if (onOverflowParser == null) {
         FutureParser future = scoped("onOverflow", PUBLIC, true);
         onOverflowParser = future;
@@ -18581,7 +18581,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start notOnOverflow = Start.on(getNamespace(), "notOnOverflow");
     
-    public ParserCombinator notOnOverflow() {
+    public synchronized ParserCombinator notOnOverflow() {
       if (notOnOverflowParser == null) {
         FutureParser future = scoped("notOnOverflow", PUBLIC, true);
         notOnOverflowParser = future;
@@ -18608,7 +18608,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start onException = Start.on(getNamespace(), "onException");
     
-    public ParserCombinator onException() {
+    public synchronized ParserCombinator onException() {
       if (onExceptionParser == null) {
         FutureParser future = scoped("onException", PUBLIC, true);
         onExceptionParser = future;
@@ -18634,7 +18634,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start notOnException = Start.on(getNamespace(), "notOnException");
     
-    public ParserCombinator notOnException() {
+    public synchronized ParserCombinator notOnException() {
       if (notOnExceptionParser == null) {
         FutureParser future = scoped("notOnException", PUBLIC, true);
         notOnExceptionParser = future;
@@ -18661,7 +18661,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start onSizeError = Start.on(getNamespace(), "onSizeError");
     
-    public ParserCombinator onSizeError() {
+    public synchronized ParserCombinator onSizeError() {
       if (onSizeErrorParser == null) {
         FutureParser future = scoped("onSizeError", PUBLIC, true);
         onSizeErrorParser = future;
@@ -18688,7 +18688,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start notOnSizeError = Start.on(getNamespace(), "notOnSizeError");
     
-    public ParserCombinator notOnSizeError() {
+    public synchronized ParserCombinator notOnSizeError() {
       if (notOnSizeErrorParser == null) {
         FutureParser future = scoped("notOnSizeError", PUBLIC, true);
         notOnSizeErrorParser = future;
@@ -18716,7 +18716,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start onEscape = Start.on(getNamespace(), "onEscape");
     
-    public ParserCombinator onEscape() {
+    public synchronized ParserCombinator onEscape() {
       if (onEscapeParser == null) {
         FutureParser future = scoped("onEscape", PUBLIC, true);
         onEscapeParser = future;
@@ -18742,7 +18742,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start notOnEscape = Start.on(getNamespace(), "notOnEscape");
     
-    public ParserCombinator notOnEscape() {
+    public synchronized ParserCombinator notOnEscape() {
       if (notOnEscapeParser == null) {
         FutureParser future = scoped("notOnEscape", PUBLIC, true);
         notOnEscapeParser = future;
@@ -18769,7 +18769,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start compilerStatement = Start.on(getNamespace(), "compilerStatement");
     
-    public ParserCombinator compilerStatement() {
+    public synchronized ParserCombinator compilerStatement() {
       if (compilerStatementParser == null) {
         FutureParser future = scoped("compilerStatement", PUBLIC, true);
         compilerStatementParser = future;
@@ -18799,7 +18799,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start compilerDirective = Start.on(getNamespace(), "compilerDirective");
     
-    public ParserCombinator compilerDirective() {
+    public synchronized ParserCombinator compilerDirective() {
       if (compilerDirectiveParser == null) {
         FutureParser future = scoped("compilerDirective", PUBLIC, true);
         compilerDirectiveParser = future;
@@ -18835,7 +18835,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start compilerIfStatement = Start.on(getNamespace(), "compilerIfStatement");
     
-    public ParserCombinator compilerIfStatement() {
+    public synchronized ParserCombinator compilerIfStatement() {
       if (compilerIfStatementParser == null) {
         FutureParser future = scoped("compilerIfStatement", PUBLIC, true);
         compilerIfStatementParser = future;
@@ -18897,7 +18897,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start compilerDisplayStatement = Start.on(getNamespace(), "compilerDisplayStatement");
     
-    public ParserCombinator compilerDisplayStatement() {
+    public synchronized ParserCombinator compilerDisplayStatement() {
       if (compilerDisplayStatementParser == null) {
         FutureParser future = scoped("compilerDisplayStatement", PUBLIC, true);
         compilerDisplayStatementParser = future;
@@ -18928,7 +18928,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start replacementOperand = Start.on(getNamespace(), "replacementOperand");
     
-    public ParserCombinator replacementOperand() {
+    public synchronized ParserCombinator replacementOperand() {
       if (replacementOperandParser == null) {
         FutureParser future = scoped("replacementOperand", PUBLIC, true);
         replacementOperandParser = future;
@@ -18954,7 +18954,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start divisionStart = Start.on(getNamespace(), "divisionStart");
     
-    public ParserCombinator divisionStart() {
+    public synchronized ParserCombinator divisionStart() {
       if (divisionStartParser == null) {
         FutureParser future = scoped("divisionStart", PUBLIC, true);
         divisionStartParser = future;
@@ -19000,7 +19000,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start sectionStart = Start.on(getNamespace(), "sectionStart");
     
-    public ParserCombinator sectionStart() {
+    public synchronized ParserCombinator sectionStart() {
       if (sectionStartParser == null) {
         FutureParser future = scoped("sectionStart", PUBLIC, true);
         sectionStartParser = future;
@@ -19037,7 +19037,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start paragraphStart = Start.on(getNamespace(), "paragraphStart");
     
-    public ParserCombinator paragraphStart() {
+    public synchronized ParserCombinator paragraphStart() {
       if (paragraphStartParser == null) {
         FutureParser future = scoped("paragraphStart", PUBLIC, true);
         paragraphStartParser = future;
@@ -19071,7 +19071,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start function = Start.on(getNamespace(), "function");
     
-    public ParserCombinator function() {
+    public synchronized ParserCombinator function() {
       if (functionParser == null) {
         FutureParser future = scoped("function", PUBLIC, true);
         functionParser = future;
@@ -19275,7 +19275,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start identifier = Start.on(getNamespace(), "identifier");
     
-    public ParserCombinator identifier() {
+    public synchronized ParserCombinator identifier() {
       if (identifierParser == null) {
         FutureParser future = scoped("identifier", PUBLIC, true);
         identifierParser = future;
@@ -19302,7 +19302,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start identifier_format1 = Start.on(getNamespace(), "identifier_format1");
     
-    public ParserCombinator identifier_format1() {
+    public synchronized ParserCombinator identifier_format1() {
       if (identifier_format1Parser == null) {
         FutureParser future = scoped("identifier_format1", PUBLIC, true);
         identifier_format1Parser = future;
@@ -19327,7 +19327,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start identifier_format2 = Start.on(getNamespace(), "identifier_format2");
     
-    public ParserCombinator identifier_format2() {
+    public synchronized ParserCombinator identifier_format2() {
       if (identifier_format2Parser == null) {
         FutureParser future = scoped("identifier_format2", PUBLIC, true);
         identifier_format2Parser = future;
@@ -19352,7 +19352,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start identifier_format6 = Start.on(getNamespace(), "identifier_format6");
     
-    public ParserCombinator identifier_format6() {
+    public synchronized ParserCombinator identifier_format6() {
       if (identifier_format6Parser == null) {
         FutureParser future = scoped("identifier_format6", PUBLIC, true);
         identifier_format6Parser = future;
@@ -19385,7 +19385,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start dataAddressIdentifier = Start.on(getNamespace(), "dataAddressIdentifier");
     
-    public ParserCombinator dataAddressIdentifier() {
+    public synchronized ParserCombinator dataAddressIdentifier() {
       if (dataAddressIdentifierParser == null) {
         FutureParser future = scoped("dataAddressIdentifier", PUBLIC, true);
         dataAddressIdentifierParser = future;
@@ -19411,7 +19411,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start qualifiedLinageCounter = Start.on(getNamespace(), "qualifiedLinageCounter");
     
-    public ParserCombinator qualifiedLinageCounter() {
+    public synchronized ParserCombinator qualifiedLinageCounter() {
       if (qualifiedLinageCounterParser == null) {
         FutureParser future = scoped("qualifiedLinageCounter", PUBLIC, true);
         qualifiedLinageCounterParser = future;
@@ -19444,7 +19444,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start qualifiedReportCounter = Start.on(getNamespace(), "qualifiedReportCounter");
     
-    public ParserCombinator qualifiedReportCounter() {
+    public synchronized ParserCombinator qualifiedReportCounter() {
       if (qualifiedReportCounterParser == null) {
         FutureParser future = scoped("qualifiedReportCounter", PUBLIC, true);
         qualifiedReportCounterParser = future;
@@ -19484,7 +19484,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start argument = Start.on(getNamespace(), "argument");
     
-    public ParserCombinator argument() {
+    public synchronized ParserCombinator argument() {
       if (argumentParser == null) {
         FutureParser future = scoped("argument", PUBLIC, true);
         argumentParser = future;
@@ -19518,7 +19518,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start qualifier = Start.on(getNamespace(), "qualifier");
     
-    public ParserCombinator qualifier() {
+    public synchronized ParserCombinator qualifier() {
       if (qualifierParser == null) {
         FutureParser future = scoped("qualifier", PUBLIC, true);
         qualifierParser = future;
@@ -19546,7 +19546,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start subscript = Start.on(getNamespace(), "subscript");
     
-    public ParserCombinator subscript() {
+    public synchronized ParserCombinator subscript() {
       if (subscriptParser == null) {
         FutureParser future = scoped("subscript", PUBLIC, true);
         subscriptParser = future;
@@ -19569,7 +19569,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start directSubscript = Start.on(getNamespace(), "directSubscript");
     
-    public ParserCombinator directSubscript() {
+    public synchronized ParserCombinator directSubscript() {
       if (directSubscriptParser == null) {
         FutureParser future = scoped("directSubscript", PUBLIC, true);
         directSubscriptParser = future;
@@ -19593,7 +19593,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start relativeSubscript = Start.on(getNamespace(), "relativeSubscript");
     
-    public ParserCombinator relativeSubscript() {
+    public synchronized ParserCombinator relativeSubscript() {
       if (relativeSubscriptParser == null) {
         FutureParser future = scoped("relativeSubscript", PUBLIC, true);
         relativeSubscriptParser = future;
@@ -19620,7 +19620,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start referenceModifier = Start.on(getNamespace(), "referenceModifier");
     
-    public ParserCombinator referenceModifier() {
+    public synchronized ParserCombinator referenceModifier() {
       if (referenceModifierParser == null) {
         FutureParser future = scoped("referenceModifier", PUBLIC, true);
         referenceModifierParser = future;
@@ -19648,7 +19648,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start arithmeticExpression = Start.on(getNamespace(), "arithmeticExpression");
     
-    public ParserCombinator arithmeticExpression() {
+    public synchronized ParserCombinator arithmeticExpression() {
       if (arithmeticExpressionParser == null) {
         FutureParser future = scoped("arithmeticExpression", PUBLIC, true);
         arithmeticExpressionParser = future;
@@ -19668,7 +19668,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start bitwiseInclusiveDisjunction = Start.on(getNamespace(), "bitwiseInclusiveDisjunction");
     
-    public ParserCombinator bitwiseInclusiveDisjunction() {
+    public synchronized ParserCombinator bitwiseInclusiveDisjunction() {
       if (bitwiseInclusiveDisjunctionParser == null) {
         FutureParser future = scoped("bitwiseInclusiveDisjunction", HIDING, true);
         bitwiseInclusiveDisjunctionParser = future;
@@ -19696,7 +19696,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start bitwiseExclusiveDisjunction = Start.on(getNamespace(), "bitwiseExclusiveDisjunction");
     
-    public ParserCombinator bitwiseExclusiveDisjunction() {
+    public synchronized ParserCombinator bitwiseExclusiveDisjunction() {
       if (bitwiseExclusiveDisjunctionParser == null) {
         FutureParser future = scoped("bitwiseExclusiveDisjunction", HIDING, true);
         bitwiseExclusiveDisjunctionParser = future;
@@ -19727,7 +19727,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start bitwiseConjunction = Start.on(getNamespace(), "bitwiseConjunction");
     
-    public ParserCombinator bitwiseConjunction() {
+    public synchronized ParserCombinator bitwiseConjunction() {
       if (bitwiseConjunctionParser == null) {
         FutureParser future = scoped("bitwiseConjunction", HIDING, true);
         bitwiseConjunctionParser = future;
@@ -19755,7 +19755,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start expression = Start.on(getNamespace(), "expression");
     
-    public ParserCombinator expression() {
+    public synchronized ParserCombinator expression() {
       if (expressionParser == null) {
         FutureParser future = scoped("expression", HIDING, true);
         expressionParser = future;
@@ -19793,7 +19793,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start term = Start.on(getNamespace(), "term");
     
-    public ParserCombinator term() {
+    public synchronized ParserCombinator term() {
       if (termParser == null) {
         FutureParser future = scoped("term", HIDING, true);
         termParser = future;
@@ -19831,7 +19831,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start factor = Start.on(getNamespace(), "factor");
     
-    public ParserCombinator factor() {
+    public synchronized ParserCombinator factor() {
       if (factorParser == null) {
         FutureParser future = scoped("factor", HIDING, true);
         factorParser = future;
@@ -19866,7 +19866,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start base = Start.on(getNamespace(), "base");
     
-    public ParserCombinator base() {
+    public synchronized ParserCombinator base() {
       if (baseParser == null) {
         FutureParser future = scoped("base", HIDING, true);
         baseParser = future;
@@ -19901,7 +19901,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start atom = Start.on(getNamespace(), "atom");
     
-    protected ParserCombinator atom() {
+    protected synchronized ParserCombinator atom() {
       if (atomParser == null) {
         FutureParser future = scoped("atom", PRIVATE, true);
         atomParser = future;
@@ -19938,7 +19938,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start moreArithmeticOp = Start.on(getNamespace(), "moreArithmeticOp");
     
-    protected ParserCombinator moreArithmeticOp() {
+    protected synchronized ParserCombinator moreArithmeticOp() {
       if (moreArithmeticOpParser == null) {
         FutureParser future = scoped("moreArithmeticOp", PRIVATE, true);
         moreArithmeticOpParser = future;
@@ -19973,7 +19973,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start condition = Start.on(getNamespace(), "condition");
     
-    public ParserCombinator condition() {
+    public synchronized ParserCombinator condition() {
       if (conditionParser == null) {
         FutureParser future = scoped("condition", PUBLIC, true);
         conditionParser = future;
@@ -19993,7 +19993,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start disjunction = Start.on(getNamespace(), "disjunction");
     
-    public ParserCombinator disjunction() {
+    public synchronized ParserCombinator disjunction() {
       if (disjunctionParser == null) {
         FutureParser future = scoped("disjunction", HIDING, true);
         disjunctionParser = future;
@@ -20021,7 +20021,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start conjunction = Start.on(getNamespace(), "conjunction");
     
-    public ParserCombinator conjunction() {
+    public synchronized ParserCombinator conjunction() {
       if (conjunctionParser == null) {
         FutureParser future = scoped("conjunction", HIDING, true);
         conjunctionParser = future;
@@ -20049,7 +20049,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start negation = Start.on(getNamespace(), "negation");
     
-    public ParserCombinator negation() {
+    public synchronized ParserCombinator negation() {
       if (negationParser == null) {
         FutureParser future = scoped("negation", HIDING, true);
         negationParser = future;
@@ -20074,7 +20074,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start simpleCondition = Start.on(getNamespace(), "simpleCondition");
     
-    protected ParserCombinator simpleCondition() {
+    protected synchronized ParserCombinator simpleCondition() {
       if (simpleConditionParser == null) {
         FutureParser future = scoped("simpleCondition", PRIVATE, true);
         simpleConditionParser = future;
@@ -20107,7 +20107,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start parenthesizedCondition = Start.on(getNamespace(), "parenthesizedCondition");
     
-    public ParserCombinator parenthesizedCondition() {
+    public synchronized ParserCombinator parenthesizedCondition() {
       if (parenthesizedConditionParser == null) {
         FutureParser future = scoped("parenthesizedCondition", PUBLIC, true);
         parenthesizedConditionParser = future;
@@ -20137,7 +20137,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start classCondition = Start.on(getNamespace(), "classCondition");
     
-    public ParserCombinator classCondition() {
+    public synchronized ParserCombinator classCondition() {
       if (classConditionParser == null) {
         FutureParser future = scoped("classCondition", PUBLIC, true);
         classConditionParser = future;
@@ -20171,7 +20171,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start classType = Start.on(getNamespace(), "classType");
     
-    public ParserCombinator classType() {
+    public synchronized ParserCombinator classType() {
       if (classTypeParser == null) {
         FutureParser future = scoped("classType", PUBLIC, true);
         classTypeParser = future;
@@ -20202,7 +20202,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start signCondition = Start.on(getNamespace(), "signCondition");
     
-    public ParserCombinator signCondition() {
+    public synchronized ParserCombinator signCondition() {
       if (signConditionParser == null) {
         FutureParser future = scoped("signCondition", PUBLIC, true);
         signConditionParser = future;
@@ -20225,7 +20225,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start signCondition$test = Start.on(getNamespace(), "test");
     
-    protected ParserCombinator signCondition$test() {
+    protected synchronized ParserCombinator signCondition$test() {
       if (signCondition$testParser == null) {
         FutureParser future = scoped("test", PRIVATE, true);
         signCondition$testParser = future;
@@ -20255,7 +20255,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start signCondition$signType = Start.on(getNamespace(), "signType");
     
-    public ParserCombinator signCondition$signType() {
+    public synchronized ParserCombinator signCondition$signType() {
       if (signCondition$signTypeParser == null) {
         FutureParser future = scoped("signType", PUBLIC, true);
         signCondition$signTypeParser = future;
@@ -20279,7 +20279,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start abbreviatedSignCondition = Start.on(getNamespace(), "abbreviatedSignCondition");
     
-    public ParserCombinator abbreviatedSignCondition() {
+    public synchronized ParserCombinator abbreviatedSignCondition() {
       if (abbreviatedSignConditionParser == null) {
         FutureParser future = scoped("abbreviatedSignCondition", PUBLIC, true);
         abbreviatedSignConditionParser = future;
@@ -20299,7 +20299,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start omittedArgumentCondition = Start.on(getNamespace(), "omittedArgumentCondition");
     
-    public ParserCombinator omittedArgumentCondition() {
+    public synchronized ParserCombinator omittedArgumentCondition() {
       if (omittedArgumentConditionParser == null) {
         FutureParser future = scoped("omittedArgumentCondition", PUBLIC, true);
         omittedArgumentConditionParser = future;
@@ -20330,7 +20330,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start relationCondition = Start.on(getNamespace(), "relationCondition");
     
-    public ParserCombinator relationCondition() {
+    public synchronized ParserCombinator relationCondition() {
       if (relationConditionParser == null) {
         FutureParser future = scoped("relationCondition", PUBLIC, true);
         relationConditionParser = future;
@@ -20361,7 +20361,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start abbreviatedDisjunction = Start.on(getNamespace(), "abbreviatedDisjunction");
     
-    public ParserCombinator abbreviatedDisjunction() {
+    public synchronized ParserCombinator abbreviatedDisjunction() {
       if (abbreviatedDisjunctionParser == null) {
         FutureParser future = scoped("abbreviatedDisjunction", HIDING, true);
         abbreviatedDisjunctionParser = future;
@@ -20389,7 +20389,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start abbreviatedConjunction = Start.on(getNamespace(), "abbreviatedConjunction");
     
-    public ParserCombinator abbreviatedConjunction() {
+    public synchronized ParserCombinator abbreviatedConjunction() {
       if (abbreviatedConjunctionParser == null) {
         FutureParser future = scoped("abbreviatedConjunction", HIDING, true);
         abbreviatedConjunctionParser = future;
@@ -20417,7 +20417,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start abbreviatedNegation = Start.on(getNamespace(), "abbreviatedNegation");
     
-    public ParserCombinator abbreviatedNegation() {
+    public synchronized ParserCombinator abbreviatedNegation() {
       if (abbreviatedNegationParser == null) {
         FutureParser future = scoped("abbreviatedNegation", HIDING, true);
         abbreviatedNegationParser = future;
@@ -20442,7 +20442,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start relationSubject = Start.on(getNamespace(), "relationSubject");
     
-    public ParserCombinator relationSubject() {
+    public synchronized ParserCombinator relationSubject() {
       if (relationSubjectParser == null) {
         FutureParser future = scoped("relationSubject", PUBLIC, true);
         relationSubjectParser = future;
@@ -20462,7 +20462,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start relationObject = Start.on(getNamespace(), "relationObject");
     
-    public ParserCombinator relationObject() {
+    public synchronized ParserCombinator relationObject() {
       if (relationObjectParser == null) {
         FutureParser future = scoped("relationObject", PUBLIC, true);
         relationObjectParser = future;
@@ -20507,7 +20507,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start relationOperand = Start.on(getNamespace(), "relationOperand");
     
-    protected ParserCombinator relationOperand() {
+    protected synchronized ParserCombinator relationOperand() {
       if (relationOperandParser == null) {
         FutureParser future = scoped("relationOperand", PRIVATE, true);
         relationOperandParser = future;
@@ -20548,7 +20548,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start relop = Start.on(getNamespace(), "relop");
     
-    public ParserCombinator relop() {
+    public synchronized ParserCombinator relop() {
       if (relopParser == null) {
         FutureParser future = scoped("relop", PUBLIC, true);
         relopParser = future;
@@ -20622,7 +20622,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start greaterThanOp = Start.on(getNamespace(), "greaterThanOp");
     
-    public ParserCombinator greaterThanOp() {
+    public synchronized ParserCombinator greaterThanOp() {
       if (greaterThanOpParser == null) {
         FutureParser future = scoped("greaterThanOp", PUBLIC, true);
         greaterThanOpParser = future;
@@ -20650,7 +20650,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start lessThanOp = Start.on(getNamespace(), "lessThanOp");
     
-    public ParserCombinator lessThanOp() {
+    public synchronized ParserCombinator lessThanOp() {
       if (lessThanOpParser == null) {
         FutureParser future = scoped("lessThanOp", PUBLIC, true);
         lessThanOpParser = future;
@@ -20678,7 +20678,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start equalToOp = Start.on(getNamespace(), "equalToOp");
     
-    public ParserCombinator equalToOp() {
+    public synchronized ParserCombinator equalToOp() {
       if (equalToOpParser == null) {
         FutureParser future = scoped("equalToOp", PUBLIC, true);
         equalToOpParser = future;
@@ -20706,7 +20706,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start greaterOrEqualOp = Start.on(getNamespace(), "greaterOrEqualOp");
     
-    public ParserCombinator greaterOrEqualOp() {
+    public synchronized ParserCombinator greaterOrEqualOp() {
       if (greaterOrEqualOpParser == null) {
         FutureParser future = scoped("greaterOrEqualOp", PUBLIC, true);
         greaterOrEqualOpParser = future;
@@ -20744,7 +20744,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start lessOrEqualOp = Start.on(getNamespace(), "lessOrEqualOp");
     
-    public ParserCombinator lessOrEqualOp() {
+    public synchronized ParserCombinator lessOrEqualOp() {
       if (lessOrEqualOpParser == null) {
         FutureParser future = scoped("lessOrEqualOp", PUBLIC, true);
         lessOrEqualOpParser = future;
@@ -20782,7 +20782,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start unequalToOp = Start.on(getNamespace(), "unequalToOp");
     
-    public ParserCombinator unequalToOp() {
+    public synchronized ParserCombinator unequalToOp() {
       if (unequalToOpParser == null) {
         FutureParser future = scoped("unequalToOp", PUBLIC, true);
         unequalToOpParser = future;
@@ -20815,7 +20815,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start exceedsOp = Start.on(getNamespace(), "exceedsOp");
     
-    public ParserCombinator exceedsOp() {
+    public synchronized ParserCombinator exceedsOp() {
       if (exceedsOpParser == null) {
         FutureParser future = scoped("exceedsOp", PUBLIC, true);
         exceedsOpParser = future;
@@ -20835,7 +20835,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start equalsOp = Start.on(getNamespace(), "equalsOp");
     
-    public ParserCombinator equalsOp() {
+    public synchronized ParserCombinator equalsOp() {
       if (equalsOpParser == null) {
         FutureParser future = scoped("equalsOp", PUBLIC, true);
         equalsOpParser = future;
@@ -20855,7 +20855,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start conditionNameCondition = Start.on(getNamespace(), "conditionNameCondition");
     
-    public ParserCombinator conditionNameCondition() {
+    public synchronized ParserCombinator conditionNameCondition() {
       if (conditionNameConditionParser == null) {
         FutureParser future = scoped("conditionNameCondition", PUBLIC, true);
         conditionNameConditionParser = future;
@@ -20883,7 +20883,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start programName = Start.on(getNamespace(), "programName");
     
-    public ParserCombinator programName() {
+    public synchronized ParserCombinator programName() {
       if (programNameParser == null) {
         FutureParser future = scoped("programName", PUBLIC, true);
         programNameParser = future;
@@ -20906,7 +20906,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start dataName = Start.on(getNamespace(), "dataName");
     
-    public ParserCombinator dataName() {
+    public synchronized ParserCombinator dataName() {
       if (dataNameParser == null) {
         FutureParser future = scoped("dataName", PUBLIC, true);
         dataNameParser = future;
@@ -20926,7 +20926,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     protected final Start justAName = Start.on(getNamespace(), "justAName");
     
-    protected ParserCombinator justAName() {
+    protected synchronized ParserCombinator justAName() {
       if (justANameParser == null) {
         FutureParser future = scoped("justAName", PRIVATE, true);
         justANameParser = future;
@@ -20951,7 +20951,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start qualifiedDataName = Start.on(getNamespace(), "qualifiedDataName");
     
-    public ParserCombinator qualifiedDataName() {
+    public synchronized ParserCombinator qualifiedDataName() {
       if (qualifiedDataNameParser == null) {
         FutureParser future = scoped("qualifiedDataName", PUBLIC, true);
         qualifiedDataNameParser = future;
@@ -20985,7 +20985,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start screenName = Start.on(getNamespace(), "screenName");
     
-    public ParserCombinator screenName() {
+    public synchronized ParserCombinator screenName() {
       if (screenNameParser == null) {
         FutureParser future = scoped("screenName", PUBLIC, true);
         screenNameParser = future;
@@ -21005,7 +21005,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start sectionName = Start.on(getNamespace(), "sectionName");
     
-    public ParserCombinator sectionName() {
+    public synchronized ParserCombinator sectionName() {
       if (sectionNameParser == null) {
         FutureParser future = scoped("sectionName", PUBLIC, true);
         sectionNameParser = future;
@@ -21025,7 +21025,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start paragraphName = Start.on(getNamespace(), "paragraphName");
     
-    public ParserCombinator paragraphName() {
+    public synchronized ParserCombinator paragraphName() {
       if (paragraphNameParser == null) {
         FutureParser future = scoped("paragraphName", PUBLIC, true);
         paragraphNameParser = future;
@@ -21045,7 +21045,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start procedureName = Start.on(getNamespace(), "procedureName");
     
-    public ParserCombinator procedureName() {
+    public synchronized ParserCombinator procedureName() {
       if (procedureNameParser == null) {
         FutureParser future = scoped("procedureName", PUBLIC, true);
         procedureNameParser = future;
@@ -21079,7 +21079,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start name = Start.on(getNamespace(), "name");
     
-    public ParserCombinator name() {
+    public synchronized ParserCombinator name() {
       if (nameParser == null) {
         FutureParser future = scoped("name", PUBLIC, true);
         nameParser = future;
@@ -21102,7 +21102,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start segmentNumber = Start.on(getNamespace(), "segmentNumber");
     
-    public ParserCombinator segmentNumber() {
+    public synchronized ParserCombinator segmentNumber() {
       if (segmentNumberParser == null) {
         FutureParser future = scoped("segmentNumber", PUBLIC, true);
         segmentNumberParser = future;
@@ -21122,7 +21122,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start operand = Start.on(getNamespace(), "operand");
     
-    public ParserCombinator operand() {
+    public synchronized ParserCombinator operand() {
       if (operandParser == null) {
         FutureParser future = scoped("operand", PUBLIC, true);
         operandParser = future;
@@ -21162,7 +21162,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start threadPointer = Start.on(getNamespace(), "threadPointer");
     
-    public ParserCombinator threadPointer() {
+    public synchronized ParserCombinator threadPointer() {
       if (threadPointerParser == null) {
         FutureParser future = scoped("threadPointer", PUBLIC, true);
         threadPointerParser = future;
@@ -21182,7 +21182,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start eventPointer = Start.on(getNamespace(), "eventPointer");
     
-    public ParserCombinator eventPointer() {
+    public synchronized ParserCombinator eventPointer() {
       if (eventPointerParser == null) {
         FutureParser future = scoped("eventPointer", PUBLIC, true);
         eventPointerParser = future;
@@ -21202,7 +21202,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start conditionName = Start.on(getNamespace(), "conditionName");
     
-    public ParserCombinator conditionName() {
+    public synchronized ParserCombinator conditionName() {
       if (conditionNameParser == null) {
         FutureParser future = scoped("conditionName", PUBLIC, true);
         conditionNameParser = future;
@@ -21222,7 +21222,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start indexName = Start.on(getNamespace(), "indexName");
     
-    public ParserCombinator indexName() {
+    public synchronized ParserCombinator indexName() {
       if (indexNameParser == null) {
         FutureParser future = scoped("indexName", PUBLIC, true);
         indexNameParser = future;
@@ -21242,7 +21242,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start className = Start.on(getNamespace(), "className");
     
-    public ParserCombinator className() {
+    public synchronized ParserCombinator className() {
       if (classNameParser == null) {
         FutureParser future = scoped("className", PUBLIC, true);
         classNameParser = future;
@@ -21262,7 +21262,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start typeSpecifier = Start.on(getNamespace(), "typeSpecifier");
     
-    public ParserCombinator typeSpecifier() {
+    public synchronized ParserCombinator typeSpecifier() {
       if (typeSpecifierParser == null) {
         FutureParser future = scoped("typeSpecifier", PUBLIC, true);
         typeSpecifierParser = future;
@@ -21282,7 +21282,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start parameterName = Start.on(getNamespace(), "parameterName");
     
-    public ParserCombinator parameterName() {
+    public synchronized ParserCombinator parameterName() {
       if (parameterNameParser == null) {
         FutureParser future = scoped("parameterName", PUBLIC, true);
         parameterNameParser = future;
@@ -21302,7 +21302,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start interfaceName = Start.on(getNamespace(), "interfaceName");
     
-    public ParserCombinator interfaceName() {
+    public synchronized ParserCombinator interfaceName() {
       if (interfaceNameParser == null) {
         FutureParser future = scoped("interfaceName", PUBLIC, true);
         interfaceNameParser = future;
@@ -21322,7 +21322,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start methodName = Start.on(getNamespace(), "methodName");
     
-    public ParserCombinator methodName() {
+    public synchronized ParserCombinator methodName() {
       if (methodNameParser == null) {
         FutureParser future = scoped("methodName", PUBLIC, true);
         methodNameParser = future;
@@ -21342,7 +21342,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start propertyName = Start.on(getNamespace(), "propertyName");
     
-    public ParserCombinator propertyName() {
+    public synchronized ParserCombinator propertyName() {
       if (propertyNameParser == null) {
         FutureParser future = scoped("propertyName", PUBLIC, true);
         propertyNameParser = future;
@@ -21365,7 +21365,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start propertyValue = Start.on(getNamespace(), "propertyValue");
     
-    public ParserCombinator propertyValue() {
+    public synchronized ParserCombinator propertyValue() {
       if (propertyValueParser == null) {
         FutureParser future = scoped("propertyValue", PUBLIC, true);
         propertyValueParser = future;
@@ -21388,7 +21388,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start delegateName = Start.on(getNamespace(), "delegateName");
     
-    public ParserCombinator delegateName() {
+    public synchronized ParserCombinator delegateName() {
       if (delegateNameParser == null) {
         FutureParser future = scoped("delegateName", PUBLIC, true);
         delegateNameParser = future;
@@ -21408,7 +21408,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start iteratorName = Start.on(getNamespace(), "iteratorName");
     
-    public ParserCombinator iteratorName() {
+    public synchronized ParserCombinator iteratorName() {
       if (iteratorNameParser == null) {
         FutureParser future = scoped("iteratorName", PUBLIC, true);
         iteratorNameParser = future;
@@ -21428,7 +21428,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start enumName = Start.on(getNamespace(), "enumName");
     
-    public ParserCombinator enumName() {
+    public synchronized ParserCombinator enumName() {
       if (enumNameParser == null) {
         FutureParser future = scoped("enumName", PUBLIC, true);
         enumNameParser = future;
@@ -21448,7 +21448,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start valuetypeName = Start.on(getNamespace(), "valuetypeName");
     
-    public ParserCombinator valuetypeName() {
+    public synchronized ParserCombinator valuetypeName() {
       if (valuetypeNameParser == null) {
         FutureParser future = scoped("valuetypeName", PUBLIC, true);
         valuetypeNameParser = future;
@@ -21468,7 +21468,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start typeName = Start.on(getNamespace(), "typeName");
     
-    public ParserCombinator typeName() {
+    public synchronized ParserCombinator typeName() {
       if (typeNameParser == null) {
         FutureParser future = scoped("typeName", PUBLIC, true);
         typeNameParser = future;
@@ -21488,7 +21488,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start attributeName = Start.on(getNamespace(), "attributeName");
     
-    public ParserCombinator attributeName() {
+    public synchronized ParserCombinator attributeName() {
       if (attributeNameParser == null) {
         FutureParser future = scoped("attributeName", PUBLIC, true);
         attributeNameParser = future;
@@ -21508,7 +21508,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start typedefName = Start.on(getNamespace(), "typedefName");
     
-    public ParserCombinator typedefName() {
+    public synchronized ParserCombinator typedefName() {
       if (typedefNameParser == null) {
         FutureParser future = scoped("typedefName", PUBLIC, true);
         typedefNameParser = future;
@@ -21528,7 +21528,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start fileName = Start.on(getNamespace(), "fileName");
     
-    public ParserCombinator fileName() {
+    public synchronized ParserCombinator fileName() {
       if (fileNameParser == null) {
         FutureParser future = scoped("fileName", PUBLIC, true);
         fileNameParser = future;
@@ -21551,7 +21551,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start computerName = Start.on(getNamespace(), "computerName");
     
-    public ParserCombinator computerName() {
+    public synchronized ParserCombinator computerName() {
       if (computerNameParser == null) {
         FutureParser future = scoped("computerName", PUBLIC, true);
         computerNameParser = future;
@@ -21571,7 +21571,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start functionName = Start.on(getNamespace(), "functionName");
     
-    public ParserCombinator functionName() {
+    public synchronized ParserCombinator functionName() {
       if (functionNameParser == null) {
         FutureParser future = scoped("functionName", PUBLIC, true);
         functionNameParser = future;
@@ -21591,7 +21591,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start recordName = Start.on(getNamespace(), "recordName");
     
-    public ParserCombinator recordName() {
+    public synchronized ParserCombinator recordName() {
       if (recordNameParser == null) {
         FutureParser future = scoped("recordName", PUBLIC, true);
         recordNameParser = future;
@@ -21611,7 +21611,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start mnemonicName = Start.on(getNamespace(), "mnemonicName");
     
-    public ParserCombinator mnemonicName() {
+    public synchronized ParserCombinator mnemonicName() {
       if (mnemonicNameParser == null) {
         FutureParser future = scoped("mnemonicName", PUBLIC, true);
         mnemonicNameParser = future;
@@ -21634,7 +21634,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start environmentName = Start.on(getNamespace(), "environmentName");
     
-    public ParserCombinator environmentName() {
+    public synchronized ParserCombinator environmentName() {
       if (environmentNameParser == null) {
         FutureParser future = scoped("environmentName", PUBLIC, true);
         environmentNameParser = future;
@@ -21684,7 +21684,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start alphabetName = Start.on(getNamespace(), "alphabetName");
     
-    public ParserCombinator alphabetName() {
+    public synchronized ParserCombinator alphabetName() {
       if (alphabetNameParser == null) {
         FutureParser future = scoped("alphabetName", PUBLIC, true);
         alphabetNameParser = future;
@@ -21704,7 +21704,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start cdName = Start.on(getNamespace(), "cdName");
     
-    public ParserCombinator cdName() {
+    public synchronized ParserCombinator cdName() {
       if (cdNameParser == null) {
         FutureParser future = scoped("cdName", PUBLIC, true);
         cdNameParser = future;
@@ -21724,7 +21724,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start reportName = Start.on(getNamespace(), "reportName");
     
-    public ParserCombinator reportName() {
+    public synchronized ParserCombinator reportName() {
       if (reportNameParser == null) {
         FutureParser future = scoped("reportName", PUBLIC, true);
         reportNameParser = future;
@@ -21744,7 +21744,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start literal = Start.on(getNamespace(), "literal");
     
-    public ParserCombinator literal() {
+    public synchronized ParserCombinator literal() {
       if (literalParser == null) {
         FutureParser future = scoped("literal", PUBLIC, true);
         literalParser = future;
@@ -21777,7 +21777,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start literalValue = Start.on(getNamespace(), "literalValue");
     
-    public ParserCombinator literalValue() {
+    public synchronized ParserCombinator literalValue() {
       if (literalValueParser == null) {
         FutureParser future = scoped("literalValue", PUBLIC, true);
         literalValueParser = future;
@@ -21807,7 +21807,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start concatenatedLiteral = Start.on(getNamespace(), "concatenatedLiteral");
     
-    public ParserCombinator concatenatedLiteral() {
+    public synchronized ParserCombinator concatenatedLiteral() {
       if (concatenatedLiteralParser == null) {
         FutureParser future = scoped("concatenatedLiteral", PUBLIC, true);
         concatenatedLiteralParser = future;
@@ -21833,7 +21833,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start value = Start.on(getNamespace(), "value");
     
-    public ParserCombinator value() {
+    public synchronized ParserCombinator value() {
       if (valueParser == null) {
         FutureParser future = scoped("value", PUBLIC, true);
         valueParser = future;
@@ -21857,7 +21857,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start figurativeConstant = Start.on(getNamespace(), "figurativeConstant");
     
-    public ParserCombinator figurativeConstant() {
+    public synchronized ParserCombinator figurativeConstant() {
       if (figurativeConstantParser == null) {
         FutureParser future = scoped("figurativeConstant", PUBLIC, true);
         figurativeConstantParser = future;
@@ -21899,7 +21899,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start numericLiteral = Start.on(getNamespace(), "numericLiteral");
     
-    public ParserCombinator numericLiteral() {
+    public synchronized ParserCombinator numericLiteral() {
       if (numericLiteralParser == null) {
         FutureParser future = scoped("numericLiteral", PUBLIC, true);
         numericLiteralParser = future;
@@ -21935,7 +21935,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start numeric = Start.on(getNamespace(), "numeric");
     
-    public ParserCombinator numeric() {
+    public synchronized ParserCombinator numeric() {
       if (numericParser == null) {
         FutureParser future = scoped("numeric", PUBLIC, true);
         numericParser = future;
@@ -21961,7 +21961,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start integer = Start.on(getNamespace(), "integer");
     
-    public ParserCombinator integer() {
+    public synchronized ParserCombinator integer() {
       if (integerParser == null) {
         FutureParser future = scoped("integer", PUBLIC, true);
         integerParser = future;
@@ -21986,7 +21986,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start floatingPoint = Start.on(getNamespace(), "floatingPoint");
     
-    public ParserCombinator floatingPoint() {
+    public synchronized ParserCombinator floatingPoint() {
       if (floatingPointParser == null) {
         FutureParser future = scoped("floatingPoint", PUBLIC, true);
         floatingPointParser = future;
@@ -22033,7 +22033,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start addressOf = Start.on(getNamespace(), "addressOf");
     
-    public ParserCombinator addressOf() {
+    public synchronized ParserCombinator addressOf() {
       if (addressOfParser == null) {
         FutureParser future = scoped("addressOf", PUBLIC, true);
         addressOfParser = future;
@@ -22059,7 +22059,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start lengthOf = Start.on(getNamespace(), "lengthOf");
     
-    public ParserCombinator lengthOf() {
+    public synchronized ParserCombinator lengthOf() {
       if (lengthOfParser == null) {
         FutureParser future = scoped("lengthOf", PUBLIC, true);
         lengthOfParser = future;
@@ -22085,7 +22085,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start byteLengthOf = Start.on(getNamespace(), "byteLengthOf");
     
-    public ParserCombinator byteLengthOf() {
+    public synchronized ParserCombinator byteLengthOf() {
       if (byteLengthOfParser == null) {
         FutureParser future = scoped("byteLengthOf", PUBLIC, true);
         byteLengthOfParser = future;
@@ -22111,7 +22111,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start constant = Start.on(getNamespace(), "constant");
     
-    public ParserCombinator constant() {
+    public synchronized ParserCombinator constant() {
       if (constantParser == null) {
         FutureParser future = scoped("constant", PUBLIC, true);
         constantParser = future;
@@ -22134,7 +22134,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start integerConstant = Start.on(getNamespace(), "integerConstant");
     
-    public ParserCombinator integerConstant() {
+    public synchronized ParserCombinator integerConstant() {
       if (integerConstantParser == null) {
         FutureParser future = scoped("integerConstant", PUBLIC, true);
         integerConstantParser = future;
@@ -22154,7 +22154,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start alphanumeric = Start.on(getNamespace(), "alphanumeric");
     
-    public ParserCombinator alphanumeric() {
+    public synchronized ParserCombinator alphanumeric() {
       if (alphanumericParser == null) {
         FutureParser future = scoped("alphanumeric", PUBLIC, true);
         alphanumericParser = future;
@@ -22177,7 +22177,7 @@ public class CobolGrammar extends CobolBaseGrammar {
     
     public final Start alphanumericConstant = Start.on(getNamespace(), "alphanumericConstant");
     
-    public ParserCombinator alphanumericConstant() {
+    public synchronized ParserCombinator alphanumericConstant() {
       if (alphanumericConstantParser == null) {
         FutureParser future = scoped("alphanumericConstant", PUBLIC, true);
         alphanumericConstantParser = future;
@@ -28,7 +28,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     protected DirectivesGrammar() {
     }
     
-    public static DirectivesGrammar instance() {
+    public static synchronized DirectivesGrammar instance() {
       if (INSTANCE == null)
         INSTANCE = new DirectivesGrammar();
         
@@ -43,7 +43,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start directive = Start.on(getNamespace(), "directive");
     
-    public ParserCombinator directive() {
+    public synchronized ParserCombinator directive() {
       if (directiveParser == null) {
         FutureParser future = scoped("directive", PUBLIC, true);
         directiveParser = future;
@@ -68,7 +68,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start iso = Start.on(getNamespace(), "iso");
     
-    public ParserCombinator iso() {
+    public synchronized ParserCombinator iso() {
       if (isoParser == null) {
         FutureParser future = scoped("iso", PUBLIC, true);
         isoParser = future;
@@ -107,7 +107,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     protected final Start iso$indicator = Start.on(getNamespace(), "indicator");
     
-    protected ParserCombinator iso$indicator() {
+    protected synchronized ParserCombinator iso$indicator() {
       if (iso$indicatorParser == null) {
         FutureParser future = scoped("indicator", PRIVATE, true);
         iso$indicatorParser = future;
@@ -138,7 +138,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start iso$instruction = Start.on(getNamespace(), "instruction");
     
-    public ParserCombinator iso$instruction() {
+    public synchronized ParserCombinator iso$instruction() {
       if (iso$instructionParser == null) {
         FutureParser future = scoped("instruction", PUBLIC, true);
         iso$instructionParser = future;
@@ -190,7 +190,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start iso$instruction$source = Start.on(getNamespace(), "source");
     
-    public ParserCombinator iso$instruction$source() {
+    public synchronized ParserCombinator iso$instruction$source() {
       if (iso$instruction$sourceParser == null) {
         FutureParser future = scoped("source", PUBLIC, true);
         iso$instruction$sourceParser = future;
@@ -224,7 +224,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start iso$instruction$callConvention = Start.on(getNamespace(), "callConvention");
     
-    public ParserCombinator iso$instruction$callConvention() {
+    public synchronized ParserCombinator iso$instruction$callConvention() {
       if (iso$instruction$callConventionParser == null) {
         FutureParser future = scoped("callConvention", PUBLIC, true);
         iso$instruction$callConventionParser = future;
@@ -251,7 +251,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start iso$instruction$define = Start.on(getNamespace(), "define");
     
-    public ParserCombinator iso$instruction$define() {
+    public synchronized ParserCombinator iso$instruction$define() {
       if (iso$instruction$defineParser == null) {
         FutureParser future = scoped("define", PUBLIC, true);
         iso$instruction$defineParser = future;
@@ -278,7 +278,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start iso$instruction$evaluate = Start.on(getNamespace(), "evaluate");
     
-    public ParserCombinator iso$instruction$evaluate() {
+    public synchronized ParserCombinator iso$instruction$evaluate() {
       if (iso$instruction$evaluateParser == null) {
         FutureParser future = scoped("evaluate", PUBLIC, true);
         iso$instruction$evaluateParser = future;
@@ -310,7 +310,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start iso$instruction$when = Start.on(getNamespace(), "when");
     
-    public ParserCombinator iso$instruction$when() {
+    public synchronized ParserCombinator iso$instruction$when() {
       if (iso$instruction$whenParser == null) {
         FutureParser future = scoped("when", PUBLIC, true);
         iso$instruction$whenParser = future;
@@ -337,7 +337,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start iso$instruction$flag02 = Start.on(getNamespace(), "flag02");
     
-    public ParserCombinator iso$instruction$flag02() {
+    public synchronized ParserCombinator iso$instruction$flag02() {
       if (iso$instruction$flag02Parser == null) {
         FutureParser future = scoped("flag02", PUBLIC, true);
         iso$instruction$flag02Parser = future;
@@ -369,7 +369,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start iso$instruction$flag85 = Start.on(getNamespace(), "flag85");
     
-    public ParserCombinator iso$instruction$flag85() {
+    public synchronized ParserCombinator iso$instruction$flag85() {
       if (iso$instruction$flag85Parser == null) {
         FutureParser future = scoped("flag85", PUBLIC, true);
         iso$instruction$flag85Parser = future;
@@ -401,7 +401,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start iso$instruction$flagNativeArithmetic = Start.on(getNamespace(), "flagNativeArithmetic");
     
-    public ParserCombinator iso$instruction$flagNativeArithmetic() {
+    public synchronized ParserCombinator iso$instruction$flagNativeArithmetic() {
       if (iso$instruction$flagNativeArithmeticParser == null) {
         FutureParser future = scoped("flagNativeArithmetic", PUBLIC, true);
         iso$instruction$flagNativeArithmeticParser = future;
@@ -428,7 +428,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start iso$instruction$if = Start.on(getNamespace(), "if");
     
-    public ParserCombinator iso$instruction$if() {
+    public synchronized ParserCombinator iso$instruction$if() {
       if (iso$instruction$ifParser == null) {
         FutureParser future = scoped("if", PUBLIC, true);
         iso$instruction$ifParser = future;
@@ -455,7 +455,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start iso$instruction$leapSecond = Start.on(getNamespace(), "leapSecond");
     
-    public ParserCombinator iso$instruction$leapSecond() {
+    public synchronized ParserCombinator iso$instruction$leapSecond() {
       if (iso$instruction$leapSecondParser == null) {
         FutureParser future = scoped("leapSecond", PUBLIC, true);
         iso$instruction$leapSecondParser = future;
@@ -482,7 +482,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start iso$instruction$listing = Start.on(getNamespace(), "listing");
     
-    public ParserCombinator iso$instruction$listing() {
+    public synchronized ParserCombinator iso$instruction$listing() {
       if (iso$instruction$listingParser == null) {
         FutureParser future = scoped("listing", PUBLIC, true);
         iso$instruction$listingParser = future;
@@ -509,7 +509,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start iso$instruction$page = Start.on(getNamespace(), "page");
     
-    public ParserCombinator iso$instruction$page() {
+    public synchronized ParserCombinator iso$instruction$page() {
       if (iso$instruction$pageParser == null) {
         FutureParser future = scoped("page", PUBLIC, true);
         iso$instruction$pageParser = future;
@@ -536,7 +536,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start iso$instruction$propagate = Start.on(getNamespace(), "propagate");
     
-    public ParserCombinator iso$instruction$propagate() {
+    public synchronized ParserCombinator iso$instruction$propagate() {
       if (iso$instruction$propagateParser == null) {
         FutureParser future = scoped("propagate", PUBLIC, true);
         iso$instruction$propagateParser = future;
@@ -563,7 +563,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start iso$instruction$checking = Start.on(getNamespace(), "checking");
     
-    public ParserCombinator iso$instruction$checking() {
+    public synchronized ParserCombinator iso$instruction$checking() {
       if (iso$instruction$checkingParser == null) {
         FutureParser future = scoped("checking", PUBLIC, true);
         iso$instruction$checkingParser = future;
@@ -590,7 +590,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start iso$instruction$repository = Start.on(getNamespace(), "repository");
     
-    public ParserCombinator iso$instruction$repository() {
+    public synchronized ParserCombinator iso$instruction$repository() {
       if (iso$instruction$repositoryParser == null) {
         FutureParser future = scoped("repository", PUBLIC, true);
         iso$instruction$repositoryParser = future;
@@ -629,7 +629,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start ibm = Start.on(getNamespace(), "ibm");
     
-    public ParserCombinator ibm() {
+    public synchronized ParserCombinator ibm() {
       if (ibmParser == null) {
         FutureParser future = scoped("ibm", PUBLIC, true);
         ibmParser = future;
@@ -658,7 +658,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start ibm$basis = Start.on(getNamespace(), "basis");
     
-    public ParserCombinator ibm$basis() {
+    public synchronized ParserCombinator ibm$basis() {
       if (ibm$basisParser == null) {
         FutureParser future = scoped("basis", PUBLIC, true);
         ibm$basisParser = future;
@@ -698,7 +698,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start ibm$process = Start.on(getNamespace(), "process");
     
-    public ParserCombinator ibm$process() {
+    public synchronized ParserCombinator ibm$process() {
       if (ibm$processParser == null) {
         FutureParser future = scoped("process", PUBLIC, true);
         ibm$processParser = future;
@@ -749,7 +749,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start ibm$control = Start.on(getNamespace(), "control");
     
-    public ParserCombinator ibm$control() {
+    public synchronized ParserCombinator ibm$control() {
       if (ibm$controlParser == null) {
         FutureParser future = scoped("control", PUBLIC, true);
         ibm$controlParser = future;
@@ -783,7 +783,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     protected final Start ibm$control$cblControl = Start.on(getNamespace(), "cblControl");
     
-    protected ParserCombinator ibm$control$cblControl() {
+    protected synchronized ParserCombinator ibm$control$cblControl() {
       if (ibm$control$cblControlParser == null) {
         FutureParser future = scoped("cblControl", PRIVATE, true);
         ibm$control$cblControlParser = future;
@@ -814,7 +814,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start ibm$control$option = Start.on(getNamespace(), "option");
     
-    public ParserCombinator ibm$control$option() {
+    public synchronized ParserCombinator ibm$control$option() {
       if (ibm$control$optionParser == null) {
         FutureParser future = scoped("option", PUBLIC, true);
         ibm$control$optionParser = future;
@@ -841,7 +841,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start ibm$delete = Start.on(getNamespace(), "delete");
     
-    public ParserCombinator ibm$delete() {
+    public synchronized ParserCombinator ibm$delete() {
       if (ibm$deleteParser == null) {
         FutureParser future = scoped("delete", PUBLIC, true);
         ibm$deleteParser = future;
@@ -887,7 +887,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     protected final Start ibm$delete$sequenceNumberFieldOrRange = Start.on(getNamespace(), "sequenceNumberFieldOrRange");
     
-    protected ParserCombinator ibm$delete$sequenceNumberFieldOrRange() {
+    protected synchronized ParserCombinator ibm$delete$sequenceNumberFieldOrRange() {
       if (ibm$delete$sequenceNumberFieldOrRangeParser == null) {
         FutureParser future = scoped("sequenceNumberFieldOrRange", PRIVATE, true);
         ibm$delete$sequenceNumberFieldOrRangeParser = future;
@@ -920,7 +920,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start ibm$enter = Start.on(getNamespace(), "enter");
     
-    public ParserCombinator ibm$enter() {
+    public synchronized ParserCombinator ibm$enter() {
       if (ibm$enterParser == null) {
         FutureParser future = scoped("enter", PUBLIC, true);
         ibm$enterParser = future;
@@ -952,7 +952,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start ibm$insert = Start.on(getNamespace(), "insert");
     
-    public ParserCombinator ibm$insert() {
+    public synchronized ParserCombinator ibm$insert() {
       if (ibm$insertParser == null) {
         FutureParser future = scoped("insert", PUBLIC, true);
         ibm$insertParser = future;
@@ -992,7 +992,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start ibm$readyTrace = Start.on(getNamespace(), "readyTrace");
     
-    public ParserCombinator ibm$readyTrace() {
+    public synchronized ParserCombinator ibm$readyTrace() {
       if (ibm$readyTraceParser == null) {
         FutureParser future = scoped("readyTrace", PUBLIC, true);
         ibm$readyTraceParser = future;
@@ -1016,7 +1016,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start ibm$resetTrace = Start.on(getNamespace(), "resetTrace");
     
-    public ParserCombinator ibm$resetTrace() {
+    public synchronized ParserCombinator ibm$resetTrace() {
       if (ibm$resetTraceParser == null) {
         FutureParser future = scoped("resetTrace", PUBLIC, true);
         ibm$resetTraceParser = future;
@@ -1040,7 +1040,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start ibm$sequenceNumberField = Start.on(getNamespace(), "sequenceNumberField");
     
-    public ParserCombinator ibm$sequenceNumberField() {
+    public synchronized ParserCombinator ibm$sequenceNumberField() {
       if (ibm$sequenceNumberFieldParser == null) {
         FutureParser future = scoped("sequenceNumberField", PUBLIC, true);
         ibm$sequenceNumberFieldParser = future;
@@ -1063,7 +1063,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start mf = Start.on(getNamespace(), "mf");
     
-    public ParserCombinator mf() {
+    public synchronized ParserCombinator mf() {
       if (mfParser == null) {
         FutureParser future = scoped("mf", PUBLIC, true);
         mfParser = future;
@@ -1091,7 +1091,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start mf$inc = Start.on(getNamespace(), "inc");
     
-    public ParserCombinator mf$inc() {
+    public synchronized ParserCombinator mf$inc() {
       if (mf$incParser == null) {
         FutureParser future = scoped("inc", PUBLIC, true);
         mf$incParser = future;
@@ -1129,7 +1129,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start mf$include = Start.on(getNamespace(), "include");
     
-    public ParserCombinator mf$include() {
+    public synchronized ParserCombinator mf$include() {
       if (mf$includeParser == null) {
         FutureParser future = scoped("include", PUBLIC, true);
         mf$includeParser = future;
@@ -1170,7 +1170,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start mf$set = Start.on(getNamespace(), "set");
     
-    public ParserCombinator mf$set() {
+    public synchronized ParserCombinator mf$set() {
       if (mf$setParser == null) {
         FutureParser future = scoped("set", PUBLIC, true);
         mf$setParser = future;
@@ -1215,7 +1215,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start mf$set$parameter = Start.on(getNamespace(), "parameter");
     
-    public ParserCombinator mf$set$parameter() {
+    public synchronized ParserCombinator mf$set$parameter() {
       if (mf$set$parameterParser == null) {
         FutureParser future = scoped("parameter", PUBLIC, true);
         mf$set$parameterParser = future;
@@ -1252,7 +1252,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start mf$display = Start.on(getNamespace(), "display");
     
-    public ParserCombinator mf$display() {
+    public synchronized ParserCombinator mf$display() {
       if (mf$displayParser == null) {
         FutureParser future = scoped("display", PUBLIC, true);
         mf$displayParser = future;
@@ -1288,7 +1288,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start mf$else = Start.on(getNamespace(), "else");
     
-    public ParserCombinator mf$else() {
+    public synchronized ParserCombinator mf$else() {
       if (mf$elseParser == null) {
         FutureParser future = scoped("else", PUBLIC, true);
         mf$elseParser = future;
@@ -1313,7 +1313,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start mf$end = Start.on(getNamespace(), "end");
     
-    public ParserCombinator mf$end() {
+    public synchronized ParserCombinator mf$end() {
       if (mf$endParser == null) {
         FutureParser future = scoped("end", PUBLIC, true);
         mf$endParser = future;
@@ -1338,7 +1338,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start mf$if = Start.on(getNamespace(), "if");
     
-    public ParserCombinator mf$if() {
+    public synchronized ParserCombinator mf$if() {
       if (mf$ifParser == null) {
         FutureParser future = scoped("if", PUBLIC, true);
         mf$ifParser = future;
@@ -1370,7 +1370,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start mf$indicator = Start.on(getNamespace(), "indicator");
     
-    public ParserCombinator mf$indicator() {
+    public synchronized ParserCombinator mf$indicator() {
       if (mf$indicatorParser == null) {
         FutureParser future = scoped("indicator", PUBLIC, true);
         mf$indicatorParser = future;
@@ -1406,7 +1406,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start listing = Start.on(getNamespace(), "listing");
     
-    public ParserCombinator listing() {
+    public synchronized ParserCombinator listing() {
       if (listingParser == null) {
         FutureParser future = scoped("listing", PUBLIC, true);
         listingParser = future;
@@ -1448,7 +1448,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start listing$eject = Start.on(getNamespace(), "eject");
     
-    public ParserCombinator listing$eject() {
+    public synchronized ParserCombinator listing$eject() {
       if (listing$ejectParser == null) {
         FutureParser future = scoped("eject", PUBLIC, true);
         listing$ejectParser = future;
@@ -1476,7 +1476,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start listing$skip = Start.on(getNamespace(), "skip");
     
-    public ParserCombinator listing$skip() {
+    public synchronized ParserCombinator listing$skip() {
       if (listing$skipParser == null) {
         FutureParser future = scoped("skip", PUBLIC, true);
         listing$skipParser = future;
@@ -1513,7 +1513,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start listing$title = Start.on(getNamespace(), "title");
     
-    public ParserCombinator listing$title() {
+    public synchronized ParserCombinator listing$title() {
       if (listing$titleParser == null) {
         FutureParser future = scoped("title", PUBLIC, true);
         listing$titleParser = future;
@@ -1542,7 +1542,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start inlineComment = Start.on(getNamespace(), "inlineComment");
     
-    public ParserCombinator inlineComment() {
+    public synchronized ParserCombinator inlineComment() {
       if (inlineCommentParser == null) {
         FutureParser future = scoped("inlineComment", PUBLIC, true);
         inlineCommentParser = future;
@@ -1567,7 +1567,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     protected final Start inlineCommentIndicator = Start.on(getNamespace(), "inlineCommentIndicator");
     
-    protected ParserCombinator inlineCommentIndicator() {
+    protected synchronized ParserCombinator inlineCommentIndicator() {
       if (inlineCommentIndicatorParser == null) {
         FutureParser future = scoped("inlineCommentIndicator", PRIVATE, true);
         inlineCommentIndicatorParser = future;
@@ -1592,7 +1592,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start name = Start.on(getNamespace(), "name");
     
-    public ParserCombinator name() {
+    public synchronized ParserCombinator name() {
       if (nameParser == null) {
         FutureParser future = scoped("name", PUBLIC, true);
         nameParser = future;
@@ -1631,7 +1631,7 @@ public class DirectivesGrammar extends DirectivesBaseGrammar {
     
     public final Start anything = Start.on(getNamespace(), "anything");
     
-    public ParserCombinator anything() {
+    public synchronized ParserCombinator anything() {
       if (anythingParser == null) {
         FutureParser future = scoped("anything", PUBLIC, true);
         anythingParser = future;
@@ -23,7 +23,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     protected CobolPreprocessingGrammar() {
     }
     
-    public static CobolPreprocessingGrammar instance() {
+    public static synchronized CobolPreprocessingGrammar instance() {
       if (INSTANCE == null)
         INSTANCE = new CobolPreprocessingGrammar();
         
@@ -38,7 +38,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start preprocessing = Start.on(getNamespace(), "preprocessing");
     
-    public ParserCombinator preprocessing() {
+    public synchronized ParserCombinator preprocessing() {
       if (preprocessingParser == null) {
         FutureParser future = scoped("preprocessing", PUBLIC, true);
         preprocessingParser = future;
@@ -65,7 +65,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start preprocessingDirective = Start.on(getNamespace(), "preprocessingDirective");
     
-    public ParserCombinator preprocessingDirective() {
+    public synchronized ParserCombinator preprocessingDirective() {
       if (preprocessingDirectiveParser == null) {
         FutureParser future = scoped("preprocessingDirective", PUBLIC, true);
         preprocessingDirectiveParser = future;
@@ -88,7 +88,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start copyStatement = Start.on(getNamespace(), "copyStatement");
     
-    public ParserCombinator copyStatement() {
+    public synchronized ParserCombinator copyStatement() {
       if (copyStatementParser == null) {
         FutureParser future = scoped("copyStatement", PUBLIC, true);
         copyStatementParser = future;
@@ -111,7 +111,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     protected final Start copyStatementBody = Start.on(getNamespace(), "copyStatementBody");
     
-    protected ParserCombinator copyStatementBody() {
+    protected synchronized ParserCombinator copyStatementBody() {
       if (copyStatementBodyParser == null) {
         FutureParser future = scoped("copyStatementBody", PRIVATE, true);
         copyStatementBodyParser = future;
@@ -154,7 +154,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start copyStatementBody$replacing = Start.on(getNamespace(), "replacing");
     
-    public ParserCombinator copyStatementBody$replacing() {
+    public synchronized ParserCombinator copyStatementBody$replacing() {
       if (copyStatementBody$replacingParser == null) {
         FutureParser future = scoped("replacing", PUBLIC, true);
         copyStatementBody$replacingParser = future;
@@ -179,7 +179,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start replacementInstruction = Start.on(getNamespace(), "replacementInstruction");
     
-    public ParserCombinator replacementInstruction() {
+    public synchronized ParserCombinator replacementInstruction() {
       if (replacementInstructionParser == null) {
         FutureParser future = scoped("replacementInstruction", PUBLIC, true);
         replacementInstructionParser = future;
@@ -209,7 +209,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start replacementInstruction$leading = Start.on(getNamespace(), "leading");
     
-    public ParserCombinator replacementInstruction$leading() {
+    public synchronized ParserCombinator replacementInstruction$leading() {
       if (replacementInstruction$leadingParser == null) {
         FutureParser future = scoped("leading", PUBLIC, true);
         replacementInstruction$leadingParser = future;
@@ -229,7 +229,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start replacementInstruction$trailing = Start.on(getNamespace(), "trailing");
     
-    public ParserCombinator replacementInstruction$trailing() {
+    public synchronized ParserCombinator replacementInstruction$trailing() {
       if (replacementInstruction$trailingParser == null) {
         FutureParser future = scoped("trailing", PUBLIC, true);
         replacementInstruction$trailingParser = future;
@@ -249,7 +249,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start replacementOperand = Start.on(getNamespace(), "replacementOperand");
     
-    public ParserCombinator replacementOperand() {
+    public synchronized ParserCombinator replacementOperand() {
       if (replacementOperandParser == null) {
         FutureParser future = scoped("replacementOperand", PUBLIC, true);
         replacementOperandParser = future;
@@ -273,7 +273,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start replaceStatement = Start.on(getNamespace(), "replaceStatement");
     
-    public ParserCombinator replaceStatement() {
+    public synchronized ParserCombinator replaceStatement() {
       if (replaceStatementParser == null) {
         FutureParser future = scoped("replaceStatement", PUBLIC, true);
         replaceStatementParser = future;
@@ -300,7 +300,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start replaceStatement$replacing = Start.on(getNamespace(), "replacing");
     
-    public ParserCombinator replaceStatement$replacing() {
+    public synchronized ParserCombinator replaceStatement$replacing() {
       if (replaceStatement$replacingParser == null) {
         FutureParser future = scoped("replacing", PUBLIC, true);
         replaceStatement$replacingParser = future;
@@ -329,7 +329,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start replaceStatement$off = Start.on(getNamespace(), "off");
     
-    public ParserCombinator replaceStatement$off() {
+    public synchronized ParserCombinator replaceStatement$off() {
       if (replaceStatement$offParser == null) {
         FutureParser future = scoped("off", PUBLIC, true);
         replaceStatement$offParser = future;
@@ -356,7 +356,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start textName = Start.on(getNamespace(), "textName");
     
-    public ParserCombinator textName() {
+    public synchronized ParserCombinator textName() {
       if (textNameParser == null) {
         FutureParser future = scoped("textName", PUBLIC, true);
         textNameParser = future;
@@ -379,7 +379,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start libraryName = Start.on(getNamespace(), "libraryName");
     
-    public ParserCombinator libraryName() {
+    public synchronized ParserCombinator libraryName() {
       if (libraryNameParser == null) {
         FutureParser future = scoped("libraryName", PUBLIC, true);
         libraryNameParser = future;
@@ -402,7 +402,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start literal = Start.on(getNamespace(), "literal");
     
-    public ParserCombinator literal() {
+    public synchronized ParserCombinator literal() {
       if (literalParser == null) {
         FutureParser future = scoped("literal", PUBLIC, true);
         literalParser = future;
@@ -425,7 +425,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start numeric = Start.on(getNamespace(), "numeric");
     
-    public ParserCombinator numeric() {
+    public synchronized ParserCombinator numeric() {
       if (numericParser == null) {
         FutureParser future = scoped("numeric", PUBLIC, true);
         numericParser = future;
@@ -449,7 +449,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start integerLiteral = Start.on(getNamespace(), "integerLiteral");
     
-    public ParserCombinator integerLiteral() {
+    public synchronized ParserCombinator integerLiteral() {
       if (integerLiteralParser == null) {
         FutureParser future = scoped("integerLiteral", PUBLIC, true);
         integerLiteralParser = future;
@@ -483,7 +483,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start hexadecimal = Start.on(getNamespace(), "hexadecimal");
     
-    public ParserCombinator hexadecimal() {
+    public synchronized ParserCombinator hexadecimal() {
       if (hexadecimalParser == null) {
         FutureParser future = scoped("hexadecimal", PUBLIC, true);
         hexadecimalParser = future;
@@ -508,7 +508,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start alphanumericHexadecimal = Start.on(getNamespace(), "alphanumericHexadecimal");
     
-    public ParserCombinator alphanumericHexadecimal() {
+    public synchronized ParserCombinator alphanumericHexadecimal() {
       if (alphanumericHexadecimalParser == null) {
         FutureParser future = scoped("alphanumericHexadecimal", PUBLIC, true);
         alphanumericHexadecimalParser = future;
@@ -533,7 +533,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start nationalAlphanumericHexadecimal = Start.on(getNamespace(), "nationalAlphanumericHexadecimal");
     
-    public ParserCombinator nationalAlphanumericHexadecimal() {
+    public synchronized ParserCombinator nationalAlphanumericHexadecimal() {
       if (nationalAlphanumericHexadecimalParser == null) {
         FutureParser future = scoped("nationalAlphanumericHexadecimal", PUBLIC, true);
         nationalAlphanumericHexadecimalParser = future;
@@ -558,7 +558,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start booleanHexadecimal = Start.on(getNamespace(), "booleanHexadecimal");
     
-    public ParserCombinator booleanHexadecimal() {
+    public synchronized ParserCombinator booleanHexadecimal() {
       if (booleanHexadecimalParser == null) {
         FutureParser future = scoped("booleanHexadecimal", PUBLIC, true);
         booleanHexadecimalParser = future;
@@ -583,7 +583,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     protected final Start hexadecimalLiteral = Start.on(getNamespace(), "hexadecimalLiteral");
     
-    protected ParserCombinator hexadecimalLiteral() {
+    protected synchronized ParserCombinator hexadecimalLiteral() {
       if (hexadecimalLiteralParser == null) {
         FutureParser future = scoped("hexadecimalLiteral", PRIVATE, true);
         hexadecimalLiteralParser = future;
@@ -608,7 +608,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start booleanLiteral = Start.on(getNamespace(), "booleanLiteral");
     
-    public ParserCombinator booleanLiteral() {
+    public synchronized ParserCombinator booleanLiteral() {
       if (booleanLiteralParser == null) {
         FutureParser future = scoped("booleanLiteral", PUBLIC, true);
         booleanLiteralParser = future;
@@ -636,7 +636,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start nullTerminatedStringLiteral = Start.on(getNamespace(), "nullTerminatedStringLiteral");
     
-    public ParserCombinator nullTerminatedStringLiteral() {
+    public synchronized ParserCombinator nullTerminatedStringLiteral() {
       if (nullTerminatedStringLiteralParser == null) {
         FutureParser future = scoped("nullTerminatedStringLiteral", PUBLIC, true);
         nullTerminatedStringLiteralParser = future;
@@ -661,7 +661,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start nationalStringLiteral = Start.on(getNamespace(), "nationalStringLiteral");
     
-    public ParserCombinator nationalStringLiteral() {
+    public synchronized ParserCombinator nationalStringLiteral() {
       if (nationalStringLiteralParser == null) {
         FutureParser future = scoped("nationalStringLiteral", PUBLIC, true);
         nationalStringLiteralParser = future;
@@ -686,7 +686,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start alphanumericLiteral = Start.on(getNamespace(), "alphanumericLiteral");
     
-    public ParserCombinator alphanumericLiteral() {
+    public synchronized ParserCombinator alphanumericLiteral() {
       if (alphanumericLiteralParser == null) {
         FutureParser future = scoped("alphanumericLiteral", PUBLIC, true);
         alphanumericLiteralParser = future;
@@ -712,7 +712,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     protected final Start str = Start.on(getNamespace(), "str");
     
-    protected ParserCombinator str() {
+    protected synchronized ParserCombinator str() {
       if (strParser == null) {
         FutureParser future = scoped("str", PRIVATE, true);
         strParser = future;
@@ -747,7 +747,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start pseudoLiteral = Start.on(getNamespace(), "pseudoLiteral");
     
-    public ParserCombinator pseudoLiteral() {
+    public synchronized ParserCombinator pseudoLiteral() {
       if (pseudoLiteralParser == null) {
         FutureParser future = scoped("pseudoLiteral", PUBLIC, true);
         pseudoLiteralParser = future;
@@ -797,7 +797,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     public final Start decimal = Start.on(getNamespace(), "decimal");
     
-    public ParserCombinator decimal() {
+    public synchronized ParserCombinator decimal() {
       if (decimalParser == null) {
         FutureParser future = scoped("decimal", PUBLIC, true);
         decimalParser = future;
@@ -828,7 +828,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     protected final Start unsigned_decimal = Start.on(getNamespace(), "unsigned_decimal");
     
-    protected ParserCombinator unsigned_decimal() {
+    protected synchronized ParserCombinator unsigned_decimal() {
       if (unsigned_decimalParser == null) {
         FutureParser future = scoped("unsigned_decimal", PRIVATE, true);
         unsigned_decimalParser = future;
@@ -867,7 +867,7 @@ public class CobolPreprocessingGrammar extends CobolPreprocessingBaseGrammar {
     
     protected final Start uintgr = Start.on(getNamespace(), "uintgr");
     
-    protected ParserCombinator uintgr() {
+    protected synchronized ParserCombinator uintgr() {
       if (uintgrParser == null) {
         FutureParser future = scoped("uintgr", PRIVATE, true);
         uintgrParser = future;
@@ -2,16 +2,26 @@ class CobolTestSuite extends koopa.core.util.test.TestShell {
   static final String[] tests = {
 
     "koopa.cobol.grammar.test.CobolGrammarTests",
+    "koopa.cobol.grammar.test.CompiledGrammarTest",
 
     "koopa.cobol.grammar.directives.test.FixedDirectivesTests",
     "koopa.cobol.grammar.directives.test.FreeDirectivesTests",
 
     "koopa.cobol.grammar.preprocessing.test.CobolPreprocessingGrammarTests",
 
+    "koopa.cobol.copybooks.test.CopybookIndexTest",
+    "koopa.cobol.copybooks.test.CopybookCacheTest",
+
+    "koopa.cobol.parser.test.IncrementalReparseTest",
+    "koopa.cobol.parser.test.BatchCobolParserTest",
+    "koopa.cobol.parser.test.IncompleteParseMessageTest",
+
     "koopa.cobol.parser.preprocessing.test.PreprocessingSourceTest",
 
     "koopa.cobol.parser.preprocessing.replacing.test.ReplacingPhraseOperandTest",
+    "koopa.cobol.parser.preprocessing.replacing.test.PhraseMatcherTest",
 
+    "koopa.cobol.sources.test.CompilerDirectivesTest",
     "koopa.cobol.sources.test.CobolSourcesValidationTest"
 
   };
@@ -0,0 +1,192 @@
+package koopa.cobol.copybooks.test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import koopa.cobol.CobolTokens;
+import koopa.cobol.copybooks.CopybookCache;
+import koopa.cobol.copybooks.CopybookIndex;
+import koopa.cobol.projects.StandardCobolProject;
+import koopa.cobol.sources.SourceFormat;
+import koopa.core.data.Data;
+import koopa.core.data.Position;
+import koopa.core.data.Token;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Preprocessing with a {@linkplain CopybookCache} should give the same tokens
+ * as preprocessing without one, while only reading each copybook once.
+ */
+class CopybookCacheTest {
+
+    private static final String MOVES = "MOVE 11 TO XXX.\nMOVE 22 TO YYY.\n";
+
+    private Path dir;
+    private Path program;
+
+    @BeforeEach
+    void createDirectory() throws IOException {
+        dir = Files.createTempDirectory("copybooks");
+        program = dir.resolve("PROGRAM.cbl");
+    }
+
+    @AfterEach
+    void deleteDirectory() throws IOException {
+        CopybookIndex.invalidate(dir);
+        try (var files = Files.newDirectoryStream(dir)) {
+            for (var file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    private Path copybook(String name, String text) throws IOException {
+        return Files.writeString(dir.resolve(name), text);
+    }
+
+    /**
+     * Preprocesses the given free format program, returning the text of all tokens.
+     */
+    private String preprocess(String input, CopybookCache cache) throws IOException {
+        // Copybooks get located relative to the program, which should therefore exist.
+        Files.writeString(program, input);
+        var project = new StandardCobolProject();
+        project.setDefaultFormat(SourceFormat.FREE);
+        project.setDefaultPreprocessing(true);
+        project.setCopybookCache(cache);
+
+        var source = CobolTokens.getNewSource(program, new StringReader(input), project);
+        var actual = new StringBuilder();
+        Data d = null;
+        while ((d = source.next()) != null) {
+            if (d instanceof Token) {
+                actual.append(((Token) d).getText());
+            }
+        }
+        return actual.toString();
+    }
+
+    private CopybookCache.Key keyFor(Path copybook) {
+        return CopybookCache.keyFor(copybook, SourceFormat.FREE, new StandardCobolProject().getTabLength(program));
+    }
+
+    private static List<Token> tokens(int count) {
+        var tokens = new ArrayList<Token>();
+        for (var i = 0; i < count; i++) {
+            var start = new Position(i, 1, i + 1);
+            tokens.add(new Token("T", start, start));
+        }
+        return tokens;
+    }
+
+    @Test
+    void testAppliesReplacingOnEveryReplay() throws IOException {
+        copybook("MOVES.CPY", MOVES);
+        var input = "ONE.\n"
+            + "COPY \"MOVES\" REPLACING ==XXX== BY ==FOO==.\n"
+            + "TWO.\n"
+            + "COPY \"MOVES\" REPLACING ==YYY== BY ==FUM==.\n"
+            + "THREE.\n"
+            + "COPY \"MOVES\".\n";
+        // The end of the line holding the COPY statement follows each copybook.
+        var expected = "ONE.\n"
+            + "MOVE 11 TO FOO.\nMOVE 22 TO YYY.\n\n"
+            + "TWO.\n"
+            + "MOVE 11 TO XXX.\nMOVE 22 TO FUM.\n\n"
+            + "THREE.\n"
+            + "MOVE 11 TO XXX.\nMOVE 22 TO YYY.\n\n";
+        assertEquals(expected, preprocess(input, null));
+
+        var cache = new CopybookCache();
+        assertEquals(expected, preprocess(input, cache));
+        assertEquals(1, cache.getMisses());
+        assertEquals(2, cache.getHits());
+
+        assertEquals(expected, preprocess(input, cache));
+        assertEquals(1, cache.getMisses());
+        assertEquals(5, cache.getHits());
+    }
+
+    @Test
+    void testMissesOnceTheCopybookChanges() throws IOException {
+        var moves = copybook("MOVES.CPY", MOVES);
+        var input = "COPY \"MOVES\".\n";
+        var cache = new CopybookCache();
+        assertEquals(MOVES + "\n", preprocess(input, cache));
+        var key = keyFor(moves);
+        assertNotNull(cache.get(key));
+
+        var modified = Files.getLastModifiedTime(moves).toMillis();
+        copybook("MOVES.CPY", "MOVE 33 TO ZZZ.\n");
+        Files.setLastModifiedTime(moves, FileTime.fromMillis(modified + 10_000));
+
+        var misses = cache.getMisses();
+        assertEquals("MOVE 33 TO ZZZ.\n\n", preprocess(input, cache));
+        assertEquals(misses + 1, cache.getMisses());
+        assertNotEquals(key, keyFor(moves));
+        assertNotNull(cache.get(keyFor(moves)));
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedWithinBudget() throws IOException {
+        var a = keyFor(copybook("A.CPY", ""));
+        var b = keyFor(copybook("B.CPY", ""));
+        var c = keyFor(copybook("C.CPY", ""));
+        var d = keyFor(copybook("D.CPY", ""));
+
+        var cache = new CopybookCache(5);
+        cache.put(a, tokens(2));
+        cache.put(b, tokens(2));
+        // Using a makes b the least recently used.
+        assertNotNull(cache.get(a));
+        cache.put(c, tokens(2));
+
+        assertEquals(1, cache.getEvictions());
+        assertNull(cache.get(b));
+        assertEquals(2, cache.get(a).size());
+        assertEquals(2, cache.get(c).size());
+
+        // Anything over the entire budget does not get stored at all.
+        cache.put(d, tokens(6));
+        assertNull(cache.get(d));
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    void testDoesNotRecordCopybooksWithNestedCopyStatements() throws IOException {
+        var outer = copybook("OUTER.CPY", "MOVE 1 TO X.\nCOPY \"INNER\".\nMOVE 2 TO Y.\n");
+        var inner = copybook("INNER.CPY", "MOVE 3 TO Z.\n");
+        var input = "COPY \"OUTER\".\nCOPY \"OUTER\".\n";
+        var expected = "MOVE 1 TO X.\nMOVE 3 TO Z.\n\nMOVE 2 TO Y.\n\n";
+        assertEquals(expected + expected, preprocess(input, null));
+
+        var cache = new CopybookCache();
+        assertEquals(expected + expected, preprocess(input, cache));
+        assertNull(cache.get(keyFor(outer)));
+        assertNotNull(cache.get(keyFor(inner)));
+    }
+
+    @Test
+    void testDoesNotRecordCopybooksWithCompilerDirectives() throws IOException {
+        var directive = copybook("DIRECTIVE.CPY", "MOVE 1 TO X.\n>>SOURCE FORMAT IS FREE\nMOVE 2 TO Y.\n");
+        var input = "COPY \"DIRECTIVE\".\nCOPY \"DIRECTIVE\".\n";
+        var expected = preprocess(input, null);
+
+        var cache = new CopybookCache();
+        assertEquals(expected, preprocess(input, cache));
+        assertEquals(0, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertNull(cache.get(keyFor(directive)));
+    }
+
+}
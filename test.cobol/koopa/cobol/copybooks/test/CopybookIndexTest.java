@@ -0,0 +1,141 @@
+package koopa.cobol.copybooks.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import koopa.cobol.copybooks.CopybookIndex;
+import koopa.cobol.copybooks.DefaultCopybookLocator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A {@linkplain CopybookIndex} should find the same copybooks
+ * {@linkplain DefaultCopybookLocator#isCopybookNamed(Path, String)} would,
+ * preferring the longest name.
+ */
+class CopybookIndexTest {
+
+    private Path dir;
+
+    @BeforeEach
+    void createDirectory() throws IOException {
+        dir = Files.createTempDirectory("copybooks");
+    }
+
+    @AfterEach
+    void deleteDirectory() throws IOException {
+        CopybookIndex.invalidate(dir);
+        try (var files = Files.newDirectoryStream(dir)) {
+            for (var file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    private Path copybook(String name) throws IOException {
+        return Files.writeString(dir.resolve(name), "");
+    }
+
+    private Path find(String textName) {
+        return find(textName, null);
+    }
+
+    private Path find(String textName, Path excluded) {
+        var index = CopybookIndex.of(dir);
+        assertNotNull(index);
+        return index.find(dir, textName, excluded);
+    }
+
+    @Test
+    void testPrefersTheLongestName() throws IOException {
+        var abc = copybook("ABC.cpy");
+        var abcdef = copybook("ABCDEF.cpy");
+        copybook("ABCD.txt");
+
+        assertEquals(abcdef, find("ABCDEF"));
+        assertEquals(abcdef, find("ABCDEFG"));
+        assertEquals(abc, find("ABCD"));
+        assertEquals(abc, find("ABC"));
+        assertNull(find("AB"));
+        assertNull(find("XYZ"));
+    }
+
+    @Test
+    void testIgnoresCase() throws IOException {
+        var lower = copybook("lower.CPY");
+        var upper = copybook("UPPER.copy");
+
+        assertEquals(lower, find("LOWER"));
+        assertEquals(lower, find("Lower"));
+        assertEquals(upper, find("upper"));
+        assertTrue(DefaultCopybookLocator.isCopybookNamed(lower, "LOWER"));
+        assertTrue(DefaultCopybookLocator.isCopybookNamed(upper, "upper"));
+    }
+
+    @Test
+    void testNeverFindsTheExcludedFile() throws IOException {
+        var abc = copybook("ABC.cpy");
+        var abcdef = copybook("ABCDEF.cpy");
+        // Both of these fold to the same name.
+        var first = copybook("SAME.cpy");
+        var second = copybook("same.CPY");
+
+        assertEquals(abc, find("ABCDEF", abcdef));
+        assertNull(find("ABC", abc));
+
+        var found = find("SAME");
+        assertTrue(found.equals(first) || found.equals(second));
+        var other = found.equals(first) ? second : first;
+        assertEquals(other, find("SAME", found));
+    }
+
+    @Test
+    void testGetsRebuiltWhenTheDirectoryChanges() throws IOException {
+        copybook("ABC.cpy");
+        var index = CopybookIndex.of(dir);
+        assertSame(index, CopybookIndex.of(dir));
+        assertNull(find("XYZ"));
+
+        var xyz = copybook("XYZ.cpy");
+        // Some file systems are coarse about this, so we make sure it changes.
+        var modified = Files.getLastModifiedTime(dir).toMillis();
+        Files.setLastModifiedTime(dir, FileTime.fromMillis(modified + 10_000));
+
+        assertNotSame(index, CopybookIndex.of(dir));
+        assertEquals(xyz, find("XYZ"));
+    }
+
+    @Test
+    void testGetsRebuiltWhenInvalidated() throws IOException {
+        copybook("ABC.cpy");
+        var index = CopybookIndex.of(dir);
+        var modified = Files.getLastModifiedTime(dir);
+
+        var xyz = copybook("XYZ.cpy");
+        // Pretend the file system did not notice.
+        Files.setLastModifiedTime(dir, modified);
+        assertSame(index, CopybookIndex.of(dir));
+        assertNull(find("XYZ"));
+
+        CopybookIndex.invalidate(dir);
+        assertNotSame(index, CopybookIndex.of(dir));
+        assertEquals(xyz, find("XYZ"));
+
+        index = CopybookIndex.of(dir);
+        CopybookIndex.invalidateAll();
+        assertNotSame(index, CopybookIndex.of(dir));
+    }
+
+    @Test
+    void testHasNoIndexForAFile() throws IOException {
+        assertNull(CopybookIndex.of(copybook("ABC.cpy")));
+        assertNull(CopybookIndex.of(dir.resolve("missing")));
+    }
+
+}
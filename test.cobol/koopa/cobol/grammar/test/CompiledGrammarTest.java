@@ -0,0 +1,88 @@
+package koopa.cobol.grammar.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import koopa.cobol.CobolFiles;
+import koopa.cobol.grammar.CobolCompiledGrammar;
+import koopa.cobol.grammar.CobolGrammar;
+import koopa.cobol.parser.CobolParser;
+import koopa.cobol.projects.StandardCobolProject;
+import koopa.core.data.Token;
+import koopa.core.parsers.ParserCombinator;
+import koopa.core.trees.Tree;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the {@linkplain CobolCompiledGrammar} builds the same trees
+ * as the interpreted {@linkplain CobolGrammar}.
+ */
+class CompiledGrammarTest {
+
+    private static final Path FOLDER = Paths.get("data/testsuite/cobol85");
+
+    @Test
+    void buildsSameTreesForPrograms() throws IOException {
+        for (var name : new String[] { "CM101M.CBL", "IC101A.CBL", "IX101A.CBL", "NC101A.CBL", "NC201A.CBL",
+            "RW101A.CBL", "SQ101M.CBL", "ST101A.CBL" }) {
+            assertSameTrees(name);
+        }
+    }
+
+    @Test
+    void buildsSameTreesForCopybooks() throws IOException {
+        assertSameTrees("K1SEA.CPY");
+        assertSameTrees("K1WKB.CPY");
+    }
+
+    private static void assertSameTrees(String name) throws IOException {
+        var file = FOLDER.resolve(name);
+        var text = Files.readString(file);
+
+        var interpreted = parser(CobolGrammar.instance()).parse(file, text);
+        var compiled = parser(CobolCompiledGrammar.instance()).parse(file, text);
+
+        assertTrue(interpreted.isValidInput(), name);
+        assertTrue(compiled.isValidInput(), name);
+        assertEquals(dump(interpreted.getTree(), new StringBuilder()).toString(),
+            dump(compiled.getTree(), new StringBuilder()).toString(), name);
+    }
+
+    private static CobolParser parser(CobolGrammar grammar) {
+        var parser = new CobolParser();
+        parser.setProject(new StandardCobolProject() {
+            @Override
+            public ParserCombinator parserFor(Path file) {
+                return CobolFiles.isCopybook(file) ? grammar.copybook() : grammar.compilationGroup();
+            }
+
+            @Override
+            public CobolGrammar getGrammar() {
+                return grammar;
+            }
+        });
+        parser.setBuildTrees(true);
+        return parser;
+    }
+
+    private static StringBuilder dump(Tree tree, StringBuilder out) {
+        if (tree == null) {
+            return out;
+        } else if (tree.isToken()) {
+            var token = (Token) tree.getData();
+            out.append('[').append(token.getText()).append(']').append(token.getStart()).append('\n');
+        } else {
+            out.append('(').append(tree.getName()).append('\n');
+            for (var child : tree.getChildren()) {
+                dump(child, out);
+            }
+            out.append(")\n");
+        }
+        return out;
+    }
+
+}
@@ -0,0 +1,124 @@
+package koopa.cobol.parser.preprocessing.replacing.test;
+
+import static koopa.cobol.parser.preprocessing.replacing.test.ReplacingPhraseOperandTest.input;
+import static koopa.cobol.parser.preprocessing.replacing.test.ReplacingPhraseOperandTest.leading;
+import static koopa.cobol.parser.preprocessing.replacing.test.ReplacingPhraseOperandTest.matching;
+import static koopa.cobol.parser.preprocessing.replacing.test.ReplacingPhraseOperandTest.pseudo;
+import static koopa.cobol.parser.preprocessing.replacing.test.ReplacingPhraseOperandTest.trailing;
+import static koopa.cobol.parser.preprocessing.replacing.test.ReplacingPhraseOperandTest.word;
+import static koopa.core.data.tags.SyntacticTag.SEPARATOR;
+import static koopa.core.data.tags.SyntacticTag.WHITESPACE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import koopa.cobol.parser.preprocessing.replacing.PhraseMatcher;
+import koopa.cobol.parser.preprocessing.replacing.ReplaceNone;
+import koopa.cobol.parser.preprocessing.replacing.ReplacingPhrase;
+import koopa.core.data.Token;
+import koopa.core.sources.Source;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A {@linkplain PhraseMatcher} should find the same {@linkplain ReplacingPhrase}
+ * as trying all of them in order of precedence would.
+ */
+class PhraseMatcherTest {
+
+    @Test
+    void canFindMatchingPhrase() {
+        var a = matching(word("ALPHA"), word("A"));
+        var b = matching(word("BETA"), word("B"));
+        var matcher = matcher(List.of(a, b));
+        assertFinds(a, matcher, input("alpha"));
+        assertFinds(b, matcher, input("BETA"));
+        assertFinds(null, matcher, input("GAMMA"));
+    }
+
+    @Test
+    void takesFirstPhraseWithinALevel() {
+        var longer = matching(
+            pseudo("=", "=", "GRACE", SEPARATOR, WHITESPACE, " ", "HOPPER", "=", "="),
+            word("X") );
+        var shorter = matching(word("GRACE"), word("Y"));
+        var text = input("GRACE", SEPARATOR, WHITESPACE, " ", "HOPPER");
+        assertFinds(longer, matcher(List.of(longer, shorter)), text);
+
+        text = input("GRACE", SEPARATOR, WHITESPACE, " ", "HOPPER");
+        assertFinds(shorter, matcher(List.of(shorter, longer)), text);
+
+        text = input("GRACE", SEPARATOR, WHITESPACE, " ", "KELLY");
+        assertFinds(shorter, matcher(List.of(longer, shorter)), text);
+    }
+
+    @Test
+    void takesFirstLevel() {
+        var outer = matching(word("ALPHA"), word("A"));
+        var inner = leading(pseudo("=", "=", "AL", "=", "="), pseudo("=", "=", "=", "="));
+        var matcher = new PhraseMatcher(List.of(List.of(inner), List.of(outer)));
+        assertFinds(inner, matcher, input("ALPHA"));
+        assertFinds(inner, matcher, input("ALBERT"));
+
+        matcher = new PhraseMatcher(List.of(List.of(outer), List.of(inner)));
+        assertFinds(outer, matcher, input("ALPHA"));
+        assertFinds(inner, matcher, input("ALBERT"));
+    }
+
+    @Test
+    void canFindPartialWords() {
+        var shortLead = leading(pseudo("=", "=", "WS", "=", "="), pseudo("=", "=", "=", "="));
+        var longLead = leading(pseudo("=", "=", "WS-X", "=", "="), pseudo("=", "=", "=", "="));
+        var trail = trailing(pseudo("=", "=", "-IN", "=", "="), pseudo("=", "=", "=", "="));
+        var matcher = matcher(List.of(longLead, trail, shortLead));
+        assertFinds(longLead, matcher, input("WS-X-IN"));
+        assertFinds(trail, matcher, input("WS-Y-IN"));
+        assertFinds(shortLead, matcher, input("ws-y"));
+        assertFinds(null, matcher, input("W-IN-Y"));
+    }
+
+    @Test
+    void leavesLibraryAsItWas() {
+        var phrase = matching(
+            pseudo("=", "=", "A", SEPARATOR, WHITESPACE, " ", "B", SEPARATOR, WHITESPACE, " ", "C", "=", "="),
+            word("X") );
+        var library = input("A", SEPARATOR, WHITESPACE, " ", "B", SEPARATOR, WHITESPACE, " ", "D");
+        var before = drain(input("A", SEPARATOR, WHITESPACE, " ", "B", SEPARATOR, WHITESPACE, " ", "D"));
+        assertNull(matcher(List.of(phrase)).find(library));
+        assertEquals(before, drain(library));
+    }
+
+    @Test
+    void knowsWhenItCanNotHandleAPhrase() {
+        var other = new ReplacingPhrase(word("A"), word("B")) {
+            @Override
+            public boolean appliedTo(Source source, java.util.LinkedList<koopa.core.data.Data> newTokens) {
+                return false;
+            }
+        };
+        assertTrue(matcher(List.of(new ReplaceNone())).handlesAll());
+        assertFalse(matcher(List.of(other)).handlesAll());
+    }
+
+    private static PhraseMatcher matcher(List<ReplacingPhrase> phrases) {
+        return new PhraseMatcher(Arrays.asList(phrases));
+    }
+
+    private static void assertFinds(ReplacingPhrase expected, PhraseMatcher matcher, Source library) {
+        var first = library.next();
+        library.unshift(first);
+        assertSame(expected, matcher.find(library));
+        assertSame(first, library.next());
+    }
+
+    private static List<String> drain(Source library) {
+        var texts = new ArrayList<String>();
+        for (var d = library.next(); d != null; d = library.next()) {
+            texts.add(((Token) d).getText());
+        }
+        return texts;
+    }
+
+}
@@ -0,0 +1,125 @@
+package koopa.cobol.parser.test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import koopa.cobol.parser.BatchCobolParser;
+import koopa.cobol.parser.CobolParser;
+import koopa.cobol.parser.ParseResults;
+import koopa.cobol.projects.StandardCobolProject;
+import koopa.core.trees.XMLSerializer;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A {@linkplain BatchCobolParser} should give the same results as parsing
+ * each file in turn, no matter how many threads it uses.
+ */
+class BatchCobolParserTest {
+
+    private static final Path FOLDER = Paths.get("data/testsuite/cobol85");
+
+    private static final List<Path> FILES = List.of(
+        FOLDER.resolve("NC101A.CBL"),
+        FOLDER.resolve("NC102A.CBL"),
+        FOLDER.resolve("NC103A.CBL"),
+        FOLDER.resolve("NC104A.CBL"),
+        FOLDER.resolve("NC105A.CBL"),
+        FOLDER.resolve("NC106A.CBL"));
+
+    private static CobolParser parser() {
+        var parser = new CobolParser();
+        parser.setProject(new StandardCobolProject());
+        parser.setBuildTrees(true);
+        return parser;
+    }
+
+    /**
+     * Runs the batch, checking that the consumer only ever gets called from this thread.
+     */
+    private static Map<Path, ParseResults> parse(BatchCobolParser batch, List<Path> files) {
+        var caller = Thread.currentThread();
+        var results = new HashMap<Path, ParseResults>();
+        var count = batch.parse(files, r -> {
+            assertSame(caller, Thread.currentThread());
+            assertNull(results.put(r.getFile(), r), "Got results twice for " + r.getFile());
+        });
+        assertEquals(files.size(), count);
+        assertEquals(files.size(), results.size());
+        return results;
+    }
+
+    @Test
+    void testGivesResultsForEveryFile() throws IOException {
+        var batch = new BatchCobolParser(parser());
+        batch.setThreads(4);
+        var results = parse(batch, FILES);
+
+        var sequential = parser();
+        for (var file : FILES) {
+            var r = results.get(file);
+            assertNotNull(r, "No results for " + file);
+            assertTrue(r.isValidInput(), "Invalid: " + file);
+            assertNotNull(r.getTree());
+            assertEquals(XMLSerializer.serialize(sequential.parse(file).getTree()), XMLSerializer.serialize(r.getTree()));
+        }
+    }
+
+    @Test
+    void testGivesResultsForAFileWhichFails() {
+        var missing = FOLDER.resolve("MISSING.CBL");
+        var files = new ArrayList<>(FILES.subList(0, 2));
+        files.add(missing);
+
+        var batch = new BatchCobolParser(parser());
+        batch.setThreads(2);
+        var results = parse(batch, files);
+
+        var failed = results.get(missing);
+        assertFalse(failed.isValidInput());
+        assertNull(failed.getTree());
+        assertNotNull(failed.getParse());
+        var messages = failed.getParse().getMessages();
+        assertTrue(messages.hasErrors());
+        assertTrue(messages.getError(0).getSecond().contains("MISSING.CBL"));
+        assertTrue(failed.getTime() >= 0);
+
+        for (var file : FILES.subList(0, 2)) {
+            assertTrue(results.get(file).isValidInput());
+        }
+    }
+
+    @Test
+    void testCombinesProfiles() {
+        var parser = parser();
+        parser.setProfiling(true);
+        var batch = new BatchCobolParser(parser);
+        batch.setThreads(3);
+        var results = parse(batch, FILES);
+
+        var profiler = batch.getProfiler();
+        assertNotNull(profiler);
+        var rule = profiler.getRule("compilationGroup");
+        assertNotNull(rule);
+        assertEquals(FILES.size(), rule.getAttempts());
+
+        var consumed = 0L;
+        for (var r : results.values()) {
+            consumed += r.getParse().getProfiler().getRule("compilationGroup").getConsumed();
+        }
+        assertEquals(consumed, rule.getConsumed());
+    }
+
+    @Test
+    void testHasNothingToDoForNoFiles() {
+        var batch = new BatchCobolParser(parser());
+        assertEquals(0, batch.parse(List.of(), r -> fail("No results expected.")));
+    }
+
+}
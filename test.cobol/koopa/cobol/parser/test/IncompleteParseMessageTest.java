@@ -0,0 +1,47 @@
+package koopa.cobol.parser.test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import koopa.cobol.parser.CobolParser;
+import koopa.cobol.projects.StandardCobolProject;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * When a parse stops short, its error should point at the last successful match.
+ * That is the deepest rule which really got that far, not one which merely
+ * looked ahead while trying an alternative which could never match.
+ */
+class IncompleteParseMessageTest {
+
+    private static final Path FOLDER = Paths.get("data/testsuite/cobol85");
+
+    private static final String IO_SECTION =
+        "body < ioSection < body < environmentDivision < programDefinition < sourceUnit < copybook";
+
+    private static void assertIncompleteParse(String name, String lastMatch, String at) {
+        var parser = new CobolParser();
+        parser.setProject(new StandardCobolProject());
+        var results = parser.parse(FOLDER.resolve(name));
+        assertFalse(results.isValidInput());
+
+        var messages = results.getParse().getMessages();
+        assertEquals(1, messages.getErrorCount());
+        var error = messages.getError(0);
+        assertEquals("Incomplete parse. Last successful match: " + lastMatch + ".", error.getSecond());
+        assertEquals(at, error.getFirst().getText());
+    }
+
+    @Test
+    void testPointsIntoTheIOSectionForK1P01() {
+        assertIncompleteParse("K1P01.CPY", IO_SECTION, "1");
+    }
+
+    @Test
+    void testPointsIntoTheIOSectionForK1W01() {
+        assertIncompleteParse("K1W01.CPY", IO_SECTION, "PICTURE");
+    }
+
+}
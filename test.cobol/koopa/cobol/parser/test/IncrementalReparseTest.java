@@ -0,0 +1,149 @@
+package koopa.cobol.parser.test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import koopa.cobol.parser.CobolParser;
+import koopa.cobol.parser.TextEdit;
+import koopa.cobol.projects.StandardCobolProject;
+import koopa.core.data.Token;
+import koopa.core.trees.Tree;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalReparseTest {
+
+    private static final Path FILE = Paths.get("data/koopa/cobol/parser/test/INCREMENTAL.CBL");
+
+    private static final String TEXT = read(FILE);
+
+    @Test
+    void canReparseChangedSentence() {
+        assertReparsesInPlace(new TextEdit(TEXT.indexOf("1 TO A"), 1, "2"));
+    }
+
+    @Test
+    void canReparseInsertedLine() {
+        assertReparsesInPlace(TextEdit.insert(TEXT.indexOf("001000"), "000950     DISPLAY A.\n"));
+    }
+
+    @Test
+    void canReparseRemovedLine() {
+        var offset = TEXT.indexOf("001000");
+        assertReparsesInPlace(TextEdit.remove(offset, TEXT.indexOf("001100") - offset));
+    }
+
+    @Test
+    void canReparseNewParagraph() {
+        assertReparsesInPlace(TextEdit.insert(TEXT.indexOf("001000"), "000950 MIDDLE-PARAGRAPH.\n"));
+    }
+
+    @Test
+    void canReparseRepeatedly() {
+        var parser = parser(true);
+        var results = parser.parse(FILE, TEXT);
+        var tree = results.getTree();
+
+        results = parser.reparse(results, TextEdit.insert(TEXT.indexOf("DISPLAY B") + 7, " A"));
+        results = parser.reparse(results, new TextEdit(results.getText().indexOf("1 TO A"), 1, "3"));
+        results = parser.reparse(results, TextEdit.insert(results.getText().indexOf("001300"), "001250* A COMMENT.\n"));
+
+        assertTrue(results.isValidInput());
+        assertSame(tree, results.getTree());
+        assertSameTree(parser.parse(FILE, results.getText()).getTree(), results.getTree());
+    }
+
+    @Test
+    void reportsInvalidEdits() {
+        var parser = parser(true);
+        var results = parser.parse(FILE, TEXT);
+
+        var reparsed = parser.reparse(results, new TextEdit(TEXT.indexOf("MOVE A"), 4, "MOVX"));
+        assertFalse(reparsed.isValidInput());
+        assertTrue(results.isValidInput());
+    }
+
+    @Test
+    void reparsesFullyWithoutTrees() {
+        var parser = parser(false);
+        var results = parser.parse(FILE, TEXT);
+
+        var reparsed = parser.reparse(results, new TextEdit(TEXT.indexOf("1 TO A"), 1, "2"));
+        assertTrue(reparsed.isValidInput());
+        assertEquals(TEXT.replace("1 TO A", "2 TO A"), reparsed.getText());
+        assertNotSame(results.getParse(), reparsed.getParse());
+    }
+
+    @Test
+    void needsPreviousText() {
+        var parser = parser(true);
+        var results = parser.parse(FILE, new StringReader(TEXT));
+
+        assertThrows(IllegalArgumentException.class, () -> parser.reparse(results, TextEdit.insert(0, " ")));
+    }
+
+    private static String read(Path file) {
+        try {
+            return Files.readString(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static CobolParser parser(boolean buildTrees) {
+        var parser = new CobolParser();
+        parser.setProject(new StandardCobolProject());
+        parser.setBuildTrees(buildTrees);
+        return parser;
+    }
+
+    private static void assertReparsesInPlace(TextEdit edit) {
+        var parser = parser(true);
+        var results = parser.parse(FILE, TEXT);
+        assertTrue(results.isValidInput());
+        var tree = results.getTree();
+
+        var reparsed = parser.reparse(results, edit);
+        assertTrue(reparsed.isValidInput());
+        assertEquals(edit.applyTo(TEXT), reparsed.getText());
+        // Only an incremental reparse holds on to the tree.
+        assertSame(tree, reparsed.getTree());
+
+        var full = parser.parse(FILE, reparsed.getText());
+        assertSameTree(full.getTree(), reparsed.getTree());
+        assertEquals(full.getNumberOfLines(), reparsed.getNumberOfLines());
+        assertEquals(full.getNumberOfLinesWithCode(), reparsed.getNumberOfLinesWithCode());
+        assertEquals(full.getNumberOfLinesWithComments(), reparsed.getNumberOfLinesWithComments());
+    }
+
+    private static void assertSameTree(Tree expected, Tree actual) {
+        assertEquals(dump(expected, new StringBuilder()).toString(), dump(actual, new StringBuilder()).toString());
+    }
+
+    private static StringBuilder dump(Tree tree, StringBuilder out) {
+        if (tree.isToken()) {
+            var token = (Token) tree.getData();
+            out.append('[').append(token.getText()).append(']');
+            for (var range : token.getRanges()) {
+                out.append(range.getStart().getPositionInFile()).append(':')
+                   .append(range.getStart().getLinenumber()).append(':')
+                   .append(range.getStart().getPositionInLine()).append('-')
+                   .append(range.getEnd().getPositionInFile());
+            }
+            out.append(token.getTags()).append(token.isSkipped() ? " skipped" : "").append('\n');
+        } else {
+            out.append('(').append(tree.getName()).append('\n');
+            for (var child : tree.getChildren()) {
+                dump(child, out);
+            }
+            out.append(")\n");
+        }
+        return out;
+    }
+
+}
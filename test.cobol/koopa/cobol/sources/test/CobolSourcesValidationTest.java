@@ -23,6 +23,7 @@ import koopa.cobol.sources.ContinuationOfLines;
 import koopa.cobol.sources.InlineComments;
 import koopa.cobol.sources.ProgramArea;
 import koopa.cobol.sources.Replace;
+import koopa.core.sources.BulkLineSplitter;
 import koopa.core.sources.LineSplitter;
 import koopa.core.sources.Source;
 import koopa.core.sources.TokenSeparator;
@@ -42,6 +43,7 @@ public class CobolSourcesValidationTest extends CoreSourcesValidationTest {
     static final Map<String, Class<? extends Source>> CLASSES = new HashMap<>();
     static {
         CLASSES.put("LineSplitter", LineSplitter.class);
+        CLASSES.put("BulkLineSplitter", BulkLineSplitter.class);
         CLASSES.put("SourceFormatDirectives", CompilerDirectives.class);
         CLASSES.put("CompilerDirectives", CompilerDirectives.class);
         CLASSES.put("SourceListingDirectives", CompilerDirectives.class);
@@ -71,6 +73,7 @@ public class CobolSourcesValidationTest extends CoreSourcesValidationTest {
         var project = new StandardCobolProject();
         project.setDefaultFormat(FIXED);
         project.setDefaultPreprocessing(true);
+        project.setBulkLineSplitting(clazz == BulkLineSplitter.class);
         var source = CobolTokens.getNewSource(file, sample.getReader(), project);
         var selectedSource = (clazz == null) ? source : source.getSource(clazz);
         assertNotNull(selectedSource, "No such source: " + clazz);
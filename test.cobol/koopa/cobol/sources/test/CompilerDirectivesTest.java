@@ -0,0 +1,82 @@
+package koopa.cobol.sources.test;
+
+import static koopa.cobol.sources.SourceFormat.FIXED;
+import static koopa.cobol.sources.SourceFormat.FREE;
+import static koopa.core.data.tags.AreaTag.COMPILER_DIRECTIVE;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import koopa.cobol.CobolTokens;
+import koopa.cobol.projects.StandardCobolProject;
+import koopa.cobol.sources.CompilerDirectives;
+import koopa.cobol.sources.SourceFormat;
+import koopa.core.data.Token;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@linkplain CompilerDirectives} screens lines before running the directives grammar on them.
+ * That screen should let through every line which the grammar tests say is a directive.
+ */
+class CompilerDirectivesTest {
+
+    private static final Path TESTS = Paths.get("data/koopa/cobol/grammar/directives/test/");
+
+    @Test
+    void testRecognizesAllFixedDirectives() throws IOException {
+        assertRecognizesAll(TESTS.resolve("fixed/Directives.stage"), FIXED);
+    }
+
+    @Test
+    void testRecognizesAllFreeDirectives() throws IOException {
+        assertRecognizesAll(TESTS.resolve("free/Directives.stage"), FREE);
+    }
+
+    private static void assertRecognizesAll(Path stage, SourceFormat format) throws IOException {
+        var missed = new ArrayList<String>();
+        var count = 0;
+        for (var line : directives(stage)) {
+            count += 1;
+            if (!isDirective(line, format)) {
+                missed.add(line);
+            }
+        }
+        assertTrue(count > 0, "No directives in " + stage);
+        assertEquals(List.of(), missed, "Not recognized as directives");
+    }
+
+    /**
+     * The text of all lines in the stage file which should be accepted.
+     */
+    private static List<String> directives(Path stage) throws IOException {
+        var directives = new ArrayList<String>();
+        for (var line : Files.readAllLines(stage)) {
+            if (line.startsWith("+[")) {
+                directives.add(line.substring(2, line.lastIndexOf(']')));
+            }
+        }
+        return directives;
+    }
+
+    private static boolean isDirective(String line, SourceFormat format) {
+        var project = new StandardCobolProject();
+        project.setDefaultFormat(format);
+        var source = CobolTokens.getNewSource(new StringReader(line + "\n"), project);
+        var seen = false;
+        for (var d = source.next(); d != null; d = source.next()) {
+            if (d instanceof Token && ((Token) d).hasTag(COMPILER_DIRECTIVE)) {
+                seen = true;
+            }
+        }
+        source.close();
+        return seen;
+    }
+
+}
@@ -9,6 +9,10 @@ class CoreTestSuite extends koopa.core.util.test.TestShell {
     "koopa.core.grammars.test.DecimalGrammarTest",
     "koopa.core.grammars.test.BinaryGrammarTest",
     "koopa.core.grammars.test.AutomaticKeywordsTest",
+    "koopa.core.grammars.test.FirstSetTest",
+    "koopa.core.grammars.test.ProfilerTest",
+    "koopa.core.grammars.test.FinalMatchTest",
+    "koopa.core.grammars.test.PackratTest",
 
     "koopa.core.grammars.fluent.test.FluentGrammarTest",
 
@@ -16,14 +20,20 @@ class CoreTestSuite extends koopa.core.util.test.TestShell {
 
     "koopa.core.parsers.combinators.test.BalancingTest",
 
+    "koopa.core.sources.test.LineTest",
+    "koopa.core.sources.test.ThreadedSourceTest",
+
     "koopa.core.streams.test.BaseStreamTest",
     "koopa.core.streams.test.LimitedStreamTest",
 
+    "koopa.core.targets.test.HoldingTargetTest",
+
     "koopa.core.trees.test.TreeIteratorsTest",
     "koopa.core.trees.test.TreePositionsTest",
     "koopa.core.trees.test.TreeWalkerTest",
     "koopa.core.trees.test.ProgramTextTest",
-    "koopa.core.trees.test.XMLSerializerTest"
+    "koopa.core.trees.test.XMLSerializerTest",
+    "koopa.core.trees.test.StreamingXMLSerializerTest"
 
   };
   @Override protected String[] testClassNames() {return tests;}
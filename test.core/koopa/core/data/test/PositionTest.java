@@ -45,4 +45,26 @@ class PositionTest {
         assertEquals(24, p.getPositionInLine());
     }
 
+    @Test
+    void testToStringUsesFileName() {
+        var p = new Position("some/folder/NAME.CBL", 11, 2, 7);
+        assertEquals("NAME.CBL:2:7", p.toString());
+        assertEquals(":2:7", new Position(11, 2, 7).toString());
+    }
+
+    @Test
+    void testOffsetPositionSharesResource() {
+        var p = new Position(resourceName, 11, 2, 7);
+        assertSame(p.getResource(), p.offsetBy(17).getResource());
+    }
+
+    @Test
+    void testMovedPosition() {
+        var p = new Position(resourceName, 11, 2, 7).movedBy(-5, 3);
+        assertEquals(resourceName, p.getResourceName());
+        assertEquals(6, p.getPositionInFile());
+        assertEquals(5, p.getLinenumber());
+        assertEquals(7, p.getPositionInLine());
+    }
+
 }
@@ -1,7 +1,12 @@
 package koopa.core.data.test;
 
+import static koopa.core.data.tags.AreaTag.COMMENT;
+import static koopa.core.data.tags.AreaTag.PROGRAM_TEXT_AREA;
+import static koopa.core.data.tags.SyntacticTag.WORD;
 import static koopa.core.util.test.Util.asListOfRanges;
 
+import java.util.Set;
+
 import koopa.core.data.Position;
 import koopa.core.data.Replaced;
 import koopa.core.data.Token;
@@ -64,6 +69,19 @@ public class TokenTest {
         assertSame(t, t.withoutTags());
     }
 
+    @Test
+    void testCanMixEnumAndOtherTags() {
+        var t = new Token(TEXT, START, STOP, WORD, "Quote", PROGRAM_TEXT_AREA);
+        assertEquals(3, t.tagCount());
+        assertEquals(Set.of(WORD, "Quote", PROGRAM_TEXT_AREA), t.getTags());
+        var mod = t.replacingTag(PROGRAM_TEXT_AREA, COMMENT).withoutTags("Quote");
+        assertEquals(Set.of(WORD, COMMENT), mod.getTags());
+        assertTrue(mod.hasAnyTag(PROGRAM_TEXT_AREA, COMMENT));
+        assertFalse(mod.hasAnyTag(PROGRAM_TEXT_AREA, "Quote"));
+        assertSame(mod, mod.withTags(WORD, COMMENT));
+        assertSame(mod, mod.withoutTags(PROGRAM_TEXT_AREA, "Quote"));
+    }
+
     @Test
     void canBeReplacingAToken() {
         var r = new Replaced(START, STOP, null);
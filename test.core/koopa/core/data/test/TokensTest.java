@@ -79,6 +79,30 @@ class TokensTest {
         assertEquals(t.getTags(), sub.getTags());
     }
 
+    @Test
+    void testSubtokensCanGetOtherTags() {
+        var t = new Token(TEXT, START, STOP, "Quote");
+        var tags = Tokens.tagsOf(t, "Grace Hopper");
+        var sub = Tokens.subtoken(t, LENGTH / 4, LENGTH / 2, tags);
+        var tail = Tokens.subtoken(t, LENGTH / 2, tags);
+        assertEquals(TEXT.substring(LENGTH / 4, LENGTH / 2), sub.getText());
+        assertEquals(asListOfRanges(LENGTH / 4, LENGTH / 2 - 1), sub.getRanges());
+        assertEquals(TEXT.substring(LENGTH / 2), tail.getText());
+        assertTrue(sub.hasTags("Quote", "Grace Hopper"));
+        assertSame(sub.getTags(), tail.getTags());
+        assertEquals(1, t.getTags().size());
+    }
+
+    @Test
+    void testFullSubtokenWithOtherTagsIsACopy() {
+        var t = new Token(TEXT, START, STOP, "Quote");
+        assertSame(t, Tokens.subtoken(t, 0, LENGTH, Tokens.tagsOf(t)));
+        var sub = Tokens.subtoken(t, 0, LENGTH, Tokens.tagsOf(t, "Grace Hopper"));
+        assertNotSame(t, sub);
+        assertEquals(t.getRanges(), sub.getRanges());
+        assertTrue(sub.hasTag("Grace Hopper"));
+    }
+
     Token tokenFromRanges(int... positions) {
         var parts = new ArrayList<Token>(positions.length / 2);
         for (var i = 0; i < positions.length; i += 2) {
@@ -0,0 +1,88 @@
+package koopa.core.grammars.test;
+
+import koopa.core.data.Token;
+import koopa.core.parsers.Parse;
+import koopa.core.sources.test.HardcodedSource;
+import koopa.core.targets.ListTarget;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A {@linkplain Parse} tracks its final successful match, which goes into the
+ * "Last successful match" messages when it fails or stops short.
+ */
+class FinalMatchTest extends GrammarTest {
+
+    static String SEPARATOR = "$SEP$";
+
+    FinalMatchTest() {
+        super(SEPARATOR);
+    }
+
+    @Test
+    void testTracksFinalMatchInALoopAtTheRoot() {
+        var word = G.scoped("word");
+        word.setParser(G.choice(G.token("A"), G.token("B")));
+
+        var target = new ListTarget();
+        var parse = Parse.of(HardcodedSource.from(input("A", "B", "C"))).to(target);
+        // Every match of word commits the last bookmark, so it gets passed on to the target right away.
+        while (word.accepts(parse)) {
+        }
+        var last = lastToken(target);
+        assertEquals("B", last.getText());
+
+        assertNotNull(parse.getFinalFrame());
+        assertEquals(last.getStart(), parse.getFinalPosition());
+    }
+
+    @Test
+    void testTracksFinalMatchInANestedRule() {
+        var word = G.scoped("word");
+        word.setParser(G.choice(G.token("A"), G.token("B")));
+        var words = G.scoped("words");
+        words.setParser(G.sequence(word, G.token("B"), G.token("C")));
+
+        var target = new ListTarget();
+        var parse = Parse.of(HardcodedSource.from(input("A", "B", "D"))).to(target);
+        assertFalse(words.accepts(parse));
+
+        var frame = parse.getFinalFrame();
+        assertNotNull(frame);
+        assertEquals("words", frame.toTrace());
+    }
+
+    /**
+     * A sequence which gets rejected on its first set never gets to run its lookaheads,
+     * so those can not claim the final match. It goes to the rule which really got that far.
+     */
+    @Test
+    void testDoesNotTrackLookaheadsOfRejectedSequences() {
+        var word = G.scoped("word");
+        word.setParser(G.choice(G.token("A"), G.token("B")));
+        var proto = G.scoped("proto");
+        proto.setParser(G.sequence(G.at(word), G.token("PROTO")));
+        var definition = G.scoped("definition");
+        definition.setParser(G.sequence(word, G.token("END")));
+        var unit = G.scoped("unit");
+        unit.setParser(G.choice(proto, definition));
+
+        var parse = Parse.of(HardcodedSource.from(input("A", "B"))).to(new ListTarget());
+        assertFalse(unit.accepts(parse));
+
+        var frame = parse.getFinalFrame();
+        assertNotNull(frame);
+        assertEquals("definition < unit", frame.toTrace());
+    }
+
+    private static Token lastToken(ListTarget target) {
+        for (var i = target.size() - 1; i >= 0; i--) {
+            if (target.get(i) instanceof Token) {
+                return (Token) target.get(i);
+            }
+        }
+        return null;
+    }
+
+}
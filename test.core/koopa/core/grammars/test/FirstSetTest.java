@@ -0,0 +1,131 @@
+package koopa.core.grammars.test;
+
+import java.util.List;
+
+import koopa.core.parsers.FirstSet;
+import koopa.core.parsers.Optimizer;
+import koopa.core.parsers.Parse;
+import koopa.core.parsers.ParserCombinator;
+import koopa.core.parsers.combinators.Opt;
+import koopa.core.sources.test.HardcodedSource;
+import koopa.core.targets.ListTarget;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Parsers can tell what they may start with, so that the ones trying them
+ * (e.g. in a loop) can skip them without having to set up a bookmark first.
+ * This checks that the {@linkplain FirstSet}s involved get worked out right.
+ */
+class FirstSetTest extends GrammarTest {
+
+    static String SEPARATOR = "$SEP$";
+
+    FirstSetTest() {
+        super(SEPARATOR);
+    }
+
+    @Test
+    void testLeadingOptionalPartsAddToTheFirstSet() {
+        var first = Optimizer.firstSet(
+            G.sequence(
+                G.optional(G.token("A")),
+                G.star(G.keyword("B")),
+                G.token("C"),
+                G.token("D") ));
+
+        assertTrue(first.canRejectAnything());
+        assertTrue(mayStartAt(first, input("A")));
+        assertTrue(mayStartAt(first, input("B")));
+        assertTrue(mayStartAt(first, input("C")));
+        assertFalse(mayStartAt(first, input("D")));
+        assertFalse(mayStartAt(first, input()));
+    }
+
+    @Test
+    void testSkipsSeparatorsWhenLooking() {
+        var first = Optimizer.firstSet(G.token("A"));
+
+        assertTrue(mayStartAt(first, input(SEPARATOR, SEPARATOR, "A")));
+        assertFalse(mayStartAt(first, input(SEPARATOR, SEPARATOR, "B")));
+    }
+
+    @Test
+    void testDoesNotSkipSeparatorsWhichAreLiterals() {
+        var first = Optimizer.firstSet(G.literal(SEPARATOR));
+
+        assertTrue(mayStartAt(first, input(SEPARATOR)));
+    }
+
+    @Test
+    void testCanNotRejectAnythingWhenMatchingNothing() {
+        assertFalse(Optimizer.firstSet(G.optional(G.token("A"))).canRejectAnything());
+        assertFalse(Optimizer.firstSet(G.star(G.token("A"))).canRejectAnything());
+        assertFalse(Optimizer.firstSet(G.sequence(G.not(G.token("A")), G.at(G.token("B")))).canRejectAnything());
+    }
+
+    @Test
+    void testCanNotRejectAnythingWhenNotKnowingWhatComesFirst() {
+        assertFalse(Optimizer.firstSet(G.any()).canRejectAnything());
+        assertFalse(Optimizer.firstSet(G.choice(G.token("A"), G.any())).canRejectAnything());
+        assertFalse(Optimizer.firstSet(G.opt(Opt.NOSKIP, G.token("A"))).canRejectAnything());
+    }
+
+    @Test
+    void testLooksAtTheKeysOfADispatch() {
+        var first = Optimizer.firstSet(
+            G.dispatched(
+                new String[] { "A", "B" },
+                new ParserCombinator[] { G.token("A"), G.token("B") } ));
+
+        assertTrue(mayStartAt(first, input("A")));
+        assertTrue(mayStartAt(first, input("b")));
+        assertFalse(mayStartAt(first, input("C")));
+    }
+
+    @Test
+    void testFollowsRecursiveRules() {
+        var nested = G.scoped("nested");
+        nested.setParser(
+            G.choice(
+                G.sequence(G.token("("), nested, G.token(")")),
+                G.token("X") ));
+        var first = Optimizer.firstSet(nested);
+
+        assertTrue(mayStartAt(first, input("(")));
+        assertTrue(mayStartAt(first, input("X")));
+        assertFalse(mayStartAt(first, input(")")));
+    }
+
+    @Test
+    void testCutsLeftRecursionShort() {
+        var left = G.scoped("left");
+        left.setParser(
+            G.choice(
+                G.sequence(left, G.token("+"), G.token("X")),
+                G.token("X") ));
+
+        assertFalse(Optimizer.firstSet(left).canRejectAnything());
+    }
+
+    @Test
+    void testLoopsStillMatchAfterRejecting() {
+        var parser =
+            G.sequence(
+                G.star(G.token("A")),
+                G.plus(G.token("B")),
+                G.optional(G.token("C")),
+                G.token("D") );
+
+        shouldAccept(parser, input("A", SEPARATOR, "A", "B", SEPARATOR, "D"));
+        shouldAccept(parser, input("B", "C", "D"));
+        shouldReject(parser, input("A", "C", "D"));
+    }
+
+    private boolean mayStartAt(FirstSet first, List<Object> input) {
+        var source = HardcodedSource.from(input);
+        return first.mayStartAt(Parse.of(source).to(new ListTarget()));
+    }
+
+}
@@ -0,0 +1,157 @@
+package koopa.core.grammars.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import koopa.core.data.Data;
+import koopa.core.data.Token;
+import koopa.core.data.markers.Start;
+import koopa.core.parsers.Packrat;
+import koopa.core.parsers.Parse;
+import koopa.core.parsers.ParserCombinator;
+import koopa.core.sources.test.HardcodedSource;
+import koopa.core.targets.ListTarget;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A {@linkplain Packrat} memoizes scoped rules. Replaying a memoized result
+ * should give the same outcome as running the rule again.
+ */
+class PackratTest extends GrammarTest {
+
+    static String SEPARATOR = "$SEP$";
+
+    PackratTest() {
+        super(SEPARATOR);
+    }
+
+    private Parse parseOf(Object... input) {
+        return Parse.of(HardcodedSource.from(input(input))).to(new ListTarget());
+    }
+
+    /**
+     * Runs the parser over the input, returning what ended up in the target.
+     */
+    private List<Data> accept(ParserCombinator parser, Packrat packrat, Object... input) {
+        var target = new ListTarget();
+        var parse = Parse.of(HardcodedSource.from(input(input))).to(target);
+        parse.setPackrat(packrat);
+        assertTrue(parser.accepts(parse));
+        var data = new ArrayList<Data>();
+        for (var d : target) {
+            data.add(d);
+        }
+        return data;
+    }
+
+    @Test
+    void testReplaysAnAcceptWithItsData() {
+        var word = G.scoped("word");
+        word.setParser(G.sequence(G.token("A"), G.token("B")));
+        // Both alternatives try word at the same point.
+        var rule = G.choice(G.sequence(word, G.token("X")), G.sequence(word, G.token("Y")));
+
+        var expected = accept(rule, null, "A", SEPARATOR, "B", "Y");
+        var packrat = new Packrat();
+        var actual = accept(rule, packrat, "A", SEPARATOR, "B", "Y");
+
+        assertEquals(1, packrat.getHits());
+        assertEquals(expected.size(), actual.size());
+        for (var i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+            if (expected.get(i) instanceof Token) {
+                assertEquals(((Token) expected.get(i)).isSkipped(), ((Token) actual.get(i)).isSkipped());
+            }
+        }
+        // The markers for word come from the replay.
+        assertTrue(actual.get(0) instanceof Start);
+        assertEquals("word", ((Start) actual.get(0)).getName());
+        assertEquals(SEPARATOR, ((Token) actual.get(2)).getText());
+    }
+
+    @Test
+    void testReplaysAReject() {
+        var word = G.scoped("word");
+        word.setParser(G.sequence(G.token("A"), G.token("B")));
+        var rule = G.choice(G.sequence(word, G.token("X")), G.sequence(word, G.token("Y")),
+            G.sequence(G.token("A"), G.token("C")));
+
+        var packrat = new Packrat();
+        var data = accept(rule, packrat, "A", "C");
+
+        assertEquals(1, packrat.getHits());
+        assertEquals(1, packrat.getMisses());
+        assertEquals(2, data.size());
+        assertEquals("C", ((Token) data.get(1)).getText());
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        var parse = parseOf("A");
+        // Every reject takes up one unit of the budget.
+        var packrat = new Packrat(3);
+        var rules = new ParserCombinator[4];
+        for (var i = 0; i < rules.length; i++) {
+            rules[i] = G.scoped("rule" + i);
+        }
+        for (var i = 0; i < 3; i++) {
+            packrat.record(packrat.keyFor(rules[i], parse), parse, false);
+        }
+        // Using the first one makes the second one the least recently used.
+        assertEquals(Boolean.FALSE, packrat.replay(packrat.keyFor(rules[0], parse), parse));
+        packrat.record(packrat.keyFor(rules[3], parse), parse, false);
+
+        assertEquals(1, packrat.getEvictions());
+        assertNull(packrat.replay(packrat.keyFor(rules[1], parse), parse));
+        assertEquals(Boolean.FALSE, packrat.replay(packrat.keyFor(rules[0], parse), parse));
+        assertEquals(Boolean.FALSE, packrat.replay(packrat.keyFor(rules[2], parse), parse));
+        assertEquals(Boolean.FALSE, packrat.replay(packrat.keyFor(rules[3], parse), parse));
+    }
+
+    @Test
+    void testDoesNotMemoizeWhileLimited() {
+        var parse = parseOf("A", "B");
+        var packrat = new Packrat();
+        var rule = G.scoped("rule");
+        var limiter = G.token("B");
+
+        var limited = parse.getFlow().getLimitedStream();
+        limited.addLimiter(limiter);
+        assertNull(packrat.keyFor(rule, parse));
+        // Nor while matching the limiters themselves.
+        parse.getFlow().setLimitsEnabled(false);
+        assertNull(packrat.keyFor(rule, parse));
+        parse.getFlow().setLimitsEnabled(true);
+        limited.removeLimiter(limiter);
+        assertNotNull(packrat.keyFor(rule, parse));
+
+        // Rules inside an %upto do not even get looked up.
+        var word = G.scoped("word");
+        word.setParser(G.token("A"));
+        var upto = G.upTo(G.choice(G.sequence(word, G.token("X")), G.sequence(word)), G.token("B"));
+        accept(upto, packrat, "A", "B");
+        assertEquals(0, packrat.getHits());
+        assertEquals(0, packrat.getMisses());
+    }
+
+    @Test
+    void testDoesNotShareBetweenContexts() {
+        var parse = parseOf("A");
+        var packrat = new Packrat();
+        var rule = G.scoped("rule");
+        var key = packrat.keyFor(rule, parse);
+        packrat.record(key, parse, false);
+
+        parse.getStack().push(G.scoped("context"));
+        var other = packrat.keyFor(rule, parse);
+        assertNotEquals(key, other);
+        assertNull(packrat.replay(other, parse));
+
+        parse.getStack().pop();
+        assertEquals(key, packrat.keyFor(rule, parse));
+        assertEquals(Boolean.FALSE, packrat.replay(packrat.keyFor(rule, parse), parse));
+    }
+
+}
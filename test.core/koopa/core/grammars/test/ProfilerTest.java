@@ -0,0 +1,98 @@
+package koopa.core.grammars.test;
+
+import koopa.core.parsers.Parse;
+import koopa.core.parsers.Profiler;
+import koopa.core.sources.test.HardcodedSource;
+import koopa.core.targets.ListTarget;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A {@linkplain Profiler} keeps statistics on all rules tried in a {@linkplain Parse}.
+ */
+class ProfilerTest extends GrammarTest {
+
+    static String SEPARATOR = "$SEP$";
+
+    ProfilerTest() {
+        super(SEPARATOR);
+    }
+
+    private Profiler profile(Object... input) {
+        var inner = G.scoped("inner");
+        inner.setParser(G.choice(G.token("B"), G.token("C")));
+        var outer = G.scoped("outer");
+        outer.setParser(G.sequence(G.token("A"), G.star(inner)));
+
+        var profiler = new Profiler();
+        var parse = Parse.of(HardcodedSource.from(input(input))).to(new ListTarget());
+        parse.setProfiler(profiler);
+        assertTrue(outer.accepts(parse));
+        return profiler;
+    }
+
+    @Test
+    void testCountsAttemptsAndSuccesses() {
+        var profiler = profile("A", SEPARATOR, "B", "C", "A");
+
+        var outer = profiler.getRule("outer");
+        assertEquals(1, outer.getAttempts());
+        assertEquals(1, outer.getSuccesses());
+        assertEquals(4, outer.getConsumed());
+
+        var inner = profiler.getRule("inner");
+        assertEquals(2, inner.getAttempts());
+        assertEquals(2, inner.getSuccesses());
+        // The separator gets consumed by the first match of inner.
+        assertEquals(3, inner.getConsumed());
+    }
+
+    @Test
+    void testCountsRewinds() {
+        var profiler = profile("A", "C");
+
+        // Matching C means trying B first.
+        assertEquals(1, profiler.getRule("inner").getRewinds());
+        assertTrue(profiler.getRule("outer").getRewinds() >= 1);
+    }
+
+    @Test
+    void testSelfTimeLeavesOutNestedRules() {
+        var profiler = profile("A", "B", "C");
+
+        var outer = profiler.getRule("outer");
+        var inner = profiler.getRule("inner");
+        assertTrue(outer.getSelfNanos() <= outer.getNanos());
+        assertTrue(inner.getNanos() <= outer.getNanos());
+        assertEquals(inner.getNanos(), inner.getSelfNanos());
+    }
+
+    @Test
+    void testCanCombineProfiles() {
+        var profiler = profile("A", "B");
+        profiler.addAll(profile("A", "B", "C"));
+
+        assertEquals(2, profiler.getRule("outer").getAttempts());
+        assertEquals(3, profiler.getRule("inner").getSuccesses());
+        assertNull(profiler.getRule("other"));
+    }
+
+    @Test
+    void testCanExport() {
+        var profiler = profile("A", "B");
+
+        var csv = new StringBuilder();
+        profiler.writeCsv(csv);
+        var lines = csv.toString().split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("rule,attempts,successes,consumed,rewinds,nanos,selfNanos", lines[0]);
+        assertTrue(csv.toString().contains("\ninner,1,1,1,"));
+
+        var json = new StringBuilder();
+        profiler.writeJson(json);
+        assertTrue(json.toString().startsWith("["));
+        assertTrue(json.toString().contains("{ \"rule\": \"inner\", \"attempts\": 1, \"successes\": 1, \"consumed\": 1,"));
+    }
+
+}
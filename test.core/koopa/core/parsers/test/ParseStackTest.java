@@ -1,5 +1,7 @@
 package koopa.core.parsers.test;
 
+import java.util.Set;
+
 import koopa.core.parsers.Parse;
 import koopa.core.parsers.ParserCombinator;
 import koopa.core.parsers.Stack;
@@ -23,6 +25,28 @@ class ParseStackTest {
         }
     }
 
+    class Keywords extends ParserCombinator {
+        Set<String> keywords;
+        boolean allowsKeywords;
+
+        Keywords(boolean allowsKeywords, String... keywords) {
+            this.keywords = Set.of(keywords);
+            this.allowsKeywords = allowsKeywords;
+        }
+        public boolean matches(Parse parse) {
+            return false;
+        }
+        public boolean allowsKeywords() {
+            return allowsKeywords;
+        }
+        public boolean isKeywordInScope(String word) {
+            return keywords.contains(word);
+        }
+        public Set<String> keywordsInScope() {
+            return keywords;
+        }
+    }
+
     ParserCombinator X = new Named("X");
     ParserCombinator Y = new Named("Y");
     ParserCombinator Z = new Named("Z");
@@ -63,4 +87,126 @@ class ParseStackTest {
         assertFalse(stack.isMatching("Y", "Z"));
     }
 
+    @Test
+    void testDepth() {
+        var stack = new Stack();
+        assertEquals(0, stack.getHead().depth());
+        for (var i = 1; i <= 1000; i++) {
+            stack.push(X);
+            assertEquals(i, stack.getHead().depth());
+        }
+        assertSame(stack.getHead().up(), stack.getHead().getFrameUpBy(1));
+        assertEquals(990, stack.getHead().getFrameUpBy(10).depth());
+        assertNull(stack.getHead().getFrameUpBy(1000).getParser());
+    }
+
+    @Test
+    void testCanRestoreCapturedHead() {
+        var stack = new Stack();
+        stack.push(X);
+        stack.push(Y);
+        var captured = stack.capture();
+        stack.pop();
+        stack.push(Z);
+        stack.push(Z);
+
+        var current = stack.capture();
+        stack.setHead(captured);
+        assertSame(Y, stack.peek());
+        assertTrue(stack.isMatching("Y", "X"));
+        assertFalse(stack.isMatching("Z"));
+        assertSame(Y, captured.getParser());
+
+        stack.setHead(current);
+        assertSame(Z, stack.pop());
+        assertSame(Z, stack.pop());
+        assertSame(X, stack.pop());
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    void testCanSwitchToCapturedHeadAndBack() {
+        var stack = new Stack();
+        stack.push(X);
+        var below = stack.capture();
+        stack.push(Y);
+        var other = stack.capture();
+        stack.pop();
+        stack.push(Z);
+        stack.push(Z);
+
+        // From lower down on the same branch.
+        stack.switchTo(below);
+        assertSame(X, stack.peek());
+        assertFalse(stack.isMatching("Z"));
+        stack.push(Y);
+        assertTrue(stack.isMatching("Y", "X"));
+
+        // From another branch, while already switched.
+        stack.switchTo(other);
+        assertSame(Y, stack.peek());
+        stack.push(X);
+        assertTrue(stack.isMatching("X", "Y", "X"));
+        stack.pop();
+        stack.switchBack();
+
+        assertSame(Y, stack.pop());
+        stack.switchBack();
+        assertSame(Z, stack.peek());
+        assertTrue(stack.isMatching("Z", "Z", "X"));
+        assertFalse(stack.isMatching("Y"));
+        assertSame(Z, stack.pop());
+        assertSame(Z, stack.pop());
+        assertSame(X, stack.pop());
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    void testIsKeyword() {
+        var stack = new Stack();
+        var ab = new Keywords(true, "A", "B");
+        assertFalse(stack.isKeyword("A"));
+        stack.push(ab);
+        assertTrue(stack.isKeyword("A"));
+        stack.push(X);
+        stack.push(new Keywords(true, "C"));
+        assertTrue(stack.isKeyword("A"));
+        assertTrue(stack.isKeyword("C"));
+        assertFalse(stack.isKeyword("D"));
+        stack.pop();
+        assertFalse(stack.isKeyword("C"));
+        // Keywords do not pass through a parser which does not allow them.
+        stack.push(new Keywords(false, "D"));
+        assertFalse(stack.isKeyword("A"));
+        assertFalse(stack.isKeyword("D"));
+        stack.push(new Keywords(true, "E"));
+        assertTrue(stack.isKeyword("E"));
+        assertFalse(stack.isKeyword("A"));
+        stack.pop();
+        stack.pop();
+        assertTrue(stack.isKeyword("A"));
+        // Going into the same scope again gives the same answers.
+        stack.push(ab);
+        assertTrue(stack.isKeyword("B"));
+        assertFalse(stack.isKeyword("C"));
+    }
+
+    @Test
+    void testIsKeywordAfterScopeBelowChanged() {
+        var stack = new Stack();
+        var c = new Keywords(true, "C");
+        stack.push(new Keywords(true, "A"));
+        stack.push(c);
+        assertTrue(stack.isKeyword("A"));
+        stack.pop();
+        stack.pop();
+        stack.push(new Keywords(true, "D"));
+        assertTrue(stack.isKeyword("D"));
+        // Same parser at the same depth as before, but with a different scope below it.
+        stack.push(c);
+        assertFalse(stack.isKeyword("A"));
+        assertTrue(stack.isKeyword("C"));
+        assertTrue(stack.isKeyword("D"));
+    }
+
 }
@@ -0,0 +1,104 @@
+package koopa.core.sources.test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+
+import koopa.core.data.Data;
+import koopa.core.data.Position;
+import koopa.core.data.Token;
+import koopa.core.sources.Line;
+import koopa.core.sources.ListSource;
+import koopa.core.sources.Sources;
+import koopa.core.data.tags.SyntacticTag;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A {@linkplain Line} should act like a list which can be worked on from either end.
+ */
+class LineTest {
+
+    private static Token token(String text) {
+        var start = new Position(0, 0, 0);
+        return new Token(text, start, start.offsetBy(text.length() - 1));
+    }
+
+    @Test
+    void testActsLikeADeque() {
+        var line = new Line();
+        var expected = new LinkedList<Data>();
+        // Enough to make it wrap around and grow a couple of times.
+        for (var i = 0; i < 100; i++) {
+            var d = token("" + i);
+            if (i % 3 == 0) {
+                line.addFirst(d);
+                expected.addFirst(d);
+            } else {
+                line.addLast(d);
+                expected.addLast(d);
+            }
+            if (i % 7 == 0 && !expected.isEmpty()) {
+                assertSame(expected.removeFirst(), line.removeFirst());
+            }
+            if (i % 11 == 0 && !expected.isEmpty()) {
+                assertSame(expected.removeLast(), line.removeLast());
+            }
+            assertEquals(expected, line);
+        }
+        assertSame(expected.getFirst(), line.getFirst());
+        assertSame(expected.getLast(), line.getLast());
+        for (var i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), line.get(i));
+        }
+    }
+
+    @Test
+    void testCanBeEmptied() {
+        var line = new Line();
+        line.add(token("A"));
+        line.add(token("B"));
+        var other = new Line();
+        other.addAll(line);
+        line.clear();
+        assertTrue(line.isEmpty());
+        assertEquals(2, other.size());
+        assertEquals("B", ((Token) other.removeLast()).getText());
+        assertEquals("A", ((Token) other.removeLast()).getText());
+        assertThrows(NoSuchElementException.class, other::removeFirst);
+        assertThrows(NoSuchElementException.class, other::getLast);
+        assertThrows(IndexOutOfBoundsException.class, () -> other.get(0));
+    }
+
+    @Test
+    void testPoolReusesClearedLines() {
+        var pool = new Line.Pool();
+        var line = pool.obtain();
+        line.add(token("A"));
+        pool.recycle(line);
+        pool.recycle(null);
+        var reused = pool.obtain();
+        assertSame(line, reused);
+        assertTrue(reused.isEmpty());
+        assertNotSame(reused, pool.obtain());
+    }
+
+    @Test
+    void testGetsLinesFromSources() {
+        var data = new ArrayList<Data>();
+        data.add(token("A"));
+        data.add(token("\n").withTags(SyntacticTag.END_OF_LINE));
+        data.add(token("B"));
+        var source = new ListSource(data);
+        var pool = new Line.Pool();
+        var first = Sources.getLine(source, pool);
+        assertEquals(data.subList(0, 2), first);
+        pool.recycle(first);
+        var second = Sources.getLine(source, pool);
+        assertSame(first, second);
+        assertEquals(data.subList(2, 3), second);
+        assertNull(Sources.getLine(source, pool));
+    }
+
+}
@@ -0,0 +1,121 @@
+package koopa.core.sources.test;
+
+import java.util.ArrayList;
+
+import koopa.core.data.Data;
+import koopa.core.data.Position;
+import koopa.core.data.Token;
+import koopa.core.sources.BasicSource;
+import koopa.core.sources.Source;
+import koopa.core.sources.ThreadedSource;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A {@linkplain ThreadedSource} should pass along all data from its source,
+ * the same as if there was no thread involved.
+ */
+class ThreadedSourceTest {
+
+    /**
+     * Counts up to a given number, one token at a time.
+     */
+    private static class CountingSource extends BasicSource implements Source {
+        private final int count;
+        private int index = 0;
+        private volatile boolean closed = false;
+        private volatile Thread reader = null;
+
+        CountingSource(int count) {
+            this.count = count;
+        }
+
+        @Override
+        protected Data nextElement() {
+            reader = Thread.currentThread();
+            if (index == count) {
+                return null;
+            }
+            if (index < 0) {
+                throw new IllegalStateException("Broken.");
+            }
+            var text = "" + index++;
+            var start = new Position(0, 0, 0);
+            return new Token(text, start, start.offsetBy(text.length() - 1));
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static String text(Data d) {
+        return ((Token) d).getText();
+    }
+
+    @Test
+    void testPassesAllDataInOrder() {
+        var counting = new CountingSource(10000);
+        // A small queue, so that both sides will have to wait on each other.
+        var source = new ThreadedSource(counting, 3);
+        var texts = new ArrayList<String>();
+        for (var d = source.next(); d != null; d = source.next()) {
+            texts.add(text(d));
+        }
+        assertEquals(10000, texts.size());
+        for (var i = 0; i < texts.size(); i++) {
+            assertEquals("" + i, texts.get(i));
+        }
+        assertNull(source.next());
+        assertNotSame(Thread.currentThread(), counting.reader);
+        source.close();
+        assertTrue(counting.closed);
+    }
+
+    @Test
+    void testUnshiftStaysHere() {
+        var counting = new CountingSource(3);
+        var source = new ThreadedSource(counting);
+        var first = source.next();
+        var second = source.next();
+        source.unshift(second);
+        source.unshift(first);
+        assertSame(first, source.next());
+        assertSame(second, source.next());
+        assertEquals("2", text(source.next()));
+        assertNull(source.next());
+        source.close();
+    }
+
+    @Test
+    void testCloseStopsReading() {
+        var counting = new CountingSource(Integer.MAX_VALUE);
+        var source = new ThreadedSource(counting, 4);
+        assertEquals("0", text(source.next()));
+        source.close();
+        assertTrue(counting.closed);
+        assertNull(source.next());
+    }
+
+    @Test
+    void testPassesOnFailures() {
+        var counting = new CountingSource(10);
+        counting.index = -1;
+        var source = new ThreadedSource(counting);
+        assertThrows(IllegalStateException.class, source::next);
+        assertNull(source.next());
+        source.close();
+    }
+
+    @Test
+    void testCanFindSourcesUpstream() {
+        var counting = new CountingSource(1);
+        var source = new ThreadedSource(counting);
+        assertSame(source, source.getSource(ThreadedSource.class));
+        assertSame(counting, source.getSource(CountingSource.class));
+        source.close();
+    }
+
+}
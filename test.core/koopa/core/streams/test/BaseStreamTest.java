@@ -1,10 +1,13 @@
 package koopa.core.streams.test;
 
+import koopa.core.data.Token;
+import koopa.core.parsers.Parse;
 import koopa.core.sources.test.HardcodedSource;
 import koopa.core.streams.BaseStream;
 import koopa.core.targets.ListTarget;
 
 import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Tests the core operations which make up a {@linkplain BaseStream}.
@@ -37,4 +40,100 @@ class BaseStreamTest extends ParseStreamTest {
         assertCanBookmark(stream, WORDS, target);
     }
 
+    @Test
+    void testReturnsUnreadDataToSourceOnCommit() {
+        var source = HardcodedSource.from(WORDS);
+        var target = new ListTarget();
+        var stream = new BaseStream(source, target);
+        for (var i = 0; i < 4; i++) {
+            stream.forward();
+        }
+        stream.rewind();
+        stream.forward();
+        stream.commit();
+        assertEquals(1, target.size());
+        // Whoever reads on from the source should find all of what was not committed.
+        for (var i = 1; i < WORDS.length; i++) {
+            assertEquals(WORDS[i], ((Token) source.next()).getText());
+        }
+        assertNull(source.next());
+    }
+
+    @Test
+    void testForwardsDataOnceNoBookmarkCoversIt() {
+        var source = HardcodedSource.from(WORDS);
+        var target = new ListTarget();
+        var stream = new BaseStream(source, target);
+        stream.bookmark();
+        stream.forward();
+        stream.bookmark();
+        stream.forward();
+        stream.commit();
+        // The outer bookmark can still take both words back.
+        assertEquals(0, target.size());
+        stream.commit();
+        // Nothing can, so they should have been passed on.
+        assertEquals(2, target.size());
+        assertEquals(2, stream.getReadCount());
+
+        stream.forward();
+        stream.bookmark();
+        stream.forward();
+        stream.forward();
+        stream.rewind();
+        assertEquals(2, target.size());
+        assertPeekMatchesWord(stream, WORDS[3]);
+        assertEquals(3, stream.getReadCount());
+
+        stream.commit();
+        assertEquals(3, target.size());
+        // Whoever reads on from the source should find all of what was not committed.
+        for (var i = 3; i < WORDS.length; i++) {
+            assertEquals(WORDS[i], ((Token) source.next()).getText());
+        }
+        assertNull(source.next());
+    }
+
+    @Test
+    void testRewindToDataDropsWhatFollows() {
+        var source = HardcodedSource.from(WORDS);
+        var target = new ListTarget();
+        var stream = new BaseStream(source, target);
+        stream.forward();
+        var quick = stream.forward();
+        stream.forward();
+        stream.forward();
+        stream.rewind(quick);
+        assertPeekMatchesWord(stream, WORDS[1]);
+        assertNextTokenMatchesWord(stream, WORDS[1]);
+        assertNextTokenMatchesWord(stream, WORDS[4]);
+    }
+
+    @Test
+    void testForgetsKeywordsForDataItLetsGoOf() {
+        var parse = Parse.of(HardcodedSource.from(WORDS)).to(new ListTarget());
+        var stream = parse.getFlow().getBaseStream();
+        for (var i = 0; i < WORDS.length - 1; i++) {
+            stream.bookmark();
+            parse.setKeyword(stream.peek(), "KEYWORD");
+            parse.setKeyword(stream.peek(1), "KEYWORD");
+            stream.forward();
+            stream.commit();
+            // Only the word which was peeked at, but not read, is still being held.
+            assertEquals(1, parse.getKeywordCount());
+            assertEquals("KEYWORD", parse.getKeyword(stream.peek()));
+        }
+
+        // What gets returned to the source is let go of as well.
+        stream.commit();
+        assertEquals(0, parse.getKeywordCount());
+
+        stream.bookmark();
+        parse.setKeyword(stream.peek(), "KEYWORD");
+        stream.forward();
+        assertEquals(1, parse.getKeywordCount());
+        parse.done();
+        assertEquals(0, parse.getKeywordCount());
+    }
+
 }
@@ -0,0 +1,117 @@
+package koopa.core.targets.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import koopa.core.data.Data;
+import koopa.core.data.Position;
+import koopa.core.data.Token;
+import koopa.core.targets.HoldingTarget;
+import koopa.core.targets.ListTarget;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A {@linkplain HoldingTarget} should act like a list of the data pushed to it,
+ * until that data gets shifted on to the next target.
+ */
+class HoldingTargetTest {
+
+    /**
+     * More than fits in the initial capacity, so the target will have to grow.
+     */
+    private static final int COUNT = 100;
+
+    private static Token token(int i) {
+        var text = "" + i;
+        var start = new Position(i, 0, i);
+        return new Token(text, start, start.offsetBy(text.length() - 1));
+    }
+
+    private static List<Data> fill(HoldingTarget holding) {
+        var expected = new ArrayList<Data>();
+        for (var i = 0; i < COUNT; i++) {
+            var t = token(i);
+            holding.push(t);
+            expected.add(t);
+        }
+        return expected;
+    }
+
+    private static void assertHolds(List<Data> expected, HoldingTarget holding) {
+        assertEquals(expected.size(), holding.size());
+        for (var i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), holding.get(i));
+        }
+    }
+
+    @Test
+    void testGetsAcrossAGrow() {
+        var holding = new HoldingTarget(new ListTarget());
+        var expected = fill(holding);
+        assertHolds(expected, holding);
+        assertSame(expected.get(COUNT - 1), holding.peekAtLastToken());
+    }
+
+    @Test
+    void testPopsInReverse() {
+        var holding = new HoldingTarget(new ListTarget());
+        var expected = fill(holding);
+        for (var i = COUNT - 1; i >= 0; i--) {
+            assertSame(expected.remove(i), holding.pop());
+        }
+        assertTrue(holding.isEmpty());
+        assertNull(holding.peekAtLastToken());
+    }
+
+    @Test
+    void testRemovesAtAnyIndex() {
+        var holding = new HoldingTarget(new ListTarget());
+        var expected = fill(holding);
+        assertSame(expected.remove(COUNT - 1), holding.remove(COUNT - 1));
+        assertSame(expected.remove(70), holding.remove(70));
+        assertSame(expected.remove(0), holding.remove(0));
+        assertHolds(expected, holding);
+    }
+
+    @Test
+    void testRemovesWhileIteratingBackwards() {
+        var holding = new HoldingTarget(new ListTarget());
+        var expected = fill(holding);
+        var lowerBound = 50;
+        var it = holding.descendingIterator(lowerBound);
+        for (var i = COUNT - 1; i >= lowerBound; i--) {
+            assertTrue(it.hasNext());
+            assertSame(expected.get(i), it.next());
+            if (i % 3 == 0) {
+                it.remove();
+                expected.remove(i);
+            }
+        }
+        assertFalse(it.hasNext());
+        assertThrows(IllegalStateException.class, () -> {
+            var again = holding.descendingIterator(lowerBound);
+            again.remove();
+        });
+        assertHolds(expected, holding);
+    }
+
+    @Test
+    void testShiftsEverythingInOrder() {
+        var target = new ListTarget();
+        var holding = new HoldingTarget(target);
+        var expected = fill(holding);
+        holding.shiftAllToNextTarget();
+        assertTrue(holding.isEmpty());
+        assertEquals(COUNT, target.size());
+        for (var i = 0; i < COUNT; i++) {
+            assertSame(expected.get(i), target.get(i));
+        }
+
+        // And it should be good to be used again.
+        var more = fill(holding);
+        assertHolds(more, holding);
+    }
+
+}
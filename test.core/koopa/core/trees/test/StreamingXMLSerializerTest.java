@@ -0,0 +1,94 @@
+package koopa.core.trees.test;
+
+import java.io.StringWriter;
+
+import static koopa.core.data.tags.AreaTag.COMMENT;
+import static koopa.core.util.test.Util.t;
+
+import koopa.core.data.Data;
+import koopa.core.data.markers.End;
+import koopa.core.data.markers.InWater;
+import koopa.core.data.markers.OnLand;
+import koopa.core.data.markers.Start;
+import koopa.core.trees.StreamingXMLSerializer;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingXMLSerializerTest {
+
+    static final String PROLOG = "<?xml version='1.0' encoding='UTF-8'?>\n";
+
+    @Test
+    void testSerializeNothing() {
+        var expected = PROLOG + "<koopa>\n" + "</koopa>\n";
+        assertEquals(expected, serialize());
+    }
+
+    @Test
+    void testSerializeATree() {
+        var expected =
+            PROLOG
+            + "<koopa>\n" + "  <quote>\n" + "    <t><![CDATA[Stop]]></t>\n"
+            + "    <t><![CDATA[bashing]]></t>\n"
+            + "    <empty />\n"
+            + "    <t><![CDATA[Cobol]]></t>\n" + "  </quote>\n"
+            + "</koopa>\n";
+        var actual = serialize(
+            start("quote"), t("Stop"), t("bashing"), start("empty"), end("empty"), t("Cobol"), end("quote"));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testLeadingTokensGoIntoTheFirstTree() {
+        var expected =
+            PROLOG
+            + "<koopa>\n" + "  <quote>\n" + "    <!-- A comment. -->\n"
+            + "    <t><![CDATA[Cobol]]></t>\n" + "  </quote>\n"
+            + "</koopa>\n";
+        var actual = serialize(t("A comment.", COMMENT), start("quote"), t("Cobol"), end("quote"), t("More"));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testWaterIsNotWritten() {
+        var expected =
+            PROLOG
+            + "<koopa>\n" + "  <quote>\n" + "    <t><![CDATA[Cobol]]></t>\n" + "  </quote>\n"
+            + "</koopa>\n";
+        var actual = serialize(start("quote"), InWater.getInstance(), t("Water"), OnLand.getInstance(),
+            t("Cobol"), end("quote"));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testEscaping() {
+        var expected =
+            PROLOG
+            + "<koopa>\n" + "  <escaped>\n"
+            + "    <!-- -_-_- -->\n"
+            + "    <t><![CDATA[']]]]><![CDATA[>']]></t>\n"
+            + "  </escaped>\n" + "</koopa>\n";
+        var actual = serialize(start("escaped"), t("-----", COMMENT), t("']]>'"), end("escaped"));
+        assertEquals(expected, actual);
+    }
+
+    private static String serialize(Data... data) {
+        var writer = new StringWriter();
+        var serializer = new StreamingXMLSerializer(writer, false);
+        for (var d : data) {
+            serializer.push(d);
+        }
+        serializer.done();
+        return writer.toString();
+    }
+
+    private static Start start(String name) {
+        return Start.on("test", name);
+    }
+
+    private static End end(String name) {
+        return End.on("test", name);
+    }
+
+}
@@ -84,9 +84,10 @@ abstract class ParseStreamTest {
         // We expect the stream to be at its end now.
         assertNoMoreTokens(stream);
         // Because we bookmarked at the end of each loop there is still one outstanding bookmark left.
+        // Committing it leaves nothing which could take the tokens back, so they get pushed to the target.
         stream.commit();
-        assertEquals(0, target.size());
-        // This time there are no bookmarks left, and committing will push all tokens to the target.
+        assertTargetHasAllWords(target, words, endIndex);
+        // This time there are no bookmarks left, and committing changes nothing.
         stream.commit();
         assertTargetHasAllWords(target, words, endIndex);
     }